@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.governance.benchmarks;
+
+import org.h2.jdbcx.JdbcConnectionPool;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+import org.wso2.carbon.identity.core.util.IdentityDatabaseUtil;
+import org.wso2.carbon.user.api.RealmConfiguration;
+import org.wso2.carbon.user.core.UserCoreConstants;
+import org.wso2.carbon.user.core.UserStoreManager;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Utilities shared by the benchmarks to run the governance components without a carbon server.
+ * <p>
+ * Static mocks are bound to the thread that creates them, hence they must be created in a trial level setup of a
+ * thread scoped benchmark state, which JMH runs on the benchmark thread.
+ */
+public class BenchmarkUtils {
+
+    public static final String TENANT_DOMAIN = "carbon.super";
+    public static final int TENANT_ID = -1234;
+    public static final String PRIMARY_DOMAIN = "PRIMARY";
+    private static final String DB_SCRIPT = "classpath:dbscripts/h2.sql";
+
+    private BenchmarkUtils() {
+
+    }
+
+    /**
+     * Create an embedded, in memory H2 database with the identity tables.
+     *
+     * @param databaseName Name of the database.
+     * @return Connection pool of the database.
+     * @throws Exception If the database could not be created.
+     */
+    public static JdbcConnectionPool createDataSource(String databaseName) throws Exception {
+
+        JdbcConnectionPool dataSource = JdbcConnectionPool.create("jdbc:h2:mem:" + databaseName +
+                ";DB_CLOSE_DELAY=-1", "username", "password");
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.executeUpdate("RUNSCRIPT FROM '" + DB_SCRIPT + "'");
+        }
+        return dataSource;
+    }
+
+    /**
+     * Mock IdentityDatabaseUtil so that the connections are served from the given data source, while the
+     * transaction and cleanup methods keep their behaviour.
+     *
+     * @param dataSource Data source of the embedded database.
+     * @return Static mock, which must be closed at the end of the trial.
+     */
+    public static MockedStatic<IdentityDatabaseUtil> mockIdentityDatabaseUtil(JdbcConnectionPool dataSource) {
+
+        MockedStatic<IdentityDatabaseUtil> identityDatabaseUtil = Mockito.mockStatic(IdentityDatabaseUtil.class);
+        identityDatabaseUtil.when(IdentityDatabaseUtil::getDBConnection)
+                .thenAnswer(invocation -> getConnection(dataSource, true));
+        identityDatabaseUtil.when(() -> IdentityDatabaseUtil.getDBConnection(anyBoolean()))
+                .thenAnswer(invocation -> getConnection(dataSource, invocation.getArgument(0)));
+        identityDatabaseUtil.when(() -> IdentityDatabaseUtil.commitTransaction(any(Connection.class))).thenCallRealMethod();
+        identityDatabaseUtil.when(() -> IdentityDatabaseUtil.rollbackTransaction(any(Connection.class))).thenCallRealMethod();
+        identityDatabaseUtil.when(() -> IdentityDatabaseUtil.closeConnection(any(Connection.class))).thenCallRealMethod();
+        identityDatabaseUtil.when(() -> IdentityDatabaseUtil.closeStatement(any(PreparedStatement.class))).thenCallRealMethod();
+        identityDatabaseUtil.when(() -> IdentityDatabaseUtil.closeResultSet(any(ResultSet.class))).thenCallRealMethod();
+        identityDatabaseUtil.when(() -> IdentityDatabaseUtil.closeAllConnections(any(Connection.class),
+                any(ResultSet.class), any(PreparedStatement.class)))
+                .thenCallRealMethod();
+        return identityDatabaseUtil;
+    }
+
+    /**
+     * Create a user store manager of the given domain and tenant.
+     *
+     * @param domainName Domain of the user store.
+     * @param tenantId   Tenant ID.
+     * @param type       Type of the user store manager.
+     * @param <T>        Type of the user store manager.
+     * @return User store manager.
+     * @throws Exception If the user store manager could not be created.
+     */
+    public static <T extends UserStoreManager> T mockUserStoreManager(String domainName, int tenantId,
+                                                                       Class<T> type) throws Exception {
+
+        RealmConfiguration realmConfiguration = mock(RealmConfiguration.class);
+        when(realmConfiguration.getUserStoreProperty(UserCoreConstants.RealmConfig.PROPERTY_DOMAIN_NAME))
+                .thenReturn(domainName);
+        T userStoreManager = mock(type);
+        when(userStoreManager.getRealmConfiguration()).thenReturn(realmConfiguration);
+        when(userStoreManager.getTenantId()).thenReturn(tenantId);
+        return userStoreManager;
+    }
+
+    private static Connection getConnection(JdbcConnectionPool dataSource, boolean shouldApplyTransaction)
+            throws Exception {
+
+        Connection connection = dataSource.getConnection();
+        connection.setAutoCommit(!shouldApplyTransaction);
+        return connection;
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.governance.benchmarks;
+
+import com.sun.net.httpserver.HttpServer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.wso2.carbon.identity.captcha.internal.CaptchaDataHolder;
+import org.wso2.carbon.identity.captcha.util.CaptchaConstants;
+import org.wso2.carbon.identity.captcha.util.CaptchaUtil;
+
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the reCaptcha verification of CaptchaUtil against a local stub of the verification endpoint, so that
+ * the cost of the HTTP client and the response handling is measured without the network latency to Google. The state
+ * is shared by the benchmark threads, hence run with more threads (-t) to measure the connection pool under load.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class CaptchaVerificationBenchmark {
+
+    private static final String VERIFY_PATH = "/recaptcha/api/siteverify";
+    private static final byte[] VERIFICATION_RESPONSE =
+            "{\"success\":true,\"score\":0.9,\"action\":\"login\"}".getBytes(StandardCharsets.UTF_8);
+
+    private HttpServer verificationServer;
+    private ExecutorService verificationServerExecutor;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+
+        verificationServer = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        verificationServer.createContext(VERIFY_PATH, exchange -> {
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, VERIFICATION_RESPONSE.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(VERIFICATION_RESPONSE);
+            }
+        });
+        verificationServerExecutor = Executors.newCachedThreadPool();
+        verificationServer.setExecutor(verificationServerExecutor);
+        verificationServer.start();
+
+        CaptchaDataHolder captchaDataHolder = CaptchaDataHolder.getInstance();
+        captchaDataHolder.setReCaptchaType(null);
+        captchaDataHolder.setReCaptchaSecretKey("benchmarkSecretKey");
+        captchaDataHolder.setReCaptchaScoreThreshold(CaptchaConstants.CAPTCHA_V3_DEFAULT_THRESHOLD);
+        captchaDataHolder.setReCaptchaWarnScoreThreshold(CaptchaConstants.CAPTCHA_V3_DEFAULT_WARN_THRESHOLD);
+        captchaDataHolder.setReCaptchaVerifyUrl("http://localhost:" + verificationServer.getAddress().getPort() +
+                VERIFY_PATH);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+
+        CaptchaUtil.closeReCaptchaHttpClient();
+        verificationServer.stop(0);
+        verificationServerExecutor.shutdownNow();
+    }
+
+    @Benchmark
+    public boolean isValidCaptcha() throws Exception {
+
+        return CaptchaUtil.isValidCaptcha("benchmarkReCaptchaResponse");
+    }
+}
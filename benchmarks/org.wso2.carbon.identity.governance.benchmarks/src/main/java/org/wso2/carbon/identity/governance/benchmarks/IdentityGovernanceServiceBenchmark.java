@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.governance.benchmarks;
+
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.wso2.carbon.identity.application.common.model.IdentityProvider;
+import org.wso2.carbon.identity.application.common.model.IdentityProviderProperty;
+import org.wso2.carbon.identity.application.common.model.Property;
+import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
+import org.wso2.carbon.identity.governance.IdentityGovernanceServiceImpl;
+import org.wso2.carbon.identity.governance.internal.IdentityMgtServiceDataHolder;
+import org.wso2.carbon.identity.governance.internal.cache.IdentityGovernanceConfigCache;
+import org.wso2.carbon.identity.governance.internal.cache.IdentityGovernanceConfigCacheKey;
+import org.wso2.carbon.identity.governance.model.GovernanceConfigSnapshot;
+import org.wso2.carbon.idp.mgt.IdpManager;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Benchmarks of the governance configuration reads of IdentityGovernanceServiceImpl, which are done by most of the
+ * event handlers on every login and recovery flow. The configuration is read either from the cached snapshot or, on a
+ * cache miss, rebuilt from the resident identity provider.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class IdentityGovernanceServiceBenchmark {
+
+    private static final String PROPERTY_NAME_PREFIX = "benchmark.connector.property.";
+    private static final int REQUESTED_PROPERTY_COUNT = 5;
+
+    @Param({"200"})
+    public int propertyCount;
+
+    @Param({"true", "false"})
+    public boolean cached;
+
+    private MockedStatic<IdentityTenantUtil> identityTenantUtil;
+    private MockedStatic<IdentityGovernanceConfigCache> identityGovernanceConfigCache;
+    private IdpManager previousIdpManager;
+    private IdentityGovernanceServiceImpl identityGovernanceService;
+    private String[] requestedPropertyNames;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+
+        IdentityProviderProperty[] idpProperties = new IdentityProviderProperty[propertyCount];
+        for (int i = 0; i < propertyCount; i++) {
+            idpProperties[i] = new IdentityProviderProperty();
+            idpProperties[i].setName(PROPERTY_NAME_PREFIX + i);
+            idpProperties[i].setValue(String.valueOf(i));
+        }
+        IdentityProvider residentIdp = new IdentityProvider();
+        residentIdp.setIdpProperties(idpProperties);
+        IdpManager idpManager = mock(IdpManager.class);
+        when(idpManager.getResidentIdP(anyString())).thenReturn(residentIdp);
+        previousIdpManager = IdentityMgtServiceDataHolder.getInstance().getIdpManager();
+        IdentityMgtServiceDataHolder.getInstance().setIdpManager(idpManager);
+
+        identityTenantUtil = Mockito.mockStatic(IdentityTenantUtil.class);
+        identityTenantUtil.when(() -> IdentityTenantUtil.getTenantId(anyString())).thenReturn(BenchmarkUtils.TENANT_ID);
+
+        // A cache miss rebuilds the snapshot from the resident identity provider on every read.
+        IdentityGovernanceConfigCache cache = mock(IdentityGovernanceConfigCache.class);
+        when(cache.getValueFromCache(any(IdentityGovernanceConfigCacheKey.class), anyInt()))
+                .thenReturn(cached ? GovernanceConfigSnapshot.build(idpProperties) : null);
+        identityGovernanceConfigCache = Mockito.mockStatic(IdentityGovernanceConfigCache.class);
+        identityGovernanceConfigCache.when(IdentityGovernanceConfigCache::getInstance).thenReturn(cache);
+
+        identityGovernanceService = new IdentityGovernanceServiceImpl();
+        requestedPropertyNames = new String[REQUESTED_PROPERTY_COUNT];
+        for (int i = 0; i < REQUESTED_PROPERTY_COUNT; i++) {
+            requestedPropertyNames[i] = PROPERTY_NAME_PREFIX + (i * propertyCount / REQUESTED_PROPERTY_COUNT);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+
+        identityGovernanceConfigCache.close();
+        identityTenantUtil.close();
+        IdentityMgtServiceDataHolder.getInstance().setIdpManager(previousIdpManager);
+    }
+
+    @Benchmark
+    public Property[] getConfiguration() throws Exception {
+
+        return identityGovernanceService.getConfiguration(BenchmarkUtils.TENANT_DOMAIN);
+    }
+
+    @Benchmark
+    public Property[] getConfigurationOfProperties() throws Exception {
+
+        return identityGovernanceService.getConfiguration(requestedPropertyNames, BenchmarkUtils.TENANT_DOMAIN);
+    }
+}
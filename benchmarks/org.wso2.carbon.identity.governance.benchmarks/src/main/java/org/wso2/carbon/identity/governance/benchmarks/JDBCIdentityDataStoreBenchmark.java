@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.governance.benchmarks;
+
+import org.h2.jdbcx.JdbcConnectionPool;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.wso2.carbon.identity.core.util.IdentityDatabaseUtil;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.identity.governance.IdentityMgtConstants;
+import org.wso2.carbon.identity.governance.internal.cache.IdentityDataStoreCache;
+import org.wso2.carbon.identity.governance.model.UserIdentityClaim;
+import org.wso2.carbon.identity.governance.store.JDBCIdentityDataStore;
+import org.wso2.carbon.user.core.UserStoreManager;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Benchmarks of the identity claim persistence of JDBCIdentityDataStore against an embedded H2 database. The identity
+ * data store cache is bypassed, so that every operation reaches the database.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class JDBCIdentityDataStoreBenchmark {
+
+    private static final String USERNAME_PREFIX = "benchmarkUser";
+    private static final int LOAD_ALL_BATCH_SIZE = 50;
+
+    @Param({"1000"})
+    public int userCount;
+
+    @Param({"true", "false"})
+    public boolean caseSensitiveUsername;
+
+    @Param({"true", "false"})
+    public boolean normalizedUserName;
+
+    private JdbcConnectionPool dataSource;
+    private MockedStatic<IdentityDatabaseUtil> identityDatabaseUtil;
+    private MockedStatic<IdentityUtil> identityUtil;
+    private MockedStatic<IdentityDataStoreCache> identityDataStoreCache;
+    private JDBCIdentityDataStore identityDataStore;
+    private UserStoreManager userStoreManager;
+    private int nextUser;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+
+        dataSource = BenchmarkUtils.createDataSource("identity_data_store_" + caseSensitiveUsername + "_" +
+                normalizedUserName);
+        identityDatabaseUtil = BenchmarkUtils.mockIdentityDatabaseUtil(dataSource);
+        identityUtil = Mockito.mockStatic(IdentityUtil.class);
+        identityUtil.when(() -> IdentityUtil.isUserStoreInUsernameCaseSensitive(anyString(), anyInt()))
+                .thenReturn(caseSensitiveUsername);
+        identityUtil.when(() -> IdentityUtil.isUserStoreCaseSensitive(any(UserStoreManager.class)))
+                .thenReturn(caseSensitiveUsername);
+        identityUtil.when(() -> IdentityUtil.getProperty(
+                IdentityMgtConstants.PropertyConfig.NORMALIZED_USER_NAME_ENABLE))
+                .thenReturn(String.valueOf(normalizedUserName));
+
+        IdentityDataStoreCache cache = mock(IdentityDataStoreCache.class);
+        identityDataStoreCache = Mockito.mockStatic(IdentityDataStoreCache.class);
+        identityDataStoreCache.when(IdentityDataStoreCache::getInstance).thenReturn(cache);
+
+        identityDataStore = new JDBCIdentityDataStore();
+        userStoreManager = BenchmarkUtils.mockUserStoreManager(BenchmarkUtils.PRIMARY_DOMAIN,
+                BenchmarkUtils.TENANT_ID, UserStoreManager.class);
+        for (int i = 0; i < userCount; i++) {
+            identityDataStore.store(new UserIdentityClaim(getUserName(i), buildClaims(i)), userStoreManager);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+
+        identityDataStoreCache.close();
+        identityUtil.close();
+        identityDatabaseUtil.close();
+        dataSource.dispose();
+    }
+
+    @Benchmark
+    public void store() throws Exception {
+
+        int user = nextUser();
+        Map<String, String> claims = buildClaims(user);
+        // Change a claim, so that each store results in an update.
+        claims.put(IdentityMgtConstants.Claim.LAST_LOGIN_TIME, String.valueOf(System.currentTimeMillis()));
+        identityDataStore.store(new UserIdentityClaim(getUserName(user), claims), userStoreManager);
+    }
+
+    @Benchmark
+    public UserIdentityClaim load() {
+
+        return identityDataStore.load(getUserName(nextUser()), userStoreManager);
+    }
+
+    @Benchmark
+    public Map<String, UserIdentityClaim> loadAll() {
+
+        List<String> userNames = new ArrayList<>(LOAD_ALL_BATCH_SIZE);
+        for (int i = 0; i < LOAD_ALL_BATCH_SIZE; i++) {
+            userNames.add(getUserName(nextUser()));
+        }
+        return identityDataStore.loadAll(userNames, userStoreManager);
+    }
+
+    private int nextUser() {
+
+        nextUser = (nextUser + 1) % userCount;
+        return nextUser;
+    }
+
+    private static String getUserName(int user) {
+
+        return USERNAME_PREFIX + user;
+    }
+
+    private static Map<String, String> buildClaims(int user) {
+
+        Map<String, String> claims = new HashMap<>();
+        claims.put(IdentityMgtConstants.Claim.ACCOUNT_LOCK, "false");
+        claims.put(IdentityMgtConstants.Claim.FAIL_LOGIN_ATTEMPTS, "0");
+        claims.put(IdentityMgtConstants.Claim.LAST_LOGIN_TIME, String.valueOf(1700000000000L + user));
+        claims.put(IdentityMgtConstants.Claim.LAST_PASSWORD_UPDATE_TIME, String.valueOf(1690000000000L + user));
+        return claims;
+    }
+}
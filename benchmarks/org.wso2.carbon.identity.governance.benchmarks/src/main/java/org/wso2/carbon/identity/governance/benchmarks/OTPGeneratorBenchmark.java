@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.governance.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.wso2.carbon.identity.governance.internal.service.impl.otp.DefaultOTPGenerator;
+import org.wso2.carbon.identity.governance.internal.service.impl.otp.OTPGeneratorImpl;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the OTP generators used by the recovery and verification flows. The state is shared by the benchmark
+ * threads, hence run with more threads (-t) to measure the generators under contention.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class OTPGeneratorBenchmark {
+
+    private static final String RECOVERY_SCENARIO = "SMS_OTP_RECOVERY";
+    private static final String CHAR_SET = "ABCDEFGHJKLMNPQRSTUVWXYZ23456789";
+    private static final int BULK_COUNT = 100;
+
+    @Param({"6", "32"})
+    public int otpLength;
+
+    private final DefaultOTPGenerator defaultOTPGenerator = new DefaultOTPGenerator();
+    private final OTPGeneratorImpl otpGenerator = new OTPGeneratorImpl();
+
+    @Benchmark
+    public String defaultGeneratorWithCharacterTypes() throws Exception {
+
+        return defaultOTPGenerator.generateOTP(true, true, true, otpLength, RECOVERY_SCENARIO);
+    }
+
+    @Benchmark
+    public String defaultGeneratorWithCharSet() throws Exception {
+
+        return defaultOTPGenerator.generateOTP(CHAR_SET, otpLength, RECOVERY_SCENARIO);
+    }
+
+    @Benchmark
+    public String generatorWithCharacterTypes() throws Exception {
+
+        return otpGenerator.generateOTP(true, true, true, otpLength, RECOVERY_SCENARIO);
+    }
+
+    @Benchmark
+    public String generatorWithCharSet() throws Exception {
+
+        return otpGenerator.generateOTP(CHAR_SET, otpLength, RECOVERY_SCENARIO);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BULK_COUNT)
+    public List<String> bulkGeneratorWithCharacterTypes() throws Exception {
+
+        return otpGenerator.generateOTPs(true, true, true, otpLength, BULK_COUNT, RECOVERY_SCENARIO);
+    }
+}
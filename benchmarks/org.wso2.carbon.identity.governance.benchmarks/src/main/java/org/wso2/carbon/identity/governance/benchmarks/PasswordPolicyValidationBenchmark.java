@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.governance.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.wso2.carbon.identity.application.common.model.Property;
+import org.wso2.carbon.identity.event.IdentityEventConstants;
+import org.wso2.carbon.identity.event.bean.ModuleConfiguration;
+import org.wso2.carbon.identity.event.event.Event;
+import org.wso2.carbon.identity.governance.IdentityGovernanceService;
+import org.wso2.carbon.identity.mgt.policy.password.DefaultPasswordLengthPolicy;
+import org.wso2.carbon.identity.mgt.policy.password.DefaultPasswordPatternPolicy;
+import org.wso2.carbon.identity.password.policy.constants.PasswordPolicyConstants;
+import org.wso2.carbon.identity.password.policy.handler.PasswordPolicyValidationHandler;
+import org.wso2.carbon.identity.password.policy.internal.IdentityPasswordPolicyServiceDataHolder;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Benchmarks of the password policy validation done on every credential update. Events without a tenant domain are
+ * not served from the compiled policies of the handler, which gives the cost of building the policies on each event.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class PasswordPolicyValidationBenchmark {
+
+    private static final String PASSWORD = "Benchmark@Password1";
+
+    @Param({"true", "false"})
+    public boolean compiledPolicies;
+
+    private IdentityGovernanceService previousIdentityGovernanceService;
+    private PasswordPolicyValidationHandler passwordPolicyValidationHandler;
+    private Event event;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+
+        IdentityGovernanceService identityGovernanceService = mock(IdentityGovernanceService.class);
+        when(identityGovernanceService.getConfiguration(any(String[].class), any())).thenReturn(new Property[]{
+                buildProperty(PasswordPolicyConstants.PW_POLICY_ENABLE, "true"),
+                buildProperty(PasswordPolicyConstants.PW_POLICY_MIN_LENGTH, "8"),
+                buildProperty(PasswordPolicyConstants.PW_POLICY_MAX_LENGTH, "30"),
+                buildProperty(PasswordPolicyConstants.PW_POLICY_PATTERN,
+                        "^((?=.*\\d)(?=.*[a-z])(?=.*[A-Z])(?=.*[!@#$%&*])).{0,100}$"),
+                buildProperty(PasswordPolicyConstants.PW_POLICY_ERROR_MSG, "Password pattern policy violated.")});
+        previousIdentityGovernanceService =
+                IdentityPasswordPolicyServiceDataHolder.getInstance().getIdentityGovernanceService();
+        IdentityPasswordPolicyServiceDataHolder.getInstance().setIdentityGovernanceService(identityGovernanceService);
+
+        Properties moduleProperties = new Properties();
+        moduleProperties.setProperty(PasswordPolicyConstants.PW_POLICY_LENGTH_CLASS,
+                DefaultPasswordLengthPolicy.class.getName());
+        moduleProperties.setProperty(PasswordPolicyConstants.PW_POLICY_PATTERN_CLASS,
+                DefaultPasswordPatternPolicy.class.getName());
+        ModuleConfiguration moduleConfiguration = mock(ModuleConfiguration.class);
+        when(moduleConfiguration.getModuleProperties()).thenReturn(moduleProperties);
+        passwordPolicyValidationHandler = new PasswordPolicyValidationHandler();
+        passwordPolicyValidationHandler.init(moduleConfiguration);
+
+        Map<String, Object> eventProperties = new HashMap<>();
+        eventProperties.put(IdentityEventConstants.EventProperty.USER_NAME, "benchmarkUser");
+        eventProperties.put(IdentityEventConstants.EventProperty.TENANT_DOMAIN,
+                compiledPolicies ? BenchmarkUtils.TENANT_DOMAIN : null);
+        eventProperties.put(IdentityEventConstants.EventProperty.CREDENTIAL, PASSWORD);
+        event = new Event(IdentityEventConstants.Event.PRE_UPDATE_CREDENTIAL, eventProperties);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+
+        IdentityPasswordPolicyServiceDataHolder.getInstance()
+                .setIdentityGovernanceService(previousIdentityGovernanceService);
+    }
+
+    @Benchmark
+    public void handleEvent() throws Exception {
+
+        passwordPolicyValidationHandler.handleEvent(event);
+    }
+
+    private static Property buildProperty(String name, String value) {
+
+        Property property = new Property();
+        property.setName(name);
+        property.setValue(value);
+        return property;
+    }
+}
@@ -0,0 +1,190 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.governance.benchmarks;
+
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.wso2.carbon.identity.multi.attribute.login.mgt.ResolvedUserResult;
+import org.wso2.carbon.identity.multi.attribute.login.resolver.regex.RegexResolver;
+import org.wso2.carbon.identity.multi.attribute.login.resolver.regex.cache.ResolvedUserCache;
+import org.wso2.carbon.identity.multi.attribute.login.resolver.regex.utils.UserResolverUtil;
+import org.wso2.carbon.user.api.Claim;
+import org.wso2.carbon.user.core.UniqueIDUserStoreManager;
+import org.wso2.carbon.user.core.UserRealm;
+import org.wso2.carbon.user.core.claim.ClaimManager;
+import org.wso2.carbon.user.core.common.User;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Benchmarks of the login identifier resolution of RegexResolver against an in memory user store, with and without
+ * the resolved user cache.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class RegexResolverBenchmark {
+
+    private static final String USERNAME_CLAIM_URI = "http://wso2.org/claims/username";
+    private static final String EMAIL_CLAIM_URI = "http://wso2.org/claims/emailaddress";
+    private static final String MOBILE_CLAIM_URI = "http://wso2.org/claims/mobile";
+    private static final String USERNAME_REGEX = "^[a-zA-Z0-9._-]{3,30}$";
+    private static final String EMAIL_REGEX = "^[a-zA-Z0-9._%+-]+@[a-zA-Z0-9.-]+\\.[a-zA-Z]{2,}$";
+    private static final String MOBILE_REGEX = "^\\+?[0-9]{10,15}$";
+
+    @Param({"1000"})
+    public int userCount;
+
+    @Param({"true", "false"})
+    public boolean resolvedUserCacheEnabled;
+
+    private final Map<String, Map<String, String>> userIdsByClaim = new HashMap<>();
+    private MockedStatic<UserResolverUtil> userResolverUtil;
+    private RegexResolver regexResolver;
+    private List<String> allowedAttributes;
+    private int nextUser;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+
+        userIdsByClaim.put(USERNAME_CLAIM_URI, new HashMap<>());
+        userIdsByClaim.put(EMAIL_CLAIM_URI, new HashMap<>());
+        userIdsByClaim.put(MOBILE_CLAIM_URI, new HashMap<>());
+        for (int i = 0; i < userCount; i++) {
+            String userId = "user-id-" + i;
+            userIdsByClaim.get(USERNAME_CLAIM_URI).put(getUsername(i), userId);
+            userIdsByClaim.get(EMAIL_CLAIM_URI).put(getEmail(i), userId);
+            userIdsByClaim.get(MOBILE_CLAIM_URI).put(getMobile(i), userId);
+        }
+
+        ClaimManager claimManager = mock(ClaimManager.class);
+        when(claimManager.getClaim(USERNAME_CLAIM_URI)).thenReturn(buildClaim(USERNAME_CLAIM_URI, USERNAME_REGEX));
+        when(claimManager.getClaim(EMAIL_CLAIM_URI)).thenReturn(buildClaim(EMAIL_CLAIM_URI, EMAIL_REGEX));
+        when(claimManager.getClaim(MOBILE_CLAIM_URI)).thenReturn(buildClaim(MOBILE_CLAIM_URI, MOBILE_REGEX));
+
+        // In memory user store, which returns new user objects for every search as a real user store does.
+        UniqueIDUserStoreManager userStoreManager = mock(UniqueIDUserStoreManager.class);
+        when(userStoreManager.getUserListWithID(anyString(), anyString(), any())).thenAnswer(invocation -> {
+            String userId = userIdsByClaim.getOrDefault(invocation.<String>getArgument(0), Collections.emptyMap())
+                    .get(invocation.<String>getArgument(1));
+            if (userId == null) {
+                return new ArrayList<User>();
+            }
+            User user = new User();
+            user.setUserID(userId);
+            user.setUsername(getUsername(Integer.parseInt(userId.substring(userId.lastIndexOf('-') + 1))));
+            user.setUserStoreDomain(BenchmarkUtils.PRIMARY_DOMAIN);
+            user.setTenantDomain(BenchmarkUtils.TENANT_DOMAIN);
+            return new ArrayList<>(Collections.singletonList(user));
+        });
+        UserRealm userRealm = mock(UserRealm.class);
+        when(userRealm.getClaimManager()).thenReturn(claimManager);
+        when(userRealm.getUserStoreManager()).thenReturn(userStoreManager);
+
+        userResolverUtil = Mockito.mockStatic(UserResolverUtil.class);
+        userResolverUtil.when(() -> UserResolverUtil.getUserRealm(anyString())).thenReturn(userRealm);
+        userResolverUtil.when(() -> UserResolverUtil.getUserStoreManager(anyString())).thenReturn(userStoreManager);
+
+        regexResolver = resolvedUserCacheEnabled ?
+                new RegexResolver(new ResolvedUserCache(TimeUnit.MINUTES.toMillis(5), userCount * 3)) :
+                new RegexResolver();
+        allowedAttributes = Arrays.asList(USERNAME_CLAIM_URI, EMAIL_CLAIM_URI, MOBILE_CLAIM_URI);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+
+        userResolverUtil.close();
+    }
+
+    @Benchmark
+    public ResolvedUserResult resolveByUsername() {
+
+        return regexResolver.resolveUser(getUsername(nextUser()), allowedAttributes, BenchmarkUtils.TENANT_DOMAIN);
+    }
+
+    @Benchmark
+    public ResolvedUserResult resolveByEmail() {
+
+        return regexResolver.resolveUser(getEmail(nextUser()), allowedAttributes, BenchmarkUtils.TENANT_DOMAIN);
+    }
+
+    @Benchmark
+    public ResolvedUserResult resolveByMobile() {
+
+        return regexResolver.resolveUser(getMobile(nextUser()), allowedAttributes, BenchmarkUtils.TENANT_DOMAIN);
+    }
+
+    private int nextUser() {
+
+        nextUser = (nextUser + 1) % userCount;
+        return nextUser;
+    }
+
+    private static Claim buildClaim(String claimUri, String regex) {
+
+        Claim claim = new Claim();
+        claim.setClaimUri(claimUri);
+        claim.setRegEx(regex);
+        claim.setDisplayTag(claimUri);
+        return claim;
+    }
+
+    private static String getUsername(int user) {
+
+        return "user" + user;
+    }
+
+    private static String getEmail(int user) {
+
+        return "user" + user + "@wso2.com";
+    }
+
+    private static String getMobile(int user) {
+
+        return String.valueOf(94770000000L + user);
+    }
+}
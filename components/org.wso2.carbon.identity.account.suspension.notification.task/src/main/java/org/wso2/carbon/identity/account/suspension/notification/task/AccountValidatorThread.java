@@ -23,7 +23,6 @@ import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.context.PrivilegedCarbonContext;
 import org.wso2.carbon.identity.account.suspension.notification.task.exception.AccountSuspensionNotificationException;
 import org.wso2.carbon.identity.account.suspension.notification.task.internal.NotificationTaskDataHolder;
-import org.wso2.carbon.identity.account.suspension.notification.task.util.EmailUtil;
 import org.wso2.carbon.identity.account.suspension.notification.task.util.NotificationConstants;
 import org.wso2.carbon.identity.account.suspension.notification.task.util.NotificationReceiver;
 import org.wso2.carbon.identity.application.common.model.Property;
@@ -45,13 +44,25 @@ import org.wso2.carbon.user.core.service.RealmService;
 import org.wso2.carbon.utils.multitenancy.MultitenantConstants;
 
 import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 public class AccountValidatorThread implements Runnable {
 
     private static final Log log = LogFactory.getLog(AccountValidatorThread.class);
+    private static final long TENANT_START_POLL_INTERVAL_MILLIS = 1000;
+    private static final long NOTIFICATION_COMPLETION_DEFAULT_TIMEOUT_MINUTES = 60;
 
     public AccountValidatorThread() {
 
@@ -63,6 +74,7 @@ public class AccountValidatorThread implements Runnable {
         if (log.isDebugEnabled()) {
             log.debug("Idle account suspension task started.");
         }
+        long startTime = System.currentTimeMillis();
 
         RealmService realmService = NotificationTaskDataHolder.getInstance().getRealmService();
 
@@ -74,16 +86,145 @@ public class AccountValidatorThread implements Runnable {
             log.error("Error occurred while retrieving tenants", e);
         }
 
-        handleTask(MultitenantConstants.SUPER_TENANT_DOMAIN_NAME);
-
+        List<String> tenantDomains = new ArrayList<>();
+        tenantDomains.add(MultitenantConstants.SUPER_TENANT_DOMAIN_NAME);
         for (Tenant tenant : tenants) {
-            handleTask(tenant.getDomain());
+            tenantDomains.add(tenant.getDomain());
+        }
+
+        int poolSize = NotificationTaskDataHolder.getInstance().getTenantThreadPoolSize();
+        long tenantTimeoutMillis = TimeUnit.MINUTES.toMillis(NotificationTaskDataHolder.getInstance()
+                .getTenantTaskTimeoutInMinutes());
+        AtomicInteger workerCount = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(poolSize, runnable -> {
+            Thread thread = new Thread(runnable, "AccountValidatorWorker-" + workerCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        List<TenantResult> results = new ArrayList<>();
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (String tenantDomain : tenantDomains) {
+                TenantResult result = new TenantResult(tenantDomain);
+                results.add(result);
+                futures.add(executor.submit(() -> handleTask(result)));
+            }
+            for (int i = 0; i < results.size(); i++) {
+                awaitTenant(results.get(i), futures.get(i), tenantTimeoutMillis);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Notifications may still be sent after the scan of the tenants, hence the run completes once they are sent.
+        NotificationDispatcher dispatcher = NotificationTaskDataHolder.getInstance().getNotificationDispatcher();
+        if (dispatcher != null) {
+            long completionTimeoutMillis = tenantTimeoutMillis > 0 ? tenantTimeoutMillis :
+                    TimeUnit.MINUTES.toMillis(NOTIFICATION_COMPLETION_DEFAULT_TIMEOUT_MINUTES);
+            try {
+                if (!dispatcher.awaitCompletion(completionTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                    log.warn("Idle account notifications were not completed within " + completionTimeoutMillis +
+                            " ms. Hence the task completed without waiting for the " + dispatcher.getPendingCount() +
+                            " pending notifications, which are not included in the run report.");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                log.warn("Interrupted while waiting for the idle account notifications to be sent.");
+            }
         }
 
+        logRunReport(results, System.currentTimeMillis() - startTime);
     }
 
-    private void handleTask(String tenantDomain) {
+    /**
+     * Wait until the task of a tenant completes. The task is cancelled if it runs longer than the given timeout, so
+     * that a slow tenant or user store does not hold up the whole run.
+     */
+    private void awaitTenant(TenantResult result, Future<?> future, long tenantTimeoutMillis) {
 
+        while (true) {
+            try {
+                if (tenantTimeoutMillis <= 0) {
+                    future.get();
+                    return;
+                }
+                long startedAt = result.startedAt;
+                if (startedAt == 0) {
+                    // The task is still waiting for a worker, hence its timeout has not started yet.
+                    future.get(TENANT_START_POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+                    return;
+                }
+                long remainingMillis = startedAt + tenantTimeoutMillis - System.currentTimeMillis();
+                if (remainingMillis <= 0) {
+                    throw new TimeoutException();
+                }
+                future.get(remainingMillis, TimeUnit.MILLISECONDS);
+                return;
+            } catch (TimeoutException e) {
+                if (result.startedAt != 0 &&
+                        System.currentTimeMillis() >= result.startedAt + tenantTimeoutMillis) {
+                    result.cancelled = true;
+                    future.cancel(true);
+                    // The worker may have completed the task in the meantime, in which case its status is kept.
+                    if (result.complete(TenantStatus.TIMED_OUT)) {
+                        log.warn("Idle account suspension task of tenant: " + result.tenantDomain + " did not " +
+                                "complete within " + tenantTimeoutMillis + " ms. Hence the task was cancelled.");
+                    }
+                    return;
+                }
+            } catch (ExecutionException e) {
+                result.complete(TenantStatus.FAILED);
+                log.error("Error occurred while handling idle account suspension task for tenant: " +
+                        result.tenantDomain, e.getCause());
+                return;
+            } catch (CancellationException e) {
+                result.complete(TenantStatus.TIMED_OUT);
+                return;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                result.cancelled = true;
+                future.cancel(true);
+                result.complete(TenantStatus.FAILED);
+                return;
+            }
+        }
+    }
+
+    private void logRunReport(List<TenantResult> results, long elapsedTimeMillis) {
+
+        Map<TenantStatus, Integer> tenantCounts = new EnumMap<>(TenantStatus.class);
+        List<String> unsuccessfulTenants = new ArrayList<>();
+        int notificationsSent = 0;
+        int accountsLocked = 0;
+        for (TenantResult result : results) {
+            TenantStatus status = result.status.get();
+            tenantCounts.merge(status, 1, Integer::sum);
+            notificationsSent += result.notificationsSent.get();
+            accountsLocked += result.accountsLocked.get();
+            if (TenantStatus.FAILED == status || TenantStatus.TIMED_OUT == status) {
+                unsuccessfulTenants.add(result.tenantDomain + "(" + status + ")");
+            }
+        }
+        log.info(String.format("Idle account suspension task completed in %d ms. Tenants: %d, completed: %d, " +
+                        "disabled: %d, failed: %d, timed out: %d. Notifications sent: %d, accounts locked: %d.",
+                elapsedTimeMillis, results.size(), tenantCounts.getOrDefault(TenantStatus.COMPLETED, 0),
+                tenantCounts.getOrDefault(TenantStatus.DISABLED, 0), tenantCounts.getOrDefault(TenantStatus.FAILED, 0),
+                tenantCounts.getOrDefault(TenantStatus.TIMED_OUT, 0), notificationsSent, accountsLocked));
+        if (!unsuccessfulTenants.isEmpty()) {
+            log.warn("Idle account suspension task was not completed for the tenants: " +
+                    String.join(", ", unsuccessfulTenants));
+        }
+    }
+
+    private void handleTask(TenantResult result) {
+
+        if (!result.start()) {
+            // The run stopped waiting for the tenant before a worker picked up its task.
+            return;
+        }
+        result.startedAt = System.currentTimeMillis();
+        String tenantDomain = result.tenantDomain;
         if (log.isDebugEnabled()) {
             log.debug("Handling idle account suspension task for tenant: " + tenantDomain);
         }
@@ -111,6 +252,7 @@ public class AccountValidatorThread implements Runnable {
                     isEnabled = Boolean.parseBoolean(identityProperty.getValue());
 
                     if (!isEnabled) {
+                        result.complete(TenantStatus.DISABLED);
                         return;
                     }
                 }
@@ -151,17 +293,25 @@ public class AccountValidatorThread implements Runnable {
             }
 
             if (!isEnabled) {
+                result.complete(TenantStatus.DISABLED);
                 return;
             }
 
-            notifyUsers(tenantDomain, suspensionDelay, notificationDelays);
+            notifyUsers(result, suspensionDelay, notificationDelays);
 
-            lockAccounts(tenantDomain, suspensionDelay);
+            lockAccounts(result, suspensionDelay);
 
+            result.complete(TenantStatus.COMPLETED);
         } catch (IdentityGovernanceException e) {
-            log.error("Error occurred while loading governance configuration for tenants", e);
+            result.complete(TenantStatus.FAILED);
+            log.error("Error occurred while loading governance configuration for tenant: " + tenantDomain, e);
         } catch (IdentityException e) {
-            log.error("Unable to disable user accounts", e);
+            result.complete(TenantStatus.FAILED);
+            log.error("Unable to disable user accounts of tenant: " + tenantDomain, e);
+        } catch (RuntimeException e) {
+            // Keep the failure of a tenant from affecting the other tenants.
+            result.complete(TenantStatus.FAILED);
+            log.error("Error occurred while handling idle account suspension task for tenant: " + tenantDomain, e);
         } finally {
             PrivilegedCarbonContext.endTenantFlow();
         }
@@ -170,23 +320,47 @@ public class AccountValidatorThread implements Runnable {
     /**
      * Notify users about account inactivity via Email.
      */
-    private void notifyUsers(String tenantDomain, long suspensionDelay, long[] notificationDelays) {
-        EmailUtil util = new EmailUtil();
+    private void notifyUsers(TenantResult result, long suspensionDelay, long[] notificationDelays)
+            throws IdentityException {
+        String tenantDomain = result.tenantDomain;
+        if (notificationDelays == null) {
+            return;
+        }
+        NotificationDispatcher dispatcher = NotificationTaskDataHolder.getInstance().getNotificationDispatcher();
+        if (dispatcher == null) {
+            throw new IdentityException("Notification dispatcher is not available to notify the users of tenant: " +
+                    tenantDomain);
+        }
         for (long delay : notificationDelays) {
-            List<NotificationReceiver> receivers = null;
+            checkCancelled(result);
             try {
-                receivers = NotificationReceiversRetrievalManager.getReceivers(delay, tenantDomain, suspensionDelay);
+                // Receivers are queued for notification page by page, as they are retrieved from the user stores.
+                NotificationReceiversRetrievalManager.handleReceivers(delay, tenantDomain, suspensionDelay,
+                        receivers -> notifyReceivers(result, dispatcher, receivers));
             } catch (AccountSuspensionNotificationException e) {
                 log.error("Error occurred while retrieving notification receivers", e);
             }
-            if (CollectionUtils.isNotEmpty(receivers)) {
-                for (NotificationReceiver receiver : receivers) {
-                    if (log.isDebugEnabled()) {
-                        log.debug("Sending notification to: " + IdentityUtil.addDomainToName(receiver.getUsername(),
-                                receiver.getUserStoreDomain()) + "@" + tenantDomain);
-                    }
-                    util.sendEmail(receiver);
-                }
+        }
+    }
+
+    private void notifyReceivers(TenantResult result, NotificationDispatcher dispatcher,
+                                 List<NotificationReceiver> receivers) throws IdentityException {
+
+        String tenantDomain = result.tenantDomain;
+        if (CollectionUtils.isEmpty(receivers)) {
+            return;
+        }
+        for (NotificationReceiver receiver : receivers) {
+            checkCancelled(result);
+            if (log.isDebugEnabled()) {
+                log.debug("Queueing notification to: " + IdentityUtil.addDomainToName(receiver.getUsername(),
+                        receiver.getUserStoreDomain()) + "@" + tenantDomain);
+            }
+            try {
+                dispatcher.dispatch(tenantDomain, receiver, result.notificationsSent::incrementAndGet);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                checkCancelled(result);
             }
         }
     }
@@ -196,38 +370,45 @@ public class AccountValidatorThread implements Runnable {
      *
      * @throws IdentityException
      */
-    private void lockAccounts(String tenantDomain, long suspensionDelay) throws IdentityException {
-        List<NotificationReceiver> receivers = null;
+    private void lockAccounts(TenantResult result, long suspensionDelay) throws IdentityException {
+        String tenantDomain = result.tenantDomain;
         try {
-            receivers = NotificationReceiversRetrievalManager.getReceivers(suspensionDelay, tenantDomain,
-                    suspensionDelay);
-
+            // Accounts are locked page by page, as the receivers are retrieved from the user stores.
+            NotificationReceiversRetrievalManager.handleReceivers(suspensionDelay, tenantDomain, suspensionDelay,
+                    receivers -> lockAccounts(result, receivers));
         } catch (AccountSuspensionNotificationException e) {
             throw IdentityException.error("Error occurred while retrieving users for account disable", e);
         }
+    }
+
+    private void lockAccounts(TenantResult result, List<NotificationReceiver> receivers) throws IdentityException {
+
+        String tenantDomain = result.tenantDomain;
         if (receivers.size() > 0) {
+            RealmService realmService = NotificationTaskDataHolder.getInstance().getRealmService();
+            int tenantId = IdentityTenantUtil.getTenantId(tenantDomain);
+
+            UserRealm userRealm;
+            try {
+                userRealm = (UserRealm) realmService.getTenantUserRealm(tenantId);
+            } catch (UserStoreException e) {
+                throw new IdentityException("Failed retrieve the user realm for tenant: " + tenantDomain, e);
+            }
+
+            UserStoreManager userStoreManager;
+            try {
+                userStoreManager = userRealm.getUserStoreManager();
+            } catch (org.wso2.carbon.user.core.UserStoreException e) {
+                throw new IdentityException("Failed retrieve the user store manager for tenant: " + tenantDomain,
+                        e);
+            }
+
             for (NotificationReceiver receiver : receivers) {
+                checkCancelled(result);
                 if (log.isDebugEnabled()) {
                     log.debug("Locking idle account: " + IdentityUtil.addDomainToName(receiver.getUsername(),
                             receiver.getUserStoreDomain()) + "@" + tenantDomain);
                 }
-                RealmService realmService = NotificationTaskDataHolder.getInstance().getRealmService();
-                int tenantId = IdentityTenantUtil.getTenantId(tenantDomain);
-
-                UserRealm userRealm;
-                try {
-                    userRealm = (UserRealm) realmService.getTenantUserRealm(tenantId);
-                } catch (UserStoreException e) {
-                    throw new IdentityException("Failed retrieve the user realm for tenant: " + tenantDomain, e);
-                }
-
-                UserStoreManager userStoreManager;
-                try {
-                    userStoreManager = userRealm.getUserStoreManager();
-                } catch (org.wso2.carbon.user.core.UserStoreException e) {
-                    throw new IdentityException("Failed retrieve the user store manager for tenant: " + tenantDomain,
-                            e);
-                }
 
                 Map<String, String> updatedClaims = new HashMap<>();
                 updatedClaims.put(NotificationConstants.ACCOUNT_LOCKED_CLAIM, Boolean.TRUE.toString());
@@ -248,10 +429,25 @@ public class AccountValidatorThread implements Runnable {
                 user.setTenantDomain(tenantDomain);
                 user.setUserStoreDomain(receiver.getUserStoreDomain());
                 triggerNotification(user);
+                result.accountsLocked.incrementAndGet();
             }
         }
     }
 
+    /**
+     * Stop processing the users of a tenant once its task has been cancelled. The cancellation flag is checked as
+     * well as the interrupt status, since the user store calls may clear the interrupt status of the worker.
+     *
+     * @throws IdentityException If the task of the tenant was cancelled.
+     */
+    private void checkCancelled(TenantResult result) throws IdentityException {
+
+        if (result.cancelled || Thread.currentThread().isInterrupted()) {
+            throw new IdentityException("Idle account suspension task of tenant: " + result.tenantDomain +
+                    " was cancelled.");
+        }
+    }
+
     private String[] getPropertyNames() {
 
         List<String> properties = new ArrayList<>();
@@ -276,4 +472,56 @@ public class AccountValidatorThread implements Runnable {
                     user.toFullQualifiedUsername(), e);
         }
     }
+
+    private enum TenantStatus {
+        NOT_STARTED, RUNNING, DISABLED, COMPLETED, FAILED, TIMED_OUT
+    }
+
+    /**
+     * Outcome of the suspension task of a single tenant.
+     */
+    private static class TenantResult {
+
+        private final String tenantDomain;
+        private final AtomicInteger notificationsSent = new AtomicInteger();
+        private final AtomicInteger accountsLocked = new AtomicInteger();
+        private volatile long startedAt;
+        // Set when the run gives up on the tenant, so that the worker stops at the next user.
+        private volatile boolean cancelled;
+        private final AtomicReference<TenantStatus> status = new AtomicReference<>(TenantStatus.NOT_STARTED);
+
+        TenantResult(String tenantDomain) {
+
+            this.tenantDomain = tenantDomain;
+        }
+
+        /**
+         * Marks the task as running, unless the run has already given up on the tenant.
+         *
+         * @return True if the task should be run.
+         */
+        boolean start() {
+
+            return status.compareAndSet(TenantStatus.NOT_STARTED, TenantStatus.RUNNING);
+        }
+
+        /**
+         * Sets the final status of the task. The worker and the thread waiting for it may both try to complete the
+         * task, e.g. when it times out while the worker is finishing, hence only the first final status is kept.
+         *
+         * @param finalStatus Final status of the task.
+         * @return True if the status was set.
+         */
+        boolean complete(TenantStatus finalStatus) {
+
+            TenantStatus currentStatus = status.get();
+            while (TenantStatus.NOT_STARTED == currentStatus || TenantStatus.RUNNING == currentStatus) {
+                if (status.compareAndSet(currentStatus, finalStatus)) {
+                    return true;
+                }
+                currentStatus = status.get();
+            }
+            return false;
+        }
+    }
 }
@@ -0,0 +1,300 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.account.suspension.notification.task;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.identity.account.suspension.notification.task.util.EmailUtil;
+import org.wso2.carbon.identity.account.suspension.notification.task.util.NotificationReceiver;
+import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.identity.event.IdentityEventException;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Sends the idle account notifications on a pool of its own, so that a slow event handler or mail server does not
+ * hold up the retrieval of the idle users.
+ * <p>
+ * The number of notifications held by the dispatcher, including the ones waiting for a retry, is bounded. Once the
+ * bound is reached the retrieval waits for a notification to complete. The notifications of a tenant are spaced out
+ * to stay within the rate limit of the tenant, and failed notifications are retried with an exponential backoff.
+ */
+public class NotificationDispatcher {
+
+    private static final Log log = LogFactory.getLog(NotificationDispatcher.class);
+
+    private final ScheduledThreadPoolExecutor executor;
+    private final Semaphore capacity;
+    private final long tenantDispatchIntervalNanos;
+    private final int maxRetries;
+    private final long retryBackoffMillis;
+    private final NotificationSender sender;
+    private final Map<String, AtomicLong> nextDispatchTimes = new ConcurrentHashMap<>();
+    private final Object pendingLock = new Object();
+    private int pendingCount;
+
+    /**
+     * Create a notification dispatcher.
+     *
+     * @param poolSize           Number of notifications sent concurrently.
+     * @param queueSize          Maximum number of notifications held by the dispatcher.
+     * @param tenantRateLimit    Maximum number of notifications sent per second for a tenant. A non-positive value
+     *                           means that the notifications are not rate limited.
+     * @param maxRetries         Number of times a failed notification is retried.
+     * @param retryBackoffMillis Delay before the first retry of a failed notification, which is doubled for each
+     *                           subsequent retry.
+     */
+    public NotificationDispatcher(int poolSize, int queueSize, int tenantRateLimit, int maxRetries,
+                                  long retryBackoffMillis) {
+
+        this(poolSize, queueSize, tenantRateLimit, maxRetries, retryBackoffMillis, new EmailNotificationSender());
+    }
+
+    NotificationDispatcher(int poolSize, int queueSize, int tenantRateLimit, int maxRetries, long retryBackoffMillis,
+                           NotificationSender sender) {
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ScheduledThreadPoolExecutor(poolSize, runnable -> {
+            Thread thread = new Thread(runnable, "NotificationDispatcher-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.executor.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+        this.capacity = new Semaphore(queueSize);
+        this.tenantDispatchIntervalNanos = tenantRateLimit > 0 ? TimeUnit.SECONDS.toNanos(1) / tenantRateLimit : 0;
+        this.maxRetries = maxRetries;
+        this.retryBackoffMillis = retryBackoffMillis;
+        this.sender = sender;
+    }
+
+    /**
+     * Queue a notification to be sent to the given receiver. Waits if the dispatcher already holds the maximum number
+     * of notifications.
+     *
+     * @param tenantDomain Tenant domain of the receiver.
+     * @param receiver     Notification receiver.
+     * @param onSent       Called once the notification is sent.
+     * @throws InterruptedException If the thread was interrupted while waiting for the dispatcher.
+     */
+    public void dispatch(String tenantDomain, NotificationReceiver receiver, Runnable onSent)
+            throws InterruptedException {
+
+        capacity.acquire();
+        synchronized (pendingLock) {
+            pendingCount++;
+        }
+        DispatchTask task = new DispatchTask(tenantDomain, receiver, onSent);
+        try {
+            executor.schedule(task, reserveDispatchDelay(tenantDomain), TimeUnit.NANOSECONDS);
+        } catch (RejectedExecutionException e) {
+            log.warn("Notification dispatcher is shut down. Hence the notification to: " + task.getUser() +
+                    " was not sent.");
+            complete();
+        }
+    }
+
+    /**
+     * Wait until all the notifications held by the dispatcher are completed, or the given timeout elapses.
+     *
+     * @param timeout Maximum time to wait.
+     * @param unit    Time unit of the timeout.
+     * @return True if all the notifications were completed, false if the timeout elapsed before.
+     * @throws InterruptedException If the thread was interrupted while waiting.
+     */
+    public boolean awaitCompletion(long timeout, TimeUnit unit) throws InterruptedException {
+
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        synchronized (pendingLock) {
+            while (pendingCount > 0) {
+                long remainingNanos = deadline - System.nanoTime();
+                if (remainingNanos <= 0) {
+                    return false;
+                }
+                TimeUnit.NANOSECONDS.timedWait(pendingLock, remainingNanos);
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Get the number of notifications held by the dispatcher, including the ones waiting for a retry.
+     *
+     * @return Number of pending notifications.
+     */
+    public int getPendingCount() {
+
+        synchronized (pendingLock) {
+            return pendingCount;
+        }
+    }
+
+    /**
+     * Stop the dispatcher. The notifications which are not yet sent are dropped, and the threads waiting for the
+     * dispatcher are released.
+     */
+    public void shutdown() {
+
+        executor.shutdownNow();
+        synchronized (pendingLock) {
+            // Release the capacity held by the dropped notifications, so that a blocked dispatch is rejected.
+            capacity.release(pendingCount);
+            pendingCount = 0;
+            pendingLock.notifyAll();
+        }
+    }
+
+    /**
+     * Reserve the next dispatch slot of the tenant within its rate limit.
+     *
+     * @return Delay until the reserved slot in nanoseconds.
+     */
+    private long reserveDispatchDelay(String tenantDomain) {
+
+        if (tenantDispatchIntervalNanos <= 0) {
+            return 0;
+        }
+        long now = System.nanoTime();
+        AtomicLong nextDispatchTime = nextDispatchTimes.computeIfAbsent(tenantDomain, k -> new AtomicLong(now));
+        long dispatchTime = nextDispatchTime.getAndUpdate(next -> (next - now > 0 ? next : now) +
+                tenantDispatchIntervalNanos);
+        return Math.max(0, dispatchTime - now);
+    }
+
+    private void complete() {
+
+        capacity.release();
+        synchronized (pendingLock) {
+            if (pendingCount > 0 && --pendingCount == 0) {
+                pendingLock.notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Sends a notification in the tenant flow of the receiver, and reschedules itself if the notification failed.
+     */
+    private class DispatchTask implements Runnable {
+
+        private final String tenantDomain;
+        private final NotificationReceiver receiver;
+        private final Runnable onSent;
+        private int attempt;
+
+        DispatchTask(String tenantDomain, NotificationReceiver receiver, Runnable onSent) {
+
+            this.tenantDomain = tenantDomain;
+            this.receiver = receiver;
+            this.onSent = onSent;
+        }
+
+        @Override
+        public void run() {
+
+            boolean completed = true;
+            try {
+                sender.send(tenantDomain, receiver);
+                onSent.run();
+            } catch (IdentityEventException e) {
+                completed = !retry(e);
+            } catch (RuntimeException e) {
+                log.error("Error occurred while sending notification to: " + getUser(), e);
+            } finally {
+                if (completed) {
+                    complete();
+                }
+            }
+        }
+
+        private boolean retry(IdentityEventException e) {
+
+            if (attempt >= maxRetries) {
+                log.error("Error occurred while sending notification to: " + getUser() + ". The notification " +
+                        "was attempted " + (attempt + 1) + " times.", e);
+                return false;
+            }
+            long delayMillis = retryBackoffMillis << Math.min(attempt, 30);
+            attempt++;
+            if (log.isDebugEnabled()) {
+                log.debug("Error occurred while sending notification to: " + getUser() + ". Retrying in " +
+                        delayMillis + " ms.", e);
+            }
+            try {
+                executor.schedule(this, Math.max(TimeUnit.MILLISECONDS.toNanos(delayMillis),
+                        reserveDispatchDelay(tenantDomain)), TimeUnit.NANOSECONDS);
+                return true;
+            } catch (RejectedExecutionException rejected) {
+                log.warn("Notification dispatcher is shut down. Hence the notification to: " + getUser() +
+                        " was not retried.");
+                return false;
+            }
+        }
+
+        private String getUser() {
+
+            return IdentityUtil.addDomainToName(receiver.getUsername(), receiver.getUserStoreDomain()) + "@" +
+                    tenantDomain;
+        }
+    }
+
+    /**
+     * Sends a single notification.
+     */
+    interface NotificationSender {
+
+        /**
+         * Send a notification to the given receiver.
+         *
+         * @param tenantDomain Tenant domain of the receiver.
+         * @param receiver     Notification receiver.
+         * @throws IdentityEventException If the notification could not be sent, which is then retried.
+         */
+        void send(String tenantDomain, NotificationReceiver receiver) throws IdentityEventException;
+    }
+
+    /**
+     * Sends the notifications as email notification events in the tenant flow of the receiver.
+     */
+    private static class EmailNotificationSender implements NotificationSender {
+
+        private final EmailUtil emailUtil = new EmailUtil();
+
+        @Override
+        public void send(String tenantDomain, NotificationReceiver receiver) throws IdentityEventException {
+
+            PrivilegedCarbonContext.startTenantFlow();
+            try {
+                PrivilegedCarbonContext carbonContext = PrivilegedCarbonContext.getThreadLocalCarbonContext();
+                carbonContext.setTenantId(IdentityTenantUtil.getTenantId(tenantDomain));
+                carbonContext.setTenantDomain(tenantDomain);
+                emailUtil.sendNotification(receiver);
+            } finally {
+                PrivilegedCarbonContext.endTenantFlow();
+            }
+        }
+    }
+}
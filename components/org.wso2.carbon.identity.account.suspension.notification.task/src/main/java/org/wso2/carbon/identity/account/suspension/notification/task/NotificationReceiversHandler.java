@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.account.suspension.notification.task;
+
+import org.wso2.carbon.identity.account.suspension.notification.task.util.NotificationReceiver;
+import org.wso2.carbon.identity.base.IdentityException;
+
+import java.util.List;
+
+/**
+ * Handles the notification receivers of a retrieval page by page, so that the receivers of a large user store are
+ * not held in memory all at once.
+ */
+@FunctionalInterface
+public interface NotificationReceiversHandler {
+
+    /**
+     * Handle a page of notification receivers.
+     *
+     * @param receivers Notification receivers of the page.
+     * @throws IdentityException If the receivers could not be handled. The retrieval is stopped.
+     */
+    void handle(List<NotificationReceiver> receivers) throws IdentityException;
+}
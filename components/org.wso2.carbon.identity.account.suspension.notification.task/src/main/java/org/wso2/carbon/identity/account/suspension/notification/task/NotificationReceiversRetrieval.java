@@ -19,6 +19,7 @@ package org.wso2.carbon.identity.account.suspension.notification.task;
 
 import org.wso2.carbon.identity.account.suspension.notification.task.exception.AccountSuspensionNotificationException;
 import org.wso2.carbon.identity.account.suspension.notification.task.util.NotificationReceiver;
+import org.wso2.carbon.identity.base.IdentityException;
 import org.wso2.carbon.user.api.RealmConfiguration;
 
 import java.util.List;
@@ -28,6 +29,25 @@ public interface NotificationReceiversRetrieval {
     public List<NotificationReceiver> getNotificationReceivers(long lookupMin, long lookupMax,
             long delayForSuspension, String tenantDomain) throws AccountSuspensionNotificationException;
 
+    /**
+     * Pass the notification receivers to the given handler as they are retrieved. Retrievals which can read the
+     * receivers in pages should override this, as the default implementation hands over all the receivers at once.
+     *
+     * @param lookupMin          Start of the last login time range.
+     * @param lookupMax          End of the last login time range.
+     * @param delayForSuspension Delay for the account suspension in days.
+     * @param tenantDomain       Tenant domain.
+     * @param handler            Handler of the notification receivers.
+     * @throws AccountSuspensionNotificationException If the receivers could not be retrieved.
+     * @throws IdentityException                      If the handler failed to handle the receivers.
+     */
+    default void getNotificationReceivers(long lookupMin, long lookupMax, long delayForSuspension,
+                                          String tenantDomain, NotificationReceiversHandler handler)
+            throws AccountSuspensionNotificationException, IdentityException {
+
+        handler.handle(getNotificationReceivers(lookupMin, lookupMax, delayForSuspension, tenantDomain));
+    }
+
     void init(RealmConfiguration realmConfiguration);
 
 
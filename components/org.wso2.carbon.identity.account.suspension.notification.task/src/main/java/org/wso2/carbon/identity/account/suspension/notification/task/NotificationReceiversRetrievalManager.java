@@ -23,6 +23,7 @@ import org.wso2.carbon.identity.account.suspension.notification.task.exception.A
 import org.wso2.carbon.identity.account.suspension.notification.task.internal.NotificationTaskDataHolder;
 import org.wso2.carbon.identity.account.suspension.notification.task.util.NotificationReceiver;
 import org.wso2.carbon.identity.account.suspension.notification.task.util.NotificationReceiversRetrievalUtil;
+import org.wso2.carbon.identity.base.IdentityException;
 
 import java.text.ParseException;
 import java.util.Calendar;
@@ -39,11 +40,35 @@ public class NotificationReceiversRetrievalManager {
     public static List<NotificationReceiver> getReceivers(long delay, String tenantDomain, long delayForSuspension)
             throws AccountSuspensionNotificationException {
 
+        List<NotificationReceiver> receivers = new ArrayList<>();
+        try {
+            handleReceivers(delay, tenantDomain, delayForSuspension, receivers::addAll);
+        } catch (IdentityException e) {
+            // Collecting the receivers does not fail.
+            throw new AccountSuspensionNotificationException("Error occurred while collecting notification " +
+                    "receivers", e);
+        }
+        return receivers;
+    }
+
+    /**
+     * Pass the notification receivers of all the suspension notification enabled user stores of a tenant to the
+     * given handler, page by page as they are retrieved from the user stores.
+     *
+     * @param delay              Idle period of the receivers in days.
+     * @param tenantDomain       Tenant domain.
+     * @param delayForSuspension Delay for the account suspension in days.
+     * @param handler            Handler of the notification receivers.
+     * @throws AccountSuspensionNotificationException If the receivers could not be retrieved.
+     * @throws IdentityException                      If the handler failed to handle the receivers.
+     */
+    public static void handleReceivers(long delay, String tenantDomain, long delayForSuspension,
+                                       NotificationReceiversHandler handler)
+            throws AccountSuspensionNotificationException, IdentityException {
+
         Set<String> userStoreDomains = NotificationReceiversRetrievalUtil.
                 getSuspensionNotificationEnabledUserStores(tenantDomain);
 
-        List<NotificationReceiver> receivers = new ArrayList<>();
-
         for (String userStoreDomain : userStoreDomains) {
             if (log.isDebugEnabled()) {
                 log.debug("Idle account suspension task enabled for user store: " + userStoreDomain + " in tenant: "
@@ -61,13 +86,10 @@ public class NotificationReceiversRetrievalManager {
                             + "trigger time", e);
                 }
                 long lookupMax = lookupMin + TimeUnit.DAYS.toMillis(1);
-                List<NotificationReceiver> newReceivers = notificationReceiversRetrieval
-                        .getNotificationReceivers(lookupMin, lookupMax, delayForSuspension, tenantDomain);
-                receivers.addAll(newReceivers);
+                notificationReceiversRetrieval.getNotificationReceivers(lookupMin, lookupMax, delayForSuspension,
+                        tenantDomain, handler);
             }
         }
-
-        return receivers;
     }
 
     private static Calendar getCurrentExecutionTime(Date triggerTime) {
@@ -19,6 +19,7 @@ import org.apache.commons.lang.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.identity.account.suspension.notification.task.AccountValidatorThread;
+import org.wso2.carbon.identity.account.suspension.notification.task.NotificationDispatcher;
 import org.wso2.carbon.identity.account.suspension.notification.task.internal.NotificationTaskDataHolder;
 import org.wso2.carbon.identity.account.suspension.notification.task.util.NotificationConstants;
 import org.wso2.carbon.identity.base.IdentityRuntimeException;
@@ -29,6 +30,7 @@ import org.wso2.carbon.identity.event.IdentityEventException;
 import org.wso2.carbon.identity.event.event.Event;
 import org.wso2.carbon.identity.event.handler.AbstractEventHandler;
 import org.wso2.carbon.identity.governance.IdentityGovernanceException;
+import org.wso2.carbon.identity.governance.IdentityGovernanceUtil;
 import org.wso2.carbon.identity.governance.common.IdentityConnectorConfig;
 import org.wso2.carbon.user.core.UserStoreConfigConstants;
 import org.wso2.carbon.user.core.UserStoreException;
@@ -154,6 +156,14 @@ public class AccountSuspensionNotificationHandler extends AbstractEventHandler i
 
         NotificationTaskDataHolder.getInstance().setNotificationTriggerTime(configs.getModuleProperties().
                 getProperty(NotificationConstants.SUSPENSION_NOTIFICATION_TRIGGER_TIME));
+        NotificationTaskDataHolder.getInstance().setTenantThreadPoolSize((int) getNumericProperty(
+                NotificationConstants.SUSPENSION_NOTIFICATION_TENANT_THREAD_POOL_SIZE,
+                NotificationConstants.DEFAULT_TENANT_THREAD_POOL_SIZE, 1));
+        NotificationTaskDataHolder.getInstance().setTenantTaskTimeoutInMinutes(getNumericProperty(
+                NotificationConstants.SUSPENSION_NOTIFICATION_TENANT_TIMEOUT, 0, 0));
+        NotificationTaskDataHolder.getInstance().setLdapSearchPageSize((int) getNumericProperty(
+                NotificationConstants.SUSPENSION_NOTIFICATION_LDAP_PAGE_SIZE,
+                NotificationConstants.DEFAULT_LDAP_PAGE_SIZE, 1));
         startScheduler();
         NotificationTaskDataHolder.getInstance().getBundleContext()
                 .registerService(IdentityConnectorConfig.class.getName(), this, null);
@@ -242,11 +252,36 @@ public class AccountSuspensionNotificationHandler extends AbstractEventHandler i
             delay += schedulerDelayInSeconds;
         }
 
-        ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(NotificationTaskDataHolder.getInstance().
-                getNotificationSendingThreadPoolSize());
+        if (NotificationTaskDataHolder.getInstance().getNotificationDispatcher() == null) {
+            NotificationTaskDataHolder.getInstance().setNotificationDispatcher(buildNotificationDispatcher());
+        }
+
+        // Tenants are processed on the worker pool of the task itself, hence a single scheduler thread is enough.
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
         scheduler.scheduleAtFixedRate(new AccountValidatorThread(), delay, schedulerDelayInSeconds, TimeUnit.SECONDS);
     }
 
+    private NotificationDispatcher buildNotificationDispatcher() {
+
+        int poolSize = (int) getNumericProperty(NotificationConstants.SUSPENSION_NOTIFICATION_DISPATCH_THREAD_POOL_SIZE,
+                NotificationConstants.DEFAULT_DISPATCH_THREAD_POOL_SIZE, 1);
+        int queueSize = (int) getNumericProperty(NotificationConstants.SUSPENSION_NOTIFICATION_DISPATCH_QUEUE_SIZE,
+                NotificationConstants.DEFAULT_DISPATCH_QUEUE_SIZE, 1);
+        int tenantRateLimit = (int) getNumericProperty(
+                NotificationConstants.SUSPENSION_NOTIFICATION_DISPATCH_TENANT_RATE_LIMIT, 0, 0);
+        int maxRetries = (int) getNumericProperty(NotificationConstants.SUSPENSION_NOTIFICATION_DISPATCH_MAX_RETRIES,
+                NotificationConstants.DEFAULT_DISPATCH_MAX_RETRIES, 0);
+        long retryBackoff = getNumericProperty(NotificationConstants.SUSPENSION_NOTIFICATION_DISPATCH_RETRY_BACKOFF,
+                NotificationConstants.DEFAULT_DISPATCH_RETRY_BACKOFF, 0);
+        return new NotificationDispatcher(poolSize, queueSize, tenantRateLimit, maxRetries, retryBackoff);
+    }
+
+    private long getNumericProperty(String propertyName, long defaultValue, long minValue) {
+
+        return IdentityGovernanceUtil.getNumericProperty(propertyName,
+                configs.getModuleProperties().getProperty(propertyName), defaultValue, minValue);
+    }
+
     private boolean isSuspensionNotificationEnabled(Event event) throws IdentityEventException {
 
         boolean isEnabled = false;
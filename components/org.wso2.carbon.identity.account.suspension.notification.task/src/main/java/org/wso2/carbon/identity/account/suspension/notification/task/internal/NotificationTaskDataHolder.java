@@ -17,6 +17,7 @@
 package org.wso2.carbon.identity.account.suspension.notification.task.internal;
 
 import org.osgi.framework.BundleContext;
+import org.wso2.carbon.identity.account.suspension.notification.task.NotificationDispatcher;
 import org.wso2.carbon.identity.account.suspension.notification.task.NotificationReceiversRetrievalFactory;
 import org.wso2.carbon.identity.account.suspension.notification.task.util.NotificationConstants;
 import org.wso2.carbon.identity.event.services.IdentityEventService;
@@ -43,6 +44,10 @@ public class NotificationTaskDataHolder {
     private String notificationTriggerTime;
     private String schedulerDelay;
     private String notificationSendingThreadPoolSize = "1";
+    private int tenantThreadPoolSize = NotificationConstants.DEFAULT_TENANT_THREAD_POOL_SIZE;
+    private long tenantTaskTimeoutInMinutes;
+    private int ldapSearchPageSize = NotificationConstants.DEFAULT_LDAP_PAGE_SIZE;
+    private NotificationDispatcher notificationDispatcher;
 
     public int getNotificationSendingThreadPoolSize() {
         return Integer.parseInt(notificationSendingThreadPoolSize);
@@ -52,6 +57,59 @@ public class NotificationTaskDataHolder {
         this.notificationSendingThreadPoolSize = notificationSendingThreadPoolSize;
     }
 
+    /**
+     * Get the number of tenants handled concurrently by the suspension task.
+     *
+     * @return Size of the worker pool of the suspension task.
+     */
+    public int getTenantThreadPoolSize() {
+        return tenantThreadPoolSize;
+    }
+
+    public void setTenantThreadPoolSize(int tenantThreadPoolSize) {
+        this.tenantThreadPoolSize = tenantThreadPoolSize;
+    }
+
+    /**
+     * Get the maximum time allowed for the suspension task of a single tenant. A non-positive value means that the
+     * task of a tenant is not timed out.
+     *
+     * @return Timeout of the suspension task of a tenant in minutes.
+     */
+    public long getTenantTaskTimeoutInMinutes() {
+        return tenantTaskTimeoutInMinutes;
+    }
+
+    public void setTenantTaskTimeoutInMinutes(long tenantTaskTimeoutInMinutes) {
+        this.tenantTaskTimeoutInMinutes = tenantTaskTimeoutInMinutes;
+    }
+
+    /**
+     * Get the number of users requested in each page of the LDAP search for idle users.
+     *
+     * @return Page size of the LDAP search.
+     */
+    public int getLdapSearchPageSize() {
+        return ldapSearchPageSize;
+    }
+
+    public void setLdapSearchPageSize(int ldapSearchPageSize) {
+        this.ldapSearchPageSize = ldapSearchPageSize;
+    }
+
+    /**
+     * Get the dispatcher which sends the idle account notifications.
+     *
+     * @return Notification dispatcher, or null if the suspension notification is not enabled.
+     */
+    public NotificationDispatcher getNotificationDispatcher() {
+        return notificationDispatcher;
+    }
+
+    public void setNotificationDispatcher(NotificationDispatcher notificationDispatcher) {
+        this.notificationDispatcher = notificationDispatcher;
+    }
+
     public Date getNotificationTriggerTime() throws ParseException{
         DateFormat dateFormat = new SimpleDateFormat(NotificationConstants.TRIGGER_TIME_FORMAT);
         return dateFormat.parse(notificationTriggerTime);
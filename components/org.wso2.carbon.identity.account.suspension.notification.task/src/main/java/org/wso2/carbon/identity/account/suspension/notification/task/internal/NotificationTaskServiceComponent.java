@@ -21,6 +21,7 @@ import org.apache.commons.logging.LogFactory;
 import org.apache.commons.logging.Log;
 import org.osgi.framework.BundleContext;
 import org.osgi.service.component.ComponentContext;
+import org.wso2.carbon.identity.account.suspension.notification.task.NotificationDispatcher;
 import org.wso2.carbon.identity.account.suspension.notification.task.NotificationReceiversRetrievalFactory;
 import org.wso2.carbon.identity.account.suspension.notification.task.handler.AccountSuspensionNotificationHandler;
 import org.wso2.carbon.identity.account.suspension.notification.task.jdbc.JDBCNotificationReceiversRetrievalFactory;
@@ -71,6 +72,12 @@ public class NotificationTaskServiceComponent {
     @Deactivate
     protected void deactivate(ComponentContext context) {
 
+        NotificationDispatcher notificationDispatcher = NotificationTaskDataHolder.getInstance()
+                .getNotificationDispatcher();
+        if (notificationDispatcher != null) {
+            notificationDispatcher.shutdown();
+            NotificationTaskDataHolder.getInstance().setNotificationDispatcher(null);
+        }
         if (log.isDebugEnabled()) {
             log.debug("Notification bundle de-activated");
         }
@@ -20,12 +20,14 @@ package org.wso2.carbon.identity.account.suspension.notification.task.jdbc;
 import org.apache.commons.lang.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.account.suspension.notification.task.NotificationReceiversHandler;
 import org.wso2.carbon.identity.account.suspension.notification.task.NotificationReceiversRetrieval;
 import org.wso2.carbon.identity.account.suspension.notification.task.exception.AccountSuspensionNotificationException;
 import org.wso2.carbon.identity.account.suspension.notification.task.internal.NotificationTaskDataHolder;
 import org.wso2.carbon.identity.account.suspension.notification.task.util.NotificationConstants;
 import org.wso2.carbon.identity.account.suspension.notification.task.util.NotificationReceiver;
 import org.wso2.carbon.identity.account.suspension.notification.task.util.NotificationReceiversRetrievalUtil;
+import org.wso2.carbon.identity.base.IdentityException;
 import org.wso2.carbon.identity.base.IdentityRuntimeException;
 import org.wso2.carbon.identity.core.util.IdentityDatabaseUtil;
 import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
@@ -42,17 +44,21 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.text.SimpleDateFormat;
 import java.util.ArrayList;
-import java.util.Date;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.TimeUnit;
+import java.util.WeakHashMap;
 import javax.sql.DataSource;
 
 public class JDBCNotificationReceiversRetrieval implements NotificationReceiversRetrieval {
 
     private static final Log log = LogFactory.getLog(JDBCNotificationReceiversRetrieval.class);
+    // A retrieval is built for every run of the task, hence the data sources of the user stores are kept here. The
+    // entries are released along with the realm configuration when the user store is updated or removed.
+    private static final Map<RealmConfiguration, DataSource> dataSources =
+            Collections.synchronizedMap(new WeakHashMap<>());
     private RealmConfiguration realmConfiguration = null;
 
     @Override
@@ -66,6 +72,21 @@ public class JDBCNotificationReceiversRetrieval implements NotificationReceivers
             throws AccountSuspensionNotificationException {
 
         List<NotificationReceiver> users = new ArrayList<>();
+        try {
+            getNotificationReceivers(lookupMin, lookupMax, delayForSuspension, tenantDomain, users::addAll);
+        } catch (IdentityException e) {
+            // Collecting the receivers does not fail.
+            throw new AccountSuspensionNotificationException("Error occurred while collecting notification " +
+                    "receivers", e);
+        }
+        return users;
+    }
+
+    @Override
+    public void getNotificationReceivers(long lookupMin, long lookupMax, long delayForSuspension,
+                                         String tenantDomain, NotificationReceiversHandler handler)
+            throws AccountSuspensionNotificationException, IdentityException {
+
         RealmService realmService = NotificationTaskDataHolder.getInstance().getRealmService();
 
         try {
@@ -88,13 +109,17 @@ public class JDBCNotificationReceiversRetrieval implements NotificationReceivers
                     log.debug("Property " + NotificationConstants.USE_IDENTITY_CLAIM_FOR_LAST_LOGIN_TIME +
                             " is enabled in identity.xml file. Hence treating last login time as identity claim.");
                 }
-                return NotificationReceiversRetrievalUtil.getNotificationReceiversFromIdentityClaim(lookupMin,
-                        lookupMax, delayForSuspension, realmService, tenantDomain, userStoreDomain);
+                handler.handle(NotificationReceiversRetrievalUtil.getNotificationReceiversFromIdentityClaim(
+                        lookupMin, lookupMax, delayForSuspension, realmService, tenantDomain, userStoreDomain));
+                return;
             }
 
             String lastLoginClaim = NotificationConstants.LAST_LOGIN_TIME;
             String lastLoginTimeAttribute = claimManager.getAttributeName(userStoreDomain, lastLoginClaim);
 
+            // The last login time is read along with the user name, so that only the names and emails are left to
+            // be read from the user store.
+            Map<String, Long> lastLoginTimes = new LinkedHashMap<>();
             try (Connection dbConnection = getDBConnection(realmConfiguration)) {
                 String sqlStmt = NotificationConstants.GET_USERS_FILTERED_BY_LAST_LOGIN_TIME;
                 try (PreparedStatement prepStmt = dbConnection.prepareStatement(sqlStmt)) {
@@ -112,30 +137,7 @@ public class JDBCNotificationReceiversRetrieval implements NotificationReceivers
                             String userName = resultSet.getString(1);
 
                             if (StringUtils.isNotBlank(userName)) {
-
-                                String[] claims = new String[3];
-                                claims[0] = NotificationConstants.FIRST_NAME_CLAIM;
-                                claims[1] = NotificationConstants.EMAIL_CLAIM;
-                                claims[2] = lastLoginClaim;
-
-                                UserStoreManager userStoreManager =
-                                        (UserStoreManager) realmService.getTenantUserRealm(IdentityTenantUtil
-                                                .getTenantId(tenantDomain)).getUserStoreManager();
-
-                                Map<String, String> map =
-                                        userStoreManager.getUserClaimValues(IdentityUtil.addDomainToName
-                                                (userName, userStoreDomain), claims, null);
-
-                                NotificationReceiver receiver = new NotificationReceiver();
-                                receiver.setEmail(map.get(NotificationConstants.EMAIL_CLAIM));
-                                receiver.setUsername(userName);
-                                receiver.setFirstName(map.get(NotificationConstants.FIRST_NAME_CLAIM));
-                                receiver.setUserStoreDomain(userStoreDomain);
-
-                                long lastLoginTime = Long.parseLong(map.get(lastLoginClaim));
-                                long expireDate = lastLoginTime + TimeUnit.DAYS.toMillis(delayForSuspension);
-                                receiver.setExpireDate(new SimpleDateFormat("dd-MM-yyyy").format(new Date(expireDate)));
-                                users.add(receiver);
+                                lastLoginTimes.put(userName, Long.parseLong(resultSet.getString(2)));
                             }
                         }
                     }
@@ -148,16 +150,42 @@ public class JDBCNotificationReceiversRetrieval implements NotificationReceivers
                     throw new AccountSuspensionNotificationException(e.getMessage(), e);
                 }
             }
+
+            if (lastLoginTimes.isEmpty()) {
+                return;
+            }
+            UserStoreManager userStoreManager = (UserStoreManager) realmService.getTenantUserRealm(IdentityTenantUtil
+                    .getTenantId(tenantDomain)).getUserStoreManager();
+
+            // The claims of the users are read and handed over in batches, after the connection is released.
+            List<String> userNames = new ArrayList<>(lastLoginTimes.keySet());
+            for (int i = 0; i < userNames.size(); i += NotificationConstants.RECEIVER_CLAIMS_BATCH_SIZE) {
+                List<String> batch = userNames.subList(i, Math.min(userNames.size(),
+                        i + NotificationConstants.RECEIVER_CLAIMS_BATCH_SIZE));
+                List<String> domainQualifiedUserNames = new ArrayList<>(batch.size());
+                for (String userName : batch) {
+                    domainQualifiedUserNames.add(IdentityUtil.addDomainToName(userName, userStoreDomain));
+                }
+                Map<String, Map<String, String>> claimsOfUsers = NotificationReceiversRetrievalUtil
+                        .getReceiverClaimsOfUsers(userStoreManager, domainQualifiedUserNames);
+
+                List<NotificationReceiver> receivers = new ArrayList<>(batch.size());
+                for (String userName : batch) {
+                    receivers.add(NotificationReceiversRetrievalUtil.buildNotificationReceiver(userName,
+                            userStoreDomain, claimsOfUsers.get(userName), lastLoginTimes.get(userName),
+                            delayForSuspension));
+                }
+                handler.handle(receivers);
+            }
         } catch (IdentityRuntimeException | SQLException | NumberFormatException | UserStoreException e) {
             throw new AccountSuspensionNotificationException(e.getMessage(), e);
         }
-        return users;
     }
 
     private Connection getDBConnection(RealmConfiguration realmConfiguration) throws SQLException, UserStoreException {
 
         Connection dbConnection = null;
-        DataSource dataSource = DatabaseUtil.createUserStoreDataSource(realmConfiguration);
+        DataSource dataSource = getDataSource(realmConfiguration);
 
         if (dataSource != null) {
             dbConnection = DatabaseUtil.getDBConnection(dataSource);
@@ -176,4 +204,19 @@ public class JDBCNotificationReceiversRetrieval implements NotificationReceivers
         dbConnection.setTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
         return dbConnection;
     }
+
+    private static DataSource getDataSource(RealmConfiguration realmConfiguration) {
+
+        synchronized (dataSources) {
+            DataSource dataSource = dataSources.get(realmConfiguration);
+            if (dataSource == null) {
+                // A data source is not created for a user store which uses the realm data source.
+                dataSource = DatabaseUtil.createUserStoreDataSource(realmConfiguration);
+                if (dataSource != null) {
+                    dataSources.put(realmConfiguration, dataSource);
+                }
+            }
+            return dataSource;
+        }
+    }
 }
@@ -20,12 +20,14 @@ package org.wso2.carbon.identity.account.suspension.notification.task.ldap;
 import org.apache.commons.lang.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.account.suspension.notification.task.NotificationReceiversHandler;
 import org.wso2.carbon.identity.account.suspension.notification.task.NotificationReceiversRetrieval;
 import org.wso2.carbon.identity.account.suspension.notification.task.exception.AccountSuspensionNotificationException;
 import org.wso2.carbon.identity.account.suspension.notification.task.internal.NotificationTaskDataHolder;
 import org.wso2.carbon.identity.account.suspension.notification.task.util.NotificationConstants;
 import org.wso2.carbon.identity.account.suspension.notification.task.util.NotificationReceiver;
 import org.wso2.carbon.identity.account.suspension.notification.task.util.NotificationReceiversRetrievalUtil;
+import org.wso2.carbon.identity.base.IdentityException;
 import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
 import org.wso2.carbon.identity.core.util.IdentityUtil;
 import org.wso2.carbon.user.api.RealmConfiguration;
@@ -39,9 +41,16 @@ import org.wso2.carbon.user.core.service.RealmService;
 
 import javax.naming.NamingEnumeration;
 import javax.naming.NamingException;
+import javax.naming.directory.Attribute;
+import javax.naming.directory.Attributes;
 import javax.naming.directory.DirContext;
 import javax.naming.directory.SearchControls;
 import javax.naming.directory.SearchResult;
+import javax.naming.ldap.Control;
+import javax.naming.ldap.LdapContext;
+import javax.naming.ldap.PagedResultsControl;
+import javax.naming.ldap.PagedResultsResponseControl;
+import java.io.IOException;
 import java.text.SimpleDateFormat;
 import java.time.Instant;
 import java.time.OffsetDateTime;
@@ -49,7 +58,6 @@ import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
-import java.util.concurrent.TimeUnit;
 
 public class LDAPNotificationReceiversRetrieval implements NotificationReceiversRetrieval {
 
@@ -66,11 +74,26 @@ public class LDAPNotificationReceiversRetrieval implements NotificationReceivers
             long delayForSuspension, String tenantDomain) throws AccountSuspensionNotificationException {
 
         List<NotificationReceiver> users = new ArrayList<NotificationReceiver>();
+        try {
+            getNotificationReceivers(lookupMin, lookupMax, delayForSuspension, tenantDomain, users::addAll);
+        } catch (IdentityException e) {
+            // Collecting the receivers does not fail.
+            throw new AccountSuspensionNotificationException("Error occurred while collecting notification " +
+                    "receivers", e);
+        }
+        return users;
+    }
+
+    @Override
+    public void getNotificationReceivers(long lookupMin, long lookupMax, long delayForSuspension,
+                                         String tenantDomain, NotificationReceiversHandler handler)
+            throws AccountSuspensionNotificationException, IdentityException {
 
         if (realmConfiguration != null) {
             String ldapSearchBase = realmConfiguration.getUserStoreProperty(LDAPConstants.USER_SEARCH_BASE);
             RealmService realmService = NotificationTaskDataHolder.getInstance().getRealmService();
 
+            DirContext ctx = null;
             try {
                 ClaimManager claimManager = (ClaimManager) realmService.getTenantUserRealm(IdentityTenantUtil.
                         getTenantId(tenantDomain)).getClaimManager();
@@ -90,8 +113,9 @@ public class LDAPNotificationReceiversRetrieval implements NotificationReceivers
                         log.debug("Property " + NotificationConstants.USE_IDENTITY_CLAIM_FOR_LAST_LOGIN_TIME +
                                 " is enabled in identity.xml file. Hence treating last login time as identity claim.");
                     }
-                    return NotificationReceiversRetrievalUtil.getNotificationReceiversFromIdentityClaim(lookupMin,
-                            lookupMax, delayForSuspension, realmService, tenantDomain, userStoreDomain);
+                    handler.handle(NotificationReceiversRetrievalUtil.getNotificationReceiversFromIdentityClaim(
+                            lookupMin, lookupMax, delayForSuspension, realmService, tenantDomain, userStoreDomain));
+                    return;
                 }
 
                 String lastLoginClaim = NotificationConstants.LAST_LOGIN_TIME;
@@ -104,10 +128,11 @@ public class LDAPNotificationReceiversRetrieval implements NotificationReceivers
                     log.debug("Retrieving ldap user list for lookupMin: " + lookupMin + " - lookupMax: " + lookupMax);
                 }
 
+                // Only the attributes needed to notify or lock the users are read.
                 String[] returnedAttrs = {emailMapAttribute, usernameMapAttribute, firstNameMapAttribute, lastLoginTimeAttribute};
 
                 LDAPConnectionContext ldapConnectionContext = new LDAPConnectionContext(realmConfiguration);
-                DirContext ctx = ldapConnectionContext.getContext();
+                ctx = ldapConnectionContext.getContext();
 
                 //carLicense is the mapped LDAP attribute for LastLoginTime claim
                 String searchFilter = getSearchFilter(lookupMin, lookupMax,lastLoginTimeAttribute);
@@ -116,41 +141,119 @@ public class LDAPNotificationReceiversRetrieval implements NotificationReceivers
                 searchControls.setSearchScope(SearchControls.SUBTREE_SCOPE);
                 searchControls.setReturningAttributes(returnedAttrs);
 
-                NamingEnumeration<SearchResult> results = ctx.search(ldapSearchBase, searchFilter, searchControls);
-
-                if (log.isDebugEnabled()) {
-                    log.debug("LDAP user list retrieved.");
+                int pageSize = NotificationTaskDataHolder.getInstance().getLdapSearchPageSize();
+                if (!(ctx instanceof LdapContext)) {
+                    log.warn("LDAP context of the user store: " + userStoreDomain + " does not support paged " +
+                            "results. Hence retrieving the idle users in a single search.");
+                    pageSize = 0;
                 }
 
-                while (results.hasMoreElements()) {
-                    SearchResult result = results.nextElement();
-
-                    NotificationReceiver receiver = new NotificationReceiver();
-                    receiver.setEmail((String) result.getAttributes().get(emailMapAttribute).get());
-                    receiver.setUsername((String) result.getAttributes().get(usernameMapAttribute).get());
-                    receiver.setFirstName((String) result.getAttributes().get(firstNameMapAttribute).get());
-                    receiver.setUserStoreDomain(userStoreDomain);
-
-                    String lastLoginTimeValue = result.getAttributes().get(lastLoginTimeAttribute).get().toString();
-                    long lastLoginTime = convertToWSO2DateFormat(lastLoginTimeValue);
-                    long expireDate = lastLoginTime + TimeUnit.DAYS.toMillis(delayForSuspension);
-                    receiver.setExpireDate(new SimpleDateFormat("dd-MM-yyyy").format(new Date(expireDate)));
-
+                // Request the users in pages (RFC 2696), so that the search is not truncated at the size limit of
+                // the directory and each page is handed over before the next one is read.
+                byte[] cookie = null;
+                int pageCount = 0;
+                do {
+                    if (pageSize > 0) {
+                        ((LdapContext) ctx).setRequestControls(new Control[]{
+                                new PagedResultsControl(pageSize, cookie, Control.NONCRITICAL)});
+                    }
+                    List<NotificationReceiver> receivers = new ArrayList<>();
+                    NamingEnumeration<SearchResult> results = ctx.search(ldapSearchBase, searchFilter,
+                            searchControls);
+                    try {
+                        while (results.hasMore()) {
+                            receivers.add(buildNotificationReceiver(results.next().getAttributes(),
+                                    emailMapAttribute, usernameMapAttribute, firstNameMapAttribute,
+                                    lastLoginTimeAttribute, userStoreDomain, delayForSuspension));
+                        }
+                    } finally {
+                        results.close();
+                    }
+                    pageCount++;
                     if (log.isDebugEnabled()) {
-                        log.debug("Expire date was set to: " + receiver.getExpireDate());
+                        log.debug("Retrieved page " + pageCount + " of the LDAP user list with " +
+                                receivers.size() + " users.");
                     }
-                    users.add(receiver);
-                }
+                    handler.handle(receivers);
+                    cookie = pageSize > 0 ? getPagedResultsCookie((LdapContext) ctx) : null;
+                } while (cookie != null && cookie.length > 0);
             } catch (NamingException e) {
                 throw new AccountSuspensionNotificationException("Failed to filter users from LDAP user store.", e);
+            } catch (IOException e) {
+                throw new AccountSuspensionNotificationException("Failed to request paged results from LDAP user " +
+                        "store.", e);
             } catch (UserStoreException e) {
                 throw new AccountSuspensionNotificationException("Failed to load LDAP connection context.", e);
             } catch (org.wso2.carbon.user.api.UserStoreException e) {
                 throw new AccountSuspensionNotificationException("Error occurred while getting tenant user realm for "
                         + "tenant:" + tenantDomain, e);
+            } finally {
+                closeContext(ctx);
             }
         }
-        return users;
+    }
+
+    private NotificationReceiver buildNotificationReceiver(Attributes attributes, String emailMapAttribute,
+                                                           String usernameMapAttribute, String firstNameMapAttribute,
+                                                           String lastLoginTimeAttribute, String userStoreDomain,
+                                                           long delayForSuspension) throws NamingException {
+
+        NotificationReceiver receiver = new NotificationReceiver();
+        receiver.setEmail(getAttributeValue(attributes, emailMapAttribute));
+        receiver.setUsername(getAttributeValue(attributes, usernameMapAttribute));
+        receiver.setFirstName(getAttributeValue(attributes, firstNameMapAttribute));
+        receiver.setUserStoreDomain(userStoreDomain);
+
+        String lastLoginTimeValue = attributes.get(lastLoginTimeAttribute).get().toString();
+        long lastLoginTime = convertToWSO2DateFormat(lastLoginTimeValue);
+        receiver.setExpireDate(NotificationReceiversRetrievalUtil.getExpireDate(lastLoginTime, delayForSuspension));
+
+        if (log.isDebugEnabled()) {
+            log.debug("Expire date was set to: " + receiver.getExpireDate());
+        }
+        return receiver;
+    }
+
+    private String getAttributeValue(Attributes attributes, String attributeName) throws NamingException {
+
+        Attribute attribute = attributes.get(attributeName);
+        if (attribute == null || attribute.get() == null) {
+            return null;
+        }
+        return attribute.get().toString();
+    }
+
+    /**
+     * Get the cookie of the next page from the response of the last paged search.
+     *
+     * @param ctx LDAP context of the search.
+     * @return Cookie of the next page or null if there are no more pages.
+     * @throws NamingException If the response controls could not be read.
+     */
+    private byte[] getPagedResultsCookie(LdapContext ctx) throws NamingException {
+
+        Control[] responseControls = ctx.getResponseControls();
+        if (responseControls == null) {
+            return null;
+        }
+        for (Control responseControl : responseControls) {
+            if (responseControl instanceof PagedResultsResponseControl) {
+                return ((PagedResultsResponseControl) responseControl).getCookie();
+            }
+        }
+        return null;
+    }
+
+    private void closeContext(DirContext ctx) {
+
+        if (ctx == null) {
+            return;
+        }
+        try {
+            ctx.close();
+        } catch (NamingException e) {
+            log.error("Error while closing the LDAP connection context.", e);
+        }
     }
 
     /**
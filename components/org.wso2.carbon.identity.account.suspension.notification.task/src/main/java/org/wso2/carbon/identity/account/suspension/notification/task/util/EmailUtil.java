@@ -56,6 +56,21 @@ public class EmailUtil {
      */
     public void sendEmail(NotificationReceiver receiver) {
 
+        try {
+            sendNotification(receiver);
+        } catch (IdentityEventException e) {
+            log.error("Error occurred while sending email to: " + receiver.getUsername(), e);
+        }
+    }
+
+    /**
+     * Send notification email to <code>receiver</code> in the tenant of the current carbon context.
+     *
+     * @param receiver details of the notification receiver including the email address
+     * @throws IdentityEventException if the notification could not be triggered
+     */
+    public void sendNotification(NotificationReceiver receiver) throws IdentityEventException {
+
         HashMap<String, Object> properties = new HashMap<>();
         properties.put(IdentityEventConstants.EventProperty.USER_NAME, receiver.getUsername());
         properties.put(IdentityEventConstants.EventProperty.USER_STORE_DOMAIN, receiver.getUserStoreDomain());
@@ -72,8 +87,7 @@ public class EmailUtil {
             }
             properties.put(IdentityEventConstants.EventProperty.USER_STORE_MANAGER,userStoreManager);
         } catch (UserStoreException e) {
-            log.error("Error while getting user store manager", e);
-            return;
+            throw new IdentityEventException("Error while getting user store manager", e);
         }
 
         try {
@@ -88,12 +102,7 @@ public class EmailUtil {
         properties.put("TEMPLATE_TYPE", "idleAccountReminder");
 
         Event identityMgtEvent = new Event(IdentityEventConstants.Event.TRIGGER_NOTIFICATION, properties);
-        try {
-            NotificationTaskDataHolder.getInstance().getIdentityEventService().handleEvent(identityMgtEvent);
-        } catch (IdentityEventException e) {
-            log.error("Error occurred while sending email to: " + receiver.getUsername(), e);
-        }
-
+        NotificationTaskDataHolder.getInstance().getIdentityEventService().handleEvent(identityMgtEvent);
     }
 
     /**
@@ -30,8 +30,35 @@ public class NotificationConstants {
     public static final String TRIGGER_TIME_FORMAT = "HH:mm:ss";
     public static final long SCHEDULER_DELAY = 24; // In hours
     public static final String SUSPENSION_NOTIFICATION_THREAD_POOL_SIZE = "suspension.notification.thread.pool.size";
+    // Number of tenants handled concurrently by the suspension task.
+    public static final String SUSPENSION_NOTIFICATION_TENANT_THREAD_POOL_SIZE = "suspension.notification.tenant"
+            + ".thread.pool.size";
+    public static final String SUSPENSION_NOTIFICATION_TENANT_TIMEOUT = "suspension.notification.tenant.timeout";
+    public static final String SUSPENSION_NOTIFICATION_LDAP_PAGE_SIZE = "suspension.notification.ldap.page.size";
+    // Matches the default MaxPageSize of Active Directory.
+    public static final int DEFAULT_LDAP_PAGE_SIZE = 1000;
+    public static final int DEFAULT_TENANT_THREAD_POOL_SIZE = 1;
+    // Number of users whose claims are read from the user store in a single call.
+    public static final int RECEIVER_CLAIMS_BATCH_SIZE = 100;
+    public static final String EXPIRE_DATE_FORMAT = "dd-MM-yyyy";
+    public static final String SUSPENSION_NOTIFICATION_DISPATCH_THREAD_POOL_SIZE = "suspension.notification.dispatch"
+            + ".thread.pool.size";
+    public static final String SUSPENSION_NOTIFICATION_DISPATCH_QUEUE_SIZE = "suspension.notification.dispatch.queue"
+            + ".size";
+    // Maximum number of notifications sent per second for a tenant. Not limited by default.
+    public static final String SUSPENSION_NOTIFICATION_DISPATCH_TENANT_RATE_LIMIT = "suspension.notification"
+            + ".dispatch.tenant.rate.limit";
+    public static final String SUSPENSION_NOTIFICATION_DISPATCH_MAX_RETRIES = "suspension.notification.dispatch.max"
+            + ".retries";
+    public static final String SUSPENSION_NOTIFICATION_DISPATCH_RETRY_BACKOFF = "suspension.notification.dispatch"
+            + ".retry.backoff";
+    public static final int DEFAULT_DISPATCH_THREAD_POOL_SIZE = 4;
+    public static final int DEFAULT_DISPATCH_QUEUE_SIZE = 10000;
+    public static final int DEFAULT_DISPATCH_MAX_RETRIES = 3;
+    public static final long DEFAULT_DISPATCH_RETRY_BACKOFF = 1000; // In milliseconds
 
-    public static final String GET_USERS_FILTERED_BY_LAST_LOGIN_TIME = "SELECT UM_USER.UM_USER_NAME FROM "
+    public static final String GET_USERS_FILTERED_BY_LAST_LOGIN_TIME = "SELECT UM_USER.UM_USER_NAME, "
+    + "UM_USER_ATTRIBUTE.UM_ATTR_VALUE FROM "
     + "UM_USER, UM_USER_ATTRIBUTE WHERE UM_USER_ATTRIBUTE.UM_USER_ID = UM_USER.UM_ID AND UM_USER_ATTRIBUTE.UM_ATTR_NAME "
     + "= ? AND UM_USER_ATTRIBUTE.UM_ATTR_VALUE BETWEEN ? AND ? AND UM_USER_ATTRIBUTE.UM_TENANT_ID=? AND "
     + "UM_USER.UM_TENANT_ID=?";
@@ -32,6 +32,7 @@ import org.wso2.carbon.user.api.RealmConfiguration;
 import org.wso2.carbon.user.api.UserStoreException;
 import org.wso2.carbon.user.core.UserCoreConstants;
 import org.wso2.carbon.user.core.UserStoreManager;
+import org.wso2.carbon.user.core.model.UserClaimSearchEntry;
 import org.wso2.carbon.user.core.service.RealmService;
 import org.wso2.carbon.user.core.util.UserCoreUtil;
 
@@ -39,11 +40,13 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.text.SimpleDateFormat;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
-import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -53,6 +56,9 @@ public class NotificationReceiversRetrievalUtil {
 
     public static final String NOTIFICATION_RECEIVERS_RETRIEVAL_CLASS = "NotificationReceiversRetrievalClass";
     private static final Log log = LogFactory.getLog(NotificationReceiversRetrievalUtil.class);
+    // Unlike SimpleDateFormat, the formatter is immutable and can be shared by the notification threads.
+    private static final DateTimeFormatter EXPIRE_DATE_FORMATTER =
+            DateTimeFormatter.ofPattern(NotificationConstants.EXPIRE_DATE_FORMAT).withZone(ZoneId.systemDefault());
 
     public static Set<String> getSuspensionNotificationEnabledUserStores(String tenantDomain)
             throws AccountSuspensionNotificationException {
@@ -197,7 +203,8 @@ public class NotificationReceiversRetrievalUtil {
                     "the identity database.");
         }
 
-        List<NotificationReceiver> users = new ArrayList<>();
+        // Last login times of the users of the user store, in the order returned by the database.
+        Map<String, Long> lastLoginTimes = new LinkedHashMap<>();
         String sqlStmt = NotificationConstants.GET_USERS_FILTERED_BY_LAST_LOGIN_TIME_IDENTITY_CLAIM;
         try (Connection connection = IdentityDatabaseUtil.getDBConnection(true)) {
             try (PreparedStatement prepStmt = connection.prepareStatement(sqlStmt)) {
@@ -208,41 +215,110 @@ public class NotificationReceiversRetrievalUtil {
                 try (ResultSet resultSet = prepStmt.executeQuery()) {
                     while (resultSet.next()) {
                         String userName = resultSet.getString(1);
-                        if (StringUtils.isNotBlank(userName)) {
-                            String[] claims = new String[2];
-                            claims[0] = NotificationConstants.FIRST_NAME_CLAIM;
-                            claims[1] = NotificationConstants.EMAIL_CLAIM;
-                            UserStoreManager userStoreManager = (UserStoreManager) realmService.getTenantUserRealm
-                                    (IdentityTenantUtil.getTenantId(tenantDomain)).getUserStoreManager();
-
-                            if (userStoreDomain != null &&
-                                    userStoreDomain.equalsIgnoreCase(UserCoreUtil.extractDomainFromName(userName))) {
-
-                                Map<String, String> map = userStoreManager.getUserClaimValues(userName, claims, null);
-                                NotificationReceiver receiver = new NotificationReceiver();
-                                receiver.setEmail(map.get(NotificationConstants.EMAIL_CLAIM));
-                                receiver.setUsername(UserCoreUtil.removeDomainFromName(userName));
-                                receiver.setFirstName(map.get(NotificationConstants.FIRST_NAME_CLAIM));
-                                receiver.setUserStoreDomain(userStoreDomain);
-
-                                long lastLoginTime = Long.parseLong(resultSet.getString(2));
-                                long expireDate = lastLoginTime + TimeUnit.DAYS.toMillis(delayForSuspension);
-                                receiver.setExpireDate(new SimpleDateFormat("dd-MM-yyyy").format(new Date(expireDate)));
-                                users.add(receiver);
-                            }
+                        if (StringUtils.isNotBlank(userName) && userStoreDomain != null &&
+                                userStoreDomain.equalsIgnoreCase(UserCoreUtil.extractDomainFromName(userName))) {
+                            lastLoginTimes.put(userName, Long.parseLong(resultSet.getString(2)));
                         }
                     }
                 }
                 IdentityDatabaseUtil.commitTransaction(connection);
-                return users;
             }
         } catch (SQLException e) {
             if (log.isDebugEnabled()) {
                 log.debug("Error occurred while running the sql query: " + sqlStmt);
             }
             throw new AccountSuspensionNotificationException(e.getMessage(), e);
+        }
+
+        List<NotificationReceiver> users = new ArrayList<>();
+        if (lastLoginTimes.isEmpty()) {
+            return users;
+        }
+        try {
+            UserStoreManager userStoreManager = (UserStoreManager) realmService.getTenantUserRealm
+                    (IdentityTenantUtil.getTenantId(tenantDomain)).getUserStoreManager();
+            List<String> userNames = new ArrayList<>(lastLoginTimes.keySet());
+            for (int i = 0; i < userNames.size(); i += NotificationConstants.RECEIVER_CLAIMS_BATCH_SIZE) {
+                List<String> batch = userNames.subList(i, Math.min(userNames.size(),
+                        i + NotificationConstants.RECEIVER_CLAIMS_BATCH_SIZE));
+                Map<String, Map<String, String>> claimsOfUsers = getReceiverClaimsOfUsers(userStoreManager, batch);
+                for (String userName : batch) {
+                    String userNameWithoutDomain = UserCoreUtil.removeDomainFromName(userName);
+                    users.add(buildNotificationReceiver(userNameWithoutDomain, userStoreDomain,
+                            claimsOfUsers.get(userNameWithoutDomain), lastLoginTimes.get(userName),
+                            delayForSuspension));
+                }
+            }
+            return users;
         } catch (UserStoreException e) {
             throw new AccountSuspensionNotificationException(e.getMessage(), e);
         }
     }
+
+    /**
+     * Get the first name and email claims of a batch of users in a single user store call, instead of a call per
+     * user.
+     *
+     * @param userStoreManager User store manager.
+     * @param userNames        Domain qualified names of the users.
+     * @return Claims of the users against the user names without the user store domain.
+     * @throws UserStoreException If the claims of the users could not be retrieved.
+     */
+    public static Map<String, Map<String, String>> getReceiverClaimsOfUsers(UserStoreManager userStoreManager,
+                                                                          List<String> userNames)
+            throws UserStoreException {
+
+        String[] claims = {NotificationConstants.FIRST_NAME_CLAIM, NotificationConstants.EMAIL_CLAIM};
+        UserClaimSearchEntry[] userClaimSearchEntries =
+                userStoreManager.getUsersClaimValues(userNames.toArray(new String[0]), claims, null);
+
+        Map<String, Map<String, String>> claimsOfUsers = new HashMap<>();
+        if (userClaimSearchEntries != null) {
+            for (UserClaimSearchEntry userClaimSearchEntry : userClaimSearchEntries) {
+                if (userClaimSearchEntry.getUserName() != null && userClaimSearchEntry.getClaims() != null) {
+                    claimsOfUsers.put(UserCoreUtil.removeDomainFromName(userClaimSearchEntry.getUserName()),
+                            userClaimSearchEntry.getClaims());
+                }
+            }
+        }
+        return claimsOfUsers;
+    }
+
+    /**
+     * Build the notification receiver of a user.
+     *
+     * @param userName           Name of the user without the user store domain.
+     * @param userStoreDomain    User store domain of the user.
+     * @param claims             First name and email claims of the user.
+     * @param lastLoginTime      Last login time of the user.
+     * @param delayForSuspension Delay for the account suspension in days.
+     * @return Notification receiver.
+     */
+    public static NotificationReceiver buildNotificationReceiver(String userName, String userStoreDomain,
+                                                                 Map<String, String> claims, long lastLoginTime,
+                                                                 long delayForSuspension) {
+
+        NotificationReceiver receiver = new NotificationReceiver();
+        if (claims != null) {
+            receiver.setEmail(claims.get(NotificationConstants.EMAIL_CLAIM));
+            receiver.setFirstName(claims.get(NotificationConstants.FIRST_NAME_CLAIM));
+        }
+        receiver.setUsername(userName);
+        receiver.setUserStoreDomain(userStoreDomain);
+        receiver.setExpireDate(getExpireDate(lastLoginTime, delayForSuspension));
+        return receiver;
+    }
+
+    /**
+     * Get the date on which the account of a user will be suspended.
+     *
+     * @param lastLoginTime      Last login time of the user.
+     * @param delayForSuspension Delay for the account suspension in days.
+     * @return Expire date in the dd-MM-yyyy format.
+     */
+    public static String getExpireDate(long lastLoginTime, long delayForSuspension) {
+
+        long expireDate = lastLoginTime + TimeUnit.DAYS.toMillis(delayForSuspension);
+        return EXPIRE_DATE_FORMATTER.format(Instant.ofEpochMilli(expireDate));
+    }
 }
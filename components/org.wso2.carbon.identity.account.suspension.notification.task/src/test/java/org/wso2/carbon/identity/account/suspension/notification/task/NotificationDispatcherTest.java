@@ -0,0 +1,202 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.account.suspension.notification.task;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.account.suspension.notification.task.util.NotificationReceiver;
+import org.wso2.carbon.identity.event.IdentityEventException;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.expectThrows;
+
+/**
+ * Tests of NotificationDispatcher with a sender which records the notifications instead of sending them.
+ */
+public class NotificationDispatcherTest {
+
+    private static final String TENANT_DOMAIN = "carbon.super";
+    private static final String OTHER_TENANT_DOMAIN = "wso2.com";
+    private static final long TIMEOUT_SECONDS = 10;
+
+    private NotificationDispatcher dispatcher;
+
+    @AfterMethod
+    public void tearDown() {
+
+        if (dispatcher != null) {
+            dispatcher.shutdown();
+        }
+    }
+
+    @Test
+    public void testDispatchWaitsForCapacity() throws Exception {
+
+        CountDownLatch sendLatch = new CountDownLatch(1);
+        AtomicInteger sentCount = new AtomicInteger();
+        dispatcher = new NotificationDispatcher(1, 2, 0, 0, 10, (tenantDomain, receiver) -> await(sendLatch));
+
+        dispatcher.dispatch(TENANT_DOMAIN, buildReceiver("user1"), sentCount::incrementAndGet);
+        dispatcher.dispatch(TENANT_DOMAIN, buildReceiver("user2"), sentCount::incrementAndGet);
+        CompletableFuture<Void> blockedDispatch = CompletableFuture.runAsync(() -> dispatch(TENANT_DOMAIN, "user3",
+                sentCount::incrementAndGet));
+
+        // The dispatcher holds the maximum number of notifications, hence the third dispatch waits.
+        expectThrows(TimeoutException.class, () -> blockedDispatch.get(200, TimeUnit.MILLISECONDS));
+        assertFalse(dispatcher.awaitCompletion(100, TimeUnit.MILLISECONDS));
+        assertEquals(dispatcher.getPendingCount(), 2);
+
+        sendLatch.countDown();
+        blockedDispatch.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        assertTrue(dispatcher.awaitCompletion(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        assertEquals(sentCount.get(), 3);
+        assertEquals(dispatcher.getPendingCount(), 0);
+    }
+
+    @Test
+    public void testRetryWithBackoff() throws Exception {
+
+        List<Long> attemptTimes = new CopyOnWriteArrayList<>();
+        AtomicInteger sentCount = new AtomicInteger();
+        dispatcher = new NotificationDispatcher(1, 10, 0, 2, 50, (tenantDomain, receiver) -> {
+            attemptTimes.add(System.nanoTime());
+            if (attemptTimes.size() < 3) {
+                throw new IdentityEventException("Mail server is not available.");
+            }
+        });
+
+        dispatcher.dispatch(TENANT_DOMAIN, buildReceiver("user1"), sentCount::incrementAndGet);
+
+        assertTrue(dispatcher.awaitCompletion(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        assertEquals(attemptTimes.size(), 3);
+        assertEquals(sentCount.get(), 1);
+        // The delay before each retry is doubled.
+        assertTrue(attemptTimes.get(1) - attemptTimes.get(0) >= TimeUnit.MILLISECONDS.toNanos(50));
+        assertTrue(attemptTimes.get(2) - attemptTimes.get(1) >= TimeUnit.MILLISECONDS.toNanos(100));
+    }
+
+    @Test
+    public void testRetryExhaustion() throws Exception {
+
+        AtomicInteger attempts = new AtomicInteger();
+        AtomicInteger sentCount = new AtomicInteger();
+        dispatcher = new NotificationDispatcher(1, 10, 0, 2, 10, (tenantDomain, receiver) -> {
+            attempts.incrementAndGet();
+            throw new IdentityEventException("Mail server is not available.");
+        });
+
+        dispatcher.dispatch(TENANT_DOMAIN, buildReceiver("user1"), sentCount::incrementAndGet);
+
+        // The failed notification is completed once its retries are exhausted.
+        assertTrue(dispatcher.awaitCompletion(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        assertEquals(attempts.get(), 3);
+        assertEquals(sentCount.get(), 0);
+    }
+
+    @Test
+    public void testTenantRateLimit() throws Exception {
+
+        List<Long> sendTimes = new CopyOnWriteArrayList<>();
+        List<Long> otherTenantSendTimes = new CopyOnWriteArrayList<>();
+        dispatcher = new NotificationDispatcher(4, 10, 10, 0, 10, (tenantDomain, receiver) -> {
+            if (TENANT_DOMAIN.equals(tenantDomain)) {
+                sendTimes.add(System.nanoTime());
+            } else {
+                otherTenantSendTimes.add(System.nanoTime());
+            }
+        });
+
+        long startTime = System.nanoTime();
+        for (int i = 0; i < 3; i++) {
+            dispatcher.dispatch(TENANT_DOMAIN, buildReceiver("user" + i), () -> { });
+        }
+        dispatcher.dispatch(OTHER_TENANT_DOMAIN, buildReceiver("user0"), () -> { });
+
+        assertTrue(dispatcher.awaitCompletion(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        assertEquals(sendTimes.size(), 3);
+        // Notifications of a tenant are spaced out by 100 ms at 10 notifications per second.
+        sendTimes.sort(Long::compare);
+        assertTrue(sendTimes.get(2) - startTime >= TimeUnit.MILLISECONDS.toNanos(200));
+        // The rate limit of a tenant does not delay the notifications of the other tenants.
+        assertEquals(otherTenantSendTimes.size(), 1);
+        assertTrue(otherTenantSendTimes.get(0) < sendTimes.get(1));
+    }
+
+    @Test
+    public void testShutdownReleasesWaiters() throws Exception {
+
+        CountDownLatch sendLatch = new CountDownLatch(1);
+        dispatcher = new NotificationDispatcher(1, 1, 0, 0, 10, (tenantDomain, receiver) -> await(sendLatch));
+
+        dispatcher.dispatch(TENANT_DOMAIN, buildReceiver("user1"), () -> { });
+        CompletableFuture<Boolean> completionWaiter = CompletableFuture.supplyAsync(() -> {
+            try {
+                return dispatcher.awaitCompletion(1, TimeUnit.MINUTES);
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        CompletableFuture<Void> blockedDispatch = CompletableFuture.runAsync(() -> dispatch(TENANT_DOMAIN, "user2",
+                () -> { }));
+        expectThrows(TimeoutException.class, () -> blockedDispatch.get(200, TimeUnit.MILLISECONDS));
+
+        dispatcher.shutdown();
+
+        assertTrue(completionWaiter.get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        blockedDispatch.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        assertEquals(dispatcher.getPendingCount(), 0);
+    }
+
+    private void dispatch(String tenantDomain, String username, Runnable onSent) {
+
+        try {
+            dispatcher.dispatch(tenantDomain, buildReceiver(username), onSent);
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while sending the notification.", e);
+        }
+    }
+
+    private static NotificationReceiver buildReceiver(String username) {
+
+        NotificationReceiver receiver = new NotificationReceiver();
+        receiver.setUsername(username);
+        receiver.setUserStoreDomain("PRIMARY");
+        return receiver;
+    }
+}
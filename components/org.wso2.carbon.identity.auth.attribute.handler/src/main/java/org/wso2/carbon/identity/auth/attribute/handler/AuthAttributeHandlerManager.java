@@ -21,12 +21,16 @@ package org.wso2.carbon.identity.auth.attribute.handler;
 import org.apache.commons.lang.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
 import org.wso2.carbon.identity.application.common.IdentityApplicationManagementException;
 import org.wso2.carbon.identity.application.common.model.AuthenticationStep;
 import org.wso2.carbon.identity.application.common.model.LocalAuthenticatorConfig;
 import org.wso2.carbon.identity.application.mgt.ApplicationManagementService;
 import org.wso2.carbon.identity.auth.attribute.handler.exception.AuthAttributeHandlerClientException;
 import org.wso2.carbon.identity.auth.attribute.handler.exception.AuthAttributeHandlerException;
+import org.wso2.carbon.identity.auth.attribute.handler.internal.AuthAttributeHandlerCache;
+import org.wso2.carbon.identity.auth.attribute.handler.internal.AuthAttributeHandlerCacheEntry;
+import org.wso2.carbon.identity.auth.attribute.handler.internal.AuthAttributeHandlerCacheKey;
 import org.wso2.carbon.identity.auth.attribute.handler.internal.AuthAttributeHandlerServiceDataHolder;
 import org.wso2.carbon.identity.auth.attribute.handler.model.AuthAttributeHolder;
 import org.wso2.carbon.identity.auth.attribute.handler.model.ValidationResult;
@@ -75,15 +79,9 @@ public class AuthAttributeHandlerManager {
     public List<AuthAttributeHolder> getAvailableAuthAttributeHolders(String appId) throws
             AuthAttributeHandlerException {
 
-        List<String> authenticators = getConfiguredAuthenticators(appId);
-        List<AuthAttributeHandler> authAttributeHandlers =
-                AuthAttributeHandlerServiceDataHolder.getInstance().getAuthAttributeHandlers();
         List<AuthAttributeHolder> selectedAuthAttributeHolders = new ArrayList<>();
-        for (AuthAttributeHandler authAttributeHandler : authAttributeHandlers) {
-            if (authAttributeHandler.getBindingType() == AuthAttributeHandlerBindingType.AUTHENTICATOR
-                    && authenticators.contains(authAttributeHandler.getBoundIdentifier())) {
-                selectedAuthAttributeHolders.add(authAttributeHandler.getAuthAttributeData());
-            }
+        for (AuthAttributeHandler authAttributeHandler : getApplicationAuthAttributeHandlers(appId)) {
+            selectedAuthAttributeHolders.add(authAttributeHandler.getAuthAttributeData());
         }
 
         return selectedAuthAttributeHolders;
@@ -103,23 +101,58 @@ public class AuthAttributeHandlerManager {
     public ValidationResult validateAuthAttributes(String authAttributeHandlerName, Map<String, String> attributeMap)
             throws AuthAttributeHandlerException {
 
+        AuthAttributeHandler authAttributeHandler =
+                AuthAttributeHandlerServiceDataHolder.getInstance().getAuthAttributeHandler(authAttributeHandlerName);
+        if (authAttributeHandler == null) {
+            throw new AuthAttributeHandlerClientException(ERROR_CODE_AUTH_ATTRIBUTE_HANDLER_NOT_FOUND.getCode(),
+                    String.format(ERROR_CODE_AUTH_ATTRIBUTE_HANDLER_NOT_FOUND.getMessage(), authAttributeHandlerName));
+        }
+
+        return authAttributeHandler.validateAttributes(attributeMap);
+    }
+
+    /**
+     * Get the auth attribute handlers bound to the configured authenticators of an application. The configured
+     * authenticators are cached per tenant and application, as resolving them reads the application.
+     *
+     * @param appId Identifier of the application.
+     * @return A list of Auth Attribute Handlers.
+     * @throws AuthAttributeHandlerException authAttributeHandlerException.
+     */
+    private List<AuthAttributeHandler> getApplicationAuthAttributeHandlers(String appId)
+            throws AuthAttributeHandlerException {
+
+        List<String> authenticators = getCachedConfiguredAuthenticators(appId);
         List<AuthAttributeHandler> authAttributeHandlers =
                 AuthAttributeHandlerServiceDataHolder.getInstance().getAuthAttributeHandlers();
-
-        AuthAttributeHandler authAttributeHandler = null;
-        for (AuthAttributeHandler handler : authAttributeHandlers) {
-            if (StringUtils.equals(handler.getName(), authAttributeHandlerName)) {
-                authAttributeHandler = handler;
-                break;
+        List<AuthAttributeHandler> applicationAuthAttributeHandlers = new ArrayList<>();
+        for (AuthAttributeHandler authAttributeHandler : authAttributeHandlers) {
+            if (authAttributeHandler.getBindingType() == AuthAttributeHandlerBindingType.AUTHENTICATOR
+                    && authenticators.contains(authAttributeHandler.getBoundIdentifier())) {
+                applicationAuthAttributeHandlers.add(authAttributeHandler);
             }
         }
+        return applicationAuthAttributeHandlers;
+    }
+
+    private List<String> getCachedConfiguredAuthenticators(String appId) throws AuthAttributeHandlerException {
+
+        String tenantDomain = PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantDomain();
+        if (StringUtils.isBlank(tenantDomain) || StringUtils.isBlank(appId)) {
+            return getConfiguredAuthenticators(appId);
+        }
 
-        if (authAttributeHandler == null) {
-            throw new AuthAttributeHandlerClientException(ERROR_CODE_AUTH_ATTRIBUTE_HANDLER_NOT_FOUND.getCode(),
-                    String.format(ERROR_CODE_AUTH_ATTRIBUTE_HANDLER_NOT_FOUND.getMessage(), authAttributeHandlerName));
+        AuthAttributeHandlerCacheKey cacheKey = new AuthAttributeHandlerCacheKey(tenantDomain, appId);
+        AuthAttributeHandlerCacheEntry cacheEntry =
+                AuthAttributeHandlerCache.getInstance().getValueFromCache(cacheKey, tenantDomain);
+        if (cacheEntry != null) {
+            return cacheEntry.getAuthenticators();
         }
 
-        return authAttributeHandler.validateAttributes(attributeMap);
+        List<String> authenticators = getConfiguredAuthenticators(appId);
+        AuthAttributeHandlerCache.getInstance().addToCache(cacheKey,
+                new AuthAttributeHandlerCacheEntry(authenticators), tenantDomain);
+        return authenticators;
     }
 
     private ApplicationManagementService getApplicationManagementService() {
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.auth.attribute.handler.internal;
+
+import org.apache.commons.lang.StringUtils;
+import org.wso2.carbon.identity.application.common.IdentityApplicationManagementException;
+import org.wso2.carbon.identity.application.common.model.ServiceProvider;
+import org.wso2.carbon.identity.application.mgt.listener.AbstractApplicationMgtListener;
+
+/**
+ * Application management listener which invalidates the cached authenticators of an application when the
+ * application is updated or deleted.
+ */
+public class AuthAttributeHandlerApplicationMgtListener extends AbstractApplicationMgtListener {
+
+    private static final int DEFAULT_ORDER_ID = 900;
+
+    @Override
+    public int getDefaultOrderId() {
+
+        return DEFAULT_ORDER_ID;
+    }
+
+    @Override
+    public boolean doPostUpdateApplication(ServiceProvider serviceProvider, String tenantDomain, String userName)
+            throws IdentityApplicationManagementException {
+
+        if (serviceProvider != null && StringUtils.isNotBlank(serviceProvider.getApplicationResourceId())) {
+            AuthAttributeHandlerCache.getInstance().clearCacheEntry(new AuthAttributeHandlerCacheKey(tenantDomain,
+                    serviceProvider.getApplicationResourceId()), tenantDomain);
+        } else {
+            AuthAttributeHandlerCache.getInstance().clear(tenantDomain);
+        }
+        return true;
+    }
+
+    @Override
+    public boolean doPreDeleteApplication(String applicationName, String tenantDomain, String userName)
+            throws IdentityApplicationManagementException {
+
+        // Only the name of the application is available, hence the cached authenticators of all the applications
+        // of the tenant are invalidated.
+        AuthAttributeHandlerCache.getInstance().clear(tenantDomain);
+        return true;
+    }
+
+    @Override
+    public boolean doPostDeleteApplication(String applicationName, String tenantDomain, String userName)
+            throws IdentityApplicationManagementException {
+
+        AuthAttributeHandlerCache.getInstance().clear(tenantDomain);
+        return true;
+    }
+}
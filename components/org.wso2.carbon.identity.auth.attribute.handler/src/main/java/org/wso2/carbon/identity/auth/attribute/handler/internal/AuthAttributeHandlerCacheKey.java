@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.auth.attribute.handler.internal;
+
+import org.wso2.carbon.identity.core.cache.CacheKey;
+
+/**
+ * Key for the AuthAttributeHandlerCache, contains the tenant domain and the application id.
+ */
+public class AuthAttributeHandlerCacheKey extends CacheKey {
+
+    private static final long serialVersionUID = -2871459328164209534L;
+    private final String tenantDomain;
+    private final String appId;
+
+    public AuthAttributeHandlerCacheKey(String tenantDomain, String appId) {
+
+        this.tenantDomain = tenantDomain;
+        this.appId = appId;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        if (!super.equals(o)) {
+            return false;
+        }
+
+        AuthAttributeHandlerCacheKey that = (AuthAttributeHandlerCacheKey) o;
+
+        return tenantDomain.equals(that.tenantDomain) && appId.equals(that.appId);
+    }
+
+    @Override
+    public int hashCode() {
+
+        int result = super.hashCode();
+        result = 31 * result + tenantDomain.hashCode();
+        result = 31 * result + appId.hashCode();
+        return result;
+    }
+}
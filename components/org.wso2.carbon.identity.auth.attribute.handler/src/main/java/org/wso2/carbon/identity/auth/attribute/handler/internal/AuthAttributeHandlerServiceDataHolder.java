@@ -21,8 +21,10 @@ package org.wso2.carbon.identity.auth.attribute.handler.internal;
 import org.wso2.carbon.identity.application.mgt.ApplicationManagementService;
 import org.wso2.carbon.identity.auth.attribute.handler.AuthAttributeHandler;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * This class holds OSGI services required by the Auth Attribute Handler component.
@@ -31,7 +33,8 @@ public class AuthAttributeHandlerServiceDataHolder {
 
     private static final AuthAttributeHandlerServiceDataHolder instance = new AuthAttributeHandlerServiceDataHolder();
 
-    private final List<AuthAttributeHandler> authAttributeHandlers = new ArrayList<>();
+    private final List<AuthAttributeHandler> authAttributeHandlers = new CopyOnWriteArrayList<>();
+    private final Map<String, AuthAttributeHandler> authAttributeHandlersByName = new ConcurrentHashMap<>();
     private ApplicationManagementService applicationManagementService;
 
     public static AuthAttributeHandlerServiceDataHolder getInstance() {
@@ -44,6 +47,43 @@ public class AuthAttributeHandlerServiceDataHolder {
         return authAttributeHandlers;
     }
 
+    /**
+     * Returns the auth attribute handler registered with the given name.
+     *
+     * @param name Name of the auth attribute handler.
+     * @return Auth attribute handler, or null if there is no handler with the name.
+     */
+    public AuthAttributeHandler getAuthAttributeHandler(String name) {
+
+        return name != null ? authAttributeHandlersByName.get(name) : null;
+    }
+
+    /**
+     * Registers an auth attribute handler, indexed by its name.
+     *
+     * @param authAttributeHandler Auth attribute handler.
+     * @param name                 Name of the auth attribute handler, or null if it has no name.
+     */
+    public void addAuthAttributeHandler(AuthAttributeHandler authAttributeHandler, String name) {
+
+        authAttributeHandlers.add(authAttributeHandler);
+        if (name != null) {
+            // As with a lookup on the list of handlers, the first handler registered with a name is used.
+            authAttributeHandlersByName.putIfAbsent(name, authAttributeHandler);
+        }
+    }
+
+    /**
+     * Unregisters an auth attribute handler.
+     *
+     * @param authAttributeHandler Auth attribute handler.
+     */
+    public void removeAuthAttributeHandler(AuthAttributeHandler authAttributeHandler) {
+
+        authAttributeHandlers.remove(authAttributeHandler);
+        authAttributeHandlersByName.values().remove(authAttributeHandler);
+    }
+
     public ApplicationManagementService getApplicationManagementService() {
 
         return this.applicationManagementService;
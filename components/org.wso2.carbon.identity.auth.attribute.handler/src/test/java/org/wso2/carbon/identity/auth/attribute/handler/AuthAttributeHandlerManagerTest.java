@@ -27,21 +27,34 @@ import org.testng.Assert;
 import org.testng.annotations.AfterClass;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
+import org.wso2.carbon.base.CarbonBaseConstants;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
 import org.wso2.carbon.identity.application.common.model.AuthenticationStep;
 import org.wso2.carbon.identity.application.common.model.LocalAuthenticatorConfig;
+import org.wso2.carbon.identity.application.common.model.ServiceProvider;
 import org.wso2.carbon.identity.application.mgt.ApplicationManagementService;
 import org.wso2.carbon.identity.auth.attribute.handler.exception.AuthAttributeHandlerClientException;
 import org.wso2.carbon.identity.auth.attribute.handler.exception.AuthAttributeHandlerException;
+import org.wso2.carbon.identity.auth.attribute.handler.internal.AuthAttributeHandlerApplicationMgtListener;
+import org.wso2.carbon.identity.auth.attribute.handler.internal.AuthAttributeHandlerCache;
+import org.wso2.carbon.identity.auth.attribute.handler.internal.AuthAttributeHandlerCacheEntry;
+import org.wso2.carbon.identity.auth.attribute.handler.internal.AuthAttributeHandlerCacheKey;
 import org.wso2.carbon.identity.auth.attribute.handler.internal.AuthAttributeHandlerServiceDataHolder;
 import org.wso2.carbon.identity.auth.attribute.handler.model.AuthAttributeHolder;
 import org.wso2.carbon.identity.auth.attribute.handler.model.ValidationResult;
 
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -50,6 +63,7 @@ import static org.mockito.Mockito.when;
 public class AuthAttributeHandlerManagerTest {
 
     private AuthAttributeHandlerManager authAttributeHandlerManager = AuthAttributeHandlerManager.getInstance();
+    private static final String TENANT_DOMAIN = "carbon.super";
     private static final String APP_ID = "0181313d-5c84-4ec4-a931-b73085408eff";
     private static final String AUTHENTICATOR_BASICAUTH = "BasicAuthenticator";
     private static final String AUTH_ATTRIBUTE_HANDLER_MAGICLINK = "MagicLinkAuthAttributeHandler";
@@ -67,17 +81,22 @@ public class AuthAttributeHandlerManagerTest {
     AuthAttributeHandlerServiceDataHolder authAttributeHandlerServiceDataHolder;
 
     private MockedStatic<AuthAttributeHandlerServiceDataHolder> mockedAuthAttributeHandlerServiceDataHolder;
+    private MockedStatic<AuthAttributeHandlerCache> mockedAuthAttributeHandlerCache;
+    private final Map<AuthAttributeHandlerCacheKey, AuthAttributeHandlerCacheEntry> cache = new HashMap<>();
 
     @BeforeClass
     private void setup() {
 
         MockitoAnnotations.openMocks(this);
+        System.setProperty(CarbonBaseConstants.CARBON_HOME,
+                Paths.get(System.getProperty("user.dir"), "target").toString());
         initiateMocks();
     }
 
     @AfterClass
     public void tearDown() {
 
+        mockedAuthAttributeHandlerCache.close();
         mockedAuthAttributeHandlerServiceDataHolder.close();
     }
 
@@ -137,6 +156,36 @@ public class AuthAttributeHandlerManagerTest {
         }
     }
 
+    @Test
+    public void testGetAvailableAuthAttributeHoldersFromCache() throws Exception {
+
+        PrivilegedCarbonContext.startTenantFlow();
+        try {
+            PrivilegedCarbonContext.getThreadLocalCarbonContext().setTenantDomain(TENANT_DOMAIN);
+            cache.clear();
+            Mockito.clearInvocations(applicationManagementService);
+            when(applicationManagementService.getConfiguredAuthenticators(anyString()))
+                    .thenReturn(getAuthenticators());
+
+            authAttributeHandlerManager.getAvailableAuthAttributeHolders(APP_ID);
+            List<AuthAttributeHolder> authAttributeHolders =
+                    authAttributeHandlerManager.getAvailableAuthAttributeHolders(APP_ID);
+            Assert.assertEquals(authAttributeHolders.size(), EXPECTED_HANDLERS.length);
+            verify(applicationManagementService, times(1)).getConfiguredAuthenticators(APP_ID);
+
+            // Updating the application invalidates its cached authenticators.
+            ServiceProvider serviceProvider = new ServiceProvider();
+            serviceProvider.setApplicationResourceId(APP_ID);
+            new AuthAttributeHandlerApplicationMgtListener().doPostUpdateApplication(serviceProvider, TENANT_DOMAIN,
+                    null);
+            authAttributeHandlerManager.getAvailableAuthAttributeHolders(APP_ID);
+            verify(applicationManagementService, times(2)).getConfiguredAuthenticators(APP_ID);
+        } finally {
+            cache.clear();
+            PrivilegedCarbonContext.endTenantFlow();
+        }
+    }
+
     private String[] getAuthAttributeHandlers(List<AuthAttributeHolder> authAttributeHolderList) {
 
         List<String> authAttributeHandlers = new ArrayList<>();
@@ -155,8 +204,34 @@ public class AuthAttributeHandlerManagerTest {
                 .thenReturn(authAttributeHandlerServiceDataHolder);
         when(authAttributeHandlerServiceDataHolder.getApplicationManagementService())
                 .thenReturn(applicationManagementService);
-        when(authAttributeHandlerServiceDataHolder.getAuthAttributeHandlers())
-                .thenReturn(getAuthAttributeHandlers());
+        List<AuthAttributeHandler> authAttributeHandlers = getAuthAttributeHandlers();
+        when(authAttributeHandlerServiceDataHolder.getAuthAttributeHandlers()).thenReturn(authAttributeHandlers);
+        for (AuthAttributeHandler authAttributeHandler : authAttributeHandlers) {
+            try {
+                if (authAttributeHandler.getName() != null) {
+                    when(authAttributeHandlerServiceDataHolder.getAuthAttributeHandler(authAttributeHandler.getName()))
+                            .thenReturn(authAttributeHandler);
+                }
+            } catch (AuthAttributeHandlerException e) {
+                Assert.fail("Error while retrieving the name of the auth attribute handler.", e);
+            }
+        }
+
+        AuthAttributeHandlerCache authAttributeHandlerCache = mock(AuthAttributeHandlerCache.class);
+        when(authAttributeHandlerCache.getValueFromCache(any(AuthAttributeHandlerCacheKey.class), anyString()))
+                .thenAnswer(invocation -> cache.get(invocation.<AuthAttributeHandlerCacheKey>getArgument(0)));
+        doAnswer(invocation -> cache.put(invocation.getArgument(0), invocation.getArgument(1)))
+                .when(authAttributeHandlerCache).addToCache(any(AuthAttributeHandlerCacheKey.class),
+                        any(AuthAttributeHandlerCacheEntry.class), anyString());
+        doAnswer(invocation -> cache.remove(invocation.<AuthAttributeHandlerCacheKey>getArgument(0)))
+                .when(authAttributeHandlerCache).clearCacheEntry(any(AuthAttributeHandlerCacheKey.class), anyString());
+        doAnswer(invocation -> {
+            cache.clear();
+            return null;
+        }).when(authAttributeHandlerCache).clear(anyString());
+        mockedAuthAttributeHandlerCache = Mockito.mockStatic(AuthAttributeHandlerCache.class);
+        mockedAuthAttributeHandlerCache.when(AuthAttributeHandlerCache::getInstance)
+                .thenReturn(authAttributeHandlerCache);
     }
 
     private AuthenticationStep[] getAuthenticators() {
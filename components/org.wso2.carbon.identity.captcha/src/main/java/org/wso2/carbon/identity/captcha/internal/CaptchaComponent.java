@@ -112,6 +112,7 @@ public class CaptchaComponent {
     @Deactivate
     protected void deactivate(ComponentContext context) {
 
+        CaptchaUtil.closeReCaptchaHttpClient();
         if (log.isDebugEnabled()) {
             log.debug("Captcha Component is de-activated");
         }
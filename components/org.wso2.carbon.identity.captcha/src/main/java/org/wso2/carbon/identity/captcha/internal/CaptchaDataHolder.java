@@ -19,6 +19,7 @@
 package org.wso2.carbon.identity.captcha.internal;
 
 import org.wso2.carbon.identity.captcha.connector.CaptchaConnector;
+import org.wso2.carbon.identity.captcha.util.CaptchaConstants;
 import org.wso2.carbon.identity.governance.IdentityGovernanceService;
 import org.wso2.carbon.identity.handler.event.account.lock.service.AccountLockService;
 import org.wso2.carbon.user.core.service.RealmService;
@@ -77,6 +78,17 @@ public class CaptchaDataHolder {
 
     private boolean forcefullyEnabledRecaptchaForAllTenants;
 
+    private int reCaptchaHttpClientMaxConnections = CaptchaConstants.RE_CAPTCHA_HTTP_CLIENT_DEFAULT_MAX_CONNECTIONS;
+
+    private int reCaptchaHttpClientConnectTimeout = CaptchaConstants.RE_CAPTCHA_HTTP_CLIENT_DEFAULT_CONNECT_TIMEOUT;
+
+    private int reCaptchaHttpClientSocketTimeout = CaptchaConstants.RE_CAPTCHA_HTTP_CLIENT_DEFAULT_SOCKET_TIMEOUT;
+
+    private int reCaptchaHttpClientConnectionRequestTimeout =
+            CaptchaConstants.RE_CAPTCHA_HTTP_CLIENT_DEFAULT_CONNECTION_REQUEST_TIMEOUT;
+
+    private int reCaptchaHttpClientKeepAlive = CaptchaConstants.RE_CAPTCHA_HTTP_CLIENT_DEFAULT_KEEP_ALIVE;
+
     private CaptchaDataHolder() {
 
     }
@@ -85,6 +97,56 @@ public class CaptchaDataHolder {
         return instance;
     }
 
+    public int getReCaptchaHttpClientMaxConnections() {
+
+        return reCaptchaHttpClientMaxConnections;
+    }
+
+    public void setReCaptchaHttpClientMaxConnections(int reCaptchaHttpClientMaxConnections) {
+
+        this.reCaptchaHttpClientMaxConnections = reCaptchaHttpClientMaxConnections;
+    }
+
+    public int getReCaptchaHttpClientConnectTimeout() {
+
+        return reCaptchaHttpClientConnectTimeout;
+    }
+
+    public void setReCaptchaHttpClientConnectTimeout(int reCaptchaHttpClientConnectTimeout) {
+
+        this.reCaptchaHttpClientConnectTimeout = reCaptchaHttpClientConnectTimeout;
+    }
+
+    public int getReCaptchaHttpClientSocketTimeout() {
+
+        return reCaptchaHttpClientSocketTimeout;
+    }
+
+    public void setReCaptchaHttpClientSocketTimeout(int reCaptchaHttpClientSocketTimeout) {
+
+        this.reCaptchaHttpClientSocketTimeout = reCaptchaHttpClientSocketTimeout;
+    }
+
+    public int getReCaptchaHttpClientConnectionRequestTimeout() {
+
+        return reCaptchaHttpClientConnectionRequestTimeout;
+    }
+
+    public void setReCaptchaHttpClientConnectionRequestTimeout(int reCaptchaHttpClientConnectionRequestTimeout) {
+
+        this.reCaptchaHttpClientConnectionRequestTimeout = reCaptchaHttpClientConnectionRequestTimeout;
+    }
+
+    public int getReCaptchaHttpClientKeepAlive() {
+
+        return reCaptchaHttpClientKeepAlive;
+    }
+
+    public void setReCaptchaHttpClientKeepAlive(int reCaptchaHttpClientKeepAlive) {
+
+        this.reCaptchaHttpClientKeepAlive = reCaptchaHttpClientKeepAlive;
+    }
+
     public boolean isReCaptchaEnabled() {
         return reCaptchaEnabled;
     }
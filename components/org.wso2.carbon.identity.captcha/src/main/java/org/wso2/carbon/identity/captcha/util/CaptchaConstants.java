@@ -61,6 +61,17 @@ public class CaptchaConstants {
 
     public static final String RE_CAPTCHA_WARN_SCORE_THRESHOLD = "recaptcha.threshold.warn";
 
+    public static final String RE_CAPTCHA_HTTP_CLIENT_MAX_CONNECTIONS = "recaptcha.http.client.max.connections";
+
+    public static final String RE_CAPTCHA_HTTP_CLIENT_CONNECT_TIMEOUT = "recaptcha.http.client.connect.timeout";
+
+    public static final String RE_CAPTCHA_HTTP_CLIENT_SOCKET_TIMEOUT = "recaptcha.http.client.socket.timeout";
+
+    public static final String RE_CAPTCHA_HTTP_CLIENT_CONNECTION_REQUEST_TIMEOUT =
+            "recaptcha.http.client.connection.request.timeout";
+
+    public static final String RE_CAPTCHA_HTTP_CLIENT_KEEP_ALIVE = "recaptcha.http.client.keep.alive";
+
     public static final String BASIC_AUTHENTICATOR = "BasicAuthenticator";
 
     public static final String BASIC_AUTH_MECHANISM = "basic";
@@ -86,6 +97,15 @@ public class CaptchaConstants {
     // Default value for threshold for score to issue warn logs in reCAPTCHA v3.
     public static final double CAPTCHA_V3_DEFAULT_WARN_THRESHOLD = 0.7;
 
+    // Default values of the HTTP client used for reCAPTCHA verification. Timeouts are in milliseconds.
+    public static final int RE_CAPTCHA_HTTP_CLIENT_DEFAULT_MAX_CONNECTIONS = 100;
+    public static final int RE_CAPTCHA_HTTP_CLIENT_DEFAULT_CONNECT_TIMEOUT = 5000;
+    public static final int RE_CAPTCHA_HTTP_CLIENT_DEFAULT_SOCKET_TIMEOUT = 10000;
+    public static final int RE_CAPTCHA_HTTP_CLIENT_DEFAULT_CONNECTION_REQUEST_TIMEOUT = 5000;
+    public static final int RE_CAPTCHA_HTTP_CLIENT_DEFAULT_KEEP_ALIVE = 60000;
+    // Pooled connections idle for longer than this are validated before they are reused.
+    public static final int RE_CAPTCHA_HTTP_CLIENT_VALIDATE_AFTER_INACTIVITY = 2000;
+
     public static final String SSO_LOGIN_RECAPTCHA_CONNECTOR_NAME = "sso.login.recaptcha";
 
     /**
@@ -28,15 +28,25 @@ import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.apache.http.HttpEntity;
 import org.apache.http.HttpHeaders;
-import org.apache.http.HttpResponse;
 import org.apache.http.NameValuePair;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.config.Registry;
+import org.apache.http.config.RegistryBuilder;
+import org.apache.http.conn.ConnectionKeepAliveStrategy;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.conn.socket.PlainConnectionSocketFactory;
+import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
 import org.apache.http.entity.StringEntity;
 import org.apache.http.client.entity.UrlEncodedFormEntity;
+import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpPost;
 import org.apache.http.client.utils.URIBuilder;
 import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
 import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
 import org.apache.http.message.BasicNameValuePair;
+import org.apache.http.util.EntityUtils;
 import org.wso2.carbon.context.PrivilegedCarbonContext;
 import org.wso2.carbon.identity.application.authentication.framework.ApplicationAuthenticator;
 import org.wso2.carbon.identity.application.authentication.framework.config.ConfigurationFacade;
@@ -93,6 +103,7 @@ import static org.wso2.carbon.identity.captcha.util.CaptchaConstants.SSO_LOGIN_R
 public class CaptchaUtil {
 
     private static final Log log = LogFactory.getLog(CaptchaUtil.class);
+    private static volatile CloseableHttpClient reCaptchaHttpClient;
 
     public static void buildReCaptchaFilterProperties() {
 
@@ -274,7 +285,7 @@ public class CaptchaUtil {
 
     public static boolean isValidCaptcha(String reCaptchaResponse) throws CaptchaException {
 
-        CloseableHttpClient httpclient = HttpClientBuilder.create().useSystemProperties().build();
+        CloseableHttpClient httpclient = getReCaptchaHttpClient();
         String reCaptchaType = CaptchaDataHolder.getInstance().getReCaptchaType();
 
         HttpPost httpPost;
@@ -289,27 +300,98 @@ public class CaptchaUtil {
             httpPost = createReCaptchaVerificationHttpPost(reCaptchaResponse);
         }
 
-        HttpResponse response;
-        try {
-            response = httpclient.execute(httpPost);
+        try (CloseableHttpResponse response = httpclient.execute(httpPost)) {
+            HttpEntity entity = response.getEntity();
+            if (entity == null) {
+                throw new CaptchaServerException("reCaptcha verification response is not received.");
+            }
+
+            try {
+                if (CaptchaConstants.RE_CAPTCHA_TYPE_ENTERPRISE.equals(reCaptchaType)) {
+                    // For ReCaptcha Enterprise.
+                    verifyReCaptchaEnterpriseResponse(entity);
+                } else {
+                    // For Recaptcha v2 and v3.
+                    verifyReCaptchaResponse(entity);
+                }
+            } finally {
+                // Read the remaining content, so that the connection can be reused.
+                EntityUtils.consumeQuietly(entity);
+            }
         } catch (IOException e) {
             throw new CaptchaServerException("Unable to get the verification response.", e);
         }
 
-        HttpEntity entity = response.getEntity();
-        if (entity == null) {
-            throw new CaptchaServerException("reCaptcha verification response is not received.");
-        }
+        return true;
+    }
 
-        if (CaptchaConstants.RE_CAPTCHA_TYPE_ENTERPRISE.equals(reCaptchaType)) {
-            // For ReCaptcha Enterprise.
-            verifyReCaptchaEnterpriseResponse(entity);
-        } else {
-            // For Recaptcha v2 and v3.
-            verifyReCaptchaResponse(entity);
+    /**
+     * Get the HTTP client used to verify the reCaptcha responses. The client is created on first use and its pooled
+     * connections are shared by all the verification requests.
+     *
+     * @return HTTP client for reCaptcha verification.
+     */
+    private static CloseableHttpClient getReCaptchaHttpClient() {
+
+        if (reCaptchaHttpClient == null) {
+            synchronized (CaptchaUtil.class) {
+                if (reCaptchaHttpClient == null) {
+                    reCaptchaHttpClient = createReCaptchaHttpClient();
+                }
+            }
         }
+        return reCaptchaHttpClient;
+    }
 
-        return true;
+    private static CloseableHttpClient createReCaptchaHttpClient() {
+
+        CaptchaDataHolder dataHolder = CaptchaDataHolder.getInstance();
+        Registry<ConnectionSocketFactory> socketFactoryRegistry = RegistryBuilder.<ConnectionSocketFactory>create()
+                .register("http", PlainConnectionSocketFactory.getSocketFactory())
+                .register("https", SSLConnectionSocketFactory.getSystemSocketFactory())
+                .build();
+        PoolingHttpClientConnectionManager connectionManager =
+                new PoolingHttpClientConnectionManager(socketFactoryRegistry);
+        // All the requests are sent to the same verification endpoint.
+        connectionManager.setMaxTotal(dataHolder.getReCaptchaHttpClientMaxConnections());
+        connectionManager.setDefaultMaxPerRoute(dataHolder.getReCaptchaHttpClientMaxConnections());
+        connectionManager.setValidateAfterInactivity(CaptchaConstants.RE_CAPTCHA_HTTP_CLIENT_VALIDATE_AFTER_INACTIVITY);
+
+        RequestConfig requestConfig = RequestConfig.custom()
+                .setConnectTimeout(dataHolder.getReCaptchaHttpClientConnectTimeout())
+                .setSocketTimeout(dataHolder.getReCaptchaHttpClientSocketTimeout())
+                .setConnectionRequestTimeout(dataHolder.getReCaptchaHttpClientConnectionRequestTimeout())
+                .build();
+
+        long keepAlive = dataHolder.getReCaptchaHttpClientKeepAlive();
+        ConnectionKeepAliveStrategy keepAliveStrategy = (response, context) -> {
+            // Honour a shorter keep alive time advertised by the server.
+            long serverKeepAlive = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+            return serverKeepAlive > 0 ? Math.min(serverKeepAlive, keepAlive) : keepAlive;
+        };
+
+        return HttpClientBuilder.create().useSystemProperties()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(requestConfig)
+                .setKeepAliveStrategy(keepAliveStrategy)
+                .build();
+    }
+
+    /**
+     * Close the HTTP client used to verify the reCaptcha responses and release its pooled connections.
+     */
+    public static void closeReCaptchaHttpClient() {
+
+        synchronized (CaptchaUtil.class) {
+            if (reCaptchaHttpClient != null) {
+                try {
+                    reCaptchaHttpClient.close();
+                } catch (IOException e) {
+                    log.error("Error while closing the reCaptcha HTTP client.", e);
+                }
+                reCaptchaHttpClient = null;
+            }
+        }
     }
 
     private static HttpPost createReCaptchaEnterpriseVerificationHttpPost(String reCaptchaResponse) {
@@ -628,6 +710,48 @@ public class CaptchaUtil {
                 properties.getProperty(CaptchaConstants.FORCEFULLY_ENABLED_RECAPTCHA_FOR_ALL_TENANTS);
         CaptchaDataHolder.getInstance().setForcefullyEnabledRecaptchaForAllTenants(
                 Boolean.parseBoolean(forcefullyEnableRecaptchaForAllTenants));
+
+        setReCaptchaHttpClientConfigs(properties);
+    }
+
+    /**
+     * Set the optional connection pool and timeout configurations of the reCaptcha verification HTTP client.
+     *
+     * @param properties Properties.
+     */
+    private static void setReCaptchaHttpClientConfigs(Properties properties) {
+
+        CaptchaDataHolder dataHolder = CaptchaDataHolder.getInstance();
+        dataHolder.setReCaptchaHttpClientMaxConnections(getPositiveIntProperty(properties,
+                CaptchaConstants.RE_CAPTCHA_HTTP_CLIENT_MAX_CONNECTIONS,
+                CaptchaConstants.RE_CAPTCHA_HTTP_CLIENT_DEFAULT_MAX_CONNECTIONS));
+        dataHolder.setReCaptchaHttpClientConnectTimeout(getPositiveIntProperty(properties,
+                CaptchaConstants.RE_CAPTCHA_HTTP_CLIENT_CONNECT_TIMEOUT,
+                CaptchaConstants.RE_CAPTCHA_HTTP_CLIENT_DEFAULT_CONNECT_TIMEOUT));
+        dataHolder.setReCaptchaHttpClientSocketTimeout(getPositiveIntProperty(properties,
+                CaptchaConstants.RE_CAPTCHA_HTTP_CLIENT_SOCKET_TIMEOUT,
+                CaptchaConstants.RE_CAPTCHA_HTTP_CLIENT_DEFAULT_SOCKET_TIMEOUT));
+        dataHolder.setReCaptchaHttpClientConnectionRequestTimeout(getPositiveIntProperty(properties,
+                CaptchaConstants.RE_CAPTCHA_HTTP_CLIENT_CONNECTION_REQUEST_TIMEOUT,
+                CaptchaConstants.RE_CAPTCHA_HTTP_CLIENT_DEFAULT_CONNECTION_REQUEST_TIMEOUT));
+        dataHolder.setReCaptchaHttpClientKeepAlive(getPositiveIntProperty(properties,
+                CaptchaConstants.RE_CAPTCHA_HTTP_CLIENT_KEEP_ALIVE,
+                CaptchaConstants.RE_CAPTCHA_HTTP_CLIENT_DEFAULT_KEEP_ALIVE));
+        // Let the client be recreated with the new configurations.
+        closeReCaptchaHttpClient();
+    }
+
+    private static int getPositiveIntProperty(Properties properties, String propertyName, int defaultValue) {
+
+        String value = properties.getProperty(propertyName);
+        if (StringUtils.isBlank(value)) {
+            return defaultValue;
+        }
+        int parsedValue = NumberUtils.toInt(value.trim(), -1);
+        if (parsedValue <= 0) {
+            throw new RuntimeException(getValidationErrorMessage(propertyName));
+        }
+        return parsedValue;
     }
 
     /**
@@ -17,20 +17,31 @@
 package org.wso2.carbon.identity.captcha.util;
 
 import com.google.gson.JsonObject;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
 import org.apache.http.HttpEntity;
 import org.apache.http.client.methods.HttpPost;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
 import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeClass;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
+import org.wso2.carbon.identity.captcha.exception.CaptchaClientException;
+import org.wso2.carbon.identity.captcha.exception.CaptchaServerException;
 import org.wso2.carbon.identity.captcha.internal.CaptchaDataHolder;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
-
+import java.io.OutputStream;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.testng.Assert.assertThrows;
 
@@ -41,6 +52,40 @@ public class CaptchaUtilTest {
 
     private final String RECAPTCHA_API_URL = "https://www.google.com/recaptcha/api/siteverify";
     private final String RECAPTCHA_ENTERPRISE_API_URL = "https://recaptchaenterprise.googleapis.com";
+    private final String STUB_VALID_PATH = "/valid";
+    private final String STUB_INVALID_PATH = "/invalid";
+    private final String STUB_SLOW_PATH = "/slow";
+
+    private HttpServer stubServer;
+    private final AtomicInteger stubRequestCount = new AtomicInteger();
+
+    @BeforeClass
+    public void startStubServer() throws IOException {
+
+        // Local stub of the reCaptcha verification endpoint.
+        stubServer = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        stubServer.createContext(STUB_VALID_PATH, exchange -> {
+            stubRequestCount.incrementAndGet();
+            writeStubResponse(exchange, getReCaptchaJsonObject(true, 0.9).toString());
+        });
+        stubServer.createContext(STUB_INVALID_PATH, exchange ->
+                writeStubResponse(exchange, getReCaptchaJsonObject(false, 0.9).toString()));
+        stubServer.createContext(STUB_SLOW_PATH, exchange -> {
+            try {
+                Thread.sleep(1000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            writeStubResponse(exchange, getReCaptchaJsonObject(true, 0.9).toString());
+        });
+        stubServer.start();
+    }
+
+    @AfterClass
+    public void stopStubServer() {
+
+        stubServer.stop(0);
+    }
 
     @BeforeMethod
     public void setUp() {
@@ -48,6 +93,33 @@ public class CaptchaUtilTest {
         MockitoAnnotations.openMocks(this);
     }
 
+    @AfterMethod
+    public void tearDown() {
+
+        CaptchaUtil.closeReCaptchaHttpClient();
+        CaptchaDataHolder.getInstance().setReCaptchaHttpClientSocketTimeout(
+                CaptchaConstants.RE_CAPTCHA_HTTP_CLIENT_DEFAULT_SOCKET_TIMEOUT);
+    }
+
+    private void writeStubResponse(HttpExchange exchange, String body) throws IOException {
+
+        byte[] response = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, response.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(response);
+        }
+    }
+
+    private void setStubVerifyUrl(String path) {
+
+        CaptchaDataHolder.getInstance().setReCaptchaType(null);
+        CaptchaDataHolder.getInstance().setReCaptchaSecretKey("dummyKey");
+        CaptchaDataHolder.getInstance().setReCaptchaScoreThreshold(CaptchaConstants.CAPTCHA_V3_DEFAULT_THRESHOLD);
+        CaptchaDataHolder.getInstance().setReCaptchaVerifyUrl("http://localhost:" +
+                stubServer.getAddress().getPort() + path);
+    }
+
     private Method getCreateReCaptchaEnterpriseVerificationHttpPostMethod() throws NoSuchMethodException {
 
         Method method = CaptchaUtil.class.getDeclaredMethod("createReCaptchaEnterpriseVerificationHttpPost",
@@ -222,4 +294,40 @@ public class CaptchaUtilTest {
         // Verify no exception is thrown for invalid response.
         assertThrows(InvocationTargetException.class, () -> method.invoke(null, httpEntity));
     }
+
+    @Test (description = "This method is used to test the isValidCaptcha method against a stub endpoint, " +
+            "with valid responses")
+    public void testIsValidCaptchaWithValidResponse() throws Exception {
+
+        setStubVerifyUrl(STUB_VALID_PATH);
+        int initialRequestCount = stubRequestCount.get();
+        // Verify that the pooled connections are released after each verification.
+        CaptchaDataHolder.getInstance().setReCaptchaHttpClientMaxConnections(1);
+        try {
+            for (int i = 0; i < 5; i++) {
+                Assert.assertTrue(CaptchaUtil.isValidCaptcha("reCaptchaResponse"));
+            }
+        } finally {
+            CaptchaDataHolder.getInstance().setReCaptchaHttpClientMaxConnections(
+                    CaptchaConstants.RE_CAPTCHA_HTTP_CLIENT_DEFAULT_MAX_CONNECTIONS);
+        }
+        Assert.assertEquals(stubRequestCount.get() - initialRequestCount, 5);
+    }
+
+    @Test (description = "This method is used to test the isValidCaptcha method against a stub endpoint, " +
+            "with invalid response")
+    public void testIsValidCaptchaWithInvalidResponse() {
+
+        setStubVerifyUrl(STUB_INVALID_PATH);
+        assertThrows(CaptchaClientException.class, () -> CaptchaUtil.isValidCaptcha("reCaptchaResponse"));
+    }
+
+    @Test (description = "This method is used to test the isValidCaptcha method against a stub endpoint, " +
+            "which does not respond within the socket timeout")
+    public void testIsValidCaptchaWithSocketTimeout() {
+
+        setStubVerifyUrl(STUB_SLOW_PATH);
+        CaptchaDataHolder.getInstance().setReCaptchaHttpClientSocketTimeout(100);
+        assertThrows(CaptchaServerException.class, () -> CaptchaUtil.isValidCaptcha("reCaptchaResponse"));
+    }
 }
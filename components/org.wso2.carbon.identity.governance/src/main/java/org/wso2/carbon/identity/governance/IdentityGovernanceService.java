@@ -16,9 +16,11 @@
 
 package org.wso2.carbon.identity.governance;
 
+import org.wso2.carbon.identity.application.common.model.IdentityProviderProperty;
 import org.wso2.carbon.identity.application.common.model.Property;
 import org.wso2.carbon.identity.governance.bean.ConnectorConfig;
 import org.wso2.carbon.identity.governance.common.IdentityConnectorConfig;
+import org.wso2.carbon.identity.governance.model.GovernanceConfigSnapshot;
 
 import java.util.List;
 import java.util.Map;
@@ -50,6 +52,30 @@ public interface IdentityGovernanceService {
      */
     Property[] getConfiguration(String[] propertyNames, String tenantDomain) throws IdentityGovernanceException;
 
+    /**
+     * Get the compiled, immutable configuration snapshot of a tenant. The snapshot is shared between callers and
+     * is replaced when the configurations of the tenant are updated.
+     *
+     * @param tenantDomain tenant domain of the connectors
+     * @return configuration snapshot of the tenant
+     * @throws IdentityGovernanceException
+     */
+    default GovernanceConfigSnapshot getConfigurationSnapshot(String tenantDomain)
+            throws IdentityGovernanceException {
+
+        Property[] properties = getConfiguration(tenantDomain);
+        IdentityProviderProperty[] identityMgtProperties = new IdentityProviderProperty[properties.length];
+        for (int i = 0; i < properties.length; i++) {
+            if (properties[i] == null) {
+                continue;
+            }
+            identityMgtProperties[i] = new IdentityProviderProperty();
+            identityMgtProperties[i].setName(properties[i].getName());
+            identityMgtProperties[i].setValue(properties[i].getValue());
+        }
+        return GovernanceConfigSnapshot.build(identityMgtProperties);
+    }
+
     /**
      * Get the governance connector list.
      *
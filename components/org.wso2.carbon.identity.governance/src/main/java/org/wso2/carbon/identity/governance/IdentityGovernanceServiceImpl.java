@@ -24,10 +24,13 @@ import org.wso2.carbon.identity.application.common.model.IdentityProvider;
 import org.wso2.carbon.identity.application.common.model.IdentityProviderProperty;
 import org.wso2.carbon.identity.application.common.model.Property;
 import org.wso2.carbon.identity.application.common.util.IdentityApplicationConstants;
-import org.wso2.carbon.identity.event.IdentityEventConstants;
+import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
 import org.wso2.carbon.identity.governance.bean.ConnectorConfig;
 import org.wso2.carbon.identity.governance.common.IdentityConnectorConfig;
 import org.wso2.carbon.identity.governance.internal.IdentityMgtServiceDataHolder;
+import org.wso2.carbon.identity.governance.internal.cache.IdentityGovernanceConfigCache;
+import org.wso2.carbon.identity.governance.internal.cache.IdentityGovernanceConfigCacheKey;
+import org.wso2.carbon.identity.governance.model.GovernanceConfigSnapshot;
 import org.wso2.carbon.idp.mgt.IdentityProviderManagementException;
 import org.wso2.carbon.idp.mgt.IdpManager;
 
@@ -35,6 +38,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Class which contains exposed identity governance services.
@@ -46,6 +50,13 @@ public class IdentityGovernanceServiceImpl implements IdentityGovernanceService
     public static final String EMAIL_OTP_USE_ALPHANUMERIC_CHARS = "EmailOTP.UseAlphanumericChars";
     public static final String EMAIL_OTP_USE_NUMERIC_CHARS = "EmailOTP.OtpRegex.UseNumericChars";
 
+    /*
+    Incremented whenever the configurations of a tenant are updated or the cached snapshot is cleared. A reader only
+    caches the snapshot it built if the version did not change while it was reading the resident IdP, so that a read
+    racing an update does not put a stale snapshot back into the cache.
+    */
+    private static final AtomicLong snapshotVersion = new AtomicLong();
+
     public void updateConfiguration(String tenantDomain, Map<String, String> configurationDetails)
             throws IdentityGovernanceException {
 
@@ -75,7 +86,9 @@ public class IdentityGovernanceServiceImpl implements IdentityGovernanceService
                 newProperties.add(prop);
             }
 
-            residentIdp.setIdpProperties(newProperties.toArray(new IdentityProviderProperty[newProperties.size()]));
+            IdentityProviderProperty[] updatedProperties =
+                    newProperties.toArray(new IdentityProviderProperty[newProperties.size()]);
+            residentIdp.setIdpProperties(updatedProperties);
             FederatedAuthenticatorConfig[] authenticatorConfigs = residentIdp.getFederatedAuthenticatorConfigs();
             List<FederatedAuthenticatorConfig> configsToSave = new ArrayList<>();
             for (FederatedAuthenticatorConfig authenticatorConfig : authenticatorConfigs) {
@@ -88,6 +101,9 @@ public class IdentityGovernanceServiceImpl implements IdentityGovernanceService
             residentIdp.setFederatedAuthenticatorConfigs(configsToSave.toArray(new
                     FederatedAuthenticatorConfig[configsToSave.size()]));
             identityProviderManager.updateResidentIdP(residentIdp, tenantDomain);
+            // Rebuild the compiled snapshot from the persisted resident IdP, so that it matches what is stored.
+            clearConfigurationSnapshot(tenantDomain);
+            getConfigurationSnapshot(tenantDomain);
         } catch (IdentityProviderManagementException e) {
             log.error("Error while updating identityManagement Properties of Resident Idp.", e);
         }
@@ -97,30 +113,7 @@ public class IdentityGovernanceServiceImpl implements IdentityGovernanceService
     @Override
     public Property[] getConfiguration(String tenantDomain) throws IdentityGovernanceException {
 
-        IdpManager identityProviderManager = IdentityMgtServiceDataHolder.getInstance().getIdpManager();
-        IdentityProvider residentIdp = null;
-        try {
-            residentIdp = identityProviderManager.getResidentIdP(tenantDomain);
-        } catch (IdentityProviderManagementException e) {
-            String errorMsg = String.format("Error while retrieving resident Idp for %s tenant.", tenantDomain);
-            throw new IdentityGovernanceException(errorMsg, e);
-        }
-        IdentityProviderProperty[] identityMgtProperties = residentIdp.getIdpProperties();
-        Property[] configMap = new Property[identityMgtProperties.length];
-        int index = 0;
-        for (IdentityProviderProperty identityMgtProperty : identityMgtProperties) {
-            if (IdentityEventConstants.PropertyConfig.ALREADY_WRITTEN_PROPERTY_KEY
-                    .equals(identityMgtProperty.getName())) {
-                continue;
-            }
-            Property property = new Property();
-            property.setName(identityMgtProperty.getName());
-            property.setValue(identityMgtProperty.getValue());
-            configMap[index] = property;
-            index++;
-        }
-
-        return configMap;
+        return getConfigurationSnapshot(tenantDomain).getProperties();
     }
 
     @Override
@@ -128,20 +121,57 @@ public class IdentityGovernanceServiceImpl implements IdentityGovernanceService
             IdentityGovernanceException {
 
         List<Property> requestedProperties = new ArrayList<>();
-        Property[] allProperties = getConfiguration(tenantDomain);
+        GovernanceConfigSnapshot snapshot = getConfigurationSnapshot(tenantDomain);
         for (String propertyName : propertyNames) {
-            for (int i = 0; i < allProperties.length; i++) {
-                if (propertyName.equals(allProperties[i].getName())) {
-                    requestedProperties.add(allProperties[i]);
-                    break;
-                }
+            Property property = snapshot.getProperty(propertyName);
+            if (property != null) {
+                requestedProperties.add(property);
             }
-
         }
         return requestedProperties.toArray(new Property[requestedProperties.size()]);
 
     }
 
+    @Override
+    public GovernanceConfigSnapshot getConfigurationSnapshot(String tenantDomain) throws IdentityGovernanceException {
+
+        IdentityGovernanceConfigCacheKey cacheKey = new IdentityGovernanceConfigCacheKey(tenantDomain);
+        int tenantId = IdentityTenantUtil.getTenantId(tenantDomain);
+        GovernanceConfigSnapshot snapshot = IdentityGovernanceConfigCache.getInstance()
+                .getValueFromCache(cacheKey, tenantId);
+        if (snapshot != null) {
+            return snapshot;
+        }
+
+        long version = snapshotVersion.get();
+        IdpManager identityProviderManager = IdentityMgtServiceDataHolder.getInstance().getIdpManager();
+        IdentityProvider residentIdp;
+        try {
+            residentIdp = identityProviderManager.getResidentIdP(tenantDomain);
+        } catch (IdentityProviderManagementException e) {
+            String errorMsg = String.format("Error while retrieving resident Idp for %s tenant.", tenantDomain);
+            throw new IdentityGovernanceException(errorMsg, e);
+        }
+        snapshot = GovernanceConfigSnapshot.build(residentIdp.getIdpProperties());
+        if (version == snapshotVersion.get()) {
+            IdentityGovernanceConfigCache.getInstance().addToCache(cacheKey, snapshot, tenantId);
+        }
+        return snapshot;
+    }
+
+    /**
+     * Clear the compiled configuration snapshot of a tenant, so that it is rebuilt from the resident IdP on the
+     * next read.
+     *
+     * @param tenantDomain Tenant domain.
+     */
+    public void clearConfigurationSnapshot(String tenantDomain) {
+
+        snapshotVersion.incrementAndGet();
+        IdentityGovernanceConfigCache.getInstance().clearCacheEntry(
+                new IdentityGovernanceConfigCacheKey(tenantDomain), IdentityTenantUtil.getTenantId(tenantDomain));
+    }
+
     public List<IdentityConnectorConfig> getConnectorList() throws IdentityGovernanceException {
 
         return IdentityMgtServiceDataHolder.getInstance().getIdentityGovernanceConnectorList();
@@ -151,7 +181,7 @@ public class IdentityGovernanceServiceImpl implements IdentityGovernanceService
 
         List<IdentityConnectorConfig> list = IdentityMgtServiceDataHolder.getInstance()
                 .getIdentityGovernanceConnectorList();
-        Property[] properties = this.getConfiguration(tenantDomain);
+        GovernanceConfigSnapshot snapshot = getConfigurationSnapshot(tenantDomain);
         List<ConnectorConfig> configs = new ArrayList<>(list.size());
         String[] connectorProperties;
         for (int i = 0; i < list.size(); i++) {
@@ -168,23 +198,22 @@ public class IdentityGovernanceServiceImpl implements IdentityGovernanceService
             connectorProperties = list.get(i).getPropertyNames();
             Property[] configProperties = new Property[connectorProperties.length];
             for (int j = 0; j < connectorProperties.length; j++) {
-                for (Property property : properties) {
-                    if (connectorProperties[j].equals(property.getName())) {
-                        configProperties[j] = property;
-                        String resourceName = configProperties[j].getName();
-                        configProperties[j].setDisplayName(propertyFriendlyNames.get(resourceName));
-                        configProperties[j].setDescription(propertyDescriptions.get(resourceName));
-                        if (metaData != null && metaData.containsKey(resourceName)) {
-                            configProperties[j].setType(metaData.get(resourceName).getType());
-                            configProperties[j].setRegex(metaData.get(resourceName).getRegex());
-                            configProperties[j].setGroupId(metaData.get(resourceName).getGroupId());
-                        }
-                        if (confidentialProperties != null &&
-                                confidentialProperties.contains(configProperties[j].getName())) {
-                            configProperties[j].setConfidential(true);
-                        }
-                        break;
-                    }
+                Property property = snapshot.getProperty(connectorProperties[j]);
+                if (property == null) {
+                    continue;
+                }
+                configProperties[j] = property;
+                String resourceName = configProperties[j].getName();
+                configProperties[j].setDisplayName(propertyFriendlyNames.get(resourceName));
+                configProperties[j].setDescription(propertyDescriptions.get(resourceName));
+                if (metaData != null && metaData.containsKey(resourceName)) {
+                    configProperties[j].setType(metaData.get(resourceName).getType());
+                    configProperties[j].setRegex(metaData.get(resourceName).getRegex());
+                    configProperties[j].setGroupId(metaData.get(resourceName).getGroupId());
+                }
+                if (confidentialProperties != null &&
+                        confidentialProperties.contains(configProperties[j].getName())) {
+                    configProperties[j].setConfidential(true);
                 }
             }
             config.setProperties(configProperties);
@@ -146,6 +146,47 @@ public class IdentityGovernanceUtil {
         return defaultNotificationChannel;
     }
 
+    /**
+     * Reads a numeric property from the identity.xml.
+     *
+     * @param propertyName Name of the property.
+     * @param defaultValue Value used when the property is not configured or is invalid.
+     * @param minValue     Minimum valid value of the property.
+     * @return Configured value of the property, or the default value.
+     */
+    public static long getNumericProperty(String propertyName, long defaultValue, long minValue) {
+
+        return getNumericProperty(propertyName, IdentityUtil.getProperty(propertyName), defaultValue, minValue);
+    }
+
+    /**
+     * Parses the configured value of a numeric property. A value which is not a number, or is out of the range of
+     * [minValue, Integer.MAX_VALUE], is logged and replaced by the default value.
+     *
+     * @param propertyName Name of the property.
+     * @param value        Configured value of the property.
+     * @param defaultValue Value used when the property is not configured or is invalid.
+     * @param minValue     Minimum valid value of the property.
+     * @return Configured value of the property, or the default value.
+     */
+    public static long getNumericProperty(String propertyName, String value, long defaultValue, long minValue) {
+
+        if (StringUtils.isBlank(value)) {
+            return defaultValue;
+        }
+        try {
+            long numericValue = Long.parseLong(value.trim());
+            if (numericValue >= minValue && numericValue <= Integer.MAX_VALUE) {
+                return numericValue;
+            }
+        } catch (NumberFormatException e) {
+            // Handled below, same as an out of range value.
+        }
+        log.warn("Invalid value: " + value + " configured for: " + propertyName + ". Hence using the default value: "
+                + defaultValue);
+        return defaultValue;
+    }
+
     /**
      * Get the meta data property object.
      *
@@ -151,6 +151,12 @@ public class IdentityMgtConstants {
         public static final String EXTENSION_USER_DATA_STORE = "Identity.Mgt.User.Data.Store";
         public static final String EXTENSION_USER_RECOVERY_DATA_STORE = "Identity.Mgt.User.Recovery.Data.Store";
         public static final String NOTIFICATION_LINK_EXPIRE_TIME = "Notification.Expire.Time";
+        // Maintain the typed numeric index of timestamp identity claims.
+        public static final String NUMERIC_CLAIM_INDEX_ENABLE = "IdentityDataStore.NumericClaimIndex.Enable";
+        // Comma separated identity claim URIs kept in the numeric index.
+        public static final String NUMERIC_CLAIM_INDEX_CLAIMS = "IdentityDataStore.NumericClaimIndex.Claims";
+        // Match case-insensitive usernames on the indexed NORMALIZED_USER_NAME column instead of LOWER(USER_NAME).
+        public static final String NORMALIZED_USER_NAME_ENABLE = "IdentityDataStore.NormalizedUserName.Enable";
         private PropertyConfig() {
 
         }
@@ -196,6 +202,9 @@ public class IdentityMgtConstants {
         public static final String UNLOCKING_TIME = "http://wso2.org/claims/identity/unlockTime";
         public static final String ACCOUNT_LOCK = "http://wso2.org/claims/identity/accountLocked";
         public static final String PREFERED_CHANNEL_CLAIM = "http://wso2.org/claims/identity/preferredChannel";
+        public static final String LAST_LOGIN_TIME = "http://wso2.org/claims/identity/lastLogonTime";
+        public static final String LAST_PASSWORD_UPDATE_TIME =
+                "http://wso2.org/claims/identity/lastPasswordUpdateTime";
         private Claim() {
 
         }
@@ -37,10 +37,12 @@ import org.wso2.carbon.identity.governance.internal.service.impl.otp.OTPGenerato
 import org.wso2.carbon.identity.governance.service.IdentityDataStoreService;
 import org.wso2.carbon.identity.governance.service.IdentityDataStoreServiceImpl;
 import org.wso2.carbon.identity.governance.service.notification.NotificationChannelManager;
+import org.wso2.carbon.identity.governance.listener.GovernanceConfigIdPMgtListener;
 import org.wso2.carbon.identity.governance.listener.IdentityMgtEventListener;
 import org.wso2.carbon.identity.governance.listener.IdentityStoreEventListener;
 import org.wso2.carbon.identity.governance.service.otp.OTPGenerator;
 import org.wso2.carbon.idp.mgt.IdpManager;
+import org.wso2.carbon.idp.mgt.listener.IdentityProviderMgtListener;
 import org.wso2.carbon.user.core.listener.UserOperationEventListener;
 import org.wso2.carbon.user.core.service.RealmService;
 
@@ -68,6 +70,8 @@ public class IdentityMgtServiceComponent {
             context.getBundleContext().registerService(IdentityGovernanceService.class, identityGovernanceService,
                     null);
             IdentityMgtServiceDataHolder.getInstance().setIdentityGovernanceService(identityGovernanceService);
+            context.getBundleContext().registerService(IdentityProviderMgtListener.class.getName(),
+                    new GovernanceConfigIdPMgtListener(), null);
             DefaultNotificationChannelManager defaultNotificationChannelManager =
                     new DefaultNotificationChannelManager();
             context.getBundleContext()
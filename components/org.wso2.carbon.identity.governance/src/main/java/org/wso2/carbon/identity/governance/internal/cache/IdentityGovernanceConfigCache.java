@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.governance.internal.cache;
+
+import org.wso2.carbon.identity.core.cache.BaseCache;
+import org.wso2.carbon.identity.governance.model.GovernanceConfigSnapshot;
+
+/**
+ * Cache of the compiled identity governance configurations, per tenant.
+ */
+public class IdentityGovernanceConfigCache
+        extends BaseCache<IdentityGovernanceConfigCacheKey, GovernanceConfigSnapshot> {
+
+    private static final String IDENTITY_GOVERNANCE_CONFIG_CACHE = "IdentityGovernanceConfigCache";
+    private static volatile IdentityGovernanceConfigCache instance;
+
+    public IdentityGovernanceConfigCache() {
+
+        super(IDENTITY_GOVERNANCE_CONFIG_CACHE);
+    }
+
+    public static IdentityGovernanceConfigCache getInstance() {
+
+        if (instance == null) {
+            synchronized (IdentityGovernanceConfigCache.class) {
+                if (instance == null) {
+                    instance = new IdentityGovernanceConfigCache();
+                }
+            }
+        }
+        return instance;
+    }
+}
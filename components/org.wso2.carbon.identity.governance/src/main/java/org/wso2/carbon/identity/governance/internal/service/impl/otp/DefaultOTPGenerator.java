@@ -23,7 +23,7 @@ import org.wso2.carbon.identity.governance.exceptions.otp.OTPGeneratorClientExce
 import org.wso2.carbon.identity.governance.exceptions.otp.OTPGeneratorException;
 import org.wso2.carbon.identity.governance.service.otp.OTPGenerator;
 
-import java.security.SecureRandom;
+import java.util.List;
 
 /**
  * @deprecated
@@ -36,6 +36,9 @@ public class DefaultOTPGenerator implements OTPGenerator {
     private static final String SMS_OTP_GENERATE_ALPHABET_CHAR_SET = "ABCDEFGHIJKLMNOPQRSTUVWXYZ";
     private static final String SMS_OTP_GENERATE_NUMERIC_CHAR_SET = "0123456789";
     private static final String DEFAULT_OTP_GENERATOR = "DefaultOTPGenerator";
+    private static final OTPGeneratorUtil.CharSets CHAR_SETS = new OTPGeneratorUtil.CharSets(
+            SMS_OTP_GENERATE_ALPHABET_CHAR_SET, SMS_OTP_GENERATE_ALPHABET_CHAR_SET.toLowerCase(),
+            SMS_OTP_GENERATE_NUMERIC_CHAR_SET, false);
 
     /**
      * Generates the OTP based on the provided charSet and length.
@@ -49,25 +52,8 @@ public class DefaultOTPGenerator implements OTPGenerator {
     @Override
     public String generateOTP(String charSet, int otpLength, String recoveryScenario) throws OTPGeneratorException {
 
-        if (StringUtils.isBlank(charSet)) {
-            throw new OTPGeneratorClientException(
-                    IdentityMgtConstants.ErrorMessages.ERROR_CODE_INVALID_OTP_CHARACTER_SET.getCode(),
-                    IdentityMgtConstants.ErrorMessages.ERROR_CODE_INVALID_OTP_CHARACTER_SET.getMessage()
-            );
-        }
-        if (otpLength < IdentityMgtConstants.MINIMUM_SMS_OTP_LENGTH) {
-            throw new OTPGeneratorClientException(
-                    IdentityMgtConstants.ErrorMessages.ERROR_CODE_INVALID_OTP_LENGTH.getCode(),
-                    IdentityMgtConstants.ErrorMessages.ERROR_CODE_INVALID_OTP_LENGTH.getMessage()
-            );
-        }
-        SecureRandom secureRandom = new SecureRandom();
-        StringBuilder stringBuilder = new StringBuilder();
-        char[] otpCharacters = charSet.toCharArray();
-        for (int otpCharacterIndex = 0; otpCharacterIndex < otpLength; otpCharacterIndex++) {
-            stringBuilder.append(otpCharacters[secureRandom.nextInt(otpCharacters.length)]);
-        }
-        return stringBuilder.toString();
+        validate(charSet, otpLength);
+        return OTPGeneratorUtil.generateOTP(charSet, otpLength);
     }
 
     /**
@@ -85,22 +71,47 @@ public class DefaultOTPGenerator implements OTPGenerator {
     public String generateOTP(boolean useNumeric, boolean useUppercaseLetters, boolean useLowercaseLetters,
                               int otpLength, String recoveryScenario) throws OTPGeneratorException {
 
-        if (!useNumeric && !useUppercaseLetters && !useLowercaseLetters) {
-            throw new OTPGeneratorClientException(
-                    IdentityMgtConstants.ErrorMessages.ERROR_CODE_INVALID_OTP_CHARACTER_SET.getCode(),
-                    IdentityMgtConstants.ErrorMessages.ERROR_CODE_INVALID_OTP_CHARACTER_SET.getMessage());
-        }
-        StringBuilder charSet = new StringBuilder();
-        if (useUppercaseLetters) {
-            charSet.append(SMS_OTP_GENERATE_ALPHABET_CHAR_SET);
-        }
-        if (useLowercaseLetters) {
-            charSet.append(SMS_OTP_GENERATE_ALPHABET_CHAR_SET.toLowerCase());
-        }
-        if (useNumeric) {
-            charSet.append(SMS_OTP_GENERATE_NUMERIC_CHAR_SET);
-        }
-        return generateOTP(charSet.toString(), otpLength, recoveryScenario);
+        return generateOTP(getCharSet(useNumeric, useUppercaseLetters, useLowercaseLetters), otpLength,
+                recoveryScenario);
+    }
+
+    /**
+     * Generates the given number of OTPs based on the provided charSet and length.
+     *
+     * @param charSet                Character set allowed for OTP.
+     * @param otpLength              Length of OTP.
+     * @param count                  Number of OTPs.
+     * @param recoveryScenario       Recovery Scenario.
+     * @return List                  Values of OTP strings.
+     * @throws OTPGeneratorException OTP Generator Exception.
+     */
+    @Override
+    public List<String> generateOTPs(String charSet, int otpLength, int count, String recoveryScenario)
+            throws OTPGeneratorException {
+
+        validate(charSet, otpLength);
+        return OTPGeneratorUtil.generateOTPs(charSet, otpLength, count);
+    }
+
+    /**
+     * Generates the given number of OTPs based on the OTP properties.
+     *
+     * @param useNumeric             Whether numeric values should be used.
+     * @param useUppercaseLetters    Whether upper case letters should be used.
+     * @param useLowercaseLetters    Whether lower case letters should be used.
+     * @param otpLength              Length of OTP.
+     * @param count                  Number of OTPs.
+     * @param recoveryScenario       Recovery Scenario.
+     * @return List                  Values of OTP strings.
+     * @throws OTPGeneratorException OTP Generator Exception.
+     */
+    @Override
+    public List<String> generateOTPs(boolean useNumeric, boolean useUppercaseLetters, boolean useLowercaseLetters,
+                                     int otpLength, int count, String recoveryScenario)
+            throws OTPGeneratorException {
+
+        return generateOTPs(getCharSet(useNumeric, useUppercaseLetters, useLowercaseLetters), otpLength, count,
+                recoveryScenario);
     }
 
     /**
@@ -111,4 +122,31 @@ public class DefaultOTPGenerator implements OTPGenerator {
 
         return DEFAULT_OTP_GENERATOR;
     }
+
+    private String getCharSet(boolean useNumeric, boolean useUppercaseLetters, boolean useLowercaseLetters)
+            throws OTPGeneratorClientException {
+
+        if (!useNumeric && !useUppercaseLetters && !useLowercaseLetters) {
+            throw new OTPGeneratorClientException(
+                    IdentityMgtConstants.ErrorMessages.ERROR_CODE_INVALID_OTP_CHARACTER_SET.getCode(),
+                    IdentityMgtConstants.ErrorMessages.ERROR_CODE_INVALID_OTP_CHARACTER_SET.getMessage());
+        }
+        return CHAR_SETS.get(useNumeric, useUppercaseLetters, useLowercaseLetters);
+    }
+
+    private void validate(String charSet, int otpLength) throws OTPGeneratorClientException {
+
+        if (StringUtils.isBlank(charSet)) {
+            throw new OTPGeneratorClientException(
+                    IdentityMgtConstants.ErrorMessages.ERROR_CODE_INVALID_OTP_CHARACTER_SET.getCode(),
+                    IdentityMgtConstants.ErrorMessages.ERROR_CODE_INVALID_OTP_CHARACTER_SET.getMessage()
+            );
+        }
+        if (otpLength < IdentityMgtConstants.MINIMUM_SMS_OTP_LENGTH) {
+            throw new OTPGeneratorClientException(
+                    IdentityMgtConstants.ErrorMessages.ERROR_CODE_INVALID_OTP_LENGTH.getCode(),
+                    IdentityMgtConstants.ErrorMessages.ERROR_CODE_INVALID_OTP_LENGTH.getMessage()
+            );
+        }
+    }
 }
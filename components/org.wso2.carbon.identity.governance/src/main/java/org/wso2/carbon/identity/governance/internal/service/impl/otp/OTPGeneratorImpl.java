@@ -23,7 +23,7 @@ import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.identity.governance.IdentityMgtConstants;
 import org.wso2.carbon.identity.governance.service.otp.OTPGenerator;
 
-import java.security.SecureRandom;
+import java.util.List;
 
 /**
  * Default class to generate OTP.
@@ -32,6 +32,10 @@ public class OTPGeneratorImpl implements OTPGenerator {
 
     private static final Log log = LogFactory.getLog(OTPGeneratorImpl.class);
     private static final String OTP_GENERATOR_IMPL = "OTPGeneratorImpl";
+    private static final OTPGeneratorUtil.CharSets CHAR_SETS = new OTPGeneratorUtil.CharSets(
+            IdentityMgtConstants.OTPGeneratorConstants.OTP_GENERATE_ALPHABET_CHAR_SET_UPPERCASE,
+            IdentityMgtConstants.OTPGeneratorConstants.OTP_GENERATE_ALPHABET_CHAR_SET_LOWERCASE,
+            IdentityMgtConstants.OTPGeneratorConstants.OTP_GENERATE_NUMERIC_CHAR_SET_WITH_ZERO, true);
 
     /**
      * Generate the OTP according to given length and pattern. If pattern is not defined default pattern will be used.
@@ -48,37 +52,8 @@ public class OTPGeneratorImpl implements OTPGenerator {
     public String generateOTP(boolean useNumeric, boolean useUppercaseLetters, boolean useLowercaseLetters,
                               int otpLength, String recoveryScenario) {
 
-        if (otpLength < IdentityMgtConstants.OTPGeneratorConstants.OTP_CODE_MIN_LENGTH ||
-                otpLength > IdentityMgtConstants.OTPGeneratorConstants.OTP_CODE_MAX_LENGTH) {
-            otpLength = IdentityMgtConstants.OTPGeneratorConstants.OTP_CODE_DEFAULT_LENGTH;
-            if (log.isDebugEnabled()) {
-                log.debug("Configured OTP length is not in the range of " +
-                        IdentityMgtConstants.OTPGeneratorConstants.OTP_CODE_MIN_LENGTH + "-" +
-                        IdentityMgtConstants.OTPGeneratorConstants.OTP_CODE_MAX_LENGTH + ". Hence using default length for OTP");
-            }
-        }
-        StringBuilder charSet = new StringBuilder();
-        if (!useNumeric && !useUppercaseLetters && !useLowercaseLetters) {
-            charSet.append(IdentityMgtConstants.OTPGeneratorConstants.OTP_GENERATE_ALPHABET_CHAR_SET_UPPERCASE);
-            charSet.append(IdentityMgtConstants.OTPGeneratorConstants.OTP_GENERATE_ALPHABET_CHAR_SET_LOWERCASE);
-            charSet.append(IdentityMgtConstants.OTPGeneratorConstants.OTP_GENERATE_NUMERIC_CHAR_SET_WITHOUT_ZERO);
-            return generateOTP(charSet.toString(), otpLength, recoveryScenario);
-        }
-        if (useUppercaseLetters) {
-            charSet.append(IdentityMgtConstants.OTPGeneratorConstants.OTP_GENERATE_ALPHABET_CHAR_SET_UPPERCASE);
-        }
-        if (useLowercaseLetters) {
-            charSet.append(IdentityMgtConstants.OTPGeneratorConstants.OTP_GENERATE_ALPHABET_CHAR_SET_LOWERCASE);
-        }
-        if (useNumeric) {
-            if (useUppercaseLetters || useLowercaseLetters) {
-                charSet.append(IdentityMgtConstants.OTPGeneratorConstants.OTP_GENERATE_NUMERIC_CHAR_SET_WITHOUT_ZERO);
-            } else {
-                charSet.append(IdentityMgtConstants.OTPGeneratorConstants.OTP_GENERATE_NUMERIC_CHAR_SET_WITH_ZERO);
-            }
-
-        }
-        return generateOTP(charSet.toString(), otpLength, recoveryScenario);
+        return generateOTP(getCharSet(useNumeric, useUppercaseLetters, useLowercaseLetters),
+                getOTPLength(otpLength), recoveryScenario);
     }
 
     /**
@@ -92,13 +67,42 @@ public class OTPGeneratorImpl implements OTPGenerator {
     @Override
     public String generateOTP(String charSet, int otpLength, String recoveryScenario) {
 
-        SecureRandom secureRandom = new SecureRandom();
-        StringBuilder stringBuilder = new StringBuilder();
-        char[] otpCharacters = charSet.toCharArray();
-        for (int otpCharacterIndex = 0; otpCharacterIndex < otpLength; otpCharacterIndex++) {
-            stringBuilder.append(otpCharacters[secureRandom.nextInt(otpCharacters.length)]);
-        }
-        return stringBuilder.toString();
+        return OTPGeneratorUtil.generateOTP(charSet, otpLength);
+    }
+
+    /**
+     * Generate the given number of OTPs according to given length and pattern. If pattern is not defined default
+     * pattern will be used.
+     *
+     * @param useNumeric          Whether numeric characters should be used for OTP.
+     * @param useUppercaseLetters Whether uppercase characters should be used for OTP.
+     * @param useLowercaseLetters Whether lowercase characters should be used for OTP.
+     * @param otpLength           OTP length.
+     * @param count               Number of OTPs.
+     * @param recoveryScenario    Recovery scenario.
+     * @return Values of OTP strings.
+     */
+    @Override
+    public List<String> generateOTPs(boolean useNumeric, boolean useUppercaseLetters, boolean useLowercaseLetters,
+                                     int otpLength, int count, String recoveryScenario) {
+
+        return generateOTPs(getCharSet(useNumeric, useUppercaseLetters, useLowercaseLetters), getOTPLength(otpLength),
+                count, recoveryScenario);
+    }
+
+    /**
+     * Generates the given number of OTPs based on the provided charSet and length.
+     *
+     * @param charSet          Character set allowed for OTP.
+     * @param otpLength        Length of OTP.
+     * @param count            Number of OTPs.
+     * @param recoveryScenario Recovery Scenario.
+     * @return Values of OTP strings.
+     */
+    @Override
+    public List<String> generateOTPs(String charSet, int otpLength, int count, String recoveryScenario) {
+
+        return OTPGeneratorUtil.generateOTPs(charSet, otpLength, count);
     }
 
     /**
@@ -109,4 +113,28 @@ public class OTPGeneratorImpl implements OTPGenerator {
 
         return OTP_GENERATOR_IMPL;
     }
+
+    private String getCharSet(boolean useNumeric, boolean useUppercaseLetters, boolean useLowercaseLetters) {
+
+        if (!useNumeric && !useUppercaseLetters && !useLowercaseLetters) {
+            // If no character type is selected, all three types are used.
+            return CHAR_SETS.get(true, true, true);
+        }
+        return CHAR_SETS.get(useNumeric, useUppercaseLetters, useLowercaseLetters);
+    }
+
+    private int getOTPLength(int otpLength) {
+
+        if (otpLength < IdentityMgtConstants.OTPGeneratorConstants.OTP_CODE_MIN_LENGTH ||
+                otpLength > IdentityMgtConstants.OTPGeneratorConstants.OTP_CODE_MAX_LENGTH) {
+            if (log.isDebugEnabled()) {
+                log.debug("Configured OTP length is not in the range of " +
+                        IdentityMgtConstants.OTPGeneratorConstants.OTP_CODE_MIN_LENGTH + "-" +
+                        IdentityMgtConstants.OTPGeneratorConstants.OTP_CODE_MAX_LENGTH +
+                        ". Hence using default length for OTP");
+            }
+            return IdentityMgtConstants.OTPGeneratorConstants.OTP_CODE_DEFAULT_LENGTH;
+        }
+        return otpLength;
+    }
 }
@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.governance.internal.service.impl.otp;
+
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Utilities shared by the OTP generators.
+ */
+final class OTPGeneratorUtil {
+
+    private static final String RANDOM_ALG_DRBG = "DRBG";
+    private static volatile SecureRandom secureRandom;
+
+    private OTPGeneratorUtil() {
+
+    }
+
+    /**
+     * Generate an OTP of the given length from the characters of the given alphabet.
+     *
+     * @param alphabet  Characters allowed for the OTP.
+     * @param otpLength Length of the OTP.
+     * @return Value of the OTP.
+     */
+    static String generateOTP(String alphabet, int otpLength) {
+
+        return generateOTP(getSecureRandom(), alphabet, otpLength);
+    }
+
+    /**
+     * Generate the given number of OTPs of the given length from the characters of the given alphabet.
+     *
+     * @param alphabet  Characters allowed for the OTPs.
+     * @param otpLength Length of an OTP.
+     * @param count     Number of OTPs.
+     * @return Values of the OTPs.
+     */
+    static List<String> generateOTPs(String alphabet, int otpLength, int count) {
+
+        SecureRandom secureRandom = getSecureRandom();
+        List<String> otps = new ArrayList<>(Math.max(count, 0));
+        for (int i = 0; i < count; i++) {
+            otps.add(generateOTP(secureRandom, alphabet, otpLength));
+        }
+        return otps;
+    }
+
+    /**
+     * Get the shared DRBG SecureRandom instance. SecureRandom is thread safe, hence a single instance is created and
+     * reused for all the OTPs instead of instantiating and seeding a new one per OTP.
+     *
+     * @return SecureRandom instance.
+     */
+    private static SecureRandom getSecureRandom() {
+
+        if (secureRandom == null) {
+            synchronized (OTPGeneratorUtil.class) {
+                if (secureRandom == null) {
+                    try {
+                        secureRandom = SecureRandom.getInstance(RANDOM_ALG_DRBG);
+                    } catch (NoSuchAlgorithmException e) {
+                        throw new RuntimeException("DRBG algorithm could not be found.");
+                    }
+                }
+            }
+        }
+        return secureRandom;
+    }
+
+    /**
+     * Character sets of the combinations of the OTP character types, built once from the alphabets of a generator.
+     */
+    static final class CharSets {
+
+        private static final int UPPERCASE_LETTERS = 1;
+        private static final int LOWERCASE_LETTERS = 2;
+        private static final int NUMERIC = 4;
+
+        // Indexed by the bits of the selected character types.
+        private final String[] charSets = new String[(UPPERCASE_LETTERS | LOWERCASE_LETTERS | NUMERIC) + 1];
+
+        /**
+         * Build the character sets from the alphabets of a generator.
+         *
+         * @param uppercaseLetters Alphabet of the uppercase letters.
+         * @param lowercaseLetters Alphabet of the lowercase letters.
+         * @param numerics         Alphabet of the numerics.
+         * @param dropZeroIfMixed  Whether zero is dropped from the numerics when they are combined with letters.
+         */
+        CharSets(String uppercaseLetters, String lowercaseLetters, String numerics, boolean dropZeroIfMixed) {
+
+            for (int characterTypes = 1; characterTypes < charSets.length; characterTypes++) {
+                StringBuilder charSet = new StringBuilder();
+                if ((characterTypes & UPPERCASE_LETTERS) != 0) {
+                    charSet.append(uppercaseLetters);
+                }
+                if ((characterTypes & LOWERCASE_LETTERS) != 0) {
+                    charSet.append(lowercaseLetters);
+                }
+                if ((characterTypes & NUMERIC) != 0) {
+                    charSet.append(dropZeroIfMixed && characterTypes != NUMERIC ? numerics.replace("0", "") :
+                            numerics);
+                }
+                charSets[characterTypes] = charSet.toString();
+            }
+        }
+
+        /**
+         * Get the character set of the selected character types.
+         *
+         * @return Character set, or null if no character type is selected.
+         */
+        String get(boolean useNumeric, boolean useUppercaseLetters, boolean useLowercaseLetters) {
+
+            return charSets[(useUppercaseLetters ? UPPERCASE_LETTERS : 0) |
+                    (useLowercaseLetters ? LOWERCASE_LETTERS : 0) | (useNumeric ? NUMERIC : 0)];
+        }
+    }
+
+    private static String generateOTP(SecureRandom secureRandom, String alphabet, int otpLength) {
+
+        char[] otp = new char[otpLength];
+        int alphabetLength = alphabet.length();
+        for (int otpCharacterIndex = 0; otpCharacterIndex < otpLength; otpCharacterIndex++) {
+            otp[otpCharacterIndex] = alphabet.charAt(secureRandom.nextInt(alphabetLength));
+        }
+        return new String(otp);
+    }
+}
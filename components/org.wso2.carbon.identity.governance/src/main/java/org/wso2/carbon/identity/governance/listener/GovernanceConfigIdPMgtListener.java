@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.governance.listener;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.application.common.model.IdentityProvider;
+import org.wso2.carbon.identity.governance.IdentityGovernanceServiceImpl;
+import org.wso2.carbon.identity.governance.internal.IdentityMgtServiceDataHolder;
+import org.wso2.carbon.idp.mgt.IdentityProviderManagementException;
+import org.wso2.carbon.idp.mgt.listener.AbstractIdentityProviderMgtListener;
+
+/**
+ * Identity provider management listener which drops the compiled governance configuration snapshot of a tenant
+ * when its resident identity provider is updated outside the identity governance service.
+ */
+public class GovernanceConfigIdPMgtListener extends AbstractIdentityProviderMgtListener {
+
+    private static final Log log = LogFactory.getLog(GovernanceConfigIdPMgtListener.class);
+
+    @Override
+    public int getDefaultOrderId() {
+
+        return 10;
+    }
+
+    @Override
+    public boolean doPostUpdateResidentIdP(IdentityProvider identityProvider, String tenantDomain)
+            throws IdentityProviderManagementException {
+
+        IdentityGovernanceServiceImpl identityGovernanceService =
+                IdentityMgtServiceDataHolder.getInstance().getIdentityGovernanceService();
+        if (identityGovernanceService != null) {
+            if (log.isDebugEnabled()) {
+                log.debug("Clearing the governance configuration snapshot of tenant: " + tenantDomain);
+            }
+            identityGovernanceService.clearConfigurationSnapshot(tenantDomain);
+        }
+        return true;
+    }
+}
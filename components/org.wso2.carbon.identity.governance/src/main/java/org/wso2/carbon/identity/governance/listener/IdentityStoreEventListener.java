@@ -680,6 +680,8 @@ public class IdentityStoreEventListener extends AbstractIdentityUserOperationEve
             return true;
         }
 
+        // Group the entries by the user store domain so that identity data of each user store is loaded in bulk.
+        Map<String, List<UserClaimSearchEntry>> entriesOfDomains = new HashMap<>();
         for (UserClaimSearchEntry userClaimSearchEntry : userClaimSearchEntries) {
 
             String username = userClaimSearchEntry.getUserName();
@@ -691,46 +693,61 @@ public class IdentityStoreEventListener extends AbstractIdentityUserOperationEve
                 }
                 continue;
             }
+            entriesOfDomains.computeIfAbsent(UserCoreUtil.extractDomainFromName(username), k -> new ArrayList<>())
+                    .add(userClaimSearchEntry);
+        }
+
+        for (Map.Entry<String, List<UserClaimSearchEntry>> entriesOfDomain : entriesOfDomains.entrySet()) {
+
+            UserStoreManager secondaryUserStoreManager =
+                    userStoreManager.getSecondaryUserStoreManager(entriesOfDomain.getKey());
 
             // No need to separately handle if identity data store is user store based for the users' userstore domain.
-            if (isStoreIdentityClaimsInUserStoreEnabled(userStoreManager
-                    .getSecondaryUserStoreManager(UserCoreUtil.extractDomainFromName(username)))) {
+            if (isStoreIdentityClaimsInUserStoreEnabled(secondaryUserStoreManager)) {
                 continue;
             }
 
-            if (log.isDebugEnabled()) {
-                log.debug("Method doPostGetUsersClaimValues getting executed in the IdentityStoreEventListener for " +
-                        "user: " + username);
-            }
+            List<String> usernames = new ArrayList<>();
+            for (UserClaimSearchEntry userClaimSearchEntry : entriesOfDomain.getValue()) {
+                String username = userClaimSearchEntry.getUserName();
+                if (log.isDebugEnabled()) {
+                    log.debug("Method doPostGetUsersClaimValues getting executed in the IdentityStoreEventListener " +
+                            "for user: " + username);
+                }
 
-            if (userClaimSearchEntry.getClaims() == null) {
-                userClaimSearchEntry.setClaims(new HashMap<String, String>());
-            }
+                if (userClaimSearchEntry.getClaims() == null) {
+                    userClaimSearchEntry.setClaims(new HashMap<String, String>());
+                }
 
-            if (!isHybridDataStoreEnable) {
-                /*
-                If hybrid data store is disabled, we need to use the identity claim value only from the identity data
-                store. Hence, we need to remove the identity claim values from the claimMap to avoid use of values from
-                user store for identity claims.
-                 */
-                userClaimSearchEntry.getClaims().entrySet().removeIf(
-                        entry -> entry.getKey().contains(UserCoreConstants.ClaimTypeURIs.IDENTITY_CLAIM_URI_PREFIX));
+                if (!isHybridDataStoreEnable) {
+                    /*
+                    If hybrid data store is disabled, we need to use the identity claim value only from the identity
+                    data store. Hence, we need to remove the identity claim values from the claimMap to avoid use of
+                    values from user store for identity claims.
+                     */
+                    userClaimSearchEntry.getClaims().entrySet().removeIf(
+                            entry -> entry.getKey().contains(UserCoreConstants.ClaimTypeURIs.IDENTITY_CLAIM_URI_PREFIX));
+                }
+                usernames.add(username);
             }
 
-            // There is/are identity claim/s load the dto.
-            UserIdentityClaim identityDTO = identityDataStoreService
-                    .getIdentityClaimData(userClaimSearchEntry.getUserName(), userStoreManager
-                    .getSecondaryUserStoreManager(UserCoreUtil.extractDomainFromName(username)));
+            // There is/are identity claim/s load the dtos of the users of the domain at once.
+            Map<String, UserIdentityClaim> identityDTOs = identityDataStoreService
+                    .getIdentityClaimDataOfUsers(usernames, secondaryUserStoreManager);
 
-            // If no user identity data found, just continue.
-            if (identityDTO == null) {
-                continue;
-            }
+            for (UserClaimSearchEntry userClaimSearchEntry : entriesOfDomain.getValue()) {
+                UserIdentityClaim identityDTO = identityDTOs.get(userClaimSearchEntry.getUserName());
 
-            // Data found, add the values for security questions and identity claims.
-            for (String claim : claims) {
-                if (identityDTO.getUserIdentityDataMap().containsKey(claim)) {
-                    userClaimSearchEntry.getClaims().put(claim, identityDTO.getUserIdentityDataMap().get(claim));
+                // If no user identity data found, just continue.
+                if (identityDTO == null) {
+                    continue;
+                }
+
+                // Data found, add the values for security questions and identity claims.
+                for (String claim : claims) {
+                    if (identityDTO.getUserIdentityDataMap().containsKey(claim)) {
+                        userClaimSearchEntry.getClaims().put(claim, identityDTO.getUserIdentityDataMap().get(claim));
+                    }
                 }
             }
         }
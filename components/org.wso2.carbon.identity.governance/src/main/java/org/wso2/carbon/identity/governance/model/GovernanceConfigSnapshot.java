@@ -0,0 +1,193 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.governance.model;
+
+import org.apache.commons.lang.StringUtils;
+import org.wso2.carbon.identity.application.common.model.IdentityProviderProperty;
+import org.wso2.carbon.identity.application.common.model.Property;
+import org.wso2.carbon.identity.event.IdentityEventConstants;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable view of the identity governance configurations of a tenant. The snapshot is compiled once from the
+ * resident identity provider properties and indexes the values by property name, together with the boolean and
+ * integer interpretations of each value, so that handlers can read a configuration without copying the whole
+ * resident identity provider.
+ */
+public class GovernanceConfigSnapshot implements Serializable {
+
+    private static final long serialVersionUID = -3846296130557519384L;
+
+    private final Map<String, String> properties;
+    private final Map<String, Boolean> booleanProperties;
+    private final Map<String, Integer> intProperties;
+
+    private GovernanceConfigSnapshot(Map<String, String> properties) {
+
+        Map<String, Boolean> booleans = new HashMap<>();
+        Map<String, Integer> ints = new HashMap<>();
+        for (Map.Entry<String, String> entry : properties.entrySet()) {
+            String value = StringUtils.trim(entry.getValue());
+            if (Boolean.TRUE.toString().equalsIgnoreCase(value) || Boolean.FALSE.toString().equalsIgnoreCase(value)) {
+                booleans.put(entry.getKey(), Boolean.valueOf(value));
+            } else if (StringUtils.isNotEmpty(value) && isInteger(value)) {
+                ints.put(entry.getKey(), Integer.valueOf(value));
+            }
+        }
+        this.properties = Collections.unmodifiableMap(properties);
+        this.booleanProperties = Collections.unmodifiableMap(booleans);
+        this.intProperties = Collections.unmodifiableMap(ints);
+    }
+
+    /**
+     * Compile a snapshot from the properties of the resident identity provider.
+     *
+     * @param identityMgtProperties Resident identity provider properties.
+     * @return Configuration snapshot.
+     */
+    public static GovernanceConfigSnapshot build(IdentityProviderProperty[] identityMgtProperties) {
+
+        Map<String, String> properties = new LinkedHashMap<>();
+        if (identityMgtProperties != null) {
+            for (IdentityProviderProperty identityMgtProperty : identityMgtProperties) {
+                if (identityMgtProperty == null || IdentityEventConstants.PropertyConfig.ALREADY_WRITTEN_PROPERTY_KEY
+                        .equals(identityMgtProperty.getName())) {
+                    continue;
+                }
+                // Keep the first occurrence to match the lookup order of the resident IdP property array.
+                if (!properties.containsKey(identityMgtProperty.getName())) {
+                    properties.put(identityMgtProperty.getName(), identityMgtProperty.getValue());
+                }
+            }
+        }
+        return new GovernanceConfigSnapshot(properties);
+    }
+
+    /**
+     * Check whether a configuration is available in the snapshot.
+     *
+     * @param name Property name.
+     * @return True if the property is configured.
+     */
+    public boolean contains(String name) {
+
+        return properties.containsKey(name);
+    }
+
+    /**
+     * Get the raw value of a configuration.
+     *
+     * @param name Property name.
+     * @return Property value or null if the property is not configured.
+     */
+    public String getValue(String name) {
+
+        return properties.get(name);
+    }
+
+    /**
+     * Get the boolean value of a configuration.
+     *
+     * @param name         Property name.
+     * @param defaultValue Value returned when the property is not configured or is not a boolean.
+     * @return Boolean value of the property.
+     */
+    public boolean getBoolean(String name, boolean defaultValue) {
+
+        Boolean value = booleanProperties.get(name);
+        return value == null ? defaultValue : value;
+    }
+
+    /**
+     * Get the integer value of a configuration.
+     *
+     * @param name         Property name.
+     * @param defaultValue Value returned when the property is not configured or is not an integer.
+     * @return Integer value of the property.
+     */
+    public int getInt(String name, int defaultValue) {
+
+        Integer value = intProperties.get(name);
+        return value == null ? defaultValue : value;
+    }
+
+    /**
+     * Get an unmodifiable view of all the configurations, in the order of the resident identity provider.
+     *
+     * @return Map of property names to values.
+     */
+    public Map<String, String> asMap() {
+
+        return properties;
+    }
+
+    /**
+     * Get a copy of the given configuration as a property. A new instance is returned on each call since callers
+     * decorate the returned properties with display metadata.
+     *
+     * @param name Property name.
+     * @return Property or null if the property is not configured.
+     */
+    public Property getProperty(String name) {
+
+        if (!properties.containsKey(name)) {
+            return null;
+        }
+        return toProperty(name, properties.get(name));
+    }
+
+    /**
+     * Get copies of all the configurations as properties.
+     *
+     * @return Array of properties.
+     */
+    public Property[] getProperties() {
+
+        List<Property> propertyList = new ArrayList<>(properties.size());
+        for (Map.Entry<String, String> entry : properties.entrySet()) {
+            propertyList.add(toProperty(entry.getKey(), entry.getValue()));
+        }
+        return propertyList.toArray(new Property[0]);
+    }
+
+    private static Property toProperty(String name, String value) {
+
+        Property property = new Property();
+        property.setName(name);
+        property.setValue(value);
+        return property;
+    }
+
+    private static boolean isInteger(String value) {
+
+        try {
+            Integer.parseInt(value);
+            return true;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.governance.model;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * A page of usernames matched by an identity data store query, with the cursor of the next page.
+ */
+public class UserNamesPage {
+
+    private final List<String> userNames;
+    private final String nextCursor;
+
+    public UserNamesPage(List<String> userNames, String nextCursor) {
+
+        this.userNames = userNames;
+        this.nextCursor = nextCursor;
+    }
+
+    /**
+     * Build a page from the complete result of a query. The usernames are ordered by the username and the cursor of
+     * a page is its last username.
+     *
+     * @param userNames All the usernames matched by the query.
+     * @param after     Cursor after which the page starts. Null for the first page.
+     * @param limit     Maximum number of usernames in the page.
+     * @return Page of usernames.
+     */
+    public static UserNamesPage fromUserNames(List<String> userNames, String after, int limit) {
+
+        if (limit <= 0) {
+            return new UserNamesPage(Collections.emptyList(), null);
+        }
+        // Read one more username than the limit to find whether there is a next page.
+        List<String> pageUserNames = userNames.stream()
+                .filter(userName -> after == null || userName.compareTo(after) > 0)
+                .sorted()
+                .limit(limit + 1L)
+                .collect(Collectors.toList());
+        if (pageUserNames.size() > limit) {
+            pageUserNames = pageUserNames.subList(0, limit);
+            return new UserNamesPage(pageUserNames, pageUserNames.get(limit - 1));
+        }
+        return new UserNamesPage(pageUserNames, null);
+    }
+
+    /**
+     * Get the usernames of the page.
+     *
+     * @return Usernames of the page.
+     */
+    public List<String> getUserNames() {
+
+        return userNames;
+    }
+
+    /**
+     * Get the cursor of the next page, which is passed as the cursor of the next query.
+     *
+     * @return Cursor of the next page. Null if this is the last page.
+     */
+    public String getNextCursor() {
+
+        return nextCursor;
+    }
+}
@@ -20,10 +20,13 @@ package org.wso2.carbon.identity.governance.service;
 
 import org.wso2.carbon.identity.base.IdentityException;
 import org.wso2.carbon.identity.governance.model.UserIdentityClaim;
+import org.wso2.carbon.identity.governance.model.UserNamesPage;
 import org.wso2.carbon.user.core.UserStoreException;
 import org.wso2.carbon.user.core.UserStoreManager;
 import org.wso2.carbon.user.core.model.ExpressionCondition;
 
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -45,6 +48,23 @@ public interface IdentityDataStoreService {
     boolean storeInIdentityDataStore(String userName, UserStoreManager userStoreManager, String operationType,
                                      Map<String, String> claims) throws UserStoreException;
 
+    /**
+     * Store identity claims data of a set of users of the same user store in the identity data store. Only the
+     * identity claims in the given claim maps are stored.
+     *
+     * @param claimsOfUsers         Map of usernames to the identity claims to be stored.
+     * @param userStoreManager      User store manager of the users.
+     * @throws UserStoreException   User store exception.
+     */
+    default void storeInIdentityDataStore(Map<String, Map<String, String>> claimsOfUsers,
+                                          UserStoreManager userStoreManager) throws UserStoreException {
+
+        for (Map.Entry<String, Map<String, String>> claimsOfUser : claimsOfUsers.entrySet()) {
+            storeInIdentityDataStore(claimsOfUser.getKey(), userStoreManager, "PreSetUserClaimValues",
+                    new HashMap<>(claimsOfUser.getValue()));
+        }
+    }
+
     /**
      * Get identity claim data from the identity data store for a user.
      *
@@ -54,6 +74,26 @@ public interface IdentityDataStoreService {
      */
     UserIdentityClaim getIdentityClaimData(String username, UserStoreManager userStoreManager);
 
+    /**
+     * Get identity claim data from the identity data store for a set of users of the same user store.
+     *
+     * @param usernames         Usernames of the users.
+     * @param userStoreManager  User store manager of the users.
+     * @return                  Map of usernames to identity claim data. Users without data are not included.
+     */
+    default Map<String, UserIdentityClaim> getIdentityClaimDataOfUsers(Collection<String> usernames,
+                                                                       UserStoreManager userStoreManager) {
+
+        Map<String, UserIdentityClaim> identityClaimData = new HashMap<>();
+        for (String username : usernames) {
+            UserIdentityClaim userIdentityClaim = getIdentityClaimData(username, userStoreManager);
+            if (userIdentityClaim != null) {
+                identityClaimData.put(username, userIdentityClaim);
+            }
+        }
+        return identityClaimData;
+    }
+
     /**
      * Return an array of user who have the given claim URI and claim value.
      *
@@ -128,6 +168,48 @@ public interface IdentityDataStoreService {
     List<String> getUserNamesBetweenProvidedClaimValues(String claimURI, String startValue, String endValue,
                                                         int tenantId) throws IdentityException;
 
+    /**
+     * Get a page of the usernames who have the claim value less than the provided claim value for a given claim URI.
+     * A page starts after the cursor returned with the previous page, so that the whole result can be iterated
+     * without loading it at once. The default implementation pages the complete result by the username.
+     *
+     * @param claimURI              Claim URI.
+     * @param claimValue            Claim value.
+     * @param tenantId              Tenant ID.
+     * @param after                 Next cursor of the previous page. Null for the first page.
+     * @param limit                 Maximum number of usernames in the page.
+     * @return                      Page of usernames.
+     * @throws IdentityException    Identity exception.
+     */
+    default UserNamesPage getUserNamesLessThanProvidedClaimValue(String claimURI, String claimValue, int tenantId,
+                                                                 String after, int limit) throws IdentityException {
+
+        return UserNamesPage.fromUserNames(getUserNamesLessThanProvidedClaimValue(claimURI, claimValue, tenantId),
+                after, limit);
+    }
+
+    /**
+     * Get a page of the usernames who have the claim value between the provided claim values for a given claim URI.
+     * A page starts after the cursor returned with the previous page, so that the whole result can be iterated
+     * without loading it at once. The default implementation pages the complete result by the username.
+     *
+     * @param claimURI              Claim URI.
+     * @param startValue            Start value.
+     * @param endValue              End value.
+     * @param tenantId              Tenant ID.
+     * @param after                 Next cursor of the previous page. Null for the first page.
+     * @param limit                 Maximum number of usernames in the page.
+     * @return                      Page of usernames.
+     * @throws IdentityException    Identity exception.
+     */
+    default UserNamesPage getUserNamesBetweenProvidedClaimValues(String claimURI, String startValue, String endValue,
+                                                                 int tenantId, String after, int limit)
+            throws IdentityException {
+
+        return UserNamesPage.fromUserNames(
+                getUserNamesBetweenProvidedClaimValues(claimURI, startValue, endValue, tenantId), after, limit);
+    }
+
     /**
      * Check whether the identity data store is user store based.
      *
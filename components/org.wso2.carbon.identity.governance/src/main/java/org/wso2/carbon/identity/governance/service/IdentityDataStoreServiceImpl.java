@@ -23,6 +23,7 @@ import org.wso2.carbon.identity.base.IdentityException;
 import org.wso2.carbon.identity.core.model.IdentityErrorMsgContext;
 import org.wso2.carbon.identity.core.util.IdentityUtil;
 import org.wso2.carbon.identity.governance.model.UserIdentityClaim;
+import org.wso2.carbon.identity.governance.model.UserNamesPage;
 import org.wso2.carbon.identity.governance.store.JDBCIdentityDataStore;
 import org.wso2.carbon.identity.governance.store.UserIdentityDataStore;
 import org.wso2.carbon.identity.governance.store.UserStoreBasedIdentityDataStore;
@@ -31,6 +32,8 @@ import org.wso2.carbon.user.core.UserStoreException;
 import org.wso2.carbon.user.core.UserStoreManager;
 import org.wso2.carbon.user.core.model.ExpressionCondition;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -129,12 +132,46 @@ public class IdentityDataStoreServiceImpl implements IdentityDataStoreService {
         }
     }
 
+    @Override
+    public void storeInIdentityDataStore(Map<String, Map<String, String>> claimsOfUsers,
+                                         UserStoreManager userStoreManager) throws UserStoreException {
+
+        // No need to separately handle if data identityDataStore is user store based.
+        if (isUserStoreBasedIdentityDataStore() || isStoreIdentityClaimsInUserStoreEnabled(userStoreManager)) {
+            return;
+        }
+
+        List<UserIdentityClaim> userIdentityClaims = new ArrayList<>(claimsOfUsers.size());
+        for (Map.Entry<String, Map<String, String>> claimsOfUser : claimsOfUsers.entrySet()) {
+            UserIdentityClaim userIdentityClaim = new UserIdentityClaim(claimsOfUser.getKey());
+            for (Map.Entry<String, String> claim : claimsOfUser.getValue().entrySet()) {
+                if (StringUtils.isNotEmpty(claim.getKey()) &&
+                        claim.getKey().contains(UserCoreConstants.ClaimTypeURIs.IDENTITY_CLAIM_URI_PREFIX)) {
+                    userIdentityClaim.setUserIdentityDataClaim(claim.getKey(), claim.getValue());
+                }
+            }
+            userIdentityClaims.add(userIdentityClaim);
+        }
+        try {
+            identityDataStore.storeAll(userIdentityClaims, userStoreManager);
+        } catch (IdentityException e) {
+            throw new UserStoreException("Error while saving identity data of " + claimsOfUsers.size() + " users.", e);
+        }
+    }
+
     @Override
     public UserIdentityClaim getIdentityClaimData(String username, UserStoreManager userStoreManager) {
 
         return identityDataStore.load(username, userStoreManager);
     }
 
+    @Override
+    public Map<String, UserIdentityClaim> getIdentityClaimDataOfUsers(Collection<String> usernames,
+                                                                      UserStoreManager userStoreManager) {
+
+        return identityDataStore.loadAll(usernames, userStoreManager);
+    }
+
     @Override
     public List<String> listUsersByClaimURIAndValue(String claimURI, String claimValue,
                                                     UserStoreManager userStoreManager) throws IdentityException {
@@ -179,6 +216,22 @@ public class IdentityDataStoreServiceImpl implements IdentityDataStoreService {
         return identityDataStore.getUserNamesBetweenProvidedClaimValues(claimURI, startValue, endValue, tenantId);
     }
 
+    @Override
+    public UserNamesPage getUserNamesLessThanProvidedClaimValue(String claimURI, String claimValue, int tenantId,
+                                                                String after, int limit) throws IdentityException {
+
+        return identityDataStore.getUserNamesLessThanProvidedClaimValue(claimURI, claimValue, tenantId, after, limit);
+    }
+
+    @Override
+    public UserNamesPage getUserNamesBetweenProvidedClaimValues(String claimURI, String startValue, String endValue,
+                                                                int tenantId, String after, int limit)
+            throws IdentityException {
+
+        return identityDataStore.getUserNamesBetweenProvidedClaimValues(claimURI, startValue, endValue, tenantId,
+                after, limit);
+    }
+
     @Override
     public boolean isUserStoreBasedIdentityDataStore() {
 
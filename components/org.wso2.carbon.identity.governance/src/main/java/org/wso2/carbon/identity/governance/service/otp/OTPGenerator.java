@@ -19,6 +19,9 @@ package org.wso2.carbon.identity.governance.service.otp;
 
 import org.wso2.carbon.identity.governance.exceptions.otp.OTPGeneratorException;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Service interface for OTP Generator.
  */
@@ -49,6 +52,49 @@ public interface OTPGenerator {
     String generateOTP(boolean useNumeric, boolean useUppercaseLetters, boolean useLowercaseLetters, int otpLength,
                        String recoveryScenario) throws OTPGeneratorException;
 
+    /**
+     * Generates the given number of OTPs based on the provided charSet and length.
+     *
+     * @param charSet                Character set allowed for OTP.
+     * @param otpLength              Length of OTP.
+     * @param count                  Number of OTPs.
+     * @param recoveryScenario       Recovery Scenario.
+     * @return List                  Values of OTP strings.
+     * @throws OTPGeneratorException OTP Generator Exception.
+     */
+    default List<String> generateOTPs(String charSet, int otpLength, int count, String recoveryScenario)
+            throws OTPGeneratorException {
+
+        List<String> otps = new ArrayList<>(Math.max(count, 0));
+        for (int i = 0; i < count; i++) {
+            otps.add(generateOTP(charSet, otpLength, recoveryScenario));
+        }
+        return otps;
+    }
+
+    /**
+     * Generates the given number of OTPs based on the OTP properties.
+     *
+     * @param useNumeric             Whether numeric values should be used.
+     * @param useUppercaseLetters    Whether upper case letters should be used.
+     * @param useLowercaseLetters    Whether lower case letters should be used.
+     * @param otpLength              Length of OTP.
+     * @param count                  Number of OTPs.
+     * @param recoveryScenario       Recovery Scenario.
+     * @return List                  Values of OTP strings.
+     * @throws OTPGeneratorException OTP Generator Exception.
+     */
+    default List<String> generateOTPs(boolean useNumeric, boolean useUppercaseLetters, boolean useLowercaseLetters,
+                                      int otpLength, int count, String recoveryScenario)
+            throws OTPGeneratorException {
+
+        List<String> otps = new ArrayList<>(Math.max(count, 0));
+        for (int i = 0; i < count; i++) {
+            otps.add(generateOTP(useNumeric, useUppercaseLetters, useLowercaseLetters, otpLength, recoveryScenario));
+        }
+        return otps;
+    }
+
     /**
      * Retrieve the OTP Generator name.
      */
@@ -28,6 +28,8 @@ import org.wso2.carbon.user.api.UserStoreManager;
 import org.wso2.carbon.user.core.UserCoreConstants;
 import org.wso2.carbon.user.core.util.UserCoreUtil;
 
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.Locale;
 import java.util.Map;
 
@@ -99,6 +101,32 @@ public class InMemoryIdentityDataStore extends UserIdentityDataStore {
     @Override
     public UserIdentityClaim load(String userName, UserStoreManager userStoreManager) {
 
+        return loadFromCache(userName, userStoreManager);
+    }
+
+    /**
+     * Loads the cached identity data of a set of users. Users who are not in the cache are not included in the
+     * returned map, so that sub classes can load only those from the underlying store.
+     *
+     * @param userNames        Usernames of the users.
+     * @param userStoreManager UserStoreManager instance of the users.
+     * @return Map of the given usernames to the cached identity data.
+     */
+    protected Map<String, UserIdentityClaim> loadAllFromCache(Collection<String> userNames,
+                                                              UserStoreManager userStoreManager) {
+
+        Map<String, UserIdentityClaim> userIdentityClaims = new HashMap<>();
+        for (String userName : userNames) {
+            UserIdentityClaim userIdentityClaim = loadFromCache(userName, userStoreManager);
+            if (userIdentityClaim != null) {
+                userIdentityClaims.put(userName, userIdentityClaim);
+            }
+        }
+        return userIdentityClaims;
+    }
+
+    private UserIdentityClaim loadFromCache(String userName, UserStoreManager userStoreManager) {
+
         try {
             if (userName != null) {
                 userName = UserCoreUtil.removeDomainFromName(userName);
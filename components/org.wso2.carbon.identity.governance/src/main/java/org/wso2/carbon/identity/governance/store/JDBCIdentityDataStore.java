@@ -22,7 +22,9 @@ import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.identity.base.IdentityException;
 import org.wso2.carbon.identity.core.util.IdentityDatabaseUtil;
 import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.identity.governance.IdentityMgtConstants;
 import org.wso2.carbon.identity.governance.model.UserIdentityClaim;
+import org.wso2.carbon.identity.governance.model.UserNamesPage;
 import org.wso2.carbon.user.api.UserStoreException;
 import org.wso2.carbon.user.api.UserStoreManager;
 import org.wso2.carbon.user.core.UserCoreConstants;
@@ -38,9 +40,14 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
 
 /**
  *
@@ -57,6 +64,12 @@ public class JDBCIdentityDataStore extends InMemoryIdentityDataStore {
     private static final String ORACLE = "oracle";
     private static final String POSTGRE_SQL = "postgresql";
     private static final String MYSQL = "mysql";
+    private static final String NUMERIC_CLAIM_SEPARATOR = ",";
+    private static final String PAGE_CURSOR_SEPARATOR = ":";
+    // Keep the IN-list well below the bind variable limits of the supported databases.
+    private static final int BULK_LOAD_BATCH_SIZE = 100;
+    private static final Set<String> DEFAULT_NUMERIC_INDEX_CLAIMS = new HashSet<>(Arrays.asList(
+            IdentityMgtConstants.Claim.LAST_LOGIN_TIME, IdentityMgtConstants.Claim.LAST_PASSWORD_UPDATE_TIME));
 
     @Override
     public void store(UserIdentityClaim userIdentityDTO, UserStoreManager userStoreManager)
@@ -114,6 +127,11 @@ public class JDBCIdentityDataStore extends InMemoryIdentityDataStore {
 
             addUserDataValues(connection, userName, tenantId, newClaims);
             updateUserDataValues(connection, userName, tenantId, availableClaims);
+            if (isNumericClaimIndexEnabled()) {
+                Map<String, String> changedClaims = new HashMap<>(newClaims);
+                changedClaims.putAll(availableClaims);
+                updateNumericUserDataValues(connection, userName, tenantId, changedClaims);
+            }
 
             IdentityDatabaseUtil.commitTransaction(connection);
         } catch (SQLException e) {
@@ -124,6 +142,129 @@ public class JDBCIdentityDataStore extends InMemoryIdentityDataStore {
         }
     }
 
+    @Override
+    public void storeAll(Collection<UserIdentityClaim> userIdentityDTOs, UserStoreManager userStoreManager)
+            throws IdentityException {
+
+        List<UserIdentityClaim> userIdentityDTOsToStore = new ArrayList<>();
+        for (UserIdentityClaim userIdentityDTO : userIdentityDTOs) {
+            if (userIdentityDTO != null && !userIdentityDTO.getUserIdentityDataMap().isEmpty()) {
+                userIdentityDTOsToStore.add(userIdentityDTO);
+            }
+        }
+        if (userIdentityDTOsToStore.isEmpty()) {
+            return;
+        }
+
+        String domainName = ((org.wso2.carbon.user.core.UserStoreManager) userStoreManager).getRealmConfiguration().
+                getUserStoreProperty(UserCoreConstants.RealmConfig.PROPERTY_DOMAIN_NAME);
+        for (UserIdentityClaim userIdentityDTO : userIdentityDTOsToStore) {
+            userIdentityDTO.setUserName(UserCoreUtil.addDomainToName(userIdentityDTO.getUserName(), domainName));
+        }
+
+        int tenantId = MultitenantConstants.SUPER_TENANT_ID;
+        try {
+            tenantId = userStoreManager.getTenantId();
+        } catch (UserStoreException e) {
+            log.error("Error while getting tenant Id.", e);
+        }
+        boolean isUsernameCaseSensitive = IdentityUtil.isUserStoreInUsernameCaseSensitive(
+                userIdentityDTOsToStore.get(0).getUserName(), tenantId);
+
+        // The complete identity data of the users, which are put into the cache once the transaction is committed.
+        List<UserIdentityClaim> mergedDTOs = new ArrayList<>(userIdentityDTOsToStore.size());
+        Connection connection = IdentityDatabaseUtil.getDBConnection();
+        try {
+            for (int i = 0; i < userIdentityDTOsToStore.size(); i += BULK_LOAD_BATCH_SIZE) {
+                List<UserIdentityClaim> batch = userIdentityDTOsToStore.subList(i,
+                        Math.min(i + BULK_LOAD_BATCH_SIZE, userIdentityDTOsToStore.size()));
+                Map<String, UserIdentityClaim> batchOfUsers = new HashMap<>();
+                for (UserIdentityClaim userIdentityDTO : batch) {
+                    String userName = userIdentityDTO.getUserName();
+                    batchOfUsers.put(isUsernameCaseSensitive ? userName : userName.toLowerCase(Locale.ENGLISH),
+                            userIdentityDTO);
+                }
+                Map<String, Map<String, String>> existingDataOfUsers = getUserDataValuesOfUsers(connection,
+                        batchOfUsers.keySet(), tenantId, isUsernameCaseSensitive);
+
+                try (PreparedStatement addStmt = connection.prepareStatement(getStoreQuery(
+                        SQLQuery.STORE_USER_DATA, SQLQuery.STORE_USER_DATA_WITH_NORMALIZED_USER_NAME));
+                     PreparedStatement updateStmt = connection.prepareStatement(getUserNameQuery(
+                             isUsernameCaseSensitive, SQLQuery.UPDATE_USER_DATA,
+                             SQLQuery.UPDATE_USER_DATA_CASE_INSENSITIVE,
+                             SQLQuery.UPDATE_USER_DATA_NORMALIZED_USER_NAME));
+                     NumericUserDataBatch numericUserDataBatch = isNumericClaimIndexEnabled() ?
+                             new NumericUserDataBatch(connection, isUsernameCaseSensitive) : null) {
+                    boolean hasNewClaims = false;
+                    boolean hasAvailableClaims = false;
+                    for (Map.Entry<String, UserIdentityClaim> userEntry : batchOfUsers.entrySet()) {
+                        String userName = userEntry.getValue().getUserName();
+                        Map<String, String> existingDataValues = existingDataOfUsers.get(userEntry.getKey());
+                        Map<String, String> changedClaims = new HashMap<>();
+                        for (Map.Entry<String, String> entry :
+                                userEntry.getValue().getUserIdentityDataMap().entrySet()) {
+                            if (existingDataValues != null && existingDataValues.containsKey(entry.getKey())) {
+                                if (StringUtils.equals(existingDataValues.get(entry.getKey()), entry.getValue())) {
+                                    continue;
+                                }
+                                updateStmt.setString(1, entry.getValue());
+                                updateStmt.setInt(2, tenantId);
+                                updateStmt.setString(3, userName);
+                                updateStmt.setString(4, entry.getKey());
+                                updateStmt.addBatch();
+                                hasAvailableClaims = true;
+                            } else {
+                                addStmt.setInt(1, tenantId);
+                                addStmt.setString(2, userName);
+                                addStmt.setString(3, entry.getKey());
+                                addStmt.setString(4, entry.getValue());
+                                setNormalizedUserName(addStmt, 5, userName);
+                                addStmt.addBatch();
+                                hasNewClaims = true;
+                            }
+                            changedClaims.put(entry.getKey(), entry.getValue());
+                        }
+                        if (numericUserDataBatch != null) {
+                            numericUserDataBatch.add(userName, tenantId, changedClaims);
+                        }
+
+                        Map<String, String> mergedDataValues = existingDataValues == null ? new HashMap<>() :
+                                new HashMap<>(existingDataValues);
+                        mergedDataValues.putAll(userEntry.getValue().getUserIdentityDataMap());
+                        UserIdentityClaim mergedDTO = new UserIdentityClaim(userName, mergedDataValues);
+                        mergedDTO.setTenantId(tenantId);
+                        mergedDTOs.add(mergedDTO);
+                    }
+                    if (hasNewClaims) {
+                        addStmt.executeBatch();
+                    }
+                    if (hasAvailableClaims) {
+                        updateStmt.executeBatch();
+                    }
+                    if (numericUserDataBatch != null) {
+                        numericUserDataBatch.execute();
+                    }
+                }
+            }
+            IdentityDatabaseUtil.commitTransaction(connection);
+            if (log.isDebugEnabled()) {
+                log.debug("Persisted identity data of " + userIdentityDTOsToStore.size() + " users of tenant: " +
+                        tenantId + " in bulk.");
+            }
+        } catch (SQLException e) {
+            IdentityDatabaseUtil.rollbackTransaction(connection);
+            throw IdentityException.error("Error while persisting identity data of " +
+                    userIdentityDTOsToStore.size() + " users of tenant: " + tenantId, e);
+        } finally {
+            IdentityDatabaseUtil.closeConnection(connection);
+        }
+
+        // Putting into cache
+        for (UserIdentityClaim mergedDTO : mergedDTOs) {
+            super.store(mergedDTO, userStoreManager);
+        }
+    }
+
     private Map<String, String> getUserDataValues(Connection connection, String userName, int tenantId)
             throws SQLException {
 
@@ -132,12 +273,8 @@ public class JDBCIdentityDataStore extends InMemoryIdentityDataStore {
         ResultSet results = null;
         try {
             boolean isUsernameCaseSensitive = IdentityUtil.isUserStoreInUsernameCaseSensitive(userName, tenantId);
-            String query;
-            if (isUsernameCaseSensitive) {
-                query = SQLQuery.LOAD_USER_DATA;
-            } else {
-                query = SQLQuery.LOAD_USER_DATA_CASE_INSENSITIVE;
-            }
+            String query = getUserNameQuery(isUsernameCaseSensitive, SQLQuery.LOAD_USER_DATA,
+                    SQLQuery.LOAD_USER_DATA_CASE_INSENSITIVE, SQLQuery.LOAD_USER_DATA_NORMALIZED_USER_NAME);
             prepStmt = connection.prepareStatement(query);
             prepStmt.setInt(1, tenantId);
             prepStmt.setString(2, userName);
@@ -156,12 +293,14 @@ public class JDBCIdentityDataStore extends InMemoryIdentityDataStore {
 
         PreparedStatement prepStmt = null;
         try {
-            prepStmt = connection.prepareStatement(SQLQuery.STORE_USER_DATA);
+            prepStmt = connection.prepareStatement(getStoreQuery(SQLQuery.STORE_USER_DATA,
+                    SQLQuery.STORE_USER_DATA_WITH_NORMALIZED_USER_NAME));
             for (Map.Entry<String, String> entry : properties.entrySet()) {
                 prepStmt.setInt(1, tenantId);
                 prepStmt.setString(2, userName);
                 prepStmt.setString(3, entry.getKey());
                 prepStmt.setString(4, entry.getValue());
+                setNormalizedUserName(prepStmt, 5, userName);
                 prepStmt.addBatch();
             }
             prepStmt.executeBatch();
@@ -175,12 +314,8 @@ public class JDBCIdentityDataStore extends InMemoryIdentityDataStore {
 
         PreparedStatement prepStmt = null;
         boolean isUsernameCaseSensitive = IdentityUtil.isUserStoreInUsernameCaseSensitive(userName, tenantId);
-        String query;
-        if (isUsernameCaseSensitive) {
-            query = SQLQuery.UPDATE_USER_DATA;
-        } else {
-            query = SQLQuery.UPDATE_USER_DATA_CASE_INSENSITIVE;
-        }
+        String query = getUserNameQuery(isUsernameCaseSensitive, SQLQuery.UPDATE_USER_DATA,
+                SQLQuery.UPDATE_USER_DATA_CASE_INSENSITIVE, SQLQuery.UPDATE_USER_DATA_NORMALIZED_USER_NAME);
         try {
             prepStmt = connection.prepareStatement(query);
             for (Map.Entry<String, String> entry : properties.entrySet()) {
@@ -196,6 +331,103 @@ public class JDBCIdentityDataStore extends InMemoryIdentityDataStore {
         }
     }
 
+    /**
+     * Replace the numeric index entries of the changed timestamp claims of a user.
+     *
+     * @param connection Database connection.
+     * @param userName   Username with the user store domain.
+     * @param tenantId   Tenant id.
+     * @param properties Changed identity claims of the user.
+     * @throws SQLException If an error occurred while updating the numeric index.
+     */
+    private void updateNumericUserDataValues(Connection connection, String userName, int tenantId,
+                                             Map<String, String> properties) throws SQLException {
+
+        boolean isUsernameCaseSensitive = IdentityUtil.isUserStoreInUsernameCaseSensitive(userName, tenantId);
+        try (NumericUserDataBatch numericUserDataBatch = new NumericUserDataBatch(connection,
+                isUsernameCaseSensitive)) {
+            numericUserDataBatch.add(userName, tenantId, properties);
+            numericUserDataBatch.execute();
+        }
+    }
+
+    /**
+     * Batch of numeric index replacements of the changed timestamp claims of one or more users.
+     */
+    private class NumericUserDataBatch implements AutoCloseable {
+
+        private final Set<String> indexedClaims = getNumericIndexedClaims();
+        private final PreparedStatement deleteStmt;
+        private final PreparedStatement insertStmt;
+        private boolean hasDeletes;
+        private boolean hasInserts;
+
+        NumericUserDataBatch(Connection connection, boolean isUsernameCaseSensitive) throws SQLException {
+
+            String deleteQuery = getUserNameQuery(isUsernameCaseSensitive, SQLQuery.DELETE_NUMERIC_USER_DATA_BY_KEY,
+                    SQLQuery.DELETE_NUMERIC_USER_DATA_BY_KEY_CASE_INSENSITIVE,
+                    SQLQuery.DELETE_NUMERIC_USER_DATA_BY_KEY_NORMALIZED_USER_NAME);
+            deleteStmt = connection.prepareStatement(deleteQuery);
+            try {
+                insertStmt = connection.prepareStatement(getStoreQuery(SQLQuery.STORE_NUMERIC_USER_DATA,
+                        SQLQuery.STORE_NUMERIC_USER_DATA_WITH_NORMALIZED_USER_NAME));
+            } catch (SQLException e) {
+                IdentityDatabaseUtil.closeStatement(deleteStmt);
+                throw e;
+            }
+        }
+
+        /**
+         * Add the numeric index replacements of the changed claims of a user to the batch.
+         *
+         * @param userName   Username with the user store domain.
+         * @param tenantId   Tenant id.
+         * @param properties Changed identity claims of the user.
+         * @throws SQLException If an error occurred while adding to the batch.
+         */
+        void add(String userName, int tenantId, Map<String, String> properties) throws SQLException {
+
+            for (Map.Entry<String, String> entry : properties.entrySet()) {
+                if (!indexedClaims.contains(entry.getKey())) {
+                    continue;
+                }
+                deleteStmt.setInt(1, tenantId);
+                deleteStmt.setString(2, userName);
+                deleteStmt.setString(3, entry.getKey());
+                deleteStmt.addBatch();
+                hasDeletes = true;
+
+                Long numericValue = toLong(entry.getValue());
+                if (numericValue != null) {
+                    insertStmt.setInt(1, tenantId);
+                    insertStmt.setString(2, userName);
+                    insertStmt.setString(3, entry.getKey());
+                    insertStmt.setLong(4, numericValue);
+                    setNormalizedUserName(insertStmt, 5, userName);
+                    insertStmt.addBatch();
+                    hasInserts = true;
+                }
+            }
+        }
+
+        void execute() throws SQLException {
+
+            if (hasDeletes) {
+                deleteStmt.executeBatch();
+            }
+            if (hasInserts) {
+                insertStmt.executeBatch();
+            }
+        }
+
+        @Override
+        public void close() {
+
+            IdentityDatabaseUtil.closeStatement(insertStmt);
+            IdentityDatabaseUtil.closeStatement(deleteStmt);
+        }
+    }
+
     @Override
     public UserIdentityClaim load(String userName, UserStoreManager userStoreManager) {
 
@@ -238,6 +470,115 @@ public class JDBCIdentityDataStore extends InMemoryIdentityDataStore {
         return null;
     }
 
+    @Override
+    public Map<String, UserIdentityClaim> loadAll(Collection<String> userNames, UserStoreManager userStoreManager) {
+
+        String domainName = ((org.wso2.carbon.user.core.UserStoreManager) userStoreManager).getRealmConfiguration().
+                getUserStoreProperty(UserCoreConstants.RealmConfig.PROPERTY_DOMAIN_NAME);
+
+        // Getting from cache.
+        Map<String, UserIdentityClaim> userIdentityClaims = super.loadAllFromCache(userNames, userStoreManager);
+        List<String> userNamesToLoad = new ArrayList<>();
+        for (String userName : userNames) {
+            if (!userIdentityClaims.containsKey(userName)) {
+                userNamesToLoad.add(userName);
+            }
+        }
+        if (userNamesToLoad.isEmpty()) {
+            return userIdentityClaims;
+        }
+
+        Connection connection = IdentityDatabaseUtil.getDBConnection();
+        try {
+            int tenantId = userStoreManager.getTenantId();
+            boolean isUsernameCaseSensitive = IdentityUtil.isUserStoreInUsernameCaseSensitive(
+                    UserCoreUtil.addDomainToName(userNamesToLoad.get(0), domainName), tenantId);
+            for (int i = 0; i < userNamesToLoad.size(); i += BULK_LOAD_BATCH_SIZE) {
+                List<String> batch = userNamesToLoad.subList(i,
+                        Math.min(i + BULK_LOAD_BATCH_SIZE, userNamesToLoad.size()));
+                Map<String, String> qualifiedUserNames = new HashMap<>();
+                for (String userName : batch) {
+                    String qualifiedUserName = UserCoreUtil.addDomainToName(userName, domainName);
+                    qualifiedUserNames.put(isUsernameCaseSensitive ? qualifiedUserName :
+                            qualifiedUserName.toLowerCase(Locale.ENGLISH), userName);
+                }
+                Map<String, Map<String, String>> dataOfUsers = getUserDataValuesOfUsers(connection,
+                        qualifiedUserNames.keySet(), tenantId, isUsernameCaseSensitive);
+
+                for (Map.Entry<String, String> entry : qualifiedUserNames.entrySet()) {
+                    Map<String, String> data = dataOfUsers.get(entry.getKey());
+                    if (data == null) {
+                        data = new HashMap<>();
+                    }
+                    UserIdentityClaim dto = new UserIdentityClaim(
+                            UserCoreUtil.addDomainToName(entry.getValue(), domainName), data);
+                    dto.setTenantId(tenantId);
+                    try {
+                        super.store(dto, userStoreManager);
+                    } catch (IdentityException e) {
+                        log.error("Error while reading user identity data", e);
+                    }
+                    userIdentityClaims.put(entry.getValue(), dto);
+                }
+            }
+            IdentityDatabaseUtil.commitTransaction(connection);
+            if (log.isDebugEnabled()) {
+                log.debug("Retrieved identity data of " + userNamesToLoad.size() + " users from tenant: " +
+                        tenantId + " in bulk.");
+            }
+        } catch (SQLException | UserStoreException e) {
+            IdentityDatabaseUtil.rollbackTransaction(connection);
+            log.error("Error while reading user identity data", e);
+        } finally {
+            IdentityDatabaseUtil.closeConnection(connection);
+        }
+        return userIdentityClaims;
+    }
+
+    /**
+     * Load the identity data of a set of users with a single query.
+     *
+     * @param connection              Database connection.
+     * @param userNames               Domain qualified usernames, lower cased if usernames are case-insensitive.
+     * @param tenantId                Tenant id.
+     * @param isUsernameCaseSensitive Whether usernames are case-sensitive.
+     * @return Map of the given usernames to their identity data.
+     * @throws SQLException If an error occurred while reading the identity data.
+     */
+    private Map<String, Map<String, String>> getUserDataValuesOfUsers(Connection connection,
+                                                                      Collection<String> userNames, int tenantId,
+                                                                      boolean isUsernameCaseSensitive)
+            throws SQLException {
+
+        Map<String, Map<String, String>> dataOfUsers = new HashMap<>();
+        StringBuilder query = new StringBuilder(getUserNameQuery(isUsernameCaseSensitive, SQLQuery.LOAD_USERS_DATA,
+                SQLQuery.LOAD_USERS_DATA_CASE_INSENSITIVE, SQLQuery.LOAD_USERS_DATA_NORMALIZED_USER_NAME));
+        query.append("(");
+        for (int i = 0; i < userNames.size(); i++) {
+            query.append(i == 0 ? QUERY_BINDING_SYMBOL : "," + QUERY_BINDING_SYMBOL);
+        }
+        query.append(")");
+
+        try (PreparedStatement prepStmt = connection.prepareStatement(query.toString())) {
+            int index = 1;
+            prepStmt.setInt(index++, tenantId);
+            for (String userName : userNames) {
+                prepStmt.setString(index++, userName);
+            }
+            try (ResultSet results = prepStmt.executeQuery()) {
+                while (results.next()) {
+                    String userName = results.getString(1);
+                    if (!isUsernameCaseSensitive) {
+                        userName = userName.toLowerCase(Locale.ENGLISH);
+                    }
+                    dataOfUsers.computeIfAbsent(userName, k -> new HashMap<>())
+                            .put(results.getString(2), results.getString(3));
+                }
+            }
+        }
+        return dataOfUsers;
+    }
+
     @Override
     public void remove(String userName, UserStoreManager userStoreManager) throws IdentityException {
 
@@ -250,16 +591,22 @@ public class JDBCIdentityDataStore extends InMemoryIdentityDataStore {
         try {
             int tenantId = userStoreManager.getTenantId();
             boolean isUsernameCaseSensitive = IdentityUtil.isUserStoreInUsernameCaseSensitive(userName, tenantId);
-            String query;
-            if (isUsernameCaseSensitive) {
-                query = SQLQuery.DELETE_USER_DATA;
-            } else {
-                query = SQLQuery.DELETE_USER_DATA_CASE_INSENSITIVE;
-            }
+            String query = getUserNameQuery(isUsernameCaseSensitive, SQLQuery.DELETE_USER_DATA,
+                    SQLQuery.DELETE_USER_DATA_CASE_INSENSITIVE, SQLQuery.DELETE_USER_DATA_NORMALIZED_USER_NAME);
             prepStmt = connection.prepareStatement(query);
             prepStmt.setInt(1, tenantId);
             prepStmt.setString(2, userName);
             prepStmt.execute();
+            if (isNumericClaimIndexEnabled()) {
+                String numericQuery = getUserNameQuery(isUsernameCaseSensitive, SQLQuery.DELETE_NUMERIC_USER_DATA,
+                        SQLQuery.DELETE_NUMERIC_USER_DATA_CASE_INSENSITIVE,
+                        SQLQuery.DELETE_NUMERIC_USER_DATA_NORMALIZED_USER_NAME);
+                try (PreparedStatement numericStmt = connection.prepareStatement(numericQuery)) {
+                    numericStmt.setInt(1, tenantId);
+                    numericStmt.setString(2, userName);
+                    numericStmt.execute();
+                }
+            }
             IdentityDatabaseUtil.commitTransaction(connection);
         } catch (SQLException | UserStoreException e) {
             IdentityDatabaseUtil.rollbackTransaction(connection);
@@ -391,6 +738,11 @@ public class JDBCIdentityDataStore extends InMemoryIdentityDataStore {
     public List<String> getUserNamesLessThanProvidedClaimValue(String claimURI, String claimValue, int tenantId)
             throws IdentityException {
 
+        Long numericValue = getNumericIndexValue(claimURI, claimValue);
+        if (numericValue != null) {
+            return getUserNamesByNumericClaimValues(SQLQuery.FILTER_USERS_BY_NUMERIC_DATA_KEY_LESS_THAN_DATA_VALUE,
+                    claimURI, tenantId, numericValue);
+        }
         String sqlStmt = SQLQuery.FILTER_USERS_BY_DATA_KEY_LESS_THAN_DATA_VALUE;
         List<String> userNames = new ArrayList<>();
         try (Connection connection = IdentityDatabaseUtil.getDBConnection(true)) {
@@ -416,6 +768,11 @@ public class JDBCIdentityDataStore extends InMemoryIdentityDataStore {
     public List<String> getUserNamesMoreThanProvidedClaimValue(String claimURI, String claimValue, int tenantId)
             throws IdentityException {
 
+        Long numericValue = getNumericIndexValue(claimURI, claimValue);
+        if (numericValue != null) {
+            return getUserNamesByNumericClaimValues(SQLQuery.FILTER_USERS_BY_NUMERIC_DATA_KEY_MORE_THAN_DATA_VALUE,
+                    claimURI, tenantId, numericValue);
+        }
         String sqlStmt = SQLQuery.FILTER_USERS_BY_DATA_KEY_MORE_THAN_DATA_VALUE;
         List<String> userNames = new ArrayList<>();
         try (Connection connection = IdentityDatabaseUtil.getDBConnection(true)) {
@@ -441,6 +798,14 @@ public class JDBCIdentityDataStore extends InMemoryIdentityDataStore {
     public  List<String> getUserNamesBetweenProvidedClaimValues(String claimURI, String startValue, String endValue,
                                                                 int tenantId) throws IdentityException {
 
+        Long numericStartValue = getNumericIndexValue(claimURI, startValue);
+        Long numericEndValue = getNumericIndexValue(claimURI, endValue);
+        if (numericStartValue != null && numericEndValue != null) {
+            return getUserNamesByNumericClaimValues(
+                    SQLQuery.FILTER_USERS_BY_NUMERIC_DATA_KEY_LESS_THAN_AND_GREATER_THAN_DATA_VALUES, claimURI,
+                    tenantId, numericEndValue, numericStartValue);
+        }
+
         String sqlStmt = SQLQuery.FILTER_USERS_BY_DATA_KEY_LESS_THAN_AND_GREATER_THAN_DATA_VALUES;
         List<String> userNames = new ArrayList<>();
         try (Connection connection = IdentityDatabaseUtil.getDBConnection(true)) {
@@ -463,6 +828,254 @@ public class JDBCIdentityDataStore extends InMemoryIdentityDataStore {
         }
     }
 
+    @Override
+    public UserNamesPage getUserNamesLessThanProvidedClaimValue(String claimURI, String claimValue, int tenantId,
+                                                                String after, int limit) throws IdentityException {
+
+        Long numericValue = getNumericIndexValue(claimURI, claimValue);
+        if (numericValue != null) {
+            return getUserNamesPageByClaimValues(SQLQuery.FILTER_USERS_BY_NUMERIC_DATA_KEY_LESS_THAN_DATA_VALUE,
+                    claimURI, tenantId, after, limit, numericValue);
+        }
+        return getUserNamesPageByClaimValues(SQLQuery.FILTER_USERS_BY_DATA_KEY_LESS_THAN_DATA_VALUE, claimURI,
+                tenantId, after, limit, claimValue);
+    }
+
+    @Override
+    public UserNamesPage getUserNamesBetweenProvidedClaimValues(String claimURI, String startValue, String endValue,
+                                                                int tenantId, String after, int limit)
+            throws IdentityException {
+
+        Long numericStartValue = getNumericIndexValue(claimURI, startValue);
+        Long numericEndValue = getNumericIndexValue(claimURI, endValue);
+        if (numericStartValue != null && numericEndValue != null) {
+            return getUserNamesPageByClaimValues(
+                    SQLQuery.FILTER_USERS_BY_NUMERIC_DATA_KEY_LESS_THAN_AND_GREATER_THAN_DATA_VALUES, claimURI,
+                    tenantId, after, limit, numericEndValue, numericStartValue);
+        }
+        return getUserNamesPageByClaimValues(SQLQuery.FILTER_USERS_BY_DATA_KEY_LESS_THAN_AND_GREATER_THAN_DATA_VALUES,
+                claimURI, tenantId, after, limit, endValue, startValue);
+    }
+
+    /**
+     * Get a page of the usernames matched by a claim value filter. The rows are ordered by the claim value and the
+     * username, and the page starts after the (claim value, username) pair of the cursor, so that each page is a range
+     * read of the (TENANT_ID, DATA_KEY, DATA_VALUE) index regardless of the position of the page in the result.
+     *
+     * @param sqlStmt     Claim value filter query.
+     * @param claimURI    Claim URI.
+     * @param tenantId    Tenant ID.
+     * @param after       Next cursor of the previous page. Null for the first page.
+     * @param limit       Maximum number of usernames in the page.
+     * @param claimValues Claim values of the filter, either numeric or string values.
+     * @return Page of usernames.
+     * @throws IdentityException Error while retrieving the usernames.
+     */
+    private UserNamesPage getUserNamesPageByClaimValues(String sqlStmt, String claimURI, int tenantId, String after,
+                                                        int limit, Object... claimValues) throws IdentityException {
+
+        List<String> userNames = new ArrayList<>();
+        if (limit <= 0) {
+            return new UserNamesPage(userNames, null);
+        }
+        Object afterDataValue = null;
+        String afterUserName = null;
+        if (after != null) {
+            String[] cursor = decodePageCursor(after);
+            afterDataValue = claimValues[0] instanceof Long ? toLong(cursor[0]) : cursor[0];
+            afterUserName = cursor[1];
+            if (afterDataValue == null) {
+                throw new IdentityException("Invalid page cursor: " + after);
+            }
+        }
+        StringBuilder sqlBuilder = new StringBuilder(sqlStmt);
+        if (after != null) {
+            sqlBuilder.append(SQLQuery.FILTER_USERS_PAGE_AFTER_DATA_VALUE_AND_USER_NAME);
+        }
+        sqlBuilder.append(SQLQuery.FILTER_USERS_PAGE_ORDER_BY_DATA_VALUE_AND_USER_NAME);
+        try (Connection connection = IdentityDatabaseUtil.getDBConnection(true)) {
+            try (PreparedStatement prepStmt = connection.prepareStatement(sqlBuilder.toString())) {
+                int parameterIndex = 1;
+                prepStmt.setString(parameterIndex++, claimURI);
+                prepStmt.setInt(parameterIndex++, tenantId);
+                for (Object claimValue : claimValues) {
+                    setClaimValue(prepStmt, parameterIndex++, claimValue);
+                }
+                if (after != null) {
+                    setClaimValue(prepStmt, parameterIndex++, afterDataValue);
+                    setClaimValue(prepStmt, parameterIndex++, afterDataValue);
+                    prepStmt.setString(parameterIndex, afterUserName);
+                }
+                // Bound the result in the driver, which is portable across the supported databases. One more row
+                // than the limit is read to find whether there is a next page.
+                prepStmt.setMaxRows(limit + 1);
+                prepStmt.setFetchSize(limit + 1);
+                String nextCursor = null;
+                try (ResultSet resultSet = prepStmt.executeQuery()) {
+                    String lastDataValue = null;
+                    while (resultSet.next()) {
+                        if (userNames.size() == limit) {
+                            nextCursor = encodePageCursor(lastDataValue, userNames.get(limit - 1));
+                            break;
+                        }
+                        userNames.add(resultSet.getString(1));
+                        lastDataValue = resultSet.getString(2);
+                    }
+                }
+                IdentityDatabaseUtil.commitTransaction(connection);
+                return new UserNamesPage(userNames, nextCursor);
+            }
+        } catch (SQLException e) {
+            throw new IdentityException("Error occurred while retrieving users from Identity Store.", e);
+        }
+    }
+
+    private void setClaimValue(PreparedStatement prepStmt, int index, Object claimValue) throws SQLException {
+
+        if (claimValue instanceof Long) {
+            prepStmt.setLong(index, (Long) claimValue);
+        } else {
+            prepStmt.setString(index, (String) claimValue);
+        }
+    }
+
+    /**
+     * Encode the (claim value, username) pair of the last row of a page as the cursor of the next page. The claim
+     * value is prefixed with its length, as both the claim value and the username may contain any character.
+     *
+     * @param dataValue Claim value of the last row.
+     * @param userName  Username of the last row.
+     * @return Page cursor.
+     */
+    private String encodePageCursor(String dataValue, String userName) {
+
+        return dataValue.length() + PAGE_CURSOR_SEPARATOR + dataValue + userName;
+    }
+
+    private String[] decodePageCursor(String cursor) throws IdentityException {
+
+        int separatorIndex = cursor.indexOf(PAGE_CURSOR_SEPARATOR);
+        try {
+            int valueStart = separatorIndex + PAGE_CURSOR_SEPARATOR.length();
+            int valueEnd = valueStart + Integer.parseInt(cursor.substring(0, Math.max(separatorIndex, 0)));
+            if (separatorIndex > 0 && valueEnd >= valueStart && valueEnd <= cursor.length()) {
+                return new String[]{cursor.substring(valueStart, valueEnd), cursor.substring(valueEnd)};
+            }
+        } catch (NumberFormatException e) {
+            // Handled below as an invalid cursor.
+        }
+        throw new IdentityException("Invalid page cursor: " + cursor);
+    }
+
+    private List<String> getUserNamesByNumericClaimValues(String sqlStmt, String claimURI, int tenantId,
+                                                          long... claimValues) throws IdentityException {
+
+        List<String> userNames = new ArrayList<>();
+        try (Connection connection = IdentityDatabaseUtil.getDBConnection(true)) {
+            try (PreparedStatement prepStmt = connection.prepareStatement(sqlStmt)) {
+                prepStmt.setString(1, claimURI);
+                prepStmt.setInt(2, tenantId);
+                for (int i = 0; i < claimValues.length; i++) {
+                    prepStmt.setLong(i + 3, claimValues[i]);
+                }
+                try (ResultSet resultSet = prepStmt.executeQuery()) {
+                    while (resultSet.next()) {
+                        userNames.add(resultSet.getString(1));
+                    }
+                }
+                IdentityDatabaseUtil.commitTransaction(connection);
+                return userNames;
+            }
+        } catch (SQLException e) {
+            throw new IdentityException("Error occurred while retrieving users from Identity Store.", e);
+        }
+    }
+
+    /**
+     * Get the numeric value to be used with the numeric index for a claim range query.
+     *
+     * @param claimURI   Claim URI.
+     * @param claimValue Claim value.
+     * @return Numeric value or null if the numeric index can't serve the query.
+     */
+    private Long getNumericIndexValue(String claimURI, String claimValue) {
+
+        if (!isNumericClaimIndexEnabled() || !getNumericIndexedClaims().contains(claimURI)) {
+            return null;
+        }
+        return toLong(claimValue);
+    }
+
+    private boolean isNormalizedUserNameEnabled() {
+
+        return Boolean.parseBoolean(
+                IdentityUtil.getProperty(IdentityMgtConstants.PropertyConfig.NORMALIZED_USER_NAME_ENABLE));
+    }
+
+    /**
+     * Get the query matching the username of a user store, which is the case-sensitive query, the query on the
+     * normalized username column or the query on LOWER(USER_NAME), which cannot use the primary key index.
+     *
+     * @param isUsernameCaseSensitive Whether usernames are case-sensitive.
+     * @param caseSensitiveQuery      Query matching USER_NAME.
+     * @param caseInsensitiveQuery    Query matching LOWER(USER_NAME).
+     * @param normalizedQuery         Query matching NORMALIZED_USER_NAME.
+     * @return The query to be used.
+     */
+    private String getUserNameQuery(boolean isUsernameCaseSensitive, String caseSensitiveQuery,
+                                    String caseInsensitiveQuery, String normalizedQuery) {
+
+        if (isUsernameCaseSensitive) {
+            return caseSensitiveQuery;
+        }
+        return isNormalizedUserNameEnabled() ? normalizedQuery : caseInsensitiveQuery;
+    }
+
+    private String getStoreQuery(String query, String normalizedQuery) {
+
+        // The normalized username is kept for case-sensitive user stores as well, so that the column stays complete.
+        return isNormalizedUserNameEnabled() ? normalizedQuery : query;
+    }
+
+    private void setNormalizedUserName(PreparedStatement prepStmt, int index, String userName) throws SQLException {
+
+        if (isNormalizedUserNameEnabled()) {
+            prepStmt.setString(index, userName);
+        }
+    }
+
+    private boolean isNumericClaimIndexEnabled() {
+
+        return Boolean.parseBoolean(
+                IdentityUtil.getProperty(IdentityMgtConstants.PropertyConfig.NUMERIC_CLAIM_INDEX_ENABLE));
+    }
+
+    private Set<String> getNumericIndexedClaims() {
+
+        String indexedClaims = IdentityUtil.getProperty(IdentityMgtConstants.PropertyConfig.NUMERIC_CLAIM_INDEX_CLAIMS);
+        if (StringUtils.isBlank(indexedClaims)) {
+            return DEFAULT_NUMERIC_INDEX_CLAIMS;
+        }
+        Set<String> claims = new HashSet<>();
+        for (String claim : indexedClaims.split(NUMERIC_CLAIM_SEPARATOR)) {
+            if (StringUtils.isNotBlank(claim)) {
+                claims.add(claim.trim());
+            }
+        }
+        return claims;
+    }
+
+    private Long toLong(String value) {
+
+        if (StringUtils.isBlank(value)) {
+            return null;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
 
     private void populatePrepareStatement(SqlBuilder sqlBuilder, PreparedStatement prepStmt, int startIndex,
                                           int endIndex) throws SQLException {
@@ -611,25 +1224,51 @@ public class JDBCIdentityDataStore extends InMemoryIdentityDataStore {
      * Schema:
      * ||TENANT_ID || USER_NAME || DATA_KEY || DATA_VALUE ||
      * The primary key is tenantId, userName, DataKey combination
+     * <p>
+     * When the numeric claim index is enabled, timestamp claims are also kept in IDN_IDENTITY_USER_NUM_DATA with the
+     * same columns, where DATA_VALUE is a BIGINT, and an index on (TENANT_ID, DATA_KEY, DATA_VALUE) serves the range
+     * queries. The table is created, indexed and populated from the existing rows by the
+     * dbscripts/identity/governance/numeric-claim-index scripts, which should be run before enabling the index.
+     * <p>
+     * When the normalized username is enabled, both tables keep LOWER(USER_NAME) in a NORMALIZED_USER_NAME column,
+     * so that case-insensitive usernames are matched with an index on (TENANT_ID, NORMALIZED_USER_NAME) instead of a
+     * scan on LOWER(USER_NAME). The column is added, populated and indexed in existing databases by the
+     * dbscripts/identity/governance/normalized-user-name scripts, which should be run before enabling it.
      */
     private static class SQLQuery {
         public static final String STORE_USER_DATA = "INSERT INTO IDN_IDENTITY_USER_DATA (TENANT_ID, USER_NAME, " +
                 "DATA_KEY, DATA_VALUE) VALUES (?,?,?,?)";
+        public static final String STORE_USER_DATA_WITH_NORMALIZED_USER_NAME = "INSERT INTO IDN_IDENTITY_USER_DATA " +
+                "(TENANT_ID, USER_NAME, DATA_KEY, DATA_VALUE, NORMALIZED_USER_NAME) VALUES (?,?,?,?,LOWER(?))";
 
         public static final String UPDATE_USER_DATA = "UPDATE IDN_IDENTITY_USER_DATA SET DATA_VALUE=? WHERE " +
                 "TENANT_ID=? AND USER_NAME=? AND DATA_KEY=?";
         public static final String UPDATE_USER_DATA_CASE_INSENSITIVE = "UPDATE IDN_IDENTITY_USER_DATA SET " +
                 "DATA_VALUE=? WHERE TENANT_ID=? AND LOWER(USER_NAME)=LOWER(?) AND DATA_KEY=?";
+        public static final String UPDATE_USER_DATA_NORMALIZED_USER_NAME = "UPDATE IDN_IDENTITY_USER_DATA SET " +
+                "DATA_VALUE=? WHERE TENANT_ID=? AND NORMALIZED_USER_NAME=LOWER(?) AND DATA_KEY=?";
 
         public static final String LOAD_USER_DATA = "SELECT DATA_KEY, DATA_VALUE FROM IDN_IDENTITY_USER_DATA WHERE " +
                 "TENANT_ID = ? AND USER_NAME = ?";
         public static final String LOAD_USER_DATA_CASE_INSENSITIVE = "SELECT " + "DATA_KEY, DATA_VALUE FROM " +
                 "IDN_IDENTITY_USER_DATA WHERE TENANT_ID = ? AND LOWER(USER_NAME) = LOWER(?)";
+        public static final String LOAD_USER_DATA_NORMALIZED_USER_NAME = "SELECT DATA_KEY, DATA_VALUE FROM " +
+                "IDN_IDENTITY_USER_DATA WHERE TENANT_ID = ? AND NORMALIZED_USER_NAME = LOWER(?)";
+
+        // The IN-list of usernames is appended at runtime.
+        public static final String LOAD_USERS_DATA = "SELECT USER_NAME, DATA_KEY, DATA_VALUE FROM " +
+                "IDN_IDENTITY_USER_DATA WHERE TENANT_ID = ? AND USER_NAME IN ";
+        public static final String LOAD_USERS_DATA_CASE_INSENSITIVE = "SELECT USER_NAME, DATA_KEY, DATA_VALUE FROM " +
+                "IDN_IDENTITY_USER_DATA WHERE TENANT_ID = ? AND LOWER(USER_NAME) IN ";
+        public static final String LOAD_USERS_DATA_NORMALIZED_USER_NAME = "SELECT USER_NAME, DATA_KEY, DATA_VALUE " +
+                "FROM IDN_IDENTITY_USER_DATA WHERE TENANT_ID = ? AND NORMALIZED_USER_NAME IN ";
 
         public static final String DELETE_USER_DATA = "DELETE FROM IDN_IDENTITY_USER_DATA WHERE " +
                 "TENANT_ID = ? AND USER_NAME = ?";
         public static final String DELETE_USER_DATA_CASE_INSENSITIVE = "DELETE FROM IDN_IDENTITY_USER_DATA WHERE " +
                 "TENANT_ID = ? AND LOWER(USER_NAME) = LOWER(?)";
+        public static final String DELETE_USER_DATA_NORMALIZED_USER_NAME = "DELETE FROM IDN_IDENTITY_USER_DATA " +
+                "WHERE TENANT_ID = ? AND NORMALIZED_USER_NAME = LOWER(?)";
 
         static final String LIST_USERS_FROM_CLAIM =
                 "SELECT DISTINCT USER_NAME " +
@@ -648,6 +1287,46 @@ public class JDBCIdentityDataStore extends InMemoryIdentityDataStore {
                 "SELECT USER_NAME, DATA_VALUE FROM IDN_IDENTITY_USER_DATA WHERE " +
                         "DATA_KEY = ? AND TENANT_ID = ? AND DATA_VALUE < ? AND DATA_VALUE > ?";
 
+        public static final String STORE_NUMERIC_USER_DATA = "INSERT INTO IDN_IDENTITY_USER_NUM_DATA (TENANT_ID, " +
+                "USER_NAME, DATA_KEY, DATA_VALUE) VALUES (?,?,?,?)";
+        public static final String STORE_NUMERIC_USER_DATA_WITH_NORMALIZED_USER_NAME = "INSERT INTO " +
+                "IDN_IDENTITY_USER_NUM_DATA (TENANT_ID, USER_NAME, DATA_KEY, DATA_VALUE, NORMALIZED_USER_NAME) " +
+                "VALUES (?,?,?,?,LOWER(?))";
+
+        public static final String DELETE_NUMERIC_USER_DATA_BY_KEY = "DELETE FROM IDN_IDENTITY_USER_NUM_DATA WHERE " +
+                "TENANT_ID = ? AND USER_NAME = ? AND DATA_KEY = ?";
+        public static final String DELETE_NUMERIC_USER_DATA_BY_KEY_CASE_INSENSITIVE = "DELETE FROM " +
+                "IDN_IDENTITY_USER_NUM_DATA WHERE TENANT_ID = ? AND LOWER(USER_NAME) = LOWER(?) AND DATA_KEY = ?";
+        public static final String DELETE_NUMERIC_USER_DATA_BY_KEY_NORMALIZED_USER_NAME = "DELETE FROM " +
+                "IDN_IDENTITY_USER_NUM_DATA WHERE TENANT_ID = ? AND NORMALIZED_USER_NAME = LOWER(?) AND DATA_KEY = ?";
+
+        public static final String DELETE_NUMERIC_USER_DATA = "DELETE FROM IDN_IDENTITY_USER_NUM_DATA WHERE " +
+                "TENANT_ID = ? AND USER_NAME = ?";
+        public static final String DELETE_NUMERIC_USER_DATA_CASE_INSENSITIVE = "DELETE FROM " +
+                "IDN_IDENTITY_USER_NUM_DATA WHERE TENANT_ID = ? AND LOWER(USER_NAME) = LOWER(?)";
+        public static final String DELETE_NUMERIC_USER_DATA_NORMALIZED_USER_NAME = "DELETE FROM " +
+                "IDN_IDENTITY_USER_NUM_DATA WHERE TENANT_ID = ? AND NORMALIZED_USER_NAME = LOWER(?)";
+
+        public static final String FILTER_USERS_BY_NUMERIC_DATA_KEY_LESS_THAN_DATA_VALUE =
+                "SELECT USER_NAME, DATA_VALUE FROM IDN_IDENTITY_USER_NUM_DATA WHERE " +
+                        "DATA_KEY = ? AND TENANT_ID = ? AND DATA_VALUE < ?";
+
+        public static final String FILTER_USERS_BY_NUMERIC_DATA_KEY_MORE_THAN_DATA_VALUE =
+                "SELECT USER_NAME, DATA_VALUE FROM IDN_IDENTITY_USER_NUM_DATA WHERE " +
+                        "DATA_KEY = ? AND TENANT_ID = ? AND DATA_VALUE > ?";
+
+        public static final String FILTER_USERS_BY_NUMERIC_DATA_KEY_LESS_THAN_AND_GREATER_THAN_DATA_VALUES =
+                "SELECT USER_NAME, DATA_VALUE FROM IDN_IDENTITY_USER_NUM_DATA WHERE " +
+                        "DATA_KEY = ? AND TENANT_ID = ? AND DATA_VALUE < ? AND DATA_VALUE > ?";
+
+        // Portable form of (DATA_VALUE, USER_NAME) > (?, ?), as row value comparisons are not supported by all the
+        // databases. The first condition bounds the index range read.
+        public static final String FILTER_USERS_PAGE_AFTER_DATA_VALUE_AND_USER_NAME =
+                " AND DATA_VALUE >= ? AND (DATA_VALUE > ? OR USER_NAME > ?)";
+
+        public static final String FILTER_USERS_PAGE_ORDER_BY_DATA_VALUE_AND_USER_NAME =
+                " ORDER BY DATA_VALUE, USER_NAME";
+
         private SQLQuery() {
         }
     }
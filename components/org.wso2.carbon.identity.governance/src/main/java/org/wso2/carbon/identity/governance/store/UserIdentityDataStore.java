@@ -18,12 +18,16 @@ package org.wso2.carbon.identity.governance.store;
 
 import org.wso2.carbon.identity.base.IdentityException;
 import org.wso2.carbon.identity.governance.model.UserIdentityClaim;
+import org.wso2.carbon.identity.governance.model.UserNamesPage;
 import org.wso2.carbon.user.api.UserStoreManager;
 import org.wso2.carbon.user.core.UserCoreConstants;
 import org.wso2.carbon.user.core.model.ExpressionCondition;
 
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * This interface provides to plug module for preferred persistence store.
@@ -61,6 +65,22 @@ public abstract class UserIdentityDataStore {
     public abstract void store(UserIdentityClaim userIdentityDTO, UserStoreManager userStoreManager)
             throws IdentityException;
 
+    /**
+     * Stores the identity data of a set of users of the same user store.
+     *
+     * @param userIdentityDTOs Identity data of the users.
+     * @param userStoreManager UserStoreManager instance of the users.
+     * @throws IdentityException If an error occurred while storing the identity data.
+     */
+    public void storeAll(Collection<UserIdentityClaim> userIdentityDTOs, UserStoreManager userStoreManager)
+            throws IdentityException {
+
+        // Sub classes should override this to store the users in bulk. Falls back to storing the users one by one.
+        for (UserIdentityClaim userIdentityDTO : userIdentityDTOs) {
+            store(userIdentityDTO, userStoreManager);
+        }
+    }
+
     /**
      * Loads
      *
@@ -70,6 +90,25 @@ public abstract class UserIdentityDataStore {
      */
     public abstract UserIdentityClaim load(String userName, UserStoreManager userStoreManager);
 
+    /**
+     * Loads the identity data of a set of users of the same user store.
+     *
+     * @param userNames        Usernames of the users.
+     * @param userStoreManager UserStoreManager instance of the users.
+     * @return Map of the given usernames to the loaded identity data. Users without identity data are not included.
+     */
+    public Map<String, UserIdentityClaim> loadAll(Collection<String> userNames, UserStoreManager userStoreManager) {
+
+        // Sub classes should override this to load the users in bulk. Falls back to loading the users one by one.
+        Map<String, UserIdentityClaim> userIdentityClaims = new HashMap<>();
+        for (String userName : userNames) {
+            UserIdentityClaim userIdentityClaim = load(userName, userStoreManager);
+            if (userIdentityClaim != null) {
+                userIdentityClaims.put(userName, userIdentityClaim);
+            }
+        }
+        return userIdentityClaims;
+    }
 
     /**
      * Removes
@@ -161,4 +200,46 @@ public abstract class UserIdentityDataStore {
         // Return an immutable empty list if subclasses do not have any overrides.
         return Collections.emptyList();
     }
+
+    /**
+     * Get a page of the usernames who have the claim value less than the provided claim value for a given claim URI.
+     * Subclasses which can page the result in the store should override this, as the default implementation pages
+     * the complete result.
+     *
+     * @param claimURI              Claim URI.
+     * @param claimValue            Claim value.
+     * @param tenantId              Tenant ID.
+     * @param after                 Next cursor of the previous page. Null for the first page.
+     * @param limit                 Maximum number of usernames in the page.
+     * @return                      Page of usernames.
+     * @throws IdentityException    Identity exception.
+     */
+    public UserNamesPage getUserNamesLessThanProvidedClaimValue(String claimURI, String claimValue, int tenantId,
+                                                                String after, int limit) throws IdentityException {
+
+        return UserNamesPage.fromUserNames(getUserNamesLessThanProvidedClaimValue(claimURI, claimValue, tenantId),
+                after, limit);
+    }
+
+    /**
+     * Get a page of the usernames who have the claim value between the provided claim values for a given claim URI.
+     * Subclasses which can page the result in the store should override this, as the default implementation pages
+     * the complete result.
+     *
+     * @param claimURI              Claim URI.
+     * @param startValue            Start value.
+     * @param endValue              End value.
+     * @param tenantId              Tenant ID.
+     * @param after                 Next cursor of the previous page. Null for the first page.
+     * @param limit                 Maximum number of usernames in the page.
+     * @return                      Page of usernames.
+     * @throws IdentityException    Identity exception.
+     */
+    public UserNamesPage getUserNamesBetweenProvidedClaimValues(String claimURI, String startValue, String endValue,
+                                                                int tenantId, String after, int limit)
+            throws IdentityException {
+
+        return UserNamesPage.fromUserNames(
+                getUserNamesBetweenProvidedClaimValues(claimURI, startValue, endValue, tenantId), after, limit);
+    }
 }
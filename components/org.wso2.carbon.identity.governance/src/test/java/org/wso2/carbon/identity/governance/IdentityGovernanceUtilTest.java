@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.governance;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * Tests of IdentityGovernanceUtil.
+ */
+public class IdentityGovernanceUtilTest {
+
+    private static final String PROPERTY_NAME = "Test.Property";
+
+    @DataProvider(name = "numericPropertyValues")
+    public Object[][] numericPropertyValues() {
+
+        return new Object[][]{
+                {null, 10L},
+                {" ", 10L},
+                {"5", 5L},
+                {" 5 ", 5L},
+                {"1", 1L},
+                {"0", 10L},
+                {"-5", 10L},
+                {"abc", 10L},
+                {"2147483648", 10L}
+        };
+    }
+
+    @Test(dataProvider = "numericPropertyValues")
+    public void testGetNumericProperty(String value, long expectedValue) {
+
+        Assert.assertEquals(IdentityGovernanceUtil.getNumericProperty(PROPERTY_NAME, value, 10, 1), expectedValue);
+    }
+}
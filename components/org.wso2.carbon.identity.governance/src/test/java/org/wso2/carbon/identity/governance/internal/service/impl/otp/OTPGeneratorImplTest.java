@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.governance.internal.service.impl.otp;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.governance.IdentityMgtConstants;
+
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+public class OTPGeneratorImplTest {
+
+    private final OTPGeneratorImpl otpGenerator = new OTPGeneratorImpl();
+
+    @DataProvider(name = "characterTypes")
+    public Object[][] characterTypes() {
+
+        return new Object[][]{
+                {true, false, false, "[0-9]+"},
+                {false, true, false, "[" + IdentityMgtConstants.OTPGeneratorConstants
+                        .OTP_GENERATE_ALPHABET_CHAR_SET_UPPERCASE + "]+"},
+                {false, false, true, "[" + IdentityMgtConstants.OTPGeneratorConstants
+                        .OTP_GENERATE_ALPHABET_CHAR_SET_LOWERCASE + "]+"},
+                {true, true, false, "[A-Z1-9]+"},
+                {false, false, false, "[A-Za-z1-9]+"}
+        };
+    }
+
+    @Test(dataProvider = "characterTypes")
+    public void testGenerateOTP(boolean useNumeric, boolean useUppercaseLetters, boolean useLowercaseLetters,
+                                String pattern) {
+
+        String otp = otpGenerator.generateOTP(useNumeric, useUppercaseLetters, useLowercaseLetters, 8, null);
+
+        assertEquals(otp.length(), 8);
+        assertTrue(otp.matches(pattern), "Unexpected characters in the OTP: " + otp);
+    }
+
+    @Test
+    public void testGenerateOTPWithInvalidLength() {
+
+        String otp = otpGenerator.generateOTP(true, true, true,
+                IdentityMgtConstants.OTPGeneratorConstants.OTP_CODE_MAX_LENGTH + 1, null);
+
+        assertEquals(otp.length(), IdentityMgtConstants.OTPGeneratorConstants.OTP_CODE_DEFAULT_LENGTH);
+    }
+
+    @Test
+    public void testGenerateOTPs() {
+
+        List<String> otps = otpGenerator.generateOTPs("ABC", 12, 50, null);
+
+        assertEquals(otps.size(), 50);
+        for (String otp : otps) {
+            assertEquals(otp.length(), 12);
+            assertTrue(otp.matches("[ABC]+"), "Unexpected characters in the OTP: " + otp);
+        }
+    }
+
+    @Test
+    public void testGenerateOTPsWithCharacterTypes() {
+
+        List<String> otps = otpGenerator.generateOTPs(true, false, false, 0, 10, null);
+
+        assertEquals(otps.size(), 10);
+        for (String otp : otps) {
+            assertEquals(otp.length(), IdentityMgtConstants.OTPGeneratorConstants.OTP_CODE_DEFAULT_LENGTH);
+            assertTrue(otp.matches("[0-9]+"), "Unexpected characters in the OTP: " + otp);
+        }
+    }
+}
@@ -27,6 +27,7 @@ import org.testng.annotations.AfterClass;
 import org.testng.annotations.BeforeTest;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
 import org.wso2.carbon.identity.core.model.IdentityEventListenerConfig;
 import org.wso2.carbon.identity.core.model.IdentityEventListenerConfigKey;
 import org.wso2.carbon.identity.core.util.IdentityCoreConstants;
@@ -38,12 +39,18 @@ import org.wso2.carbon.identity.governance.service.IdentityDataStoreService;
 import org.wso2.carbon.identity.governance.service.IdentityDataStoreServiceImpl;
 import org.wso2.carbon.identity.governance.store.UserIdentityDataStore;
 import org.wso2.carbon.user.api.RealmConfiguration;
+import org.wso2.carbon.user.core.UserRealm;
 import org.wso2.carbon.user.core.UserStoreException;
 import org.wso2.carbon.user.core.UserStoreManager;
+import org.wso2.carbon.user.core.model.UserClaimSearchEntry;
+import org.wso2.carbon.user.core.service.RealmService;
+import org.wso2.carbon.user.core.tenant.TenantManager;
 import org.wso2.carbon.user.core.util.UserCoreUtil;
 
 import java.lang.reflect.Field;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -54,6 +61,7 @@ import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertTrue;
 
 public class IdentityStoreEventListenerTest {
@@ -376,4 +384,87 @@ public class IdentityStoreEventListenerTest {
 
         Assert.assertTrue(identityStoreEventListener.doPostDeleteUser(username, userStoreManager));
     }
+
+    @Test
+    public void testDoPostGetUsersClaimValues() throws Exception {
+
+        String lastLoginTimeClaim = "http://wso2.org/claims/identity/lastLogonTime";
+        String emailClaim = "http://wso2.org/claims/emailaddress";
+        userIdentityDataStore = mock(UserIdentityDataStore.class);
+        Field fieldIdentityDataStoreService = IdentityDataStoreServiceImpl.class
+                .getDeclaredField("identityDataStore");
+        fieldIdentityDataStoreService.setAccessible(true);
+        fieldIdentityDataStoreService.set(identityDataStoreService, userIdentityDataStore);
+
+        UserStoreManager primaryUserStoreManager = mock(UserStoreManager.class);
+        UserStoreManager secondaryUserStoreManager = mock(UserStoreManager.class);
+        RealmConfiguration primaryRealmConfiguration = mock(RealmConfiguration.class);
+        RealmConfiguration secondaryRealmConfiguration = mock(RealmConfiguration.class);
+        Mockito.when(primaryUserStoreManager.getRealmConfiguration()).thenReturn(primaryRealmConfiguration);
+        Mockito.when(secondaryUserStoreManager.getRealmConfiguration()).thenReturn(secondaryRealmConfiguration);
+        Mockito.when(primaryUserStoreManager.getSecondaryUserStoreManager("PRIMARY"))
+                .thenReturn(primaryUserStoreManager);
+        Mockito.when(primaryUserStoreManager.getSecondaryUserStoreManager("SECONDARY"))
+                .thenReturn(secondaryUserStoreManager);
+        UserRealm userRealm = mock(UserRealm.class);
+        Mockito.when(userRealm.getUserStoreManager()).thenReturn(primaryUserStoreManager);
+        TenantManager tenantManager = mock(TenantManager.class);
+        Mockito.when(tenantManager.getTenantId(anyString())).thenReturn(TENANT_ID);
+        RealmService realmService = mock(RealmService.class);
+        Mockito.when(realmService.getTenantManager()).thenReturn(tenantManager);
+        Mockito.when(realmService.getTenantUserRealm(TENANT_ID)).thenReturn(userRealm);
+        RealmService previousRealmService = IdentityMgtServiceDataHolder.getInstance().getRealmService();
+        IdentityMgtServiceDataHolder.getInstance().setRealmService(realmService);
+
+        // The identity data of the users of each user store is loaded at once.
+        Map<String, UserIdentityClaim> primaryUserData = new HashMap<>();
+        primaryUserData.put("user1", new UserIdentityClaim("user1",
+                Collections.singletonMap(lastLoginTimeClaim, "1000")));
+        Mockito.when(userIdentityDataStore.loadAll(Arrays.asList("user1", "user2"), primaryUserStoreManager))
+                .thenReturn(primaryUserData);
+        Map<String, UserIdentityClaim> secondaryUserData = new HashMap<>();
+        secondaryUserData.put("SECONDARY/user3", new UserIdentityClaim("SECONDARY/user3",
+                Collections.singletonMap(lastLoginTimeClaim, "3000")));
+        Mockito.when(userIdentityDataStore.loadAll(Collections.singletonList("SECONDARY/user3"),
+                secondaryUserStoreManager)).thenReturn(secondaryUserData);
+
+        UserClaimSearchEntry[] userClaimSearchEntries = new UserClaimSearchEntry[]{
+                buildUserClaimSearchEntry("user1", emailClaim, lastLoginTimeClaim),
+                buildUserClaimSearchEntry("user2", emailClaim, lastLoginTimeClaim),
+                buildUserClaimSearchEntry("SECONDARY/user3", emailClaim, lastLoginTimeClaim)};
+
+        PrivilegedCarbonContext carbonContext = mock(PrivilegedCarbonContext.class);
+        Mockito.when(carbonContext.getTenantDomain()).thenReturn("carbon.super");
+        try (MockedStatic<PrivilegedCarbonContext> mockedPrivilegedCarbonContext =
+                     Mockito.mockStatic(PrivilegedCarbonContext.class)) {
+            mockedPrivilegedCarbonContext.when(PrivilegedCarbonContext::getThreadLocalCarbonContext)
+                    .thenReturn(carbonContext);
+            IdentityStoreEventListener listener = new IdentityStoreEventListener();
+            assertTrue(listener.doPostGetUsersClaimValues(new String[]{"user1", "user2", "SECONDARY/user3"},
+                    new String[]{emailClaim, lastLoginTimeClaim}, "default", userClaimSearchEntries));
+        } finally {
+            IdentityMgtServiceDataHolder.getInstance().setRealmService(previousRealmService);
+        }
+
+        Mockito.verify(userIdentityDataStore, Mockito.times(2)).loadAll(Mockito.anyCollection(),
+                Mockito.any(UserStoreManager.class));
+        assertEquals(userClaimSearchEntries[0].getClaims().get(lastLoginTimeClaim), "1000");
+        assertEquals(userClaimSearchEntries[0].getClaims().get(emailClaim), "user1@wso2.com");
+        // Identity claims of the user store are not used for the users without identity data.
+        assertFalse(userClaimSearchEntries[1].getClaims().containsKey(lastLoginTimeClaim));
+        assertEquals(userClaimSearchEntries[1].getClaims().get(emailClaim), "user2@wso2.com");
+        assertEquals(userClaimSearchEntries[2].getClaims().get(lastLoginTimeClaim), "3000");
+    }
+
+    private UserClaimSearchEntry buildUserClaimSearchEntry(String username, String emailClaim,
+                                                           String lastLoginTimeClaim) {
+
+        Map<String, String> claims = new HashMap<>();
+        claims.put(emailClaim, UserCoreUtil.removeDomainFromName(username) + "@wso2.com");
+        claims.put(lastLoginTimeClaim, "0");
+        UserClaimSearchEntry userClaimSearchEntry = new UserClaimSearchEntry();
+        userClaimSearchEntry.setUserName(username);
+        userClaimSearchEntry.setClaims(claims);
+        return userClaimSearchEntry;
+    }
 }
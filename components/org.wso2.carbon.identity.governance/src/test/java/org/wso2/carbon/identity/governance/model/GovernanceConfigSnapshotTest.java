@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.governance.model;
+
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.application.common.model.IdentityProviderProperty;
+import org.wso2.carbon.identity.application.common.model.Property;
+import org.wso2.carbon.identity.event.IdentityEventConstants;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+public class GovernanceConfigSnapshotTest {
+
+    @Test
+    public void testBuild() {
+
+        GovernanceConfigSnapshot snapshot = GovernanceConfigSnapshot.build(new IdentityProviderProperty[]{
+                createProperty("account.lock.handler.enable", "true"),
+                createProperty("account.lock.handler.On.Failure.Max.Attempts", "5"),
+                createProperty("Recovery.CallbackRegex", ".*"),
+                createProperty(IdentityEventConstants.PropertyConfig.ALREADY_WRITTEN_PROPERTY_KEY, "true")});
+
+        assertTrue(snapshot.getBoolean("account.lock.handler.enable", false));
+        assertEquals(snapshot.getInt("account.lock.handler.On.Failure.Max.Attempts", 0), 5);
+        assertEquals(snapshot.getInt("Recovery.CallbackRegex", 3), 3);
+        assertFalse(snapshot.getBoolean("Recovery.CallbackRegex", false));
+        assertEquals(snapshot.getValue("Recovery.CallbackRegex"), ".*");
+        assertFalse(snapshot.contains(IdentityEventConstants.PropertyConfig.ALREADY_WRITTEN_PROPERTY_KEY));
+        assertEquals(snapshot.getProperties().length, 3);
+        assertNull(snapshot.getProperty("non.existing.property"));
+    }
+
+    @Test
+    public void testGetPropertyReturnsCopy() {
+
+        GovernanceConfigSnapshot snapshot = GovernanceConfigSnapshot.build(new IdentityProviderProperty[]{
+                createProperty("Recovery.Notification.Password.Enable", "false")});
+
+        Property property = snapshot.getProperty("Recovery.Notification.Password.Enable");
+        property.setValue("true");
+
+        assertNotSame(snapshot.getProperty("Recovery.Notification.Password.Enable"), property);
+        assertEquals(snapshot.getValue("Recovery.Notification.Password.Enable"), "false");
+    }
+
+    private IdentityProviderProperty createProperty(String name, String value) {
+
+        IdentityProviderProperty property = new IdentityProviderProperty();
+        property.setName(name);
+        property.setValue(value);
+        return property;
+    }
+}
@@ -0,0 +1,391 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.governance.store;
+
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.base.IdentityException;
+import org.wso2.carbon.identity.core.util.IdentityDatabaseUtil;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.identity.governance.IdentityMgtConstants;
+import org.wso2.carbon.identity.governance.internal.cache.IdentityDataStoreCache;
+import org.wso2.carbon.identity.governance.internal.cache.IdentityDataStoreCacheKey;
+import org.wso2.carbon.identity.governance.model.UserIdentityClaim;
+import org.wso2.carbon.user.api.RealmConfiguration;
+import org.wso2.carbon.user.core.UserCoreConstants;
+import org.wso2.carbon.user.core.UserStoreManager;
+
+import java.nio.file.Paths;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+/**
+ * Tests of JDBCIdentityDataStore against an in memory H2 database. The identity data store cache is backed by a map.
+ */
+public class JDBCIdentityDataStoreTest {
+
+    private static final String DB_URL = "jdbc:h2:mem:jdbc_identity_data_store;DB_CLOSE_DELAY=-1";
+    private static final String DB_SCRIPT = Paths.get(System.getProperty("user.dir"), "src", "test", "resources",
+            "dbscripts", "h2.sql").toString();
+    private static final int TENANT_ID = -1234;
+    private static final String DOMAIN_NAME = "SECONDARY";
+    private static final String ACCOUNT_LOCKED = "http://wso2.org/claims/identity/accountLocked";
+
+    private Connection keepAliveConnection;
+    private MockedStatic<IdentityDatabaseUtil> mockedIdentityDatabaseUtil;
+    private MockedStatic<IdentityUtil> mockedIdentityUtil;
+    private MockedStatic<IdentityDataStoreCache> mockedIdentityDataStoreCache;
+    private Map<IdentityDataStoreCacheKey, UserIdentityClaim> cache;
+    private UserStoreManager userStoreManager;
+    private JDBCIdentityDataStore identityDataStore;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+
+        keepAliveConnection = DriverManager.getConnection(DB_URL);
+        try (Statement statement = keepAliveConnection.createStatement()) {
+            statement.executeUpdate("RUNSCRIPT FROM '" + DB_SCRIPT + "'");
+        }
+
+        mockedIdentityDatabaseUtil = Mockito.mockStatic(IdentityDatabaseUtil.class);
+        mockedIdentityDatabaseUtil.when(IdentityDatabaseUtil::getDBConnection)
+                .thenAnswer(invocation -> getConnection(true));
+        mockedIdentityDatabaseUtil.when(() -> IdentityDatabaseUtil.getDBConnection(anyBoolean()))
+                .thenAnswer(invocation -> getConnection(invocation.getArgument(0)));
+        mockedIdentityDatabaseUtil.when(() -> IdentityDatabaseUtil.commitTransaction(any(Connection.class)))
+                .thenAnswer(invocation -> {
+                    invocation.<Connection>getArgument(0).commit();
+                    return null;
+                });
+        mockedIdentityDatabaseUtil.when(() -> IdentityDatabaseUtil.rollbackTransaction(any(Connection.class)))
+                .thenAnswer(invocation -> {
+                    invocation.<Connection>getArgument(0).rollback();
+                    return null;
+                });
+        mockedIdentityDatabaseUtil.when(() -> IdentityDatabaseUtil.closeConnection(any(Connection.class)))
+                .thenAnswer(invocation -> {
+                    invocation.<Connection>getArgument(0).close();
+                    return null;
+                });
+
+        mockedIdentityUtil = Mockito.mockStatic(IdentityUtil.class);
+        mockedIdentityUtil.when(() -> IdentityUtil.isUseCaseSensitiveUsernameForCacheKeys(
+                any(UserStoreManager.class))).thenReturn(true);
+        setUsernameCaseSensitive(true);
+
+        cache = new HashMap<>();
+        IdentityDataStoreCache identityDataStoreCache = mock(IdentityDataStoreCache.class);
+        when(identityDataStoreCache.getValueFromCache(any(IdentityDataStoreCacheKey.class), anyInt()))
+                .thenAnswer(invocation -> cache.get(invocation.<IdentityDataStoreCacheKey>getArgument(0)));
+        doAnswer(invocation -> cache.put(invocation.getArgument(0), invocation.getArgument(1)))
+                .when(identityDataStoreCache).addToCache(any(IdentityDataStoreCacheKey.class),
+                        any(UserIdentityClaim.class), anyInt());
+        mockedIdentityDataStoreCache = Mockito.mockStatic(IdentityDataStoreCache.class);
+        mockedIdentityDataStoreCache.when(IdentityDataStoreCache::getInstance).thenReturn(identityDataStoreCache);
+
+        RealmConfiguration realmConfiguration = mock(RealmConfiguration.class);
+        when(realmConfiguration.getUserStoreProperty(UserCoreConstants.RealmConfig.PROPERTY_DOMAIN_NAME))
+                .thenReturn(DOMAIN_NAME);
+        userStoreManager = mock(UserStoreManager.class);
+        when(userStoreManager.getRealmConfiguration()).thenReturn(realmConfiguration);
+        when(userStoreManager.getTenantId()).thenReturn(TENANT_ID);
+
+        identityDataStore = new JDBCIdentityDataStore();
+    }
+
+    @AfterMethod
+    public void tearDown() throws Exception {
+
+        mockedIdentityDataStoreCache.close();
+        mockedIdentityUtil.close();
+        mockedIdentityDatabaseUtil.close();
+        try (Statement statement = keepAliveConnection.createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+        }
+        keepAliveConnection.close();
+    }
+
+    @Test
+    public void testStoreAll() throws Exception {
+
+        enableNumericClaimIndex();
+        insertUserData("SECONDARY/user0", ACCOUNT_LOCKED, "true");
+        insertUserData("SECONDARY/user0", IdentityMgtConstants.Claim.LAST_LOGIN_TIME, "1000");
+
+        // More users than a single batch.
+        List<UserIdentityClaim> userIdentityClaims = new ArrayList<>();
+        for (int i = 0; i < 150; i++) {
+            Map<String, String> claims = new HashMap<>();
+            claims.put(IdentityMgtConstants.Claim.LAST_LOGIN_TIME, String.valueOf(2000 + i));
+            userIdentityClaims.add(new UserIdentityClaim("user" + i, claims));
+        }
+        identityDataStore.storeAll(userIdentityClaims, userStoreManager);
+
+        assertEquals(getDataValue("IDN_IDENTITY_USER_DATA", "SECONDARY/user0",
+                IdentityMgtConstants.Claim.LAST_LOGIN_TIME), "2000");
+        assertEquals(getDataValue("IDN_IDENTITY_USER_DATA", "SECONDARY/user149",
+                IdentityMgtConstants.Claim.LAST_LOGIN_TIME), "2149");
+        assertEquals(getDataValue("IDN_IDENTITY_USER_NUM_DATA", "SECONDARY/user0",
+                IdentityMgtConstants.Claim.LAST_LOGIN_TIME), "2000");
+        assertEquals(getDataValue("IDN_IDENTITY_USER_NUM_DATA", "SECONDARY/user149",
+                IdentityMgtConstants.Claim.LAST_LOGIN_TIME), "2149");
+        assertEquals(count("IDN_IDENTITY_USER_DATA"), 151);
+        assertEquals(count("IDN_IDENTITY_USER_NUM_DATA"), 150);
+
+        // The cache holds the complete identity data of the users.
+        UserIdentityClaim cachedClaim = cache.get(new IdentityDataStoreCacheKey(DOMAIN_NAME, "user0"));
+        assertEquals(cachedClaim.getUserIdentityDataMap().get(ACCOUNT_LOCKED), "true");
+        assertEquals(cachedClaim.getUserIdentityDataMap().get(IdentityMgtConstants.Claim.LAST_LOGIN_TIME), "2000");
+    }
+
+    @Test
+    public void testStoreAllFailure() throws Exception {
+
+        enableNumericClaimIndex();
+        insertUserData("SECONDARY/user0", IdentityMgtConstants.Claim.LAST_LOGIN_TIME, "1000");
+        try (Statement statement = keepAliveConnection.createStatement()) {
+            statement.execute("DROP TABLE IDN_IDENTITY_USER_NUM_DATA");
+        }
+
+        List<UserIdentityClaim> userIdentityClaims = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            Map<String, String> claims = new HashMap<>();
+            claims.put(IdentityMgtConstants.Claim.LAST_LOGIN_TIME, String.valueOf(2000 + i));
+            userIdentityClaims.add(new UserIdentityClaim("user" + i, claims));
+        }
+        try {
+            identityDataStore.storeAll(userIdentityClaims, userStoreManager);
+            fail("Storing the identity data should fail without the numeric index table.");
+        } catch (IdentityException e) {
+            // The whole batch is rolled back and nothing is cached.
+            assertEquals(getDataValue("IDN_IDENTITY_USER_DATA", "SECONDARY/user0",
+                    IdentityMgtConstants.Claim.LAST_LOGIN_TIME), "1000");
+            assertNull(getDataValue("IDN_IDENTITY_USER_DATA", "SECONDARY/user1",
+                    IdentityMgtConstants.Claim.LAST_LOGIN_TIME));
+            assertTrue(cache.isEmpty());
+        }
+    }
+
+    @Test
+    public void testLoadAll() throws Exception {
+
+        // More users than a single batch, of which user0 is cached and the last user has no identity data.
+        List<String> userNames = new ArrayList<>();
+        for (int i = 0; i <= 150; i++) {
+            userNames.add("user" + i);
+            if (i < 150) {
+                insertUserData("SECONDARY/user" + i, IdentityMgtConstants.Claim.LAST_LOGIN_TIME,
+                        String.valueOf(1000 + i));
+            }
+        }
+        cache.put(new IdentityDataStoreCacheKey(DOMAIN_NAME, "user0"), new UserIdentityClaim("SECONDARY/user0",
+                new HashMap<>(Collections.singletonMap(ACCOUNT_LOCKED, "true"))));
+
+        Map<String, UserIdentityClaim> userIdentityClaims = identityDataStore.loadAll(userNames, userStoreManager);
+
+        assertEquals(userIdentityClaims.size(), 151);
+        assertEquals(userIdentityClaims.get("user0").getUserIdentityDataMap(),
+                Collections.singletonMap(ACCOUNT_LOCKED, "true"));
+        assertEquals(userIdentityClaims.get("user1").getUserIdentityDataMap(),
+                Collections.singletonMap(IdentityMgtConstants.Claim.LAST_LOGIN_TIME, "1001"));
+        assertEquals(userIdentityClaims.get("user149").getUserIdentityDataMap(),
+                Collections.singletonMap(IdentityMgtConstants.Claim.LAST_LOGIN_TIME, "1149"));
+        assertTrue(userIdentityClaims.get("user150").getUserIdentityDataMap().isEmpty());
+
+        // The loaded users, including the ones without identity data, are cached.
+        assertEquals(cache.size(), 151);
+        assertTrue(cache.get(new IdentityDataStoreCacheKey(DOMAIN_NAME, "user150")).getUserIdentityDataMap()
+                .isEmpty());
+    }
+
+    @Test
+    public void testLoadAllCaseInsensitive() throws Exception {
+
+        setUsernameCaseSensitive(false);
+        insertUserData("SECONDARY/Alice", IdentityMgtConstants.Claim.LAST_LOGIN_TIME, "1000");
+        insertUserData("SECONDARY/bob", IdentityMgtConstants.Claim.LAST_LOGIN_TIME, "2000");
+
+        Map<String, UserIdentityClaim> userIdentityClaims = identityDataStore.loadAll(Arrays.asList("ALICE", "Bob"),
+                userStoreManager);
+
+        assertEquals(userIdentityClaims.size(), 2);
+        assertEquals(userIdentityClaims.get("ALICE").getUserIdentityDataMap(),
+                Collections.singletonMap(IdentityMgtConstants.Claim.LAST_LOGIN_TIME, "1000"));
+        assertEquals(userIdentityClaims.get("Bob").getUserIdentityDataMap(),
+                Collections.singletonMap(IdentityMgtConstants.Claim.LAST_LOGIN_TIME, "2000"));
+        // Users are cached with lower case usernames in case insensitive user stores.
+        assertTrue(cache.containsKey(new IdentityDataStoreCacheKey(DOMAIN_NAME, "alice")));
+        assertTrue(cache.containsKey(new IdentityDataStoreCacheKey(DOMAIN_NAME, "bob")));
+    }
+
+    @Test
+    public void testNormalizedUserName() throws Exception {
+
+        setUsernameCaseSensitive(false);
+        enableNumericClaimIndex();
+        mockedIdentityUtil.when(() -> IdentityUtil.getProperty(
+                IdentityMgtConstants.PropertyConfig.NORMALIZED_USER_NAME_ENABLE)).thenReturn("true");
+        insertUserData("SECONDARY/Bob", IdentityMgtConstants.Claim.LAST_LOGIN_TIME, "1000");
+
+        // Store.
+        Map<String, String> claims = new HashMap<>();
+        claims.put(IdentityMgtConstants.Claim.LAST_LOGIN_TIME, "1000");
+        claims.put(ACCOUNT_LOCKED, "false");
+        identityDataStore.store(new UserIdentityClaim("Alice", claims), userStoreManager);
+        assertEquals(getNormalizedUserName("IDN_IDENTITY_USER_DATA", "SECONDARY/Alice"), "secondary/alice");
+        assertEquals(getNormalizedUserName("IDN_IDENTITY_USER_NUM_DATA", "SECONDARY/Alice"), "secondary/alice");
+
+        // Load.
+        cache.clear();
+        assertEquals(identityDataStore.load("ALICE", userStoreManager).getUserIdentityDataMap(), claims);
+
+        // Update.
+        identityDataStore.store(new UserIdentityClaim("aLiCe",
+                new HashMap<>(Collections.singletonMap(IdentityMgtConstants.Claim.LAST_LOGIN_TIME, "2000"))),
+                userStoreManager);
+        assertEquals(getDataValue("IDN_IDENTITY_USER_DATA", "SECONDARY/Alice",
+                IdentityMgtConstants.Claim.LAST_LOGIN_TIME), "2000");
+        assertEquals(getDataValue("IDN_IDENTITY_USER_NUM_DATA", "SECONDARY/Alice",
+                IdentityMgtConstants.Claim.LAST_LOGIN_TIME), "2000");
+        assertEquals(count("IDN_IDENTITY_USER_DATA"), 3);
+        assertEquals(count("IDN_IDENTITY_USER_NUM_DATA"), 1);
+
+        // Bulk load.
+        cache.clear();
+        Map<String, UserIdentityClaim> userIdentityClaims = identityDataStore.loadAll(Arrays.asList("alice", "BOB"),
+                userStoreManager);
+        assertEquals(userIdentityClaims.get("alice").getUserIdentityDataMap().get(
+                IdentityMgtConstants.Claim.LAST_LOGIN_TIME), "2000");
+        assertEquals(userIdentityClaims.get("BOB").getUserIdentityDataMap(),
+                Collections.singletonMap(IdentityMgtConstants.Claim.LAST_LOGIN_TIME, "1000"));
+
+        // Bulk store.
+        identityDataStore.storeAll(Arrays.asList(
+                new UserIdentityClaim("ALICE", new HashMap<>(Collections.singletonMap(
+                        IdentityMgtConstants.Claim.LAST_LOGIN_TIME, "3000"))),
+                new UserIdentityClaim("bob", new HashMap<>(Collections.singletonMap(
+                        IdentityMgtConstants.Claim.LAST_LOGIN_TIME, "4000")))), userStoreManager);
+        assertEquals(getDataValue("IDN_IDENTITY_USER_DATA", "SECONDARY/Alice",
+                IdentityMgtConstants.Claim.LAST_LOGIN_TIME), "3000");
+        assertEquals(getDataValue("IDN_IDENTITY_USER_DATA", "SECONDARY/Bob",
+                IdentityMgtConstants.Claim.LAST_LOGIN_TIME), "4000");
+        assertEquals(count("IDN_IDENTITY_USER_DATA"), 3);
+        assertEquals(count("IDN_IDENTITY_USER_NUM_DATA"), 2);
+
+        // Delete.
+        identityDataStore.remove("ALICE", userStoreManager);
+        assertNull(getNormalizedUserName("IDN_IDENTITY_USER_DATA", "SECONDARY/Alice"));
+        assertNull(getNormalizedUserName("IDN_IDENTITY_USER_NUM_DATA", "SECONDARY/Alice"));
+        assertEquals(getDataValue("IDN_IDENTITY_USER_DATA", "SECONDARY/Bob",
+                IdentityMgtConstants.Claim.LAST_LOGIN_TIME), "4000");
+    }
+
+    private Connection getConnection(boolean shouldApplyTransaction) throws SQLException {
+
+        Connection connection = DriverManager.getConnection(DB_URL);
+        connection.setAutoCommit(!shouldApplyTransaction);
+        return connection;
+    }
+
+    private void setUsernameCaseSensitive(boolean isUsernameCaseSensitive) {
+
+        mockedIdentityUtil.when(() -> IdentityUtil.isUserStoreInUsernameCaseSensitive(anyString(), anyInt()))
+                .thenReturn(isUsernameCaseSensitive);
+        mockedIdentityUtil.when(() -> IdentityUtil.isUserStoreCaseSensitive(any(UserStoreManager.class)))
+                .thenReturn(isUsernameCaseSensitive);
+    }
+
+    private void enableNumericClaimIndex() {
+
+        mockedIdentityUtil.when(() -> IdentityUtil.getProperty(
+                IdentityMgtConstants.PropertyConfig.NUMERIC_CLAIM_INDEX_ENABLE)).thenReturn("true");
+    }
+
+    private void insertUserData(String userName, String key, String value) throws SQLException {
+
+        try (PreparedStatement prepStmt = keepAliveConnection.prepareStatement("INSERT INTO IDN_IDENTITY_USER_DATA " +
+                "(TENANT_ID, USER_NAME, DATA_KEY, DATA_VALUE, NORMALIZED_USER_NAME) VALUES (?, ?, ?, ?, LOWER(?))")) {
+            prepStmt.setInt(1, TENANT_ID);
+            prepStmt.setString(2, userName);
+            prepStmt.setString(3, key);
+            prepStmt.setString(4, value);
+            prepStmt.setString(5, userName);
+            prepStmt.execute();
+        }
+    }
+
+    private String getDataValue(String table, String userName, String key) throws SQLException {
+
+        try (PreparedStatement prepStmt = keepAliveConnection.prepareStatement("SELECT DATA_VALUE FROM " + table +
+                " WHERE TENANT_ID = ? AND USER_NAME = ? AND DATA_KEY = ?")) {
+            prepStmt.setInt(1, TENANT_ID);
+            prepStmt.setString(2, userName);
+            prepStmt.setString(3, key);
+            try (ResultSet resultSet = prepStmt.executeQuery()) {
+                return resultSet.next() ? resultSet.getString(1) : null;
+            }
+        }
+    }
+
+    private String getNormalizedUserName(String table, String userName) throws SQLException {
+
+        try (PreparedStatement prepStmt = keepAliveConnection.prepareStatement("SELECT DISTINCT NORMALIZED_USER_NAME " +
+                "FROM " + table + " WHERE TENANT_ID = ? AND USER_NAME = ?")) {
+            prepStmt.setInt(1, TENANT_ID);
+            prepStmt.setString(2, userName);
+            try (ResultSet resultSet = prepStmt.executeQuery()) {
+                return resultSet.next() ? resultSet.getString(1) : null;
+            }
+        }
+    }
+
+    private int count(String table) throws SQLException {
+
+        try (PreparedStatement prepStmt = keepAliveConnection.prepareStatement("SELECT COUNT(*) FROM " + table);
+             ResultSet resultSet = prepStmt.executeQuery()) {
+            resultSet.next();
+            return resultSet.getInt(1);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+CREATE TABLE IF NOT EXISTS IDN_IDENTITY_USER_DATA (
+            TENANT_ID INTEGER DEFAULT -1234,
+            USER_NAME VARCHAR(255) NOT NULL,
+            DATA_KEY VARCHAR(255) NOT NULL,
+            DATA_VALUE VARCHAR(2048),
+            NORMALIZED_USER_NAME VARCHAR(255),
+            PRIMARY KEY (TENANT_ID, USER_NAME, DATA_KEY)
+);
+
+CREATE TABLE IF NOT EXISTS IDN_IDENTITY_USER_NUM_DATA (
+            TENANT_ID INTEGER DEFAULT -1234,
+            USER_NAME VARCHAR(255) NOT NULL,
+            DATA_KEY VARCHAR(255) NOT NULL,
+            DATA_VALUE BIGINT,
+            NORMALIZED_USER_NAME VARCHAR(255),
+            PRIMARY KEY (TENANT_ID, USER_NAME, DATA_KEY)
+);
+
+CREATE INDEX IF NOT EXISTS IDX_IDN_IDENTITY_USER_NUM_DATA ON IDN_IDENTITY_USER_NUM_DATA (TENANT_ID, DATA_KEY,
+DATA_VALUE);
+
+CREATE INDEX IF NOT EXISTS IDX_IDN_IDENTITY_USER_DATA_NUN ON IDN_IDENTITY_USER_DATA (TENANT_ID, NORMALIZED_USER_NAME);
+
+CREATE INDEX IF NOT EXISTS IDX_IDN_IDENTITY_USER_NUM_NUN ON IDN_IDENTITY_USER_NUM_DATA (TENANT_ID,
+NORMALIZED_USER_NAME);
@@ -27,6 +27,8 @@ public class IdleAccIdentificationConstants {
 
     public static final String LAST_LOGIN_TIME_CLAIM = "http://wso2.org/claims/identity/lastLogonTime";
 
+    public static final int MAX_PAGE_SIZE = 1000;
+
     /**
      * Class containing SQL queries.
      */
@@ -46,6 +48,11 @@ public class IdleAccIdentificationConstants {
      */
     public enum ErrorMessages {
 
+        // Client errors 600xx.
+        ERROR_INVALID_LIMIT("60001",
+                "Invalid limit.",
+                "The limit should be a positive integer, but provided: %s."),
+
         // Server errors 650xx.
         ERROR_RETRIEVE_INACTIVE_USERS_FROM_DB("65002",
                 "Error while retrieving inactive users from database.",
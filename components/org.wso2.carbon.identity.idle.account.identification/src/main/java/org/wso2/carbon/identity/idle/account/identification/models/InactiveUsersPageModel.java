@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.identity.idle.account.identification.models;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Object for a page of inactive users.
+ */
+public class InactiveUsersPageModel {
+
+    private List<InactiveUserModel> inactiveUsers = new ArrayList<>();
+    private String nextCursor;
+
+    /**
+     * Method to get the inactive users of the page.
+     *
+     * @return inactive users.
+     */
+    public List<InactiveUserModel> getInactiveUsers() {
+
+        return inactiveUsers;
+    }
+
+    /**
+     * Method to set the inactive users of the page.
+     */
+    public void setInactiveUsers(List<InactiveUserModel> inactiveUsers) {
+
+        this.inactiveUsers = inactiveUsers;
+    }
+
+    /**
+     * Method to get the cursor of the next page.
+     *
+     * @return cursor of the next page or null if this is the last page.
+     */
+    public String getNextCursor() {
+
+        return nextCursor;
+    }
+
+    /**
+     * Method to set the cursor of the next page.
+     */
+    public void setNextCursor(String nextCursor) {
+
+        this.nextCursor = nextCursor;
+    }
+}
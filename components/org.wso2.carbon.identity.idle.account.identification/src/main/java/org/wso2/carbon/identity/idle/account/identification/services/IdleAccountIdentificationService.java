@@ -2,6 +2,7 @@ package org.wso2.carbon.identity.idle.account.identification.services;
 
 import org.wso2.carbon.identity.idle.account.identification.exception.IdleAccountIdentificationException;
 import org.wso2.carbon.identity.idle.account.identification.models.InactiveUserModel;
+import org.wso2.carbon.identity.idle.account.identification.models.InactiveUsersPageModel;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -38,4 +39,34 @@ public interface IdleAccountIdentificationService {
      */
     List<InactiveUserModel> getLimitedInactiveUsersFromSpecificDate(LocalDateTime inactiveAfter,
             LocalDateTime excludeBefore, String tenantDomain) throws IdleAccountIdentificationException;
+
+    /**
+     * Get a page of the inactive users from a specific date. A page starts after the opaque cursor returned with the
+     * previous page, so that all the inactive users can be iterated without loading them at once.
+     *
+     * @param inactiveAfter date after which the user should be inactive.
+     * @param tenantDomain  tenant domain.
+     * @param cursor        cursor of the page, which is the next cursor of the previous page. Null for the first page.
+     * @param limit         maximum number of users in the page, bounded by the maximum page size.
+     * @return              page of inactive users.
+     * @throws IdleAccountIdentificationException Exception when retrieving inactive users from database.
+     */
+    InactiveUsersPageModel getInactiveUsersFromSpecificDate(LocalDateTime inactiveAfter, String tenantDomain,
+            String cursor, int limit) throws IdleAccountIdentificationException;
+
+    /**
+     * Get a page of the inactive users from a specific date excluding the oldest inactive users. A page starts after
+     * the opaque cursor returned with the previous page.
+     *
+     * @param inactiveAfter date after which the user should be inactive.
+     * @param excludeBefore date before which the user should be excluded.
+     * @param tenantDomain  tenant domain.
+     * @param cursor        cursor of the page, which is the next cursor of the previous page. Null for the first page.
+     * @param limit         maximum number of users in the page, bounded by the maximum page size.
+     * @return              page of inactive users.
+     * @throws IdleAccountIdentificationException Exception when retrieving inactive users from database.
+     */
+    InactiveUsersPageModel getLimitedInactiveUsersFromSpecificDate(LocalDateTime inactiveAfter,
+            LocalDateTime excludeBefore, String tenantDomain, String cursor, int limit)
+            throws IdleAccountIdentificationException;
 }
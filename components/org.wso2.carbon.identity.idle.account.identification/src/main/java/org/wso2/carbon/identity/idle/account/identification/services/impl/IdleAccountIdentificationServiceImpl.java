@@ -23,14 +23,17 @@ import org.wso2.carbon.context.CarbonContext;
 
 import org.wso2.carbon.identity.core.util.IdentityUtil;
 import org.wso2.carbon.identity.idle.account.identification.constants.IdleAccIdentificationConstants;
+import org.wso2.carbon.identity.idle.account.identification.exception.IdleAccountIdentificationClientException;
 import org.wso2.carbon.identity.idle.account.identification.exception.IdleAccountIdentificationException;
 import org.wso2.carbon.identity.idle.account.identification.exception.IdleAccountIdentificationServerException;
 import org.wso2.carbon.identity.idle.account.identification.internal.IdleAccountIdentificationDataHolder;
 import org.wso2.carbon.identity.idle.account.identification.models.InactiveUserModel;
+import org.wso2.carbon.identity.idle.account.identification.models.InactiveUsersPageModel;
 import org.wso2.carbon.identity.idle.account.identification.services.IdleAccountIdentificationService;
 
 import org.wso2.carbon.identity.base.IdentityException;
 import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
+import org.wso2.carbon.identity.governance.model.UserNamesPage;
 import org.wso2.carbon.user.api.UserStoreException;
 import org.wso2.carbon.user.core.UserRealm;
 import org.wso2.carbon.user.core.UserStoreManager;
@@ -40,7 +43,9 @@ import org.wso2.carbon.user.core.util.UserCoreUtil;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Implementation of the service interface for idle account identification.
@@ -53,7 +58,7 @@ public class IdleAccountIdentificationServiceImpl implements IdleAccountIdentifi
 
         List<InactiveUserModel> inactiveUsers = new ArrayList<>();
         int tenantId = IdentityTenantUtil.getTenantId(tenantDomain);
-        String lastLoginTime = Long.toString(inactiveAfter.toEpochSecond(ZoneOffset.UTC));
+        String lastLoginTime = Long.toString(inactiveAfter.toInstant(ZoneOffset.UTC).toEpochMilli());
         try {
             List<String> usernames = IdleAccountIdentificationDataHolder.getInstance().getIdentityDataStoreService()
                     .getUserNamesLessThanProvidedClaimValue(IdleAccIdentificationConstants.LAST_LOGIN_TIME_CLAIM,
@@ -75,8 +80,8 @@ public class IdleAccountIdentificationServiceImpl implements IdleAccountIdentifi
 
         List<InactiveUserModel> inactiveUsers = new ArrayList<>();
         int tenantId = IdentityTenantUtil.getTenantId(tenantDomain);
-        String inactiveDateEpoch = Long.toString(inactiveAfter.toEpochSecond(ZoneOffset.UTC));
-        String excludeDateEpoch = Long.toString(excludeBefore.toEpochSecond(ZoneOffset.UTC));
+        String inactiveDateEpoch = Long.toString(inactiveAfter.toInstant(ZoneOffset.UTC).toEpochMilli());
+        String excludeDateEpoch = Long.toString(excludeBefore.toInstant(ZoneOffset.UTC).toEpochMilli());
         try {
             List<String> usernames = IdleAccountIdentificationDataHolder.getInstance().getIdentityDataStoreService()
                     .getUserNamesBetweenProvidedClaimValues(IdleAccIdentificationConstants.LAST_LOGIN_TIME_CLAIM,
@@ -92,6 +97,95 @@ public class IdleAccountIdentificationServiceImpl implements IdleAccountIdentifi
         return inactiveUsers;
     }
 
+    @Override
+    public InactiveUsersPageModel getInactiveUsersFromSpecificDate(LocalDateTime inactiveAfter, String tenantDomain,
+            String cursor, int limit) throws IdleAccountIdentificationException {
+
+        int pageSize = getPageSize(limit);
+        int tenantId = IdentityTenantUtil.getTenantId(tenantDomain);
+        String lastLoginTime = Long.toString(inactiveAfter.toInstant(ZoneOffset.UTC).toEpochMilli());
+        try {
+            UserNamesPage usernamesPage = IdleAccountIdentificationDataHolder.getInstance()
+                    .getIdentityDataStoreService().getUserNamesLessThanProvidedClaimValue(
+                            IdleAccIdentificationConstants.LAST_LOGIN_TIME_CLAIM, lastLoginTime, tenantId, cursor,
+                            pageSize);
+            return buildInactiveUsersPage(usernamesPage);
+        } catch (IdentityException e) {
+            IdleAccIdentificationConstants.ErrorMessages errorEnum =
+                    IdleAccIdentificationConstants.ErrorMessages.ERROR_RETRIEVE_INACTIVE_USERS_FROM_DB;
+            throw new IdleAccountIdentificationServerException(errorEnum.getCode(), errorEnum.getMessage());
+        }
+    }
+
+    @Override
+    public InactiveUsersPageModel getLimitedInactiveUsersFromSpecificDate(LocalDateTime inactiveAfter,
+            LocalDateTime excludeBefore, String tenantDomain, String cursor, int limit)
+            throws IdleAccountIdentificationException {
+
+        int pageSize = getPageSize(limit);
+        int tenantId = IdentityTenantUtil.getTenantId(tenantDomain);
+        String inactiveDateEpoch = Long.toString(inactiveAfter.toInstant(ZoneOffset.UTC).toEpochMilli());
+        String excludeDateEpoch = Long.toString(excludeBefore.toInstant(ZoneOffset.UTC).toEpochMilli());
+        try {
+            UserNamesPage usernamesPage = IdleAccountIdentificationDataHolder.getInstance()
+                    .getIdentityDataStoreService().getUserNamesBetweenProvidedClaimValues(
+                            IdleAccIdentificationConstants.LAST_LOGIN_TIME_CLAIM, excludeDateEpoch, inactiveDateEpoch,
+                            tenantId, cursor, pageSize);
+            return buildInactiveUsersPage(usernamesPage);
+        } catch (IdentityException e) {
+            IdleAccIdentificationConstants.ErrorMessages errorEnum =
+                    IdleAccIdentificationConstants.ErrorMessages.ERROR_RETRIEVE_INACTIVE_USERS_FROM_DB;
+            throw new IdleAccountIdentificationServerException(errorEnum.getCode(), errorEnum.getMessage());
+        }
+    }
+
+    /**
+     * Get the page size for the requested limit.
+     *
+     * @param limit            requested limit.
+     * @return                 page size.
+     * @throws IdleAccountIdentificationClientException Exception when the limit is not positive.
+     */
+    private int getPageSize(int limit) throws IdleAccountIdentificationClientException {
+
+        if (limit <= 0) {
+            IdleAccIdentificationConstants.ErrorMessages errorEnum =
+                    IdleAccIdentificationConstants.ErrorMessages.ERROR_INVALID_LIMIT;
+            throw new IdleAccountIdentificationClientException(errorEnum.getCode(), errorEnum.getMessage(),
+                    String.format(errorEnum.getDescription(), limit));
+        }
+        return Math.min(limit, IdleAccIdentificationConstants.MAX_PAGE_SIZE);
+    }
+
+    /**
+     * Build a page of inactive users.
+     *
+     * @param usernamesPage    page of the usernames of the inactive users.
+     * @return                 page of inactive users.
+     */
+    private InactiveUsersPageModel buildInactiveUsersPage(UserNamesPage usernamesPage)
+            throws IdleAccountIdentificationServerException {
+
+        InactiveUsersPageModel inactiveUsersPage = new InactiveUsersPageModel();
+        // The cursor is kept for the users without an ID as well, so that they are skipped.
+        inactiveUsersPage.setNextCursor(usernamesPage.getNextCursor());
+        List<String> pageUsernames = usernamesPage.getUserNames();
+        Map<String, String> userIds = fetchUserIds(pageUsernames);
+        List<InactiveUserModel> inactiveUsers = new ArrayList<>(pageUsernames.size());
+        for (String username : pageUsernames) {
+            String userId = userIds.get(username);
+            if (StringUtils.isNotBlank(userId)) {
+                InactiveUserModel inactiveUser = new InactiveUserModel();
+                inactiveUser.setUsername(username);
+                inactiveUser.setUserId(userId);
+                inactiveUser.setUserStoreDomain(UserCoreUtil.extractDomainFromName(username));
+                inactiveUsers.add(inactiveUser);
+            }
+        }
+        inactiveUsersPage.setInactiveUsers(inactiveUsers);
+        return inactiveUsersPage;
+    }
+
     /**
      * Build a list of inactive users.
      *
@@ -136,6 +230,40 @@ public class IdleAccountIdentificationServiceImpl implements IdleAccountIdentifi
         return null;
     }
 
+    /**
+     * Fetch UUIDs of the users. The users are grouped by the user store, so that the user store manager is resolved
+     * once for each user store instead of once for each user.
+     *
+     * @param usernames         usernames of the users.
+     * @return                  map of username to the UUID of the user.
+     */
+    public Map<String, String> fetchUserIds(List<String> usernames) throws IdleAccountIdentificationServerException {
+
+        Map<String, List<String>> usernamesOfUserStores = new HashMap<>();
+        for (String username : usernames) {
+            usernamesOfUserStores.computeIfAbsent(UserCoreUtil.extractDomainFromName(username),
+                    userStoreDomain -> new ArrayList<>()).add(username);
+        }
+        Map<String, String> userIds = new HashMap<>();
+        for (Map.Entry<String, List<String>> usernamesOfUserStore : usernamesOfUserStores.entrySet()) {
+            UserStoreManager userStoreManager = getUserStoreManager(usernamesOfUserStore.getKey());
+            if (!(userStoreManager instanceof AbstractUserStoreManager)) {
+                continue;
+            }
+            try {
+                for (String username : usernamesOfUserStore.getValue()) {
+                    userIds.put(username, ((AbstractUserStoreManager) userStoreManager)
+                            .getUserIDFromUserName(username));
+                }
+            } catch (UserStoreException e) {
+                IdleAccIdentificationConstants.ErrorMessages errorEnum =
+                        IdleAccIdentificationConstants.ErrorMessages.ERROR_RETRIEVE_USER_UUID;
+                throw new IdleAccountIdentificationServerException(errorEnum.getCode(), errorEnum.getMessage());
+            }
+        }
+        return userIds;
+    }
+
     /**
      * Get user store manager.
      *
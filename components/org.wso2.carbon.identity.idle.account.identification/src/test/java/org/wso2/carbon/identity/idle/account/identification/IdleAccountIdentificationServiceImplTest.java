@@ -26,14 +26,18 @@ import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 import org.wso2.carbon.context.CarbonContext;
 
+import org.wso2.carbon.identity.idle.account.identification.exception.IdleAccountIdentificationClientException;
+import org.wso2.carbon.identity.idle.account.identification.exception.IdleAccountIdentificationServerException;
 import org.wso2.carbon.identity.idle.account.identification.internal.IdleAccountIdentificationDataHolder;
 import org.wso2.carbon.identity.idle.account.identification.models.InactiveUserModel;
+import org.wso2.carbon.identity.idle.account.identification.models.InactiveUsersPageModel;
 import org.wso2.carbon.identity.idle.account.identification.services.impl.IdleAccountIdentificationServiceImpl;
 import org.wso2.carbon.identity.idle.account.identification.util.TestUtils;
 
 import org.wso2.carbon.identity.core.util.IdentityDatabaseUtil;
 import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
 import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.identity.governance.IdentityMgtConstants;
 import org.wso2.carbon.identity.governance.service.IdentityDataStoreService;
 import org.wso2.carbon.identity.governance.service.IdentityDataStoreServiceImpl;
 import org.wso2.carbon.user.core.UserRealm;
@@ -42,14 +46,20 @@ import org.wso2.carbon.user.core.UserStoreManager;
 import java.sql.Connection;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
 
 public class IdleAccountIdentificationServiceImplTest {
 
@@ -157,4 +167,134 @@ public class IdleAccountIdentificationServiceImplTest {
 
         assertEquals(inactiveUsers.size(), expected);
     }
+
+    @Test(dataProvider = "getDates1")
+    public void testGetInactiveUsersFromSpecificDateWithNumericClaimIndex(LocalDateTime inactiveAfter, int expected)
+            throws Exception {
+
+        enableNumericClaimIndex();
+        IdleAccountIdentificationServiceImpl idleAccountIdentificationService =
+                spy(IdleAccountIdentificationServiceImpl.class);
+        doReturn(SAMPLE_USER_ID).when(idleAccountIdentificationService).fetchUserId(anyString());
+
+        List<InactiveUserModel> inactiveUsers = idleAccountIdentificationService.
+                getInactiveUsersFromSpecificDate(inactiveAfter, TENANT_DOMAIN);
+
+        assertEquals(inactiveUsers.size(), expected);
+    }
+
+    @Test(dataProvider = "getDates2")
+    public void testGetLimitedInactiveUsersFromSpecificDateWithNumericClaimIndex(LocalDateTime inactiveAfter,
+                                                                               LocalDateTime excludeBefore,
+                                                                               int expected) throws Exception {
+
+        enableNumericClaimIndex();
+        IdleAccountIdentificationServiceImpl idleAccountIdentificationService =
+                spy(IdleAccountIdentificationServiceImpl.class);
+        doReturn(SAMPLE_USER_ID).when(idleAccountIdentificationService).fetchUserId(anyString());
+
+        List<InactiveUserModel> inactiveUsers = idleAccountIdentificationService.
+                getLimitedInactiveUsersFromSpecificDate(inactiveAfter, excludeBefore, TENANT_DOMAIN);
+
+        assertEquals(inactiveUsers.size(), expected);
+    }
+
+    @DataProvider
+    public Object[][] getPagedDates() {
+
+        return new Object[][]{
+                {LocalDate.parse("2023-01-31").atStartOfDay(), 2, 5, 3, false},
+                {LocalDate.parse("2023-01-31").atStartOfDay(), 5, 5, 1, false},
+                {LocalDate.parse("2023-01-31").atStartOfDay(), 1, 5, 5, true},
+                {LocalDate.parse("2023-01-01").atStartOfDay(), 2, 0, 1, true}
+        };
+    }
+
+    @Test(dataProvider = "getPagedDates")
+    public void testGetInactiveUsersFromSpecificDateByPage(LocalDateTime inactiveAfter, int limit, int expected,
+                                                           int expectedPages, boolean numericClaimIndex)
+            throws Exception {
+
+        if (numericClaimIndex) {
+            enableNumericClaimIndex();
+        }
+        IdleAccountIdentificationServiceImpl idleAccountIdentificationService = getPagingService();
+
+        List<String> usernames = new ArrayList<>();
+        int pages = 0;
+        String cursor = null;
+        do {
+            InactiveUsersPageModel page = idleAccountIdentificationService.getInactiveUsersFromSpecificDate(
+                    inactiveAfter, TENANT_DOMAIN, cursor, limit);
+            assertTrue(page.getInactiveUsers().size() <= limit);
+            for (InactiveUserModel inactiveUser : page.getInactiveUsers()) {
+                usernames.add(inactiveUser.getUsername());
+            }
+            cursor = page.getNextCursor();
+            pages++;
+        } while (cursor != null);
+
+        assertEquals(usernames.size(), expected);
+        assertEquals(usernames.stream().distinct().count(), expected);
+        assertEquals(pages, expectedPages);
+    }
+
+    @Test(dataProvider = "getDates2")
+    public void testGetLimitedInactiveUsersFromSpecificDateByPage(LocalDateTime inactiveAfter,
+                                                                  LocalDateTime excludeBefore, int expected)
+            throws Exception {
+
+        IdleAccountIdentificationServiceImpl idleAccountIdentificationService = getPagingService();
+
+        int inactiveUsers = 0;
+        String cursor = null;
+        do {
+            InactiveUsersPageModel page = idleAccountIdentificationService.getLimitedInactiveUsersFromSpecificDate(
+                    inactiveAfter, excludeBefore, TENANT_DOMAIN, cursor, 2);
+            inactiveUsers += page.getInactiveUsers().size();
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        assertEquals(inactiveUsers, expected);
+    }
+
+    @Test(expectedExceptions = IdleAccountIdentificationClientException.class)
+    public void testGetInactiveUsersFromSpecificDateWithInvalidLimit() throws Exception {
+
+        new IdleAccountIdentificationServiceImpl().getInactiveUsersFromSpecificDate(
+                LocalDate.parse("2023-01-31").atStartOfDay(), TENANT_DOMAIN, null, 0);
+    }
+
+    @Test(expectedExceptions = IdleAccountIdentificationServerException.class)
+    public void testGetInactiveUsersFromSpecificDateWithInvalidCursor() throws Exception {
+
+        enableNumericClaimIndex();
+        getPagingService().getInactiveUsersFromSpecificDate(LocalDate.parse("2023-01-31").atStartOfDay(),
+                TENANT_DOMAIN, "13:notANumberUser", 2);
+    }
+
+    private IdleAccountIdentificationServiceImpl getPagingService() throws Exception {
+
+        // Each page is read with its own connection.
+        mockedIdentityDatabaseUtils.when(() -> IdentityDatabaseUtil.getDBConnection(anyBoolean()))
+                .thenAnswer(invocation -> TestUtils.getConnection());
+        IdleAccountIdentificationServiceImpl idleAccountIdentificationService =
+                spy(IdleAccountIdentificationServiceImpl.class);
+        doAnswer(invocation -> {
+            Map<String, String> userIds = new HashMap<>();
+            for (String username : invocation.<List<String>>getArgument(0)) {
+                userIds.put(username, SAMPLE_USER_ID);
+            }
+            return userIds;
+        }).when(idleAccountIdentificationService).fetchUserIds(anyList());
+        return idleAccountIdentificationService;
+    }
+
+    private void enableNumericClaimIndex() {
+
+        mockedIdentityUtil.when(() -> IdentityUtil.getProperty(
+                IdentityMgtConstants.PropertyConfig.NUMERIC_CLAIM_INDEX_ENABLE)).thenReturn("true");
+        mockedIdentityUtil.when(() -> IdentityUtil.getProperty(
+                IdentityMgtConstants.PropertyConfig.NUMERIC_CLAIM_INDEX_CLAIMS)).thenReturn(null);
+    }
 }
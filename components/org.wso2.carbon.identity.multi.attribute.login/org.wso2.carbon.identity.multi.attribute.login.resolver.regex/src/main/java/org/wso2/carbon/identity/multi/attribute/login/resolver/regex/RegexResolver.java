@@ -24,6 +24,9 @@ import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.CarbonConstants;
 import org.wso2.carbon.identity.multi.attribute.login.mgt.MultiAttributeLoginResolver;
 import org.wso2.carbon.identity.multi.attribute.login.mgt.ResolvedUserResult;
+import org.wso2.carbon.identity.multi.attribute.login.resolver.regex.cache.ResolvedUserCache;
+import org.wso2.carbon.identity.multi.attribute.login.resolver.regex.cache.ResolvedUserCacheEntry;
+import org.wso2.carbon.identity.multi.attribute.login.resolver.regex.cache.ResolvedUserCacheKey;
 import org.wso2.carbon.identity.multi.attribute.login.resolver.regex.utils.UserResolverUtil;
 import org.wso2.carbon.user.api.Claim;
 import org.wso2.carbon.user.api.ClaimManager;
@@ -48,6 +51,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
@@ -58,6 +62,31 @@ import java.util.stream.Collectors;
 public class RegexResolver implements MultiAttributeLoginResolver {
 
     private static final Log log = LogFactory.getLog(RegexResolver.class);
+    private static final int MAX_CACHED_PATTERNS = 1000;
+
+    /*
+    Compiled claim regex patterns, keyed by the regex itself so that a change to the claim configuration of a tenant
+    results in a new entry instead of a stale pattern.
+    */
+    private static final Map<String, Pattern> compiledPatterns = new ConcurrentHashMap<>();
+
+    private final boolean resolvedUserCacheEnabled;
+
+    public RegexResolver() {
+
+        this(false);
+    }
+
+    /**
+     * Creates a regex resolver which can serve repeated resolutions of the same login identifier from the
+     * {@link ResolvedUserCache}.
+     *
+     * @param resolvedUserCacheEnabled Whether successful resolutions are cached.
+     */
+    public RegexResolver(boolean resolvedUserCacheEnabled) {
+
+        this.resolvedUserCacheEnabled = resolvedUserCacheEnabled;
+    }
 
     @Override
     public ResolvedUserResult resolveUser(String loginAttribute, List<String> allowedAttributes, String tenantDomain) {
@@ -67,13 +96,33 @@ public class RegexResolver implements MultiAttributeLoginResolver {
             if (allowedAttributes == null) {
                 return resolvedUserResult;
             }
+            List<String> userStorePreferenceOrder = getUserStorePreferenceOrder();
+            ResolvedUserCacheKey cacheKey = null;
+            if (resolvedUserCacheEnabled) {
+                cacheKey = new ResolvedUserCacheKey(tenantDomain, loginAttribute, allowedAttributes,
+                        userStorePreferenceOrder);
+                ResolvedUserCacheEntry cacheEntry =
+                        ResolvedUserCache.getInstance().getValueFromCache(cacheKey, tenantDomain);
+                if (cacheEntry != null) {
+                    if (log.isDebugEnabled()) {
+                        log.debug("Resolved user for the login identifier from the cache in tenant: " +
+                                tenantDomain);
+                    }
+                    return cacheEntry.toResolvedUserResult();
+                }
+            }
             UserRealm userRealm = UserResolverUtil.getUserRealm(tenantDomain);
             UniqueIDUserStoreManager userStoreManager = UserResolverUtil.getUserStoreManager(tenantDomain);
             ClaimManager claimManager = userRealm.getClaimManager();
 
-            resolveDistinctUsersForClaims(loginAttribute, allowedAttributes, claimManager, userStoreManager,
-                    resolvedUserResult);
+            resolveDistinctUsersForClaims(loginAttribute, allowedAttributes, userStorePreferenceOrder, claimManager,
+                    userStoreManager, resolvedUserResult);
 
+            if (cacheKey != null && resolvedUserResult.getUser() != null &&
+                    ResolvedUserResult.UserResolvedStatus.SUCCESS.equals(resolvedUserResult.getResolvedStatus())) {
+                ResolvedUserCache.getInstance().addToCache(cacheKey, new ResolvedUserCacheEntry(resolvedUserResult),
+                        tenantDomain);
+            }
         } catch (UserStoreException e) {
             log.error("Error occurred while resolving user name", e);
         }
@@ -81,14 +130,20 @@ public class RegexResolver implements MultiAttributeLoginResolver {
     }
 
     private void resolveDistinctUsersForClaims(String loginAttribute, List<String> allowedAttributes,
-                                               ClaimManager claimManager,
+                                               List<String> userStorePreferenceOrder, ClaimManager claimManager,
                                                UniqueIDUserStoreManager userStoreManager,
                                                ResolvedUserResult resolvedUserResult)
             throws UserStoreException {
 
         Set<String> uniqueUserIds = new HashSet<>();
         Map<String, List<User>> distinctUsers = new HashMap<>();
-        List<String> userStorePreferenceOrder  = getUserStorePreferenceOrder();
+        String domainSeparateAttribute = UserCoreUtil.removeDomainFromName(loginAttribute);
+        // The user store chain only depends on the preference order, hence it is shared by all the claims.
+        IterativeUserStoreManager userStoreChain = null;
+        if (!loginAttribute.contains(UserCoreConstants.DOMAIN_SEPARATOR) && !userStorePreferenceOrder.isEmpty()) {
+            userStoreChain = generateUserStoreChain(userStorePreferenceOrder,
+                    (AbstractUserStoreManager) userStoreManager);
+        }
 
         // Resolve the user from the regex matching.
         for (String claimURI : allowedAttributes) {
@@ -97,11 +152,10 @@ public class RegexResolver implements MultiAttributeLoginResolver {
                 continue;
             }
 
-            Pattern pattern = Pattern.compile(claim.getRegEx());
-            String domainSeparateAttribute = UserCoreUtil.removeDomainFromName(loginAttribute);
+            Pattern pattern = getCompiledPattern(claim.getRegEx());
 
             if (pattern.matcher(domainSeparateAttribute).matches()) {
-                List<User> userList = getUserList(claimURI, loginAttribute, userStorePreferenceOrder, userStoreManager);
+                List<User> userList = getUserList(claimURI, loginAttribute, userStoreChain, userStoreManager);
 
                 if (userList.isEmpty()) {
                     continue;
@@ -144,7 +198,7 @@ public class RegexResolver implements MultiAttributeLoginResolver {
         if (allowedAttributes.contains(UserCoreClaimConstants.USERNAME_CLAIM_URI)
                 && StringUtils.isBlank(usernameClaim.getRegEx())) {
             List<User> userList = getUserList(UserCoreClaimConstants.USERNAME_CLAIM_URI, loginAttribute,
-                    userStorePreferenceOrder, userStoreManager);
+                    userStoreChain, userStoreManager);
             if (!userList.isEmpty()) {
                 List<User> allowedDistinctUsersForClaim = userList.stream()
                         .filter(user -> uniqueUserIds.add(user.getUserID()))
@@ -173,29 +227,44 @@ public class RegexResolver implements MultiAttributeLoginResolver {
      * This method is used to get the user list according to the user store preference order if configured.
      * If the login attribute contains a domain name, resolve users from the corresponding user store.
      *
-     * @param claimURI                 Claim URI.
-     * @param loginAttribute           Login attribute.
-     * @param userStorePreferenceOrder User store preference order.
-     * @param userStoreManager         User store manager.
+     * @param claimURI         Claim URI.
+     * @param loginAttribute   Login attribute.
+     * @param userStoreChain   User store chain generated from the user store preference order, or null if the
+     *                         preference order is not applicable.
+     * @param userStoreManager User store manager.
      * @return User list.
      * @throws org.wso2.carbon.user.core.UserStoreException If an error occurred while getting the user list.
      */
-    private List<User> getUserList(String claimURI, String loginAttribute, List<String> userStorePreferenceOrder,
+    private List<User> getUserList(String claimURI, String loginAttribute, IterativeUserStoreManager userStoreChain,
                                    UniqueIDUserStoreManager userStoreManager)
             throws org.wso2.carbon.user.core.UserStoreException {
 
-        if (!loginAttribute.contains(UserCoreConstants.DOMAIN_SEPARATOR) && userStorePreferenceOrder != null
-                && !userStorePreferenceOrder.isEmpty()) {
-            IterativeUserStoreManager iterativeUserStoreManager = generateUserStoreChain(userStorePreferenceOrder,
-                    (AbstractUserStoreManager) userStoreManager);
-            if (iterativeUserStoreManager != null) {
-                return getUserListAccordingToUserStorePreferenceOrder(claimURI, loginAttribute,
-                        iterativeUserStoreManager);
-            }
+        if (userStoreChain != null) {
+            return getUserListAccordingToUserStorePreferenceOrder(claimURI, loginAttribute, userStoreChain);
         }
         return userStoreManager.getUserListWithID(claimURI, loginAttribute, null);
     }
 
+    /**
+     * Get the compiled pattern of a claim regex, compiling it only on the first use.
+     *
+     * @param regex Claim regex.
+     * @return Compiled pattern.
+     */
+    private static Pattern getCompiledPattern(String regex) {
+
+        Pattern pattern = compiledPatterns.get(regex);
+        if (pattern == null) {
+            // Regexes of removed or updated claims are never looked up again, hence bound the number of patterns.
+            if (compiledPatterns.size() >= MAX_CACHED_PATTERNS) {
+                compiledPatterns.clear();
+            }
+            pattern = Pattern.compile(regex);
+            compiledPatterns.put(regex, pattern);
+        }
+        return pattern;
+    }
+
     /**
      * This method is used to get the user list according to the user store preference order.
      *
@@ -330,7 +399,7 @@ public class RegexResolver implements MultiAttributeLoginResolver {
                 if (StringUtils.isBlank(regex)) {
                     continue;
                 }
-                Pattern pattern = Pattern.compile(regex);
+                Pattern pattern = getCompiledPattern(regex);
                 if (pattern.matcher(loginAttributeValue).matches()) {
                     authenticationResult = userStoreManager.
                             authenticateWithID(claimURI, loginAttributeValue, credential, StringUtils.EMPTY);
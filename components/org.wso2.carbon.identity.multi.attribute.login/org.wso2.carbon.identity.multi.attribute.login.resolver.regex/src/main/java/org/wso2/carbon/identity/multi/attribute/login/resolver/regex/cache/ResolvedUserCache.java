@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.multi.attribute.login.resolver.regex.cache;
+
+import org.wso2.carbon.identity.core.cache.BaseCache;
+
+/**
+ * Cache of the users resolved for login identifiers. Only successful resolutions are cached, and the entries of a
+ * tenant are cleared when a user of the tenant is added, deleted or when the claims of a user are changed.
+ */
+public class ResolvedUserCache extends BaseCache<ResolvedUserCacheKey, ResolvedUserCacheEntry> {
+
+    private static final String RESOLVED_USER_CACHE = "ResolvedUserCache";
+    private static volatile ResolvedUserCache instance;
+
+    public ResolvedUserCache() {
+
+        super(RESOLVED_USER_CACHE);
+    }
+
+    public static ResolvedUserCache getInstance() {
+
+        if (instance == null) {
+            synchronized (ResolvedUserCache.class) {
+                if (instance == null) {
+                    instance = new ResolvedUserCache();
+                }
+            }
+        }
+        return instance;
+    }
+}
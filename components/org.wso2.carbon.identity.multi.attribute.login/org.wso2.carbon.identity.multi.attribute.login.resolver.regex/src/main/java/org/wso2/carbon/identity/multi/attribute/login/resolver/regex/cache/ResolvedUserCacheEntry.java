@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.multi.attribute.login.resolver.regex.cache;
+
+import org.wso2.carbon.identity.core.cache.CacheEntry;
+import org.wso2.carbon.identity.multi.attribute.login.mgt.ResolvedUserResult;
+import org.wso2.carbon.user.core.common.User;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Entry of the ResolvedUserCache, contains a successful resolution of a login identifier. The resolved user is kept
+ * as its fields, so that the entry can be serialized and each read gets its own copy of the user.
+ */
+public class ResolvedUserCacheEntry extends CacheEntry {
+
+    private static final long serialVersionUID = -6184720873512095417L;
+    private final String resolvedClaim;
+    private final String resolvedValue;
+    private final String userId;
+    private final String username;
+    private final String preferredUsername;
+    private final String userStoreDomain;
+    private final String userTenantDomain;
+    private final HashMap<String, String> attributes;
+
+    public ResolvedUserCacheEntry(ResolvedUserResult resolvedUserResult) {
+
+        User user = resolvedUserResult.getUser();
+        this.resolvedClaim = resolvedUserResult.getResolvedClaim();
+        this.resolvedValue = resolvedUserResult.getResolvedValue();
+        this.userId = user.getUserID();
+        this.username = user.getUsername();
+        this.preferredUsername = user.getPreferredUsername();
+        this.userStoreDomain = user.getUserStoreDomain();
+        this.userTenantDomain = user.getTenantDomain();
+        this.attributes = user.getAttributes() == null ? null : new HashMap<>(user.getAttributes());
+    }
+
+    /**
+     * Build a successful resolution result from the entry.
+     *
+     * @return Resolution result with a new copy of the resolved user.
+     */
+    public ResolvedUserResult toResolvedUserResult() {
+
+        User user = new User();
+        user.setUserID(userId);
+        user.setUsername(username);
+        user.setPreferredUsername(preferredUsername);
+        user.setUserStoreDomain(userStoreDomain);
+        user.setTenantDomain(userTenantDomain);
+        if (attributes != null) {
+            Map<String, String> userAttributes = new HashMap<>(attributes);
+            user.setAttributes(userAttributes);
+        }
+        ResolvedUserResult resolvedUserResult = new ResolvedUserResult(ResolvedUserResult.UserResolvedStatus.SUCCESS);
+        resolvedUserResult.setResolvedClaim(resolvedClaim);
+        resolvedUserResult.setResolvedValue(resolvedValue);
+        resolvedUserResult.setUser(user);
+        return resolvedUserResult;
+    }
+}
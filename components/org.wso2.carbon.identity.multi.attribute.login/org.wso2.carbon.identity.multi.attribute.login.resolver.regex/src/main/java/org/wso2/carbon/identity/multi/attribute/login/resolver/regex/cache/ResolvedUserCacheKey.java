@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.multi.attribute.login.resolver.regex.cache;
+
+import org.wso2.carbon.identity.core.cache.CacheKey;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Key for the ResolvedUserCache, contains the tenant domain, the login identifier, the allowed login attributes and
+ * the user store preference order used for the resolution.
+ */
+public class ResolvedUserCacheKey extends CacheKey {
+
+    private static final long serialVersionUID = 4417356226582954870L;
+    private final String tenantDomain;
+    private final String loginAttribute;
+    private final ArrayList<String> allowedAttributes;
+    private final ArrayList<String> userStorePreferenceOrder;
+
+    public ResolvedUserCacheKey(String tenantDomain, String loginAttribute, List<String> allowedAttributes,
+                                List<String> userStorePreferenceOrder) {
+
+        this.tenantDomain = tenantDomain;
+        this.loginAttribute = loginAttribute;
+        this.allowedAttributes = new ArrayList<>(allowedAttributes);
+        this.userStorePreferenceOrder = userStorePreferenceOrder == null ? new ArrayList<>() :
+                new ArrayList<>(userStorePreferenceOrder);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        if (!super.equals(o)) {
+            return false;
+        }
+
+        ResolvedUserCacheKey that = (ResolvedUserCacheKey) o;
+
+        return Objects.equals(tenantDomain, that.tenantDomain) && Objects.equals(loginAttribute, that.loginAttribute)
+                && allowedAttributes.equals(that.allowedAttributes)
+                && userStorePreferenceOrder.equals(that.userStorePreferenceOrder);
+    }
+
+    @Override
+    public int hashCode() {
+
+        int result = super.hashCode();
+        result = 31 * result + Objects.hashCode(tenantDomain);
+        result = 31 * result + Objects.hashCode(loginAttribute);
+        result = 31 * result + allowedAttributes.hashCode();
+        result = 31 * result + userStorePreferenceOrder.hashCode();
+        return result;
+    }
+}
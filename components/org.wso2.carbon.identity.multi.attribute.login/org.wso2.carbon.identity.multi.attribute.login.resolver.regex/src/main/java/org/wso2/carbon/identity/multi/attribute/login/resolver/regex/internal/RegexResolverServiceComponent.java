@@ -27,8 +27,11 @@ import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Reference;
 import org.osgi.service.component.annotations.ReferenceCardinality;
 import org.osgi.service.component.annotations.ReferencePolicy;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
 import org.wso2.carbon.identity.multi.attribute.login.mgt.MultiAttributeLoginResolver;
 import org.wso2.carbon.identity.multi.attribute.login.resolver.regex.RegexResolver;
+import org.wso2.carbon.identity.multi.attribute.login.resolver.regex.listener.ResolvedUserCacheInvalidationListener;
+import org.wso2.carbon.user.core.listener.UserOperationEventListener;
 import org.wso2.carbon.user.core.service.RealmService;
 
 /**
@@ -41,14 +44,23 @@ import org.wso2.carbon.user.core.service.RealmService;
 public class RegexResolverServiceComponent {
 
     private static final Log log = LogFactory.getLog(RegexResolverServiceComponent.class);
+    private static final String RESOLVED_USER_CACHE_ENABLE = "MultiAttributeLogin.ResolvedUserCache.Enable";
 
     @Activate
     protected void activate(ComponentContext context) {
 
         BundleContext bundleContext = context.getBundleContext();
         try {
-            MultiAttributeLoginResolver multiAttributeLoginResolver =
-                    new RegexResolver();
+            boolean resolvedUserCacheEnabled =
+                    Boolean.parseBoolean(IdentityUtil.getProperty(RESOLVED_USER_CACHE_ENABLE));
+            if (resolvedUserCacheEnabled) {
+                bundleContext.registerService(UserOperationEventListener.class.getName(),
+                        new ResolvedUserCacheInvalidationListener(), null);
+                if (log.isDebugEnabled()) {
+                    log.debug("Resolved user cache enabled.");
+                }
+            }
+            MultiAttributeLoginResolver multiAttributeLoginResolver = new RegexResolver(resolvedUserCacheEnabled);
             bundleContext.registerService(MultiAttributeLoginResolver.class.getName(), multiAttributeLoginResolver,
                     null);
             if (log.isDebugEnabled()) {
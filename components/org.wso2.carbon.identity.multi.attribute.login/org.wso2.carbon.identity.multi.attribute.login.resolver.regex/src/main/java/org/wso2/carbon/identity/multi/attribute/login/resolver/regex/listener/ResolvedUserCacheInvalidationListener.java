@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.multi.attribute.login.resolver.regex.listener;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.core.AbstractIdentityUserOperationEventListener;
+import org.wso2.carbon.identity.core.util.IdentityCoreConstants;
+import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
+import org.wso2.carbon.identity.multi.attribute.login.resolver.regex.cache.ResolvedUserCache;
+import org.wso2.carbon.user.core.UserStoreException;
+import org.wso2.carbon.user.core.UserStoreManager;
+import org.wso2.carbon.user.core.common.User;
+
+import java.util.Map;
+
+/**
+ * User operation event listener which clears the resolved user cache of a tenant when a user of the tenant is
+ * added, deleted or when the claims of a user are changed, as any of them can change the user a login identifier
+ * resolves to.
+ */
+public class ResolvedUserCacheInvalidationListener extends AbstractIdentityUserOperationEventListener {
+
+    private static final Log log = LogFactory.getLog(ResolvedUserCacheInvalidationListener.class);
+    @Override
+    public int getExecutionOrderId() {
+
+        int orderId = getOrderId();
+        if (orderId != IdentityCoreConstants.EVENT_LISTENER_ORDER_ID) {
+            return orderId;
+        }
+        return 190;
+    }
+
+    @Override
+    public boolean doPostAddUser(String userName, Object credential, String[] roleList, Map<String, String> claims,
+                                 String profile, UserStoreManager userStoreManager) throws UserStoreException {
+
+        return invalidate(userStoreManager);
+    }
+
+    @Override
+    public boolean doPostAddUserWithID(User user, Object credential, String[] roleList, Map<String, String> claims,
+                                       String profile, UserStoreManager userStoreManager) throws UserStoreException {
+
+        return invalidate(userStoreManager);
+    }
+
+    @Override
+    public boolean doPostDeleteUser(String userName, UserStoreManager userStoreManager) throws UserStoreException {
+
+        return invalidate(userStoreManager);
+    }
+
+    @Override
+    public boolean doPostDeleteUserWithID(String userID, UserStoreManager userStoreManager) throws UserStoreException {
+
+        return invalidate(userStoreManager);
+    }
+
+    @Override
+    public boolean doPostSetUserClaimValue(String userName, UserStoreManager userStoreManager)
+            throws UserStoreException {
+
+        return invalidate(userStoreManager);
+    }
+
+    @Override
+    public boolean doPostSetUserClaimValueWithID(String userID, UserStoreManager userStoreManager)
+            throws UserStoreException {
+
+        return invalidate(userStoreManager);
+    }
+
+    @Override
+    public boolean doPostSetUserClaimValues(String userName, Map<String, String> claims, String profileName,
+                                            UserStoreManager userStoreManager) throws UserStoreException {
+
+        return invalidate(userStoreManager);
+    }
+
+    @Override
+    public boolean doPostSetUserClaimValuesWithID(String userID, Map<String, String> claims, String profileName,
+                                                  UserStoreManager userStoreManager) throws UserStoreException {
+
+        return invalidate(userStoreManager);
+    }
+
+    @Override
+    public boolean doPostDeleteUserClaimValue(String userName, UserStoreManager userStoreManager)
+            throws UserStoreException {
+
+        return invalidate(userStoreManager);
+    }
+
+    @Override
+    public boolean doPostDeleteUserClaimValueWithID(String userID, UserStoreManager userStoreManager)
+            throws UserStoreException {
+
+        return invalidate(userStoreManager);
+    }
+
+    @Override
+    public boolean doPostDeleteUserClaimValues(String userName, UserStoreManager userStoreManager)
+            throws UserStoreException {
+
+        return invalidate(userStoreManager);
+    }
+
+    @Override
+    public boolean doPostDeleteUserClaimValuesWithID(String userID, UserStoreManager userStoreManager)
+            throws UserStoreException {
+
+        return invalidate(userStoreManager);
+    }
+
+    private boolean invalidate(UserStoreManager userStoreManager) throws UserStoreException {
+
+        if (!isEnable()) {
+            return true;
+        }
+        String tenantDomain = IdentityTenantUtil.getTenantDomain(userStoreManager.getTenantId());
+        ResolvedUserCache.getInstance().clear(tenantDomain);
+        if (log.isDebugEnabled()) {
+            log.debug("Cleared the resolved user cache of tenant: " + tenantDomain);
+        }
+        return true;
+    }
+}
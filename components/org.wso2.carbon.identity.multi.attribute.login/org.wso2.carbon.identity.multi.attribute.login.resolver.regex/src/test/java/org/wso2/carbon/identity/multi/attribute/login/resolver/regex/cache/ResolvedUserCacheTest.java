@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.multi.attribute.login.resolver.regex.cache;
+
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.multi.attribute.login.mgt.ResolvedUserResult;
+import org.wso2.carbon.user.core.common.User;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotEquals;
+import static org.testng.Assert.assertNotSame;
+
+public class ResolvedUserCacheTest {
+
+    private static final String TENANT_DOMAIN = "carbon.super";
+    private static final String OTHER_TENANT_DOMAIN = "wso2.com";
+    private static final String TELEPHONE_CLAIM_URI = "http://wso2.org/claims/telephone";
+    private static final String LOGIN_IDENTIFIER = "+99777521771";
+    private static final List<String> ALLOWED_ATTRIBUTES = Collections.singletonList(TELEPHONE_CLAIM_URI);
+
+    @Test
+    public void testCacheKey() {
+
+        ResolvedUserCacheKey key = new ResolvedUserCacheKey(TENANT_DOMAIN, LOGIN_IDENTIFIER, ALLOWED_ATTRIBUTES,
+                null);
+        ResolvedUserCacheKey sameKey = new ResolvedUserCacheKey(TENANT_DOMAIN, LOGIN_IDENTIFIER, ALLOWED_ATTRIBUTES,
+                Collections.emptyList());
+        assertEquals(key, sameKey);
+        assertEquals(key.hashCode(), sameKey.hashCode());
+
+        assertNotEquals(key, new ResolvedUserCacheKey(OTHER_TENANT_DOMAIN, LOGIN_IDENTIFIER, ALLOWED_ATTRIBUTES,
+                null));
+        assertNotEquals(key, new ResolvedUserCacheKey(TENANT_DOMAIN, LOGIN_IDENTIFIER + "0", ALLOWED_ATTRIBUTES,
+                null));
+        assertNotEquals(key, new ResolvedUserCacheKey(TENANT_DOMAIN, LOGIN_IDENTIFIER, ALLOWED_ATTRIBUTES,
+                Collections.singletonList("SECONDARY")));
+    }
+
+    @Test
+    public void testCacheEntry() {
+
+        User user = new User();
+        user.setUserID("1234");
+        user.setUsername("chathuranga");
+        user.setUserStoreDomain("PRIMARY");
+        user.setTenantDomain(TENANT_DOMAIN);
+        user.setAttributes(Collections.singletonMap(TELEPHONE_CLAIM_URI, LOGIN_IDENTIFIER));
+        ResolvedUserResult result = new ResolvedUserResult(ResolvedUserResult.UserResolvedStatus.SUCCESS);
+        result.setResolvedClaim(TELEPHONE_CLAIM_URI);
+        result.setResolvedValue(LOGIN_IDENTIFIER);
+        result.setUser(user);
+
+        ResolvedUserCacheEntry entry = new ResolvedUserCacheEntry(result);
+        ResolvedUserResult cachedResult = entry.toResolvedUserResult();
+        assertEquals(cachedResult.getResolvedStatus(), ResolvedUserResult.UserResolvedStatus.SUCCESS);
+        assertEquals(cachedResult.getResolvedClaim(), TELEPHONE_CLAIM_URI);
+        assertEquals(cachedResult.getResolvedValue(), LOGIN_IDENTIFIER);
+        assertEquals(cachedResult.getUser().getUserID(), "1234");
+        assertEquals(cachedResult.getUser().getUsername(), "chathuranga");
+        assertEquals(cachedResult.getUser().getUserStoreDomain(), "PRIMARY");
+        assertEquals(cachedResult.getUser().getTenantDomain(), TENANT_DOMAIN);
+        assertEquals(cachedResult.getUser().getAttributes().get(TELEPHONE_CLAIM_URI), LOGIN_IDENTIFIER);
+        assertNotSame(cachedResult.getUser(), user);
+
+        // Changes done by the caller to the returned user must not leak into the cache entry.
+        cachedResult.getUser().setUsername("changed");
+        cachedResult.getUser().getAttributes().put(TELEPHONE_CLAIM_URI, "changed");
+        assertEquals(entry.toResolvedUserResult().getUser().getUsername(), "chathuranga");
+        assertEquals(entry.toResolvedUserResult().getUser().getAttributes().get(TELEPHONE_CLAIM_URI),
+                LOGIN_IDENTIFIER);
+    }
+}
@@ -40,7 +40,9 @@ import org.wso2.carbon.user.core.util.UserCoreUtil;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import static org.wso2.carbon.identity.password.expiry.util.PasswordPolicyUtils.getPasswordExpiryInDays;
 
@@ -57,7 +59,7 @@ public class ExpiredPasswordIdentificationServiceImpl implements ExpiredPassword
         try {
             int tenantId = IdentityTenantUtil.getTenantId(tenantDomain);
             LocalDateTime expireDate = expiredAfter.minusDays(getPasswordExpiryInDays(tenantDomain));
-            String expireDateEpoch = Long.toString(expireDate.toEpochSecond(ZoneOffset.UTC));
+            String expireDateEpoch = Long.toString(expireDate.toInstant(ZoneOffset.UTC).toEpochMilli());
 
             List<String> usernames = EnforcePasswordResetComponentDataHolder.getInstance().getIdentityDataStoreService()
                     .getUserNamesMoreThanProvidedClaimValue(
@@ -81,11 +83,12 @@ public class ExpiredPasswordIdentificationServiceImpl implements ExpiredPassword
         int tenantId = IdentityTenantUtil.getTenantId(tenantDomain);
 
         try {
-            LocalDateTime expiredDate = expiredAfter.minusDays(getPasswordExpiryInDays(tenantDomain));
-            LocalDateTime excludeDate = excludeAfter.minusDays(getPasswordExpiryInDays(tenantDomain) - 1);
+            int passwordExpiryInDays = getPasswordExpiryInDays(tenantDomain);
+            LocalDateTime expiredDate = expiredAfter.minusDays(passwordExpiryInDays);
+            LocalDateTime excludeDate = excludeAfter.minusDays(passwordExpiryInDays - 1);
 
-            String expiredDateEpoch = Long.toString(expiredDate.toEpochSecond(ZoneOffset.UTC));
-            String excludeDateEpoch = Long.toString(excludeDate.toEpochSecond(ZoneOffset.UTC));
+            String expiredDateEpoch = Long.toString(expiredDate.toInstant(ZoneOffset.UTC).toEpochMilli());
+            String excludeDateEpoch = Long.toString(excludeDate.toInstant(ZoneOffset.UTC).toEpochMilli());
 
             List<String> usernames = EnforcePasswordResetComponentDataHolder.getInstance().getIdentityDataStoreService()
                     .getUserNamesBetweenProvidedClaimValues(
@@ -111,9 +114,10 @@ public class ExpiredPasswordIdentificationServiceImpl implements ExpiredPassword
     private List<PasswordExpiredUserModel> buildPasswordExpiredUsers(List<String> usernames, String tenantDomain)
             throws ExpiredPasswordIdentificationServerException {
 
+        Map<String, String> userIds = fetchUserIds(usernames, tenantDomain);
         List<PasswordExpiredUserModel> passwordExpiredUsers = new ArrayList<>();
         for (String username : usernames) {
-            String userId = fetchUserId(username, tenantDomain);
+            String userId = userIds.get(username);
             if (StringUtils.isNotBlank(userId)) {
                 PasswordExpiredUserModel passwordExpiredUser = new PasswordExpiredUserModel();
                 passwordExpiredUser.setUsername(username);
@@ -126,26 +130,38 @@ public class ExpiredPasswordIdentificationServiceImpl implements ExpiredPassword
     }
 
     /**
-     * Fetch UUID of the user.
+     * Fetch UUIDs of the users. The users are grouped by the user store, so that the user realm and the user store
+     * manager are resolved once for each user store instead of once for each user.
      *
-     * @param username          username of the user.
-     * @return                  UUID of the user
+     * @param usernames         usernames of the users.
+     * @return                  map of username to the UUID of the user.
      */
-    private String fetchUserId(String username, String tenantDomain)
+    private Map<String, String> fetchUserIds(List<String> usernames, String tenantDomain)
             throws ExpiredPasswordIdentificationServerException {
-        
-        UserStoreManager userStoreManager = getUserStoreManager(
-                UserCoreUtil.extractDomainFromName(username), tenantDomain);
-        try {
-            if (userStoreManager instanceof AbstractUserStoreManager) {
-                return ((AbstractUserStoreManager) userStoreManager).getUserIDFromUserName(username);
+
+        Map<String, List<String>> usernamesOfUserStores = new HashMap<>();
+        for (String username : usernames) {
+            usernamesOfUserStores.computeIfAbsent(UserCoreUtil.extractDomainFromName(username),
+                    userStoreDomain -> new ArrayList<>()).add(username);
+        }
+        Map<String, String> userIds = new HashMap<>();
+        for (Map.Entry<String, List<String>> usernamesOfUserStore : usernamesOfUserStores.entrySet()) {
+            UserStoreManager userStoreManager = getUserStoreManager(usernamesOfUserStore.getKey(), tenantDomain);
+            if (!(userStoreManager instanceof AbstractUserStoreManager)) {
+                continue;
+            }
+            try {
+                for (String username : usernamesOfUserStore.getValue()) {
+                    userIds.put(username, ((AbstractUserStoreManager) userStoreManager)
+                            .getUserIDFromUserName(username));
+                }
+            } catch (UserStoreException e) {
+                PasswordPolicyConstants.ErrorMessages errorEnum =
+                        PasswordPolicyConstants.ErrorMessages.ERROR_WHILE_GETTING_USERID_FOR_USERNAME;
+                throw new ExpiredPasswordIdentificationServerException(errorEnum.getCode(), errorEnum.getMessage());
             }
-        } catch (UserStoreException e) {
-            PasswordPolicyConstants.ErrorMessages errorEnum =
-                    PasswordPolicyConstants.ErrorMessages.ERROR_WHILE_GETTING_USERID_FOR_USERNAME;
-            throw new ExpiredPasswordIdentificationServerException(errorEnum.getCode(), errorEnum.getMessage());
         }
-        return null;
+        return userIds;
     }
 
     /**
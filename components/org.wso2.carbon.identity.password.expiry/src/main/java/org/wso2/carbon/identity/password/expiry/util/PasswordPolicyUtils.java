@@ -29,9 +29,12 @@ import org.wso2.carbon.identity.core.URLBuilderException;
 import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
 import org.wso2.carbon.identity.governance.IdentityGovernanceException;
 import org.wso2.carbon.identity.governance.IdentityGovernanceService;
+import org.wso2.carbon.identity.governance.model.UserIdentityClaim;
+import org.wso2.carbon.identity.governance.service.IdentityDataStoreService;
 import org.wso2.carbon.user.api.ClaimManager;
 import org.wso2.carbon.user.api.UserRealm;
 import org.wso2.carbon.user.api.UserStoreException;
+import org.wso2.carbon.user.core.UserCoreConstants;
 import org.wso2.carbon.user.core.UserStoreManager;
 import org.wso2.carbon.user.core.service.RealmService;
 import org.wso2.carbon.user.core.util.UserCoreUtil;
@@ -40,6 +43,7 @@ import org.wso2.carbon.utils.multitenancy.MultitenantConstants;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import static org.wso2.carbon.identity.password.expiry.constants.PasswordPolicyConstants.PASSWORD_RESET_PAGE;
 
@@ -91,13 +95,32 @@ public class PasswordPolicyUtils {
 
         UserRealm userRealm = getUserRealm(tenantDomain);
         UserStoreManager userStoreManager = getUserStoreManager(userRealm);
-        String lastPasswordUpdatedTime = getLastPasswordUpdatedTime(tenantAwareUsername, userStoreManager, userRealm);
+        String lastPasswordUpdatedTime =
+                getLastPasswordUpdatedTimeFromIdentityDataStore(tenantAwareUsername, userStoreManager);
+        if (StringUtils.isEmpty(lastPasswordUpdatedTime)) {
+            lastPasswordUpdatedTime = getLastPasswordUpdatedTime(tenantAwareUsername, userStoreManager, userRealm);
+        }
         long lastPasswordUpdatedTimeInMillis = getLastPasswordUpdatedTimeInMillis(lastPasswordUpdatedTime);
-        int daysDifference = getDaysDifference(lastPasswordUpdatedTimeInMillis);
 
         // Getting the configured number of days before password expiry in days
         int passwordExpiryInDays = getPasswordExpiryInDays(tenantDomain);
-        return (daysDifference > passwordExpiryInDays || lastPasswordUpdatedTime == null);
+        return (System.currentTimeMillis() >= getPasswordExpiryTime(lastPasswordUpdatedTimeInMillis,
+                passwordExpiryInDays) || lastPasswordUpdatedTime == null);
+    }
+
+    /**
+     * Get the time at which a password expires. The expiry rule is the same for all the users of a tenant, hence the
+     * expiry time is derived from the last password updated time, which is the only per user value to be stored,
+     * indexed and kept up to date on password changes. A password expires once more than the configured number of
+     * whole days have passed since it was updated.
+     *
+     * @param lastPasswordUpdatedTime The last password updated time in milliseconds.
+     * @param passwordExpiryInDays    The configured number of days before password expiry.
+     * @return The password expiry time in milliseconds.
+     */
+    public static long getPasswordExpiryTime(long lastPasswordUpdatedTime, int passwordExpiryInDays) {
+
+        return lastPasswordUpdatedTime + TimeUnit.DAYS.toMillis(passwordExpiryInDays + 1L);
     }
 
     /**
@@ -177,16 +200,37 @@ public class PasswordPolicyUtils {
     }
 
     /**
-     * This method retrieves the password expiry in days configured for the given tenant domain.
+     * This method retrieves the last password updated time from the identity data store, which serves the identity
+     * claims of a user from its cache, so that checking the expiry on login does not read the user store.
      *
-     * @param passwordChangedTime The last password updated time in milliseconds.
-     * @return The number of days since the password was last updated.
+     * @param tenantAwareUsername The tenant aware username of the user trying to authenticate.
+     * @param userStoreManager    The user store manager of the tenant.
+     * @return The last password updated time or null if it is not available in the identity data store.
      */
-    private static int getDaysDifference(long passwordChangedTime) {
+    private static String getLastPasswordUpdatedTimeFromIdentityDataStore(String tenantAwareUsername,
+                                                                          UserStoreManager userStoreManager) {
 
-        long currentTimeMillis = System.currentTimeMillis();
-        int daysDifference = (int) ((currentTimeMillis - passwordChangedTime) / (1000 * 60 * 60 * 24));
-        return daysDifference;
+        IdentityDataStoreService identityDataStoreService =
+                EnforcePasswordResetComponentDataHolder.getInstance().getIdentityDataStoreService();
+        if (identityDataStoreService == null || identityDataStoreService.isUserStoreBasedIdentityDataStore()) {
+            return null;
+        }
+        String userStoreDomain = UserCoreUtil.getDomainFromThreadLocal();
+        UserStoreManager domainUserStoreManager = userStoreManager;
+        if (StringUtils.isNotBlank(userStoreDomain) &&
+                !UserCoreConstants.PRIMARY_DEFAULT_DOMAIN_NAME.equalsIgnoreCase(userStoreDomain)) {
+            domainUserStoreManager = userStoreManager.getSecondaryUserStoreManager(userStoreDomain);
+        }
+        if (domainUserStoreManager == null) {
+            return null;
+        }
+        UserIdentityClaim userIdentityClaim =
+                identityDataStoreService.getIdentityClaimData(tenantAwareUsername, domainUserStoreManager);
+        if (userIdentityClaim == null || userIdentityClaim.getUserIdentityDataMap() == null) {
+            return null;
+        }
+        return userIdentityClaim.getUserIdentityDataMap()
+                .get(PasswordPolicyConstants.LAST_CREDENTIAL_UPDATE_TIMESTAMP_CLAIM);
     }
 
     /**
@@ -34,14 +34,22 @@ import org.wso2.carbon.identity.application.common.model.Property;
 import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
 import org.wso2.carbon.identity.governance.IdentityGovernanceException;
 import org.wso2.carbon.identity.governance.IdentityGovernanceService;
+import org.wso2.carbon.identity.governance.model.UserIdentityClaim;
+import org.wso2.carbon.identity.governance.service.IdentityDataStoreService;
 import org.wso2.carbon.user.api.UserStoreException;
 import org.wso2.carbon.user.core.UserStoreManager;
 import org.wso2.carbon.user.core.claim.ClaimManager;
 import org.wso2.carbon.user.core.service.RealmService;
 
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -55,6 +63,9 @@ public class PasswordPolicyUtilsTest {
     @Mock
     private IdentityGovernanceService identityGovernanceService;
 
+    @Mock
+    private IdentityDataStoreService identityDataStoreService;
+
     @Mock
     private RealmService realmService;
 
@@ -89,6 +100,7 @@ public class PasswordPolicyUtilsTest {
         passwordPolicyUtils = new PasswordPolicyUtils();
         EnforcePasswordResetComponentDataHolder.getInstance().setIdentityGovernanceService(identityGovernanceService);
         EnforcePasswordResetComponentDataHolder.getInstance().setRealmService(realmService);
+        EnforcePasswordResetComponentDataHolder.getInstance().setIdentityDataStoreService(identityDataStoreService);
     }
 
     @Test
@@ -133,4 +145,40 @@ public class PasswordPolicyUtilsTest {
                 true);
     }
 
+    @Test
+    public void testPasswordNotExpiredFromIdentityDataStore() throws Exception {
+
+        when(realmService.getTenantUserRealm(anyInt())).thenReturn(userRealm);
+        when(userRealm.getUserStoreManager()).thenReturn(userStoreManager);
+        when(IdentityTenantUtil.getTenantId(anyString())).thenReturn(3);
+
+        Property property = new Property();
+        property.setName(PasswordPolicyConstants.CONNECTOR_CONFIG_PASSWORD_EXPIRY_IN_DAYS);
+        property.setValue(String.valueOf(10));
+        when(identityGovernanceService.getConfiguration(new String[]{
+                PasswordPolicyConstants.CONNECTOR_CONFIG_PASSWORD_EXPIRY_IN_DAYS}, tenantDomain)).thenReturn(
+                new Property[]{property});
+        Map<String, String> identityData = new HashMap<>();
+        identityData.put(PasswordPolicyConstants.LAST_CREDENTIAL_UPDATE_TIMESTAMP_CLAIM,
+                String.valueOf(System.currentTimeMillis()));
+        when(identityDataStoreService.getIdentityClaimData("tom@gmail.com", userStoreManager))
+                .thenReturn(new UserIdentityClaim("tom@gmail.com", identityData));
+
+        Assert.assertFalse(PasswordPolicyUtils.isPasswordExpired(tenantDomain, "tom@gmail.com"));
+        // The last password updated time is served by the identity data store, without reading the user store.
+        verify(userStoreManager, never()).getUserClaimValues(anyString(), any(String[].class), any());
+    }
+
+    @Test
+    public void testGetPasswordExpiryTime() {
+
+        long lastPasswordUpdatedTime = 1672531200000L;
+        long day = 24 * 60 * 60 * 1000L;
+        long passwordExpiryTime = PasswordPolicyUtils.getPasswordExpiryTime(lastPasswordUpdatedTime, 10);
+
+        // The password expires once more than 10 whole days have passed since the update.
+        Assert.assertEquals(passwordExpiryTime, lastPasswordUpdatedTime + 11 * day);
+        Assert.assertEquals(PasswordPolicyUtils.getPasswordExpiryTime(lastPasswordUpdatedTime, 0),
+                lastPasswordUpdatedTime + day);
+    }
 }
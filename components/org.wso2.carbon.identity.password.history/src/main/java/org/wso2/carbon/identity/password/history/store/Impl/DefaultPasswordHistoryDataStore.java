@@ -47,6 +47,7 @@ import java.util.Locale;
 public class DefaultPasswordHistoryDataStore implements PasswordHistoryDataStore {
     private static final String RANDOM_ALG_DRBG = "DRBG";
     private static final Log log = LogFactory.getLog(DefaultPasswordHistoryDataStore.class);
+    private static volatile SecureRandom secureRandom;
     private String digestFunction;
     private int maxHistoryCount;
 
@@ -78,7 +79,8 @@ public class DefaultPasswordHistoryDataStore implements PasswordHistoryDataStore
 
         ResultSet resultSet = null;
         try {
-            prepStmt1 = connection.prepareStatement(PasswordHistoryConstants.SQLQueries.LOAD_HISTORY_DATA);
+            // Only the IDs are needed to find the records beyond the history count.
+            prepStmt1 = connection.prepareStatement(PasswordHistoryConstants.SQLQueries.LOAD_HISTORY_RECORD_IDS);
             prepStmt1.setString(1, user.getUserName());
             prepStmt1.setString(2, user.getUserStoreDomain());
             prepStmt1.setInt(3, IdentityTenantUtil.getTenantId(user.getTenantDomain()));
@@ -92,13 +94,14 @@ public class DefaultPasswordHistoryDataStore implements PasswordHistoryDataStore
                 }
             }
 
-            if (recordsToDelete.size() > 0) {
-                for (int i = 0; i < recordsToDelete.size(); i++) {
-                    prepStmt2 = connection.prepareStatement(
-                            PasswordHistoryConstants.SQLQueries.DELETE_HISTORY_RECORD);
-                    prepStmt2.setInt(1, recordsToDelete.get(i));
-                    prepStmt2.execute();
+            if (!recordsToDelete.isEmpty()) {
+                // Delete all the surplus records in a single batch instead of a round trip per record.
+                prepStmt2 = connection.prepareStatement(PasswordHistoryConstants.SQLQueries.DELETE_HISTORY_RECORD);
+                for (Integer recordId : recordsToDelete) {
+                    prepStmt2.setInt(1, recordId);
+                    prepStmt2.addBatch();
                 }
+                prepStmt2.executeBatch();
             }
 
             prepStmt3 = connection.prepareStatement(PasswordHistoryConstants.SQLQueries.STORE_HISTORY_DATA);
@@ -226,17 +229,33 @@ public class DefaultPasswordHistoryDataStore implements PasswordHistoryDataStore
      * @return saltValue
      */
     private String generateSaltValue() {
-        String saltValue;
-        try {
-            SecureRandom secureRandom = SecureRandom.getInstance(RANDOM_ALG_DRBG);
-            byte[] bytes = new byte[16];
-            //secureRandom is automatically seeded by calling nextBytes
-            secureRandom.nextBytes(bytes);
-            saltValue = Base64.encode(bytes);
-        } catch (NoSuchAlgorithmException e) {
-            throw new RuntimeException("DRBG algorithm could not be found.");
+
+        byte[] bytes = new byte[16];
+        //secureRandom is automatically seeded by calling nextBytes
+        getSecureRandom().nextBytes(bytes);
+        return Base64.encode(bytes);
+    }
+
+    /**
+     * Get the shared DRBG SecureRandom instance. SecureRandom is thread safe, hence a single instance is created and
+     * reused for all the salts instead of instantiating and seeding a new one per salt.
+     *
+     * @return SecureRandom instance.
+     */
+    private static SecureRandom getSecureRandom() {
+
+        if (secureRandom == null) {
+            synchronized (DefaultPasswordHistoryDataStore.class) {
+                if (secureRandom == null) {
+                    try {
+                        secureRandom = SecureRandom.getInstance(RANDOM_ALG_DRBG);
+                    } catch (NoSuchAlgorithmException e) {
+                        throw new RuntimeException("DRBG algorithm could not be found.");
+                    }
+                }
+            }
         }
-        return saltValue;
+        return secureRandom;
     }
 
     /**
@@ -40,15 +40,19 @@ import org.wso2.carbon.identity.password.policy.util.Utils;
 import org.wso2.carbon.user.core.util.UserCoreUtil;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class PasswordPolicyValidationHandler extends AbstractEventHandler implements IdentityConnectorConfig {
 
     private static final Log log = LogFactory.getLog(PasswordPolicyValidationHandler.class);
 
+    private final Map<String, TenantPasswordPolicy> tenantPolicies = new ConcurrentHashMap<>();
+
     @Override
     public void handleEvent(Event event) throws IdentityEventException {
 
@@ -123,51 +127,116 @@ public class PasswordPolicyValidationHandler extends AbstractEventHandler implem
             }
         }
 
-        PolicyRegistry policyRegistry = new PolicyRegistry();
+        PolicyRegistry policyRegistry = getPolicyRegistry(tenantDomain, configs.getModuleProperties(), pwMinLength,
+                pwMaxLength, pwPattern, errorMsg);
 
-        String pwLengthPolicyCls = configs.getModuleProperties().
-                getProperty(PasswordPolicyConstants.PW_POLICY_LENGTH_CLASS);
-        String pwNamePolicyCls = configs.getModuleProperties().
-                getProperty(PasswordPolicyConstants.PW_POLICY_NAME_CLASS);
-        String pwPatternPolicyCls = configs.getModuleProperties().
-                getProperty(PasswordPolicyConstants.PW_POLICY_PATTERN_CLASS);
+        try {
+            enforcePasswordPolicies(policyRegistry, credentials.toString(), userName);
+        } catch (PolicyViolationException e) {
+            throw Utils.handleEventException(
+                    PasswordPolicyConstants.ErrorMessages.ERROR_CODE_VALIDATING_PASSWORD_POLICY, e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Get the password policies of a tenant. The policies are instantiated once per tenant and reused until the
+     * password policy configuration of the tenant changes or the tenant entry is cleared.
+     *
+     * @param tenantDomain     Tenant domain.
+     * @param moduleProperties Module properties of the handler, which define the policy classes.
+     * @param pwMinLength      Minimum length of the password.
+     * @param pwMaxLength      Maximum length of the password.
+     * @param pwPattern        Pattern of the password.
+     * @param errorMsg         Error message on pattern violation.
+     * @return Policy registry with the password policies of the tenant.
+     * @throws IdentityEventException Error while loading the policy classes.
+     */
+    PolicyRegistry getPolicyRegistry(String tenantDomain, Properties moduleProperties, String pwMinLength,
+                                     String pwMaxLength, String pwPattern, String errorMsg)
+            throws IdentityEventException {
+
+        List<String> policyConfig = Arrays.asList(moduleProperties.getProperty(PasswordPolicyConstants
+                        .PW_POLICY_LENGTH_CLASS), moduleProperties.getProperty(PasswordPolicyConstants
+                        .PW_POLICY_NAME_CLASS), moduleProperties.getProperty(PasswordPolicyConstants
+                        .PW_POLICY_PATTERN_CLASS), pwMinLength, pwMaxLength, pwPattern, errorMsg);
+        if (tenantDomain == null) {
+            return buildPolicyRegistry(policyConfig);
+        }
+        TenantPasswordPolicy tenantPolicy = tenantPolicies.get(tenantDomain);
+        if (tenantPolicy == null || !tenantPolicy.policyConfig.equals(policyConfig)) {
+            if (log.isDebugEnabled()) {
+                log.debug("Building the password policies of the tenant: " + tenantDomain);
+            }
+            tenantPolicy = new TenantPasswordPolicy(policyConfig, buildPolicyRegistry(policyConfig));
+            tenantPolicies.put(tenantDomain, tenantPolicy);
+        }
+        return tenantPolicy.policyRegistry;
+    }
+
+    /**
+     * Clear the password policies of a tenant, so that they are built again from the configuration on the next
+     * validation.
+     *
+     * @param tenantDomain Tenant domain.
+     */
+    public void clearPolicyRegistry(String tenantDomain) {
+
+        if (tenantDomain != null) {
+            tenantPolicies.remove(tenantDomain);
+        }
+    }
+
+    /**
+     * Enforce the password policies of a policy registry. A policy keeps the error message of its last violation,
+     * so a shared registry is enforced by one validation at a time.
+     *
+     * @param policyRegistry Policy registry.
+     * @param password       Password to validate.
+     * @param userName       Username of the user.
+     * @throws PolicyViolationException If the password violates a policy.
+     */
+    void enforcePasswordPolicies(PolicyRegistry policyRegistry, String password, String userName)
+            throws PolicyViolationException {
+
+        synchronized (policyRegistry) {
+            policyRegistry.enforcePasswordPolicies(password, userName);
+        }
+    }
+
+    private PolicyRegistry buildPolicyRegistry(List<String> policyConfig) throws IdentityEventException {
+
+        String pwLengthPolicyCls = policyConfig.get(0);
+        String pwNamePolicyCls = policyConfig.get(1);
+        String pwPatternPolicyCls = policyConfig.get(2);
+        PolicyRegistry policyRegistry = new PolicyRegistry();
         try {
             if (StringUtils.isNotBlank(pwLengthPolicyCls)) {
-                DefaultPasswordLengthPolicy defaultPasswordLengthPolicy = (DefaultPasswordLengthPolicy) Class.
-                        forName(pwLengthPolicyCls).newInstance();
-                HashMap pwPolicyLengthParams = new HashMap<String, String>();
-                pwPolicyLengthParams.put("min.length", pwMinLength);
-                pwPolicyLengthParams.put("max.length", pwMaxLength);
-                defaultPasswordLengthPolicy.init(pwPolicyLengthParams);
+                DefaultPasswordLengthPolicy defaultPasswordLengthPolicy = Class.forName(pwLengthPolicyCls)
+                        .asSubclass(DefaultPasswordLengthPolicy.class).getDeclaredConstructor().newInstance();
+                HashMap<String, String> pwPolicyParams = new HashMap<>();
+                pwPolicyParams.put("min.length", policyConfig.get(3));
+                pwPolicyParams.put("max.length", policyConfig.get(4));
+                defaultPasswordLengthPolicy.init(pwPolicyParams);
                 policyRegistry.addPolicy(defaultPasswordLengthPolicy);
             }
-
             if (StringUtils.isNotBlank(pwNamePolicyCls)) {
-                DefaultPasswordNamePolicy defaultPasswordNamePolicy = (DefaultPasswordNamePolicy) Class.
-                        forName(pwNamePolicyCls).newInstance();
-                policyRegistry.addPolicy(defaultPasswordNamePolicy);
+                policyRegistry.addPolicy(Class.forName(pwNamePolicyCls).asSubclass(DefaultPasswordNamePolicy.class)
+                        .getDeclaredConstructor().newInstance());
             }
-
             if (StringUtils.isNotBlank(pwPatternPolicyCls)) {
-                DefaultPasswordPatternPolicy defaultPasswordPatternPolicy = (DefaultPasswordPatternPolicy) Class.
-                        forName(pwPatternPolicyCls).newInstance();
-                HashMap pwPolicyPatternParams = new HashMap<String, String>();
-                pwPolicyPatternParams.put("pattern", pwPattern);
-                pwPolicyPatternParams.put("errorMsg", errorMsg);
-                defaultPasswordPatternPolicy.init(pwPolicyPatternParams);
+                DefaultPasswordPatternPolicy defaultPasswordPatternPolicy = Class.forName(pwPatternPolicyCls)
+                        .asSubclass(DefaultPasswordPatternPolicy.class).getDeclaredConstructor().newInstance();
+                HashMap<String, String> pwPolicyParams = new HashMap<>();
+                pwPolicyParams.put("pattern", policyConfig.get(5));
+                pwPolicyParams.put("errorMsg", policyConfig.get(6));
+                defaultPasswordPatternPolicy.init(pwPolicyParams);
                 policyRegistry.addPolicy(defaultPasswordPatternPolicy);
             }
         } catch (Exception e) {
             throw Utils.handleEventException(
                     PasswordPolicyConstants.ErrorMessages.ERROR_CODE_LOADING_PASSWORD_POLICY_CLASSES, null, e);
         }
-
-        try {
-            policyRegistry.enforcePasswordPolicies(credentials.toString(), userName);
-        } catch (PolicyViolationException e) {
-            throw Utils.handleEventException(
-                    PasswordPolicyConstants.ErrorMessages.ERROR_CODE_VALIDATING_PASSWORD_POLICY, e.getMessage(), e);
-        }
+        return policyRegistry;
     }
 
     @Override
@@ -269,4 +338,19 @@ public class PasswordPolicyValidationHandler extends AbstractEventHandler implem
 
         return null;
     }
+
+    /**
+     * Password policies of a tenant, built from the given policy configuration.
+     */
+    private static class TenantPasswordPolicy {
+
+        private final List<String> policyConfig;
+        private final PolicyRegistry policyRegistry;
+
+        TenantPasswordPolicy(List<String> policyConfig, PolicyRegistry policyRegistry) {
+
+            this.policyConfig = policyConfig;
+            this.policyRegistry = policyRegistry;
+        }
+    }
 }
@@ -23,6 +23,8 @@ import org.wso2.carbon.identity.event.handler.AbstractEventHandler;
 import org.wso2.carbon.identity.governance.IdentityGovernanceService;
 import org.wso2.carbon.identity.governance.common.IdentityConnectorConfig;
 import org.wso2.carbon.identity.password.policy.handler.PasswordPolicyValidationHandler;
+import org.wso2.carbon.identity.password.policy.listener.PasswordPolicyIdPMgtListener;
+import org.wso2.carbon.idp.mgt.listener.IdentityProviderMgtListener;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Deactivate;
@@ -51,6 +53,9 @@ public class IdentityPasswordPolicyServiceComponent {
                 PasswordPolicyValidationHandler handler = new PasswordPolicyValidationHandler();
                 context.getBundleContext().registerService(AbstractEventHandler.class.getName(), handler, null);
                 context.getBundleContext().registerService(IdentityConnectorConfig.class.getName(), handler, null);
+                IdentityPasswordPolicyServiceDataHolder.getInstance().setPasswordPolicyValidationHandler(handler);
+                context.getBundleContext().registerService(IdentityProviderMgtListener.class.getName(),
+                        new PasswordPolicyIdPMgtListener(), null);
             } else {
                 if (log.isDebugEnabled()) {
                     log.debug("Password Policy Validation Handler is disabled.");
@@ -21,12 +21,14 @@ import org.osgi.framework.BundleContext;
 import org.wso2.carbon.identity.core.util.IdentityUtil;
 import org.wso2.carbon.identity.governance.IdentityGovernanceService;
 import org.wso2.carbon.identity.password.policy.constants.PasswordPolicyConstants;
+import org.wso2.carbon.identity.password.policy.handler.PasswordPolicyValidationHandler;
 
 public class IdentityPasswordPolicyServiceDataHolder {
 
     private static IdentityPasswordPolicyServiceDataHolder instance = new IdentityPasswordPolicyServiceDataHolder();
     private IdentityGovernanceService identityGovernanceService;
     private BundleContext bundleContext;
+    private PasswordPolicyValidationHandler passwordPolicyValidationHandler;
 
     private IdentityPasswordPolicyServiceDataHolder() {
     }
@@ -64,4 +66,12 @@ public class IdentityPasswordPolicyServiceDataHolder {
     public void setBundleContext(BundleContext bundleContext) {
         this.bundleContext = bundleContext;
     }
+
+    public PasswordPolicyValidationHandler getPasswordPolicyValidationHandler() {
+        return passwordPolicyValidationHandler;
+    }
+
+    public void setPasswordPolicyValidationHandler(PasswordPolicyValidationHandler passwordPolicyValidationHandler) {
+        this.passwordPolicyValidationHandler = passwordPolicyValidationHandler;
+    }
 }
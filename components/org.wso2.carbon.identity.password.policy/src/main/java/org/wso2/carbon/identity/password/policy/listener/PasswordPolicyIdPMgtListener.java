@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.password.policy.listener;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.application.common.model.IdentityProvider;
+import org.wso2.carbon.identity.password.policy.handler.PasswordPolicyValidationHandler;
+import org.wso2.carbon.identity.password.policy.internal.IdentityPasswordPolicyServiceDataHolder;
+import org.wso2.carbon.idp.mgt.IdentityProviderManagementException;
+import org.wso2.carbon.idp.mgt.listener.AbstractIdentityProviderMgtListener;
+
+/**
+ * Identity provider management listener which drops the password policies of a tenant when its resident identity
+ * provider, which keeps the governance configurations, is updated.
+ */
+public class PasswordPolicyIdPMgtListener extends AbstractIdentityProviderMgtListener {
+
+    private static final Log log = LogFactory.getLog(PasswordPolicyIdPMgtListener.class);
+
+    @Override
+    public int getDefaultOrderId() {
+
+        return 11;
+    }
+
+    @Override
+    public boolean doPostUpdateResidentIdP(IdentityProvider identityProvider, String tenantDomain)
+            throws IdentityProviderManagementException {
+
+        PasswordPolicyValidationHandler passwordPolicyValidationHandler =
+                IdentityPasswordPolicyServiceDataHolder.getInstance().getPasswordPolicyValidationHandler();
+        if (passwordPolicyValidationHandler != null) {
+            if (log.isDebugEnabled()) {
+                log.debug("Clearing the password policies of tenant: " + tenantDomain);
+            }
+            passwordPolicyValidationHandler.clearPolicyRegistry(tenantDomain);
+        }
+        return true;
+    }
+}
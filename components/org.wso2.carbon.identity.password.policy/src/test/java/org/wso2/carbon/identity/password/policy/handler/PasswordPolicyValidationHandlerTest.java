@@ -19,14 +19,29 @@ import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 import org.wso2.carbon.identity.password.policy.constants.PasswordPolicyConstants;
 
+import org.wso2.carbon.identity.mgt.policy.PolicyRegistry;
+import org.wso2.carbon.identity.mgt.policy.PolicyViolationException;
+import org.wso2.carbon.identity.mgt.policy.password.DefaultPasswordLengthPolicy;
+import org.wso2.carbon.identity.mgt.policy.password.DefaultPasswordPatternPolicy;
+
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertNotEquals;
 import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertThrows;
+import static org.testng.Assert.assertTrue;
 
 public class PasswordPolicyValidationHandlerTest {
 
@@ -123,4 +138,88 @@ public class PasswordPolicyValidationHandlerTest {
 
         assertEquals(passwordPolicyValidationHandler.getOrder(), 0, "getOrder() has been changed.");
     }
+
+    @Test
+    public void testGetPolicyRegistry() throws Exception {
+
+        Properties moduleProperties = new Properties();
+        moduleProperties.setProperty(PasswordPolicyConstants.PW_POLICY_LENGTH_CLASS,
+                DefaultPasswordLengthPolicy.class.getName());
+        moduleProperties.setProperty(PasswordPolicyConstants.PW_POLICY_PATTERN_CLASS,
+                DefaultPasswordPatternPolicy.class.getName());
+
+        PolicyRegistry policyRegistry = passwordPolicyValidationHandler.getPolicyRegistry("carbon.super",
+                moduleProperties, "6", "12", "^[a-z]+$", "Lower case letters only.");
+        assertSame(passwordPolicyValidationHandler.getPolicyRegistry("carbon.super", moduleProperties, "6", "12",
+                "^[a-z]+$", "Lower case letters only."), policyRegistry,
+                "Policy registry should be reused while the configuration is unchanged.");
+        policyRegistry.enforcePasswordPolicies("password", "admin");
+
+        PolicyRegistry updatedPolicyRegistry = passwordPolicyValidationHandler.getPolicyRegistry("carbon.super",
+                moduleProperties, "6", "12", "^[0-9]+$", "Digits only.");
+        assertNotSame(updatedPolicyRegistry, policyRegistry,
+                "Policy registry should be rebuilt when the configuration changes.");
+        assertThrows(PolicyViolationException.class,
+                () -> updatedPolicyRegistry.enforcePasswordPolicies("password", "admin"));
+        assertNotSame(passwordPolicyValidationHandler.getPolicyRegistry("wso2.com", moduleProperties, "6", "12",
+                "^[0-9]+$", "Digits only."), updatedPolicyRegistry,
+                "Policy registries should not be shared between tenants.");
+
+        passwordPolicyValidationHandler.clearPolicyRegistry("carbon.super");
+        assertNotSame(passwordPolicyValidationHandler.getPolicyRegistry("carbon.super", moduleProperties, "6", "12",
+                "^[0-9]+$", "Digits only."), updatedPolicyRegistry,
+                "Policy registry should be rebuilt after it is cleared.");
+    }
+
+    @Test
+    public void testGetPolicyRegistryConcurrently() throws Exception {
+
+        Properties moduleProperties = new Properties();
+        moduleProperties.setProperty(PasswordPolicyConstants.PW_POLICY_LENGTH_CLASS,
+                DefaultPasswordLengthPolicy.class.getName());
+        String shortPassword = "abc";
+        String longPassword = "abcdefghijklmnopqrstuvwxyz";
+        String shortPasswordError = getViolation(moduleProperties, shortPassword);
+        String longPasswordError = getViolation(moduleProperties, longPassword);
+        assertNotEquals(shortPasswordError, longPasswordError);
+
+        // Conflicting violations of the same tenant should each report their own error message.
+        int threads = 8;
+        ExecutorService executorService = Executors.newFixedThreadPool(threads);
+        try {
+            CountDownLatch startLatch = new CountDownLatch(1);
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                String password = i % 2 == 0 ? shortPassword : longPassword;
+                String expectedError = i % 2 == 0 ? shortPasswordError : longPasswordError;
+                results.add(executorService.submit(() -> {
+                    startLatch.await();
+                    for (int j = 0; j < 500; j++) {
+                        if (!expectedError.equals(getViolation(moduleProperties, password))) {
+                            return false;
+                        }
+                    }
+                    return true;
+                }));
+            }
+            startLatch.countDown();
+            for (Future<Boolean> result : results) {
+                assertTrue(result.get(30, TimeUnit.SECONDS), "Error message of another violation was reported.");
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    private String getViolation(Properties moduleProperties, String password) throws Exception {
+
+        PolicyRegistry policyRegistry = passwordPolicyValidationHandler.getPolicyRegistry("carbon.super",
+                moduleProperties, "6", "12", "^[a-z]+$", "Lower case letters only.");
+        try {
+            passwordPolicyValidationHandler.enforcePasswordPolicies(policyRegistry, password, "admin");
+        } catch (PolicyViolationException e) {
+            return e.getMessage();
+        }
+        return null;
+    }
 }
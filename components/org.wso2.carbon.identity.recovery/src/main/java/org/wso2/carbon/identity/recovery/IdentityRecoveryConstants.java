@@ -173,6 +173,12 @@ public class IdentityRecoveryConstants {
     // Recovery code given at the username and password recovery initiation.
     public static final int RECOVERY_CODE_DEFAULT_EXPIRY_TIME = 1;
     public static final int RESEND_CODE_DEFAULT_EXPIRY_TIME = 1;
+    public static final int RECOVERY_DATA_PURGE_DEFAULT_INTERVAL = 60;
+    public static final int RECOVERY_DATA_PURGE_DEFAULT_BATCH_SIZE = 1000;
+    public static final long RECOVERY_DATA_PURGE_DEFAULT_BATCH_PAUSE = 100;
+    public static final int RECOVERY_DATA_PURGE_DEFAULT_GRACE_PERIOD = 1440;
+    public static final int RECOVERY_DATA_ASYNC_EVENT_PUBLISHING_DEFAULT_POOL_SIZE = 4;
+    public static final int RECOVERY_DATA_ASYNC_EVENT_PUBLISHING_DEFAULT_QUEUE_SIZE = 1000;
 
     public static final String RECOVERY_QUESTION_PASSWORD_SKIP_ON_INSUFFICIENT_ANSWERS =
             "Recovery.Question.Password.SkipOnInsufficientAnswers";
@@ -307,6 +313,7 @@ public class IdentityRecoveryConstants {
         ERROR_CODE_STORING_RECOVERY_FLOW_DATA("20063", "Error while storing recovery data."),
         ERROR_CODE_UPDATING_RECOVERY_FLOW_DATA("20064", "Error while updating recovery data."),
         ERROR_CODE_NO_HASHING_ALGO_FOR_CODE("20065", "Error while hashing the code."),
+        ERROR_CODE_ERROR_PURGING_RECOVERY_DATA("20066", "Error while purging the expired recovery data."),
 
         ERROR_CODE_ERROR_RETRIVING_CLAIM("18004", "Error when retrieving the locale claim of user '%s' of '%s' domain."),
         ERROR_CODE_RECOVERY_DATA_NOT_FOUND_FOR_USER("18005", "Recovery data not found."),
@@ -545,6 +552,20 @@ public class IdentityRecoveryConstants {
         public static final String PASSWORD_RECOVERY_SMS_OTP_REGEX = "Recovery.Notification.Password.smsOtp.Regex";
         public static final String RESEND_CODE_EXPIRY_TIME = "Recovery.Notification.ExpiryTime.ResendCode";
         public static final String RECOVERY_CODE_EXPIRY_TIME = "Recovery.Notification.ExpiryTime.RecoveryCode";
+        public static final String RECOVERY_DATA_PURGE_ENABLE = "Recovery.DataPurge.Enable";
+        public static final String RECOVERY_DATA_PURGE_INTERVAL = "Recovery.DataPurge.IntervalInMinutes";
+        public static final String RECOVERY_DATA_PURGE_BATCH_SIZE = "Recovery.DataPurge.BatchSize";
+        public static final String RECOVERY_DATA_PURGE_BATCH_PAUSE = "Recovery.DataPurge.BatchPauseInMillis";
+        public static final String RECOVERY_DATA_PURGE_GRACE_PERIOD = "Recovery.DataPurge.GracePeriodInMinutes";
+        public static final String RECOVERY_DATA_NORMALIZED_USER_NAME_ENABLE = "Recovery.NormalizedUserName.Enable";
+        public static final String RECOVERY_DATA_ASYNC_EVENT_PUBLISHING_ENABLE =
+                "Recovery.AsyncEventPublishing.Enable";
+        public static final String RECOVERY_DATA_ASYNC_EVENT_PUBLISHING_POOL_SIZE =
+                "Recovery.AsyncEventPublishing.PoolSize";
+        public static final String RECOVERY_DATA_ASYNC_EVENT_PUBLISHING_QUEUE_SIZE =
+                "Recovery.AsyncEventPublishing.QueueSize";
+        public static final String RECOVERY_DATA_ASYNC_EVENT_PUBLISHING_OVERFLOW_POLICY =
+                "Recovery.AsyncEventPublishing.OverflowPolicy";
         public static final String ENABLE_ACCOUNT_LOCK_FOR_VERIFIED_PREFERRED_CHANNEL =
                 "SelfRegistration.EnableAccountLockForVerifiedPreferredChannel";
         public static final String PASSWORD_RECOVERY_SEND_OTP_IN_EMAIL = "Recovery.Notification.Password.OTP.SendOTPInEmail";
@@ -689,6 +710,7 @@ public class IdentityRecoveryConstants {
         public static final String USER_DOMAIN = "USER_DOMAIN";
         public static final String CODE = "CODE";
         public static final String SCENARIO = "SCENARIO";
+        public static final String STEP = "STEP";
         public static final String REMAINING_SETS = "REMAINING_SETS";
         public static final String RECOVERY_FLOW_ID = "RECOVERY_FLOW_ID";
         public static final String FAILED_ATTEMPTS = "FAILED_ATTEMPTS";
@@ -706,6 +728,16 @@ public class IdentityRecoveryConstants {
                 + "(USER_NAME, USER_DOMAIN, TENANT_ID, CODE, SCENARIO,STEP, TIME_CREATED, REMAINING_SETS, " +
                 "RECOVERY_FLOW_ID) VALUES (?,?,?,?,?,?,?,?,?)";
 
+        /*
+         * The NORMALIZED_USER_NAME queries match case-insensitive usernames on LOWER(USER_NAME) kept in a column with
+         * an index on (NORMALIZED_USER_NAME, USER_DOMAIN, TENANT_ID), instead of a scan on LOWER(USER_NAME). The
+         * dbscripts/identity/governance/normalized-user-name scripts migrate existing databases, and should be run
+         * before enabling Recovery.NormalizedUserName.Enable.
+         */
+        public static final String STORE_RECOVERY_DATA_WITH_FLOW_ID_AND_NORMALIZED_USER_NAME = "INSERT INTO " +
+                "IDN_RECOVERY_DATA (USER_NAME, USER_DOMAIN, TENANT_ID, CODE, SCENARIO, STEP, TIME_CREATED, " +
+                "REMAINING_SETS, RECOVERY_FLOW_ID, NORMALIZED_USER_NAME) VALUES (?,?,?,?,?,?,?,?,?,LOWER(?))";
+
         public static final String LOAD_RECOVERY_DATA = "SELECT "
                 + "* FROM IDN_RECOVERY_DATA WHERE USER_NAME = ? AND USER_DOMAIN = ? AND TENANT_ID = ? AND CODE = ? AND " +
                 "SCENARIO = ? AND STEP = ?";
@@ -714,6 +746,10 @@ public class IdentityRecoveryConstants {
                 " LOWER(USER_NAME)=LOWER(?) AND USER_DOMAIN = ? AND TENANT_ID = ? AND CODE= ? AND SCENARIO = ? AND " +
                 "STEP = ?";
 
+        public static final String LOAD_RECOVERY_DATA_NORMALIZED_USER_NAME = "SELECT * FROM IDN_RECOVERY_DATA WHERE " +
+                "NORMALIZED_USER_NAME = LOWER(?) AND USER_DOMAIN = ? AND TENANT_ID = ? AND CODE = ? AND SCENARIO = ? " +
+                "AND STEP = ?";
+
         public static final String LOAD_RECOVERY_DATA_FROM_CODE = "SELECT * FROM IDN_RECOVERY_DATA WHERE CODE = ?";
 
         public static final String LOAD_RECOVERY_DATA_FROM_RECOVERY_FLOW_ID = "SELECT * FROM IDN_RECOVERY_DATA WHERE" +
@@ -729,6 +765,11 @@ public class IdentityRecoveryConstants {
                 "DELETE FROM IDN_RECOVERY_DATA WHERE LOWER(USER_NAME) = LOWER(?) AND USER_DOMAIN = ? AND TENANT_ID =? " +
                 "AND SCENARIO <> 'EMAIL_VERIFICATION_ON_UPDATE' AND SCENARIO <> 'MOBILE_VERIFICATION_ON_UPDATE'";
 
+        public static final String INVALIDATE_USER_CODES_NORMALIZED_USER_NAME =
+                "DELETE FROM IDN_RECOVERY_DATA WHERE NORMALIZED_USER_NAME = LOWER(?) AND USER_DOMAIN = ? AND " +
+                "TENANT_ID = ? AND SCENARIO <> 'EMAIL_VERIFICATION_ON_UPDATE' AND " +
+                "SCENARIO <> 'MOBILE_VERIFICATION_ON_UPDATE'";
+
         public static final String INVALIDATE_USER_CODE_BY_SCENARIO = "DELETE FROM IDN_RECOVERY_DATA WHERE " +
                 "USER_NAME = ? AND SCENARIO = ? AND STEP = ? AND USER_DOMAIN = ? AND TENANT_ID =?";
 
@@ -739,6 +780,10 @@ public class IdentityRecoveryConstants {
                 "IDN_RECOVERY_DATA WHERE LOWER(USER_NAME)=LOWER(?) AND SCENARIO = ? AND STEP = ? AND " +
                 "USER_DOMAIN = ? AND TENANT_ID =?";
 
+        public static final String INVALIDATE_USER_CODE_BY_SCENARIO_NORMALIZED_USER_NAME = "DELETE FROM " +
+                "IDN_RECOVERY_DATA WHERE NORMALIZED_USER_NAME = LOWER(?) AND SCENARIO = ? AND STEP = ? AND " +
+                "USER_DOMAIN = ? AND TENANT_ID = ?";
+
         public static final String DELETE_USER_RECOVERY_DATA_BY_TENANT_ID = "DELETE FROM IDN_RECOVERY_DATA WHERE TENANT_ID = ?";
 
         public static final String LOAD_RECOVERY_DATA_OF_USER =
@@ -749,6 +794,11 @@ public class IdentityRecoveryConstants {
                 "SELECT * FROM IDN_RECOVERY_DATA WHERE LOWER(USER_NAME)=LOWER(?) AND USER_DOMAIN = ? AND TENANT_ID = ? " +
                 "AND SCENARIO <> 'EMAIL_VERIFICATION_ON_UPDATE' AND SCENARIO <> 'MOBILE_VERIFICATION_ON_UPDATE'";
 
+        public static final String LOAD_RECOVERY_DATA_OF_USER_NORMALIZED_USER_NAME =
+                "SELECT * FROM IDN_RECOVERY_DATA WHERE NORMALIZED_USER_NAME = LOWER(?) AND USER_DOMAIN = ? AND " +
+                "TENANT_ID = ? AND SCENARIO <> 'EMAIL_VERIFICATION_ON_UPDATE' AND " +
+                "SCENARIO <> 'MOBILE_VERIFICATION_ON_UPDATE'";
+
         public static final String LOAD_RECOVERY_DATA_OF_USER_BY_SCENARIO = "SELECT "
                 + "* FROM IDN_RECOVERY_DATA WHERE USER_NAME = ? AND SCENARIO = ? AND USER_DOMAIN = ? " +
                 "AND TENANT_ID = ?";
@@ -757,6 +807,10 @@ public class IdentityRecoveryConstants {
                 + "* FROM IDN_RECOVERY_DATA WHERE LOWER(USER_NAME)=LOWER(?) AND SCENARIO = ? AND " +
                 "USER_DOMAIN = ? AND TENANT_ID = ?";
 
+        public static final String LOAD_RECOVERY_DATA_OF_USER_BY_SCENARIO_NORMALIZED_USER_NAME = "SELECT * FROM " +
+                "IDN_RECOVERY_DATA WHERE NORMALIZED_USER_NAME = LOWER(?) AND SCENARIO = ? AND USER_DOMAIN = ? AND " +
+                "TENANT_ID = ?";
+
         public static final String LOAD_RECOVERY_DATA_OF_USER_BY_STEP = "SELECT "
                 + "* FROM IDN_RECOVERY_DATA WHERE USER_NAME = ? AND SCENARIO = ? AND USER_DOMAIN = ? " +
                 "AND TENANT_ID = ? AND STEP = ?";
@@ -765,6 +819,10 @@ public class IdentityRecoveryConstants {
                 + "* FROM IDN_RECOVERY_DATA WHERE LOWER(USER_NAME)=LOWER(?) AND SCENARIO = ? AND USER_DOMAIN = ? " +
                 "AND TENANT_ID = ? AND STEP = ?";
 
+        public static final String LOAD_RECOVERY_DATA_OF_USER_BY_STEP_NORMALIZED_USER_NAME = "SELECT * FROM " +
+                "IDN_RECOVERY_DATA WHERE NORMALIZED_USER_NAME = LOWER(?) AND SCENARIO = ? AND USER_DOMAIN = ? AND " +
+                "TENANT_ID = ? AND STEP = ?";
+
         public static final String STORE_RECOVERY_FLOW_DATA = "INSERT INTO IDN_RECOVERY_FLOW_DATA "
                 + "(RECOVERY_FLOW_ID, CODE, FAILED_ATTEMPTS, RESEND_COUNT, TIME_CREATED) VALUES (?,?,?,?,?)";
 
@@ -782,6 +840,30 @@ public class IdentityRecoveryConstants {
 
         public static final String INVALIDATE_BY_RECOVERY_FLOW_ID = "DELETE FROM IDN_RECOVERY_FLOW_DATA WHERE " +
                 "RECOVERY_FLOW_ID = ?";
+
+        /**
+         * The recovery data of the sign up and ask password scenarios stand for an account pending confirmation, and
+         * are read regardless of their expiry to resend the confirmation or to tell whether the account is confirmed.
+         * Hence they are never purged.
+         */
+        private static final String PURGEABLE_RECOVERY_SCENARIOS = "SCENARIO NOT IN ('SELF_SIGN_UP', " +
+                "'LITE_SIGN_UP', 'ASK_PASSWORD', 'TENANT_ADMIN_ASK_PASSWORD')";
+
+        public static final String LOAD_RECOVERY_DATA_CREATED_BEFORE = "SELECT CODE, TENANT_ID, SCENARIO, STEP, " +
+                "TIME_CREATED, REMAINING_SETS FROM IDN_RECOVERY_DATA WHERE TIME_CREATED < ? AND " +
+                PURGEABLE_RECOVERY_SCENARIOS + " ORDER BY TIME_CREATED, CODE";
+
+        public static final String LOAD_RECOVERY_DATA_CREATED_BEFORE_AFTER_CURSOR = "SELECT CODE, TENANT_ID, " +
+                "SCENARIO, STEP, TIME_CREATED, REMAINING_SETS FROM IDN_RECOVERY_DATA WHERE TIME_CREATED < ? AND " +
+                PURGEABLE_RECOVERY_SCENARIOS + " AND (TIME_CREATED > ? OR (TIME_CREATED = ? AND CODE > ?)) " +
+                "ORDER BY TIME_CREATED, CODE";
+
+        public static final String LOAD_ORPHANED_RECOVERY_FLOW_IDS = "SELECT RECOVERY_FLOW_ID FROM " +
+                "IDN_RECOVERY_FLOW_DATA WHERE TIME_CREATED < ? AND NOT EXISTS (SELECT 1 FROM IDN_RECOVERY_DATA " +
+                "WHERE IDN_RECOVERY_DATA.RECOVERY_FLOW_ID = IDN_RECOVERY_FLOW_DATA.RECOVERY_FLOW_ID)";
+
+        public static final String DELETE_ORPHANED_RECOVERY_FLOW_DATA = "DELETE FROM IDN_RECOVERY_FLOW_DATA WHERE " +
+                "RECOVERY_FLOW_ID = ? AND NOT EXISTS (SELECT 1 FROM IDN_RECOVERY_DATA WHERE RECOVERY_FLOW_ID = ?)";
     }
 
     public static class Questions {
@@ -73,11 +73,11 @@ public class AccountConfirmationValidationHandler extends AbstractEventHandler {
         user.setTenantDomain(tenantDomain);
         user.setUserStoreDomain(domainName);
 
-        boolean isSelfSignupEnabled = Boolean.parseBoolean(Utils.getConnectorConfig(
-                IdentityRecoveryConstants.ConnectorConfig.ENABLE_SELF_SIGNUP, user.getTenantDomain()));
+        boolean isSelfSignupEnabled = Utils.isConnectorConfigEnabled(
+                IdentityRecoveryConstants.ConnectorConfig.ENABLE_SELF_SIGNUP, user.getTenantDomain());
 
-        boolean isEmailVerificationEnabled = Boolean.parseBoolean(Utils.getConnectorConfig(
-                IdentityRecoveryConstants.ConnectorConfig.ENABLE_EMAIL_VERIFICATION, user.getTenantDomain()));
+        boolean isEmailVerificationEnabled = Utils.isConnectorConfigEnabled(
+                IdentityRecoveryConstants.ConnectorConfig.ENABLE_EMAIL_VERIFICATION, user.getTenantDomain());
 
         if (!isSelfSignupEnabled && !isEmailVerificationEnabled) {
             if (log.isDebugEnabled()) {
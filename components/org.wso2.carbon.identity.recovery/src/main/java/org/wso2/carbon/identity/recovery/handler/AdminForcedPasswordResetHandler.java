@@ -99,17 +99,17 @@ public class AdminForcedPasswordResetHandler extends UserEmailVerificationHandle
         Map<String, String> claims = (Map<String, String>) eventProperties.get(IdentityEventConstants.EventProperty
                 .USER_CLAIMS);
 
-        boolean adminPasswordResetOffline = Boolean.parseBoolean(Utils.getConnectorConfig(
+        boolean adminPasswordResetOffline = Utils.isConnectorConfigEnabled(
                 IdentityRecoveryConstants.ConnectorConfig.ENABLE_ADMIN_PASSWORD_RESET_OFFLINE,
-                user.getTenantDomain()));
+                user.getTenantDomain());
 
-        boolean adminPasswordResetOTP = Boolean.parseBoolean(Utils.getConnectorConfig(
+        boolean adminPasswordResetOTP = Utils.isConnectorConfigEnabled(
                 IdentityRecoveryConstants.ConnectorConfig.ENABLE_ADMIN_PASSWORD_RESET_WITH_OTP,
-                user.getTenantDomain()));
+                user.getTenantDomain());
 
-        boolean adminPasswordResetRecoveryLink = Boolean.parseBoolean(Utils.getConnectorConfig(
+        boolean adminPasswordResetRecoveryLink = Utils.isConnectorConfigEnabled(
                 IdentityRecoveryConstants.ConnectorConfig.ENABLE_ADMIN_PASSWORD_RESET_WITH_RECOVERY_LINK,
-                user.getTenantDomain()));
+                user.getTenantDomain());
 
         boolean isAdminPasswordReset = adminPasswordResetOffline | adminPasswordResetOTP |
                 adminPasswordResetRecoveryLink;
@@ -19,6 +19,7 @@
 package org.wso2.carbon.identity.recovery.handler;
 
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.math.NumberUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.identity.application.authentication.framework.context.AuthenticationContext;
@@ -54,6 +55,14 @@ public class IdentityUserMetadataMgtHandler extends AbstractEventHandler {
     private static final Log log = LogFactory.getLog(IdentityUserMetadataMgtHandler.class);
     private static final String ENABLE_IDENTITY_USER_METADATA_MGT_HANDLER = "identityUserMetadataMgtHandler.enable";
     private static final String PRE_SET_USER_CLAIM_VALUES = "PreSetUserClaimValues";
+    private static final String ENABLE_WRITE_BEHIND = "identityUserMetadataMgtHandler.writeBehind.enable";
+    private static final String WRITE_BEHIND_BUFFER_SIZE = "identityUserMetadataMgtHandler.writeBehind.bufferSize";
+    private static final String WRITE_BEHIND_FLUSH_INTERVAL =
+            "identityUserMetadataMgtHandler.writeBehind.flushIntervalInMillis";
+    private static final int DEFAULT_WRITE_BEHIND_BUFFER_SIZE = 10000;
+    private static final long DEFAULT_WRITE_BEHIND_FLUSH_INTERVAL = 5000;
+
+    private volatile UserMetadataWriteBehindBuffer writeBehindBuffer;
 
     @Override
     public void handleEvent(Event event) throws IdentityEventException {
@@ -118,6 +127,15 @@ public class IdentityUserMetadataMgtHandler extends AbstractEventHandler {
             String lastLoginTime = Long.toString(System.currentTimeMillis());
             Map<String, String> userClaims = new HashMap<>();
             userClaims.put(IdentityMgtConstants.LAST_LOGIN_TIME, lastLoginTime);
+            UserMetadataWriteBehindBuffer buffer = getWriteBehindBuffer();
+            if (buffer != null && buffer.offer(authenticatedUser.getTenantDomain(),
+                    authenticatedUser.getUserStoreDomain(), authenticatedUser.getUserName(), userClaims)) {
+                if (log.isDebugEnabled()) {
+                    log.debug("Buffered the last login time of the user: " + authenticatedUser.getUserName() +
+                            " in tenant domain: " + authenticatedUser.getTenantDomain());
+                }
+                return;
+            }
             setUserMetadataValues(userStoreManager, authenticatedUser, userClaims,
                     IdentityEventConstants.EventName.AUTHENTICATION_SUCCESS.name());
         } catch (org.wso2.carbon.user.api.UserStoreException e) {
@@ -205,6 +223,42 @@ public class IdentityUserMetadataMgtHandler extends AbstractEventHandler {
         }
     }
 
+    /**
+     * Get the write-behind buffer of the user metadata, creating it on first use.
+     *
+     * @return Write-behind buffer or null if the write-behind mode is not enabled.
+     */
+    private UserMetadataWriteBehindBuffer getWriteBehindBuffer() {
+
+        if (!Boolean.parseBoolean(configs.getModuleProperties().getProperty(ENABLE_WRITE_BEHIND))) {
+            return null;
+        }
+        if (writeBehindBuffer == null) {
+            synchronized (this) {
+                if (writeBehindBuffer == null) {
+                    int bufferSize = NumberUtils.toInt(configs.getModuleProperties().getProperty(
+                            WRITE_BEHIND_BUFFER_SIZE), DEFAULT_WRITE_BEHIND_BUFFER_SIZE);
+                    long flushInterval = NumberUtils.toLong(configs.getModuleProperties().getProperty(
+                            WRITE_BEHIND_FLUSH_INTERVAL), DEFAULT_WRITE_BEHIND_FLUSH_INTERVAL);
+                    writeBehindBuffer = new UserMetadataWriteBehindBuffer(bufferSize, flushInterval);
+                }
+            }
+        }
+        return writeBehindBuffer;
+    }
+
+    /**
+     * Flush the buffered user metadata and stop the write-behind buffer.
+     */
+    public void shutdown() {
+
+        UserMetadataWriteBehindBuffer buffer = writeBehindBuffer;
+        if (buffer != null) {
+            buffer.shutdown();
+            writeBehindBuffer = null;
+        }
+    }
+
     @Override
     public String getName() {
 
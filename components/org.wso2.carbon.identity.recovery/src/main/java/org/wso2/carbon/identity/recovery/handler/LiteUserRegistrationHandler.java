@@ -93,8 +93,8 @@ public class LiteUserRegistrationHandler extends AbstractEventHandler {
         user.setTenantDomain(tenantDomain);
         user.setUserStoreDomain(domainName);
 
-        boolean enable = Boolean.parseBoolean(Utils.getConnectorConfig(
-                IdentityRecoveryConstants.ConnectorConfig.ENABLE_LITE_SIGN_UP, user.getTenantDomain()));
+        boolean enable = Utils.isConnectorConfigEnabled(
+                IdentityRecoveryConstants.ConnectorConfig.ENABLE_LITE_SIGN_UP, user.getTenantDomain());
 
         if (!enable) {
             //Lite sign up feature is disabled
@@ -104,12 +104,12 @@ public class LiteUserRegistrationHandler extends AbstractEventHandler {
             return; //this handler will not do anything. just return
         }
 
-        boolean isAccountLockOnCreation = Boolean.parseBoolean(Utils.getConnectorConfig
-                (IdentityRecoveryConstants.ConnectorConfig.LITE_ACCOUNT_LOCK_ON_CREATION, user.getTenantDomain()));
+        boolean isAccountLockOnCreation = Utils.isConnectorConfigEnabled
+                (IdentityRecoveryConstants.ConnectorConfig.LITE_ACCOUNT_LOCK_ON_CREATION, user.getTenantDomain());
 
-        boolean isNotificationInternallyManage = Boolean.parseBoolean(Utils.getConnectorConfig
+        boolean isNotificationInternallyManage = Utils.isConnectorConfigEnabled
                 (IdentityRecoveryConstants.ConnectorConfig.LITE_SIGN_UP_NOTIFICATION_INTERNALLY_MANAGE,
-                        user.getTenantDomain()));
+                        user.getTenantDomain());
 
         if (IdentityEventConstants.Event.POST_ADD_USER.equals(event.getEventName())) {
             UserRecoveryDataStore userRecoveryDataStore = JDBCRecoveryDataStore.getInstance();
@@ -385,8 +385,8 @@ public class MobileNumberVerificationHandler extends AbstractEventHandler {
      */
     private boolean isMobileVerificationOnUpdateEnabled(String userTenantDomain) throws IdentityEventException {
 
-        return Boolean.parseBoolean(Utils.getConnectorConfig(IdentityRecoveryConstants.ConnectorConfig
-                .ENABLE_MOBILE_NUM_VERIFICATION_ON_UPDATE, userTenantDomain));
+        return Utils.isConnectorConfigEnabled(IdentityRecoveryConstants.ConnectorConfig
+                .ENABLE_MOBILE_NUM_VERIFICATION_ON_UPDATE, userTenantDomain);
     }
 
     /**
@@ -92,12 +92,12 @@ public class UserEmailVerificationHandler extends AbstractEventHandler {
         boolean enable = false;
         if (IdentityEventConstants.Event.PRE_ADD_USER.equals(eventName) ||
                 IdentityEventConstants.Event.POST_ADD_USER.equals(eventName)) {
-            enable = Boolean.parseBoolean(Utils.getConnectorConfig(IdentityRecoveryConstants.ConnectorConfig
-                    .ENABLE_EMAIL_VERIFICATION, user.getTenantDomain()));
+            enable = Utils.isConnectorConfigEnabled(IdentityRecoveryConstants.ConnectorConfig
+                    .ENABLE_EMAIL_VERIFICATION, user.getTenantDomain());
         } else if (IdentityEventConstants.Event.PRE_SET_USER_CLAIMS.equals(eventName) ||
                 IdentityEventConstants.Event.POST_SET_USER_CLAIMS.equals(eventName)) {
-            enable = Boolean.parseBoolean(Utils.getConnectorConfig(IdentityRecoveryConstants.ConnectorConfig
-                    .ENABLE_EMAIL_VERIFICATION_ON_UPDATE, user.getTenantDomain()));
+            enable = Utils.isConnectorConfigEnabled(IdentityRecoveryConstants.ConnectorConfig
+                    .ENABLE_EMAIL_VERIFICATION_ON_UPDATE, user.getTenantDomain());
             if (!enable) {
                 /* We need to empty 'EMAIL_ADDRESS_PENDING_VALUE_CLAIM' because having a value in that claim implies
                 a verification is pending. But verification is not enabled anymore. */
@@ -169,11 +169,11 @@ public class UserEmailVerificationHandler extends AbstractEventHandler {
 
         if (IdentityEventConstants.Event.POST_ADD_USER.equals(eventName)) {
 
-            boolean isAccountLockOnCreation = Boolean.parseBoolean(Utils.getConnectorConfig
-                    (IdentityRecoveryConstants.ConnectorConfig.EMAIL_ACCOUNT_LOCK_ON_CREATION, user.getTenantDomain()));
-            boolean isNotificationInternallyManage = Boolean.parseBoolean(Utils.getConnectorConfig
+            boolean isAccountLockOnCreation = Utils.isConnectorConfigEnabled
+                    (IdentityRecoveryConstants.ConnectorConfig.EMAIL_ACCOUNT_LOCK_ON_CREATION, user.getTenantDomain());
+            boolean isNotificationInternallyManage = Utils.isConnectorConfigEnabled
                     (IdentityRecoveryConstants.ConnectorConfig.EMAIL_VERIFICATION_NOTIFICATION_INTERNALLY_MANAGE,
-                            user.getTenantDomain()));
+                            user.getTenantDomain());
 
             Claim claim = Utils.getEmailVerifyTemporaryClaim();
             boolean isAccountClaimExist = Utils.isAccountStateClaimExisting(user.getTenantDomain());
@@ -646,8 +646,8 @@ public class UserEmailVerificationHandler extends AbstractEventHandler {
      */
     private void sendNotificationToExistingEmailOnEmailUpdate(User user, UserStoreManager userStoreManager,
                                          String newEmailAddress, String templateType) throws IdentityEventException {
-        boolean enable = Boolean.parseBoolean(Utils.getConnectorConfig(IdentityRecoveryConstants.ConnectorConfig
-                .ENABLE_NOTIFICATION_ON_EMAIL_UPDATE, user.getTenantDomain()));
+        boolean enable = Utils.isConnectorConfigEnabled(IdentityRecoveryConstants.ConnectorConfig
+                .ENABLE_NOTIFICATION_ON_EMAIL_UPDATE, user.getTenantDomain());
         if (!enable) {
             if (log.isDebugEnabled()) {
                 log.debug("Notify existing email on update feature is disabled for tenant: " + user.getTenantDomain());
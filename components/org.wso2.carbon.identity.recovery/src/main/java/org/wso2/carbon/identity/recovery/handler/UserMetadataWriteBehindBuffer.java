@@ -0,0 +1,227 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.recovery.handler;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
+import org.wso2.carbon.identity.recovery.internal.IdentityRecoveryServiceDataHolder;
+import org.wso2.carbon.user.core.UserRealm;
+import org.wso2.carbon.user.core.UserStoreConfigConstants;
+import org.wso2.carbon.user.core.UserStoreManager;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bounded write-behind buffer of user metadata claims. Only the latest value of each claim is kept per user, so
+ * that repeated updates of a user are collapsed into a single write. A background task flushes the buffered claims
+ * of each user store to the identity data store in bulk.
+ */
+public class UserMetadataWriteBehindBuffer {
+
+    private static final Log log = LogFactory.getLog(UserMetadataWriteBehindBuffer.class);
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 10;
+    private static final String USER_STORE_KEY_SEPARATOR = ":";
+
+    private final Map<BufferKey, Map<String, String>> buffer = new ConcurrentHashMap<>();
+    private final Object flushLock = new Object();
+    private final int maxSize;
+    private final ScheduledExecutorService flusher;
+
+    public UserMetadataWriteBehindBuffer(int maxSize, long flushIntervalMillis) {
+
+        this.maxSize = maxSize;
+        this.flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "UserMetadataWriteBehindFlusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.flusher.scheduleWithFixedDelay(this::flushSafely, flushIntervalMillis, flushIntervalMillis,
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Buffer the claims of a user. Claims already buffered for the user are overridden.
+     *
+     * @param tenantDomain    Tenant domain of the user.
+     * @param userStoreDomain User store domain of the user.
+     * @param username        Username of the user, without the user store domain.
+     * @param claims          Claims to be stored.
+     * @return False if the buffer is full and the claims should be stored synchronously.
+     */
+    public boolean offer(String tenantDomain, String userStoreDomain, String username, Map<String, String> claims) {
+
+        BufferKey key = new BufferKey(tenantDomain, userStoreDomain, username);
+        if (buffer.size() >= maxSize && !buffer.containsKey(key)) {
+            return false;
+        }
+        buffer.merge(key, new HashMap<>(claims), (bufferedClaims, newClaims) -> {
+            Map<String, String> mergedClaims = new HashMap<>(bufferedClaims);
+            mergedClaims.putAll(newClaims);
+            return mergedClaims;
+        });
+        return true;
+    }
+
+    /**
+     * Write all the buffered claims to the identity data store. The claims of a user store which could not be written
+     * are put back into the buffer to be retried in the next flush, unless newer claims were buffered meanwhile.
+     */
+    public void flush() {
+
+        synchronized (flushLock) {
+            Map<String, Map<String, Map<String, String>>> claimsOfUserStores = new HashMap<>();
+            Map<String, BufferKey> userStoreKeys = new HashMap<>();
+            for (BufferKey key : new ArrayList<>(buffer.keySet())) {
+                Map<String, String> claims = buffer.remove(key);
+                if (claims == null) {
+                    continue;
+                }
+                String userStoreKey = key.tenantDomain + USER_STORE_KEY_SEPARATOR + key.userStoreDomain;
+                userStoreKeys.putIfAbsent(userStoreKey, key);
+                claimsOfUserStores.computeIfAbsent(userStoreKey, k -> new HashMap<>()).put(key.username, claims);
+            }
+
+            for (Map.Entry<String, Map<String, Map<String, String>>> entry : claimsOfUserStores.entrySet()) {
+                BufferKey key = userStoreKeys.get(entry.getKey());
+                try {
+                    UserStoreManager userStoreManager = getUserStoreManager(key.tenantDomain, key.userStoreDomain);
+                    if (userStoreManager == null) {
+                        log.warn("User store manager is not available for the user store domain: " +
+                                key.userStoreDomain + " in tenant domain: " + key.tenantDomain + ". Dropping " +
+                                "the buffered metadata of " + entry.getValue().size() + " users.");
+                        continue;
+                    }
+                    IdentityRecoveryServiceDataHolder.getInstance().getIdentityDataStoreService()
+                            .storeInIdentityDataStore(entry.getValue(), userStoreManager);
+                    if (log.isDebugEnabled()) {
+                        log.debug("Flushed the buffered metadata of " + entry.getValue().size() + " users of the " +
+                                "user store domain: " + key.userStoreDomain + " in tenant domain: " +
+                                key.tenantDomain);
+                    }
+                } catch (org.wso2.carbon.user.api.UserStoreException | RuntimeException e) {
+                    log.error("Error while flushing the buffered metadata of " + entry.getValue().size() +
+                            " users of the user store domain: " + key.userStoreDomain + " in tenant domain: " +
+                            key.tenantDomain + ". The metadata is retried in the next flush.", e);
+                    rebuffer(key.tenantDomain, key.userStoreDomain, entry.getValue());
+                }
+            }
+        }
+    }
+
+    /**
+     * Stop the background flusher and write the remaining buffered claims.
+     */
+    public void shutdown() {
+
+        flusher.shutdown();
+        try {
+            if (!flusher.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                flusher.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            flusher.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        flush();
+    }
+
+    private void flushSafely() {
+
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            // Keep the scheduled task alive for the next flush.
+            log.error("Error while flushing the buffered user metadata.", e);
+        }
+    }
+
+    /**
+     * Put back the claims which could not be written. Claims buffered after the flush started are newer, hence they
+     * are kept over the claims put back. The buffer may exceed its size until the next flush, so that no claims are
+     * dropped.
+     */
+    private void rebuffer(String tenantDomain, String userStoreDomain, Map<String, Map<String, String>> claimsOfUsers) {
+
+        for (Map.Entry<String, Map<String, String>> claimsOfUser : claimsOfUsers.entrySet()) {
+            buffer.merge(new BufferKey(tenantDomain, userStoreDomain, claimsOfUser.getKey()),
+                    claimsOfUser.getValue(), (newerClaims, failedClaims) -> {
+                        Map<String, String> mergedClaims = new HashMap<>(failedClaims);
+                        mergedClaims.putAll(newerClaims);
+                        return mergedClaims;
+                    });
+        }
+    }
+
+    private UserStoreManager getUserStoreManager(String tenantDomain, String userStoreDomain)
+            throws org.wso2.carbon.user.api.UserStoreException {
+
+        int tenantId = IdentityTenantUtil.getTenantId(tenantDomain);
+        UserRealm userRealm = (UserRealm) IdentityRecoveryServiceDataHolder.getInstance().getRealmService()
+                .getTenantUserRealm(tenantId);
+        if (userRealm == null) {
+            return null;
+        }
+        if (UserStoreConfigConstants.PRIMARY.equals(userStoreDomain)) {
+            return userRealm.getUserStoreManager();
+        }
+        return userRealm.getUserStoreManager().getSecondaryUserStoreManager(userStoreDomain);
+    }
+
+    private static class BufferKey {
+
+        private final String tenantDomain;
+        private final String userStoreDomain;
+        private final String username;
+
+        BufferKey(String tenantDomain, String userStoreDomain, String username) {
+
+            this.tenantDomain = tenantDomain;
+            this.userStoreDomain = userStoreDomain;
+            this.username = username;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            BufferKey that = (BufferKey) o;
+            return tenantDomain.equals(that.tenantDomain) && userStoreDomain.equals(that.userStoreDomain) &&
+                    username.equals(that.username);
+        }
+
+        @Override
+        public int hashCode() {
+
+            return Objects.hash(tenantDomain, userStoreDomain, username);
+        }
+    }
+}
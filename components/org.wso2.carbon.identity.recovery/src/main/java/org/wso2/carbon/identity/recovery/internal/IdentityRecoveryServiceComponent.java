@@ -69,6 +69,8 @@ import org.wso2.carbon.identity.recovery.password.NotificationPasswordRecoveryMa
 import org.wso2.carbon.identity.recovery.services.password.PasswordRecoveryManager;
 import org.wso2.carbon.identity.recovery.services.username.UsernameRecoveryManager;
 import org.wso2.carbon.identity.recovery.signup.UserSelfRegistrationManager;
+import org.wso2.carbon.identity.recovery.store.RecoveryDataEventPublisher;
+import org.wso2.carbon.identity.recovery.store.RecoveryDataPurger;
 import org.wso2.carbon.identity.recovery.username.NotificationUsernameRecoveryManager;
 import org.wso2.carbon.identity.user.functionality.mgt.UserFunctionalityManager;
 import org.wso2.carbon.identity.user.profile.mgt.association.federation.FederatedAssociationManager;
@@ -84,6 +86,8 @@ public class IdentityRecoveryServiceComponent {
     private static final Log log = LogFactory.getLog(IdentityRecoveryServiceComponent.class);
 
     private IdentityRecoveryServiceDataHolder dataHolder = IdentityRecoveryServiceDataHolder.getInstance();
+    private IdentityUserMetadataMgtHandler identityUserMetadataMgtHandler;
+    private RecoveryDataPurger recoveryDataPurger;
 
     @Activate
     protected void activate(ComponentContext context) {
@@ -112,7 +116,8 @@ public class IdentityRecoveryServiceComponent {
                     , null);
             bundleContext.registerService(AbstractEventHandler.class.getName(),
                     new TenantRegistrationVerificationHandler(), null);
-            bundleContext.registerService(AbstractEventHandler.class.getName(), new IdentityUserMetadataMgtHandler(),
+            identityUserMetadataMgtHandler = new IdentityUserMetadataMgtHandler();
+            bundleContext.registerService(AbstractEventHandler.class.getName(), identityUserMetadataMgtHandler,
                     null);
             bundleContext.registerService(IdentityConnectorConfig.class.getName(), new RecoveryConfigImpl(), null);
             bundleContext.registerService(IdentityConnectorConfig.class.getName(), new SelfRegistrationConfigImpl(),
@@ -134,6 +139,9 @@ public class IdentityRecoveryServiceComponent {
                     passwordRecoveryManager, null);
             bundleContext.registerService(InputValidationManagementService.class.getName(),
                     new InputValidationManagementServiceImpl(), null);
+            recoveryDataPurger = RecoveryDataPurger.startIfEnabled();
+            IdentityRecoveryServiceDataHolder.getInstance().setRecoveryDataEventPublisher(
+                    RecoveryDataEventPublisher.startIfEnabled());
         } catch (Exception e) {
             log.error("Error while activating identity governance component.", e);
         }
@@ -145,6 +153,20 @@ public class IdentityRecoveryServiceComponent {
     @Deactivate
     protected void deactivate(ComponentContext context) {
 
+        if (identityUserMetadataMgtHandler != null) {
+            // Write the buffered user metadata before the bundle goes away.
+            identityUserMetadataMgtHandler.shutdown();
+        }
+        if (recoveryDataPurger != null) {
+            recoveryDataPurger.shutdown();
+        }
+        RecoveryDataEventPublisher recoveryDataEventPublisher =
+                IdentityRecoveryServiceDataHolder.getInstance().getRecoveryDataEventPublisher();
+        if (recoveryDataEventPublisher != null) {
+            IdentityRecoveryServiceDataHolder.getInstance().setRecoveryDataEventPublisher(null);
+            recoveryDataEventPublisher.shutdown();
+        }
+
         if (log.isDebugEnabled()) {
             log.debug("Identity Management bundle is de-activated");
         }
@@ -31,6 +31,7 @@ import org.wso2.carbon.identity.governance.service.otp.OTPGenerator;
 import org.wso2.carbon.identity.handler.event.account.lock.service.AccountLockService;
 import org.wso2.carbon.identity.input.validation.mgt.services.InputValidationManagementService;
 import org.wso2.carbon.identity.multi.attribute.login.mgt.MultiAttributeLoginService;
+import org.wso2.carbon.identity.recovery.store.RecoveryDataEventPublisher;
 import org.wso2.carbon.identity.user.functionality.mgt.UserFunctionalityManager;
 import org.wso2.carbon.identity.user.profile.mgt.association.federation.FederatedAssociationManager;
 import org.wso2.carbon.idp.mgt.IdpManager;
@@ -60,6 +61,7 @@ public class IdentityRecoveryServiceDataHolder {
     private AuthAttributeHandlerManager authAttributeHandlerManager;
     private FederatedAssociationManager federatedAssociationManager;
     private IdentityDataStoreService identityDataStoreService;
+    private RecoveryDataEventPublisher recoveryDataEventPublisher;
     private static Map<Integer, UserOperationEventListener> userOperationEventListeners = new TreeMap<>();
     public static IdentityRecoveryServiceDataHolder getInstance() {
 
@@ -332,4 +334,19 @@ public class IdentityRecoveryServiceDataHolder {
 
         this.identityDataStoreService = identityDataStoreService;
     }
+
+    /**
+     * Get the publisher of the asynchronous recovery data events.
+     *
+     * @return The publisher or null if the events are published synchronously.
+     */
+    public RecoveryDataEventPublisher getRecoveryDataEventPublisher() {
+
+        return recoveryDataEventPublisher;
+    }
+
+    public void setRecoveryDataEventPublisher(RecoveryDataEventPublisher recoveryDataEventPublisher) {
+
+        this.recoveryDataEventPublisher = recoveryDataEventPublisher;
+    }
 }
@@ -43,9 +43,12 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.sql.Timestamp;
+import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Date;
+import java.util.List;
 import java.util.TimeZone;
 import java.util.HashMap;
 import java.util.Map;
@@ -86,8 +89,7 @@ public class JDBCRecoveryDataStore implements UserRecoveryDataStore {
         Connection connection = IdentityDatabaseUtil.getDBConnection(true);
         PreparedStatement prepStmt = null;
         try {
-            prepStmt = connection.prepareStatement(IdentityRecoveryConstants.SQLQueries.
-                    STORE_RECOVERY_DATA_WITH_FLOW_ID);
+            prepStmt = connection.prepareStatement(getStoreRecoveryDataQuery());
             prepStmt.setString(1, recoveryDataDO.getUser().getUserName());
             prepStmt.setString(2, recoveryDataDO.getUser().getUserStoreDomain().toUpperCase());
             prepStmt.setInt(3, IdentityTenantUtil.getTenantId(recoveryDataDO.getUser().getTenantDomain()));
@@ -98,6 +100,7 @@ public class JDBCRecoveryDataStore implements UserRecoveryDataStore {
                     Calendar.getInstance(TimeZone.getTimeZone(UTC)));
             prepStmt.setString(8, recoveryDataDO.getRemainingSetIds());
             prepStmt.setString(9, recoveryDataDO.getRecoveryFlowId());
+            setNormalizedUserName(prepStmt, 10, recoveryDataDO.getUser().getUserName());
             prepStmt.execute();
             IdentityDatabaseUtil.commitTransaction(connection);
         } catch (SQLException e) {
@@ -117,7 +120,7 @@ public class JDBCRecoveryDataStore implements UserRecoveryDataStore {
         PreparedStatement prepStmt1 = null;
         PreparedStatement prepStmt2 = null;
         try {
-            prepStmt1 = connection.prepareStatement(IdentityRecoveryConstants.SQLQueries.STORE_RECOVERY_DATA_WITH_FLOW_ID);
+            prepStmt1 = connection.prepareStatement(getStoreRecoveryDataQuery());
             prepStmt1.setString(1, recoveryDataDO.getUser().getUserName());
             prepStmt1.setString(2, recoveryDataDO.getUser().getUserStoreDomain().toUpperCase());
             prepStmt1.setInt(3, IdentityTenantUtil.getTenantId(recoveryDataDO.getUser().getTenantDomain()));
@@ -128,6 +131,7 @@ public class JDBCRecoveryDataStore implements UserRecoveryDataStore {
                     Calendar.getInstance(TimeZone.getTimeZone(UTC)));
             prepStmt1.setString(8, recoveryDataDO.getRemainingSetIds());
             prepStmt1.setString(9, recoveryDataDO.getRecoveryFlowId());
+            setNormalizedUserName(prepStmt1, 10, recoveryDataDO.getUser().getUserName());
 
             prepStmt2 = connection.prepareStatement(IdentityRecoveryConstants.SQLQueries.STORE_RECOVERY_FLOW_DATA);
             prepStmt2.setString(1, recoveryDataDO.getRecoveryFlowId());
@@ -159,7 +163,7 @@ public class JDBCRecoveryDataStore implements UserRecoveryDataStore {
         PreparedStatement prepStmt1 = null;
         PreparedStatement prepStmt2 = null;
         try {
-            prepStmt1 = connection.prepareStatement(IdentityRecoveryConstants.SQLQueries.STORE_RECOVERY_DATA_WITH_FLOW_ID);
+            prepStmt1 = connection.prepareStatement(getStoreRecoveryDataQuery());
             prepStmt1.setString(1, recoveryDataDO.getUser().getUserName());
             prepStmt1.setString(2, recoveryDataDO.getUser().getUserStoreDomain().toUpperCase());
             prepStmt1.setInt(3, IdentityTenantUtil.getTenantId(recoveryDataDO.getUser().getTenantDomain()));
@@ -170,6 +174,7 @@ public class JDBCRecoveryDataStore implements UserRecoveryDataStore {
                     Calendar.getInstance(TimeZone.getTimeZone(UTC)));
             prepStmt1.setString(8, recoveryDataDO.getRemainingSetIds());
             prepStmt1.setString(9, recoveryDataDO.getRecoveryFlowId());
+            setNormalizedUserName(prepStmt1, 10, recoveryDataDO.getUser().getUserName());
 
             prepStmt2 = connection.prepareStatement(IdentityRecoveryConstants.SQLQueries.UPDATE_RECOVERY_FLOW_DATA);
             prepStmt2.setString(1, recoveryDataDO.getSecret());
@@ -250,6 +255,8 @@ public class JDBCRecoveryDataStore implements UserRecoveryDataStore {
             if (IdentityUtil.isUserStoreCaseSensitive(user.getUserStoreDomain(),
                     IdentityTenantUtil.getTenantId(user.getTenantDomain()))) {
                 sql = IdentityRecoveryConstants.SQLQueries.LOAD_RECOVERY_DATA;
+            } else if (isNormalizedUserNameEnabled()) {
+                sql = IdentityRecoveryConstants.SQLQueries.LOAD_RECOVERY_DATA_NORMALIZED_USER_NAME;
             } else {
                 sql = IdentityRecoveryConstants.SQLQueries.LOAD_RECOVERY_DATA_CASE_INSENSITIVE;
             }
@@ -545,6 +552,8 @@ public class JDBCRecoveryDataStore implements UserRecoveryDataStore {
             if (IdentityUtil.isUserStoreCaseSensitive(user.getUserStoreDomain(),
                     IdentityTenantUtil.getTenantId(user.getTenantDomain()))) {
                 sql = IdentityRecoveryConstants.SQLQueries.LOAD_RECOVERY_DATA_OF_USER;
+            } else if (isNormalizedUserNameEnabled()) {
+                sql = IdentityRecoveryConstants.SQLQueries.LOAD_RECOVERY_DATA_OF_USER_NORMALIZED_USER_NAME;
             } else {
                 sql = IdentityRecoveryConstants.SQLQueries.LOAD_RECOVERY_DATA_OF_USER_CASE_INSENSITIVE;
             }
@@ -613,6 +622,8 @@ public class JDBCRecoveryDataStore implements UserRecoveryDataStore {
             if (IdentityUtil.isUserStoreCaseSensitive(user.getUserStoreDomain(),
                     IdentityTenantUtil.getTenantId(user.getTenantDomain()))) {
                 sql = IdentityRecoveryConstants.SQLQueries.LOAD_RECOVERY_DATA_OF_USER;
+            } else if (isNormalizedUserNameEnabled()) {
+                sql = IdentityRecoveryConstants.SQLQueries.LOAD_RECOVERY_DATA_OF_USER_NORMALIZED_USER_NAME;
             } else {
                 sql = IdentityRecoveryConstants.SQLQueries.LOAD_RECOVERY_DATA_OF_USER_CASE_INSENSITIVE;
             }
@@ -676,6 +687,8 @@ public class JDBCRecoveryDataStore implements UserRecoveryDataStore {
             if (IdentityUtil.isUserStoreCaseSensitive(user.getUserStoreDomain(),
                     IdentityTenantUtil.getTenantId(user.getTenantDomain()))) {
                 sql = IdentityRecoveryConstants.SQLQueries.LOAD_RECOVERY_DATA_OF_USER_BY_SCENARIO;
+            } else if (isNormalizedUserNameEnabled()) {
+                sql = IdentityRecoveryConstants.SQLQueries.LOAD_RECOVERY_DATA_OF_USER_BY_SCENARIO_NORMALIZED_USER_NAME;
             } else {
                 sql = IdentityRecoveryConstants.SQLQueries.LOAD_RECOVERY_DATA_OF_USER_BY_SCENARIO_CASE_INSENSITIVE;
             }
@@ -727,6 +740,8 @@ public class JDBCRecoveryDataStore implements UserRecoveryDataStore {
             if (IdentityUtil.isUserStoreCaseSensitive(user.getUserStoreDomain(),
                     IdentityTenantUtil.getTenantId(user.getTenantDomain()))) {
                 sql = IdentityRecoveryConstants.SQLQueries.LOAD_RECOVERY_DATA_OF_USER_BY_STEP;
+            } else if (isNormalizedUserNameEnabled()) {
+                sql = IdentityRecoveryConstants.SQLQueries.LOAD_RECOVERY_DATA_OF_USER_BY_STEP_NORMALIZED_USER_NAME;
             } else {
                 sql = IdentityRecoveryConstants.SQLQueries.LOAD_RECOVERY_DATA_OF_USER_BY_STEP_CASE_INSENSITIVE;
             }
@@ -779,6 +794,8 @@ public class JDBCRecoveryDataStore implements UserRecoveryDataStore {
             String sql;
             if (IdentityUtil.isUserStoreCaseSensitive(user.getUserStoreDomain(), IdentityTenantUtil.getTenantId(user.getTenantDomain()))) {
                 sql = IdentityRecoveryConstants.SQLQueries.INVALIDATE_USER_CODES;
+            } else if (isNormalizedUserNameEnabled()) {
+                sql = IdentityRecoveryConstants.SQLQueries.INVALIDATE_USER_CODES_NORMALIZED_USER_NAME;
             } else {
                 sql = IdentityRecoveryConstants.SQLQueries.INVALIDATE_USER_CODES_CASE_INSENSITIVE;
             }
@@ -807,6 +824,8 @@ public class JDBCRecoveryDataStore implements UserRecoveryDataStore {
             String sql;
             if (IdentityUtil.isUserStoreCaseSensitive(user.getUserStoreDomain(), IdentityTenantUtil.getTenantId(user.getTenantDomain()))) {
                 sql = IdentityRecoveryConstants.SQLQueries.INVALIDATE_USER_CODE_BY_SCENARIO;
+            } else if (isNormalizedUserNameEnabled()) {
+                sql = IdentityRecoveryConstants.SQLQueries.INVALIDATE_USER_CODE_BY_SCENARIO_NORMALIZED_USER_NAME;
             } else {
                 sql = IdentityRecoveryConstants.SQLQueries.INVALIDATE_USER_CODE_BY_SCENARIO_CASE_INSENSITIVE;
             }
@@ -908,6 +927,237 @@ public class JDBCRecoveryDataStore implements UserRecoveryDataStore {
         }
     }
 
+    /**
+     * Delete the recovery data which have passed the expiry time of their recovery scenario by more than the given
+     * grace period. The recovery data are scanned in chunks ordered by the created time, and the expired codes of each
+     * chunk are deleted in a separate transaction, so that the rows of active recovery flows are not locked for long.
+     * <p>
+     * Expired recovery data are still read by the resend flows, hence they are kept for the grace period. The recovery
+     * data of the sign up and ask password scenarios are never deleted, as they stand for an account pending
+     * confirmation.
+     *
+     * @param batchSize         Maximum number of rows read and deleted at once.
+     * @param batchPauseMillis  Time to wait between two chunks (In milliseconds).
+     * @param gracePeriodMillis Time to keep the recovery data after their expiry (In milliseconds).
+     * @return Number of deleted recovery data entries.
+     * @throws IdentityRecoveryException Error while deleting the recovery data.
+     */
+    public int deleteExpiredRecoveryData(int batchSize, long batchPauseMillis, long gracePeriodMillis)
+            throws IdentityRecoveryException {
+
+        Timestamp scanUntil = new Timestamp(System.currentTimeMillis() - gracePeriodMillis);
+        Map<String, Integer> expiryTimes = new HashMap<>();
+        Map<Integer, String> tenantDomains = new HashMap<>();
+        Timestamp lastTimeCreated = null;
+        String lastCode = null;
+        int deletedCount = 0;
+        while (true) {
+            List<String> expiredCodes = new ArrayList<>();
+            int scannedCount = 0;
+            Connection connection = IdentityDatabaseUtil.getDBConnection(false);
+            PreparedStatement prepStmt = null;
+            ResultSet resultSet = null;
+            try {
+                if (lastTimeCreated == null) {
+                    prepStmt = connection.prepareStatement(
+                            IdentityRecoveryConstants.SQLQueries.LOAD_RECOVERY_DATA_CREATED_BEFORE);
+                    prepStmt.setTimestamp(1, scanUntil, Calendar.getInstance(TimeZone.getTimeZone(UTC)));
+                } else {
+                    prepStmt = connection.prepareStatement(
+                            IdentityRecoveryConstants.SQLQueries.LOAD_RECOVERY_DATA_CREATED_BEFORE_AFTER_CURSOR);
+                    prepStmt.setTimestamp(1, scanUntil, Calendar.getInstance(TimeZone.getTimeZone(UTC)));
+                    prepStmt.setTimestamp(2, lastTimeCreated, Calendar.getInstance(TimeZone.getTimeZone(UTC)));
+                    prepStmt.setTimestamp(3, lastTimeCreated, Calendar.getInstance(TimeZone.getTimeZone(UTC)));
+                    prepStmt.setString(4, lastCode);
+                }
+                prepStmt.setMaxRows(batchSize);
+                resultSet = prepStmt.executeQuery();
+                while (resultSet.next()) {
+                    scannedCount++;
+                    String code = resultSet.getString(IdentityRecoveryConstants.DBConstants.CODE);
+                    Timestamp timeCreated = resultSet.getTimestamp(IdentityRecoveryConstants.DBConstants.TIME_CREATED,
+                            Calendar.getInstance(TimeZone.getTimeZone(UTC)));
+                    lastCode = code;
+                    lastTimeCreated = timeCreated;
+                    int expiryTimeInMinutes = getCodeExpiryTimeInMinutes(expiryTimes, tenantDomains,
+                            resultSet.getInt(IdentityRecoveryConstants.DBConstants.TENANT_ID),
+                            resultSet.getString(IdentityRecoveryConstants.DBConstants.SCENARIO),
+                            resultSet.getString(IdentityRecoveryConstants.DBConstants.STEP),
+                            resultSet.getString(IdentityRecoveryConstants.DBConstants.REMAINING_SETS));
+                    long expiryTime = timeCreated.getTime() + TimeUnit.MINUTES.toMillis(expiryTimeInMinutes);
+                    if (System.currentTimeMillis() > expiryTime + gracePeriodMillis) {
+                        expiredCodes.add(code);
+                    }
+                }
+            } catch (SQLException e) {
+                throw Utils.handleServerException(
+                        IdentityRecoveryConstants.ErrorMessages.ERROR_CODE_ERROR_PURGING_RECOVERY_DATA, null, e);
+            } finally {
+                IdentityDatabaseUtil.closeAllConnections(connection, resultSet, prepStmt);
+            }
+
+            deletedCount += deleteInBatch(IdentityRecoveryConstants.SQLQueries.INVALIDATE_CODE, expiredCodes, 1);
+            if (scannedCount < batchSize || !pauseBetweenBatches(batchPauseMillis)) {
+                break;
+            }
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Deleted " + deletedCount + " expired recovery data entries.");
+        }
+        return deletedCount;
+    }
+
+    /**
+     * Delete the recovery flow data which are no longer referred by any recovery data. A recovery flow can not be
+     * continued without its recovery data, hence such entries are left behind by the expired or abandoned flows.
+     *
+     * @param batchSize        Maximum number of rows read and deleted at once.
+     * @param batchPauseMillis Time to wait between two chunks (In milliseconds).
+     * @return Number of deleted recovery flow data entries.
+     * @throws IdentityRecoveryException Error while deleting the recovery flow data.
+     */
+    public int deleteOrphanedRecoveryFlowData(int batchSize, long batchPauseMillis)
+            throws IdentityRecoveryException {
+
+        // Leave the recently created flows untouched, as their recovery data may not have been stored yet.
+        Timestamp createdBefore = new Timestamp(System.currentTimeMillis() -
+                TimeUnit.MINUTES.toMillis(IdentityRecoveryConstants.RECOVERY_FLOW_ID_DEFAULT_EXPIRY_TIME));
+        int deletedCount = 0;
+        while (true) {
+            List<String> recoveryFlowIds = new ArrayList<>();
+            Connection connection = IdentityDatabaseUtil.getDBConnection(false);
+            PreparedStatement prepStmt = null;
+            ResultSet resultSet = null;
+            try {
+                prepStmt = connection.prepareStatement(
+                        IdentityRecoveryConstants.SQLQueries.LOAD_ORPHANED_RECOVERY_FLOW_IDS);
+                prepStmt.setTimestamp(1, createdBefore, Calendar.getInstance(TimeZone.getTimeZone(UTC)));
+                prepStmt.setMaxRows(batchSize);
+                resultSet = prepStmt.executeQuery();
+                while (resultSet.next()) {
+                    recoveryFlowIds.add(resultSet.getString(IdentityRecoveryConstants.DBConstants.RECOVERY_FLOW_ID));
+                }
+            } catch (SQLException e) {
+                throw Utils.handleServerException(
+                        IdentityRecoveryConstants.ErrorMessages.ERROR_CODE_ERROR_PURGING_RECOVERY_DATA, null, e);
+            } finally {
+                IdentityDatabaseUtil.closeAllConnections(connection, resultSet, prepStmt);
+            }
+
+            int deletedInBatch = deleteInBatch(
+                    IdentityRecoveryConstants.SQLQueries.DELETE_ORPHANED_RECOVERY_FLOW_DATA, recoveryFlowIds, 2);
+            deletedCount += deletedInBatch;
+            // Stop when nothing could be deleted, as the same entries would be returned again.
+            if (recoveryFlowIds.size() < batchSize || deletedInBatch == 0 ||
+                    !pauseBetweenBatches(batchPauseMillis)) {
+                break;
+            }
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Deleted " + deletedCount + " orphaned recovery flow data entries.");
+        }
+        return deletedCount;
+    }
+
+    /**
+     * Execute the given delete query for each of the given identifiers in a single transaction. The identifier is
+     * set to every parameter of the query.
+     *
+     * @param sql            Delete query.
+     * @param identifiers    Identifiers of the rows to be deleted.
+     * @param parameterCount Number of parameters of the delete query.
+     * @return Number of deleted rows.
+     * @throws IdentityRecoveryServerException Error while deleting the rows.
+     */
+    private int deleteInBatch(String sql, List<String> identifiers, int parameterCount)
+            throws IdentityRecoveryServerException {
+
+        if (identifiers.isEmpty()) {
+            return 0;
+        }
+        Connection connection = IdentityDatabaseUtil.getDBConnection(true);
+        PreparedStatement prepStmt = null;
+        try {
+            prepStmt = connection.prepareStatement(sql);
+            for (String identifier : identifiers) {
+                for (int i = 1; i <= parameterCount; i++) {
+                    prepStmt.setString(i, identifier);
+                }
+                prepStmt.addBatch();
+            }
+            int deletedCount = 0;
+            for (int result : prepStmt.executeBatch()) {
+                // Drivers which do not report the affected row count return SUCCESS_NO_INFO.
+                deletedCount += result == Statement.SUCCESS_NO_INFO ? 1 : Math.max(result, 0);
+            }
+            IdentityDatabaseUtil.commitTransaction(connection);
+            return deletedCount;
+        } catch (SQLException e) {
+            IdentityDatabaseUtil.rollbackTransaction(connection);
+            throw Utils.handleServerException(
+                    IdentityRecoveryConstants.ErrorMessages.ERROR_CODE_ERROR_PURGING_RECOVERY_DATA, null, e);
+        } finally {
+            IdentityDatabaseUtil.closeStatement(prepStmt);
+            IdentityDatabaseUtil.closeConnection(connection);
+        }
+    }
+
+    /**
+     * Wait between two delete batches.
+     *
+     * @param batchPauseMillis Time to wait (In milliseconds).
+     * @return False if the thread was interrupted while waiting.
+     */
+    private boolean pauseBetweenBatches(long batchPauseMillis) {
+
+        if (batchPauseMillis <= 0) {
+            return !Thread.currentThread().isInterrupted();
+        }
+        try {
+            Thread.sleep(batchPauseMillis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Get the code expiry time of a recovery data entry read while purging. The expiry times are resolved once per
+     * tenant, scenario, step and notification channel of a purge run. Entries whose expiry time can not be resolved
+     * are treated as never expiring, so that they are left to be removed by their recovery flows.
+     */
+    private int getCodeExpiryTimeInMinutes(Map<String, Integer> expiryTimes, Map<Integer, String> tenantDomains,
+                                           int tenantId, String scenario, String step, String remainingSets) {
+
+        // Only the notification channel of the additional data affects the expiry time.
+        String channel = null;
+        if (NotificationChannels.EMAIL_CHANNEL.getChannelType().equalsIgnoreCase(remainingSets)) {
+            channel = NotificationChannels.EMAIL_CHANNEL.getChannelType();
+        } else if (NotificationChannels.SMS_CHANNEL.getChannelType().equals(remainingSets)) {
+            channel = NotificationChannels.SMS_CHANNEL.getChannelType();
+        }
+        String expiryTimeKey = tenantId + ":" + scenario + ":" + step + ":" + channel;
+        Integer expiryTime = expiryTimes.get(expiryTimeKey);
+        if (expiryTime != null) {
+            return expiryTime;
+        }
+        try {
+            String tenantDomain = tenantDomains.computeIfAbsent(tenantId, IdentityTenantUtil::getTenantDomain);
+            expiryTime = getCodeExpiryTimeInMinutes(tenantDomain, RecoveryScenarios.valueOf(scenario),
+                    RecoverySteps.valueOf(step), channel);
+        } catch (IdentityRecoveryServerException | RuntimeException e) {
+            if (log.isDebugEnabled()) {
+                log.debug(String.format("Unable to resolve the code expiry time of the recovery scenario: %s and " +
+                        "recovery step: %s of the tenant: %d. Skipping the purge of such entries.", scenario, step,
+                        tenantId), e);
+            }
+            expiryTime = Integer.MAX_VALUE;
+        }
+        expiryTimes.put(expiryTimeKey, expiryTime);
+        return expiryTime;
+    }
+
     /**
      * Checks whether the code has expired or not.
      *
@@ -922,6 +1172,25 @@ public class JDBCRecoveryDataStore implements UserRecoveryDataStore {
     private boolean isCodeExpired(String tenantDomain, Enum recoveryScenario, Enum recoveryStep, long createdTimestamp,
             String recoveryData) throws IdentityRecoveryServerException {
 
+        int notificationExpiryTimeInMinutes = getCodeExpiryTimeInMinutes(tenantDomain, recoveryScenario, recoveryStep,
+                recoveryData);
+        long expiryTime = createdTimestamp + TimeUnit.MINUTES.toMillis(notificationExpiryTimeInMinutes);
+        return System.currentTimeMillis() > expiryTime;
+    }
+
+    /**
+     * Get the expiry time of a code of the given recovery scenario and step.
+     *
+     * @param tenantDomain     Tenant domain
+     * @param recoveryScenario Recovery scenario
+     * @param recoveryStep     Recovery step
+     * @param recoveryData     Additional data for validate the code
+     * @return Expiry time of the code (In minutes)
+     * @throws IdentityRecoveryServerException Error while reading the configs
+     */
+    private int getCodeExpiryTimeInMinutes(String tenantDomain, Enum recoveryScenario, Enum recoveryStep,
+                                           String recoveryData) throws IdentityRecoveryServerException {
+
         int notificationExpiryTimeInMinutes = 0;
         // Self sign up scenario has two sub scenarios as verification via email or verification via SMS.
         if (RecoveryScenarios.SELF_SIGN_UP.equals(recoveryScenario) && RecoverySteps.CONFIRM_SIGN_UP
@@ -1039,8 +1308,7 @@ public class JDBCRecoveryDataStore implements UserRecoveryDataStore {
             // Make the code valid infinitely in case of negative value.
             notificationExpiryTimeInMinutes = Integer.MAX_VALUE;
         }
-        long expiryTime = createdTimestamp + TimeUnit.MINUTES.toMillis(notificationExpiryTimeInMinutes);
-        return System.currentTimeMillis() > expiryTime;
+        return notificationExpiryTimeInMinutes;
     }
 
     /**
@@ -1127,6 +1395,27 @@ public class JDBCRecoveryDataStore implements UserRecoveryDataStore {
         }
     }
 
+    private boolean isNormalizedUserNameEnabled() {
+
+        return Boolean.parseBoolean(IdentityUtil.getProperty(
+                IdentityRecoveryConstants.ConnectorConfig.RECOVERY_DATA_NORMALIZED_USER_NAME_ENABLE));
+    }
+
+    private String getStoreRecoveryDataQuery() {
+
+        // The normalized username is kept for case-sensitive user stores as well, so that the column stays complete.
+        return isNormalizedUserNameEnabled() ?
+                IdentityRecoveryConstants.SQLQueries.STORE_RECOVERY_DATA_WITH_FLOW_ID_AND_NORMALIZED_USER_NAME :
+                IdentityRecoveryConstants.SQLQueries.STORE_RECOVERY_DATA_WITH_FLOW_ID;
+    }
+
+    private void setNormalizedUserName(PreparedStatement prepStmt, int index, String userName) throws SQLException {
+
+        if (isNormalizedUserNameEnabled()) {
+            prepStmt.setString(index, userName);
+        }
+    }
+
     private void handleRecoveryDataEventPublishing(String eventName, String scenario, Boolean status, Enum description,
                                                    String code, User user, UserRecoveryData userRecoveryData)
             throws IdentityRecoveryException {
@@ -1135,12 +1424,33 @@ public class JDBCRecoveryDataStore implements UserRecoveryDataStore {
         eventProperties.put(OPERATION_STATUS, status);
         eventProperties.put(OPERATION_DESCRIPTION, description);
         eventProperties.put(GET_USER_RECOVERY_DATA_SCENARIO, scenario);
+
+        // POST events cannot affect the outcome of the operation, hence they can be published off the request thread.
+        RecoveryDataEventPublisher recoveryDataEventPublisher =
+                IdentityRecoveryServiceDataHolder.getInstance().getRecoveryDataEventPublisher();
+        if (recoveryDataEventPublisher != null && POST_GET_USER_RECOVERY_DATA.equals(eventName)) {
+            recoveryDataEventPublisher.publish(buildEvent(user, code, eventProperties, eventName, userRecoveryData));
+            return;
+        }
         publishEvent(user, code, eventProperties, eventName, userRecoveryData);
     }
 
     private void publishEvent(User user, String code, Map<String, Object> additionalProperties, String eventName,
                               UserRecoveryData userRecoveryData) throws IdentityRecoveryException {
 
+        Event identityMgtEvent = buildEvent(user, code, additionalProperties, eventName, userRecoveryData);
+        try {
+            IdentityRecoveryServiceDataHolder.getInstance().getIdentityEventService().handleEvent(identityMgtEvent);
+        } catch (IdentityEventException e) {
+            log.error("Error occurred while publishing event " + eventName + " for user " + user);
+            throw Utils.handleServerException(IdentityRecoveryConstants.ErrorMessages.ERROR_CODE_PUBLISH_EVENT,
+                    eventName, e);
+        }
+    }
+
+    private Event buildEvent(User user, String code, Map<String, Object> additionalProperties, String eventName,
+                             UserRecoveryData userRecoveryData) {
+
         HashMap<String, Object> properties = new HashMap<>();
         if (user != null) {
             properties.put(IdentityEventConstants.EventProperty.USER_NAME, user.getUserName());
@@ -1158,13 +1468,6 @@ public class JDBCRecoveryDataStore implements UserRecoveryDataStore {
             properties.putAll(additionalProperties);
         }
 
-        Event identityMgtEvent = new Event(eventName, properties);
-        try {
-            IdentityRecoveryServiceDataHolder.getInstance().getIdentityEventService().handleEvent(identityMgtEvent);
-        } catch (IdentityEventException e) {
-            log.error("Error occurred while publishing event " + eventName + " for user " + user);
-            throw Utils.handleServerException(IdentityRecoveryConstants.ErrorMessages.ERROR_CODE_PUBLISH_EVENT,
-                    eventName, e);
-        }
+        return new Event(eventName, properties);
     }
 }
@@ -0,0 +1,202 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.identity.recovery.store;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.identity.event.IdentityEventException;
+import org.wso2.carbon.identity.event.event.Event;
+import org.wso2.carbon.identity.recovery.IdentityRecoveryConstants;
+import org.wso2.carbon.identity.recovery.internal.IdentityRecoveryServiceDataHolder;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.wso2.carbon.identity.governance.IdentityGovernanceUtil.getNumericProperty;
+
+/**
+ * Publishes the recovery data events, which cannot affect the outcome of the operation, in a bounded worker pool, so
+ * that the subscribed handlers do not run within the request. When the queue is full, the event is either published
+ * in the calling thread or dropped, depending on the configured overflow policy.
+ */
+public class RecoveryDataEventPublisher {
+
+    /**
+     * Behaviour when the event queue is full.
+     */
+    public enum OverflowPolicy {
+
+        /**
+         * Publish the event in the calling thread.
+         */
+        CALLER_RUNS,
+
+        /**
+         * Drop the event. The dropped events are counted and a warning is logged at most once per minute.
+         */
+        DISCARD
+    }
+
+    private static final Log log = LogFactory.getLog(RecoveryDataEventPublisher.class);
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 10;
+    private static final long DROP_WARNING_INTERVAL_MILLIS = TimeUnit.MINUTES.toMillis(1);
+
+    private final ThreadPoolExecutor executor;
+    private final AtomicLong droppedEventCount = new AtomicLong();
+    private final AtomicLong droppedSinceLastWarning = new AtomicLong();
+    private final AtomicLong lastDropWarningTime = new AtomicLong();
+
+    public RecoveryDataEventPublisher(int poolSize, int queueSize, OverflowPolicy overflowPolicy) {
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueSize), runnable -> {
+            Thread thread = new Thread(runnable, "RecoveryDataEventPublisher-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }, getRejectedExecutionHandler(overflowPolicy));
+    }
+
+    /**
+     * Start the publisher if asynchronous event publishing is enabled in the server configuration.
+     *
+     * @return The started publisher or null if the events should be published synchronously.
+     */
+    public static RecoveryDataEventPublisher startIfEnabled() {
+
+        if (!Boolean.parseBoolean(IdentityUtil.getProperty(
+                IdentityRecoveryConstants.ConnectorConfig.RECOVERY_DATA_ASYNC_EVENT_PUBLISHING_ENABLE))) {
+            return null;
+        }
+        int poolSize = (int) getNumericProperty(IdentityRecoveryConstants.ConnectorConfig
+                .RECOVERY_DATA_ASYNC_EVENT_PUBLISHING_POOL_SIZE,
+                IdentityRecoveryConstants.RECOVERY_DATA_ASYNC_EVENT_PUBLISHING_DEFAULT_POOL_SIZE, 1);
+        int queueSize = (int) getNumericProperty(IdentityRecoveryConstants.ConnectorConfig
+                .RECOVERY_DATA_ASYNC_EVENT_PUBLISHING_QUEUE_SIZE,
+                IdentityRecoveryConstants.RECOVERY_DATA_ASYNC_EVENT_PUBLISHING_DEFAULT_QUEUE_SIZE, 1);
+        OverflowPolicy overflowPolicy = getOverflowPolicy();
+        if (log.isDebugEnabled()) {
+            log.debug(String.format("Publishing the recovery data events asynchronously with a pool size of %d, " +
+                    "queue size of %d and overflow policy %s.", poolSize, queueSize, overflowPolicy));
+        }
+        return new RecoveryDataEventPublisher(poolSize, queueSize, overflowPolicy);
+    }
+
+    /**
+     * Queue an event to be published. The tenant domain of the calling thread is carried over to the worker thread.
+     *
+     * @param event Event to be published.
+     */
+    public void publish(Event event) {
+
+        String tenantDomain = PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantDomain();
+        executor.execute(() -> publishSafely(event, tenantDomain));
+    }
+
+    /**
+     * Stop accepting events and publish the queued events.
+     */
+    public void shutdown() {
+
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                log.warn("Dropping " + executor.shutdownNow().size() + " recovery data events which were not " +
+                        "published before the shutdown.");
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void publishSafely(Event event, String tenantDomain) {
+
+        PrivilegedCarbonContext.startTenantFlow();
+        try {
+            if (StringUtils.isNotBlank(tenantDomain)) {
+                PrivilegedCarbonContext.getThreadLocalCarbonContext().setTenantDomain(tenantDomain, true);
+            }
+            IdentityRecoveryServiceDataHolder.getInstance().getIdentityEventService().handleEvent(event);
+        } catch (IdentityEventException | RuntimeException e) {
+            // The operation has already completed, hence the error can only be logged.
+            log.error("Error occurred while publishing event " + event.getEventName() + " asynchronously.", e);
+        } finally {
+            PrivilegedCarbonContext.endTenantFlow();
+        }
+    }
+
+    /**
+     * Get the number of events dropped since the publisher was started, as the queue was full.
+     *
+     * @return Number of dropped events.
+     */
+    public long getDroppedEventCount() {
+
+        return droppedEventCount.get();
+    }
+
+    private RejectedExecutionHandler getRejectedExecutionHandler(OverflowPolicy overflowPolicy) {
+
+        if (overflowPolicy == OverflowPolicy.DISCARD) {
+            return (runnable, executor) -> discard();
+        }
+        return new ThreadPoolExecutor.CallerRunsPolicy();
+    }
+
+    /**
+     * Count a dropped event. The queue stays full under a sustained load, hence the warning is logged at most once
+     * per interval, with the number of events dropped since the previous warning.
+     */
+    private void discard() {
+
+        droppedEventCount.incrementAndGet();
+        droppedSinceLastWarning.incrementAndGet();
+        long now = System.currentTimeMillis();
+        long lastWarningTime = lastDropWarningTime.get();
+        if (now - lastWarningTime >= DROP_WARNING_INTERVAL_MILLIS &&
+                lastDropWarningTime.compareAndSet(lastWarningTime, now)) {
+            log.warn("Recovery data event queue is full. Dropped " + droppedSinceLastWarning.getAndSet(0) +
+                    " events since the last warning.");
+        }
+    }
+
+    private static OverflowPolicy getOverflowPolicy() {
+
+        String value = IdentityUtil.getProperty(IdentityRecoveryConstants.ConnectorConfig
+                .RECOVERY_DATA_ASYNC_EVENT_PUBLISHING_OVERFLOW_POLICY);
+        if (StringUtils.isBlank(value)) {
+            return OverflowPolicy.CALLER_RUNS;
+        }
+        try {
+            return OverflowPolicy.valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid value: " + value + " configured for " + IdentityRecoveryConstants.ConnectorConfig
+                    .RECOVERY_DATA_ASYNC_EVENT_PUBLISHING_OVERFLOW_POLICY + ". Using the default value: " +
+                    OverflowPolicy.CALLER_RUNS);
+            return OverflowPolicy.CALLER_RUNS;
+        }
+    }
+}
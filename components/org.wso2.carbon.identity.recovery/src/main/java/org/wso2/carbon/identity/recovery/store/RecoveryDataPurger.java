@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.recovery.store;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.identity.recovery.IdentityRecoveryConstants;
+import org.wso2.carbon.identity.recovery.IdentityRecoveryException;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.wso2.carbon.identity.governance.IdentityGovernanceUtil.getNumericProperty;
+
+/**
+ * Periodically deletes the expired recovery data and the recovery flow data left behind by them. Recovery data are
+ * otherwise removed only when a flow is completed or invalidated, so that abandoned codes would pile up. The rows are
+ * deleted in chunks with a pause in between, to avoid holding locks on the rows of active recovery flows.
+ * <p>
+ * Expired recovery data are kept for a grace period, as the resend flows still read them, and the recovery data of
+ * accounts pending confirmation are never deleted.
+ */
+public class RecoveryDataPurger {
+
+    private static final Log log = LogFactory.getLog(RecoveryDataPurger.class);
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 10;
+
+    private final int batchSize;
+    private final long batchPauseMillis;
+    private final long gracePeriodMillis;
+    private final ScheduledExecutorService scheduler;
+
+    public RecoveryDataPurger(long intervalInMinutes, int batchSize, long batchPauseMillis,
+                              long gracePeriodInMinutes) {
+
+        this.batchSize = batchSize;
+        this.batchPauseMillis = batchPauseMillis;
+        this.gracePeriodMillis = TimeUnit.MINUTES.toMillis(gracePeriodInMinutes);
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "RecoveryDataPurger");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.scheduler.scheduleWithFixedDelay(this::purgeSafely, intervalInMinutes, intervalInMinutes,
+                TimeUnit.MINUTES);
+    }
+
+    /**
+     * Start the purger if it is enabled in the server configuration.
+     *
+     * @return The started purger or null if purging is disabled.
+     */
+    public static RecoveryDataPurger startIfEnabled() {
+
+        if (!Boolean.parseBoolean(IdentityUtil.getProperty(
+                IdentityRecoveryConstants.ConnectorConfig.RECOVERY_DATA_PURGE_ENABLE))) {
+            return null;
+        }
+        long intervalInMinutes = getNumericProperty(IdentityRecoveryConstants.ConnectorConfig
+                .RECOVERY_DATA_PURGE_INTERVAL, IdentityRecoveryConstants.RECOVERY_DATA_PURGE_DEFAULT_INTERVAL, 1);
+        int batchSize = (int) getNumericProperty(IdentityRecoveryConstants.ConnectorConfig
+                .RECOVERY_DATA_PURGE_BATCH_SIZE, IdentityRecoveryConstants.RECOVERY_DATA_PURGE_DEFAULT_BATCH_SIZE, 1);
+        long batchPauseMillis = getNumericProperty(IdentityRecoveryConstants.ConnectorConfig
+                .RECOVERY_DATA_PURGE_BATCH_PAUSE, IdentityRecoveryConstants.RECOVERY_DATA_PURGE_DEFAULT_BATCH_PAUSE, 1);
+        long gracePeriodInMinutes = getNumericProperty(IdentityRecoveryConstants.ConnectorConfig
+                .RECOVERY_DATA_PURGE_GRACE_PERIOD, IdentityRecoveryConstants.RECOVERY_DATA_PURGE_DEFAULT_GRACE_PERIOD,
+                1);
+        if (log.isDebugEnabled()) {
+            log.debug(String.format("Scheduling the recovery data purge with an interval of %d minutes, batch size " +
+                    "of %d, batch pause of %d milliseconds and grace period of %d minutes.", intervalInMinutes,
+                    batchSize, batchPauseMillis, gracePeriodInMinutes));
+        }
+        return new RecoveryDataPurger(intervalInMinutes, batchSize, batchPauseMillis, gracePeriodInMinutes);
+    }
+
+    /**
+     * Delete the expired recovery data and the orphaned recovery flow data.
+     *
+     * @throws IdentityRecoveryException Error while deleting the recovery data.
+     */
+    public void purge() throws IdentityRecoveryException {
+
+        JDBCRecoveryDataStore recoveryDataStore = (JDBCRecoveryDataStore) JDBCRecoveryDataStore.getInstance();
+        int deletedRecoveryData = recoveryDataStore.deleteExpiredRecoveryData(batchSize, batchPauseMillis,
+                gracePeriodMillis);
+        if (Thread.currentThread().isInterrupted()) {
+            return;
+        }
+        int deletedRecoveryFlowData = recoveryDataStore.deleteOrphanedRecoveryFlowData(batchSize, batchPauseMillis);
+        if (log.isDebugEnabled()) {
+            log.debug("Purged " + deletedRecoveryData + " expired recovery data entries and " +
+                    deletedRecoveryFlowData + " recovery flow data entries.");
+        }
+    }
+
+    /**
+     * Stop the purger. A purge in progress is interrupted between two batches.
+     */
+    public void shutdown() {
+
+        scheduler.shutdownNow();
+        try {
+            scheduler.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void purgeSafely() {
+
+        try {
+            purge();
+        } catch (IdentityRecoveryException | RuntimeException e) {
+            // Keep the scheduled task alive for the next purge.
+            log.error("Error while purging the expired recovery data.", e);
+        }
+    }
+}
@@ -43,6 +43,7 @@ import org.wso2.carbon.identity.event.event.Event;
 import org.wso2.carbon.identity.governance.IdentityGovernanceException;
 import org.wso2.carbon.identity.governance.IdentityGovernanceService;
 import org.wso2.carbon.identity.governance.exceptions.otp.OTPGeneratorException;
+import org.wso2.carbon.identity.governance.model.GovernanceConfigSnapshot;
 import org.wso2.carbon.identity.governance.service.notification.NotificationChannelManager;
 import org.wso2.carbon.identity.governance.service.notification.NotificationChannels;
 import org.wso2.carbon.identity.governance.service.otp.OTPGenerator;
@@ -601,6 +602,31 @@ public class Utils {
         }
     }
 
+    /**
+     * Check whether a boolean connector configuration is enabled, using the pre-parsed value of the configuration
+     * snapshot of the tenant.
+     *
+     * @param key          Configuration name.
+     * @param tenantDomain Tenant domain.
+     * @return True if the configuration is set to true.
+     * @throws IdentityEventException Error while getting the connector configurations.
+     */
+    public static boolean isConnectorConfigEnabled(String key, String tenantDomain) throws IdentityEventException {
+
+        try {
+            return getConfigurationSnapshot(tenantDomain).getBoolean(key, false);
+        } catch (IdentityGovernanceException e) {
+            throw new IdentityEventException("Error while getting connector configurations", e);
+        }
+    }
+
+    private static GovernanceConfigSnapshot getConfigurationSnapshot(String tenantDomain)
+            throws IdentityGovernanceException {
+
+        return IdentityRecoveryServiceDataHolder.getInstance().getIdentityGovernanceService()
+                .getConfigurationSnapshot(tenantDomain);
+    }
+
     // challenge question related Util
     public static String getChallengeSetDirFromUri(String challengeSetUri) {
 
@@ -1212,20 +1238,19 @@ public class Utils {
         int otpLength = IdentityRecoveryConstants.OTP_CODE_DEFAULT_LENGTH;
         // Set connector specific OTP configuration values, for connectors that have separate OTP configurations.
         if (StringUtils.isNotBlank(connectorName)) {
-            sendOTPInEmail = Boolean.parseBoolean(getRecoveryConfigs(
-                    connectorName + ".OTP.SendOTPInEmail", tenantDomain));
-            useUppercase = Boolean.parseBoolean(getRecoveryConfigs(
-                    connectorName + ".OTP.UseUppercaseCharactersInOTP", tenantDomain));
-            useLowercase = Boolean.parseBoolean(getRecoveryConfigs(
-                    connectorName + ".OTP.UseLowercaseCharactersInOTP", tenantDomain));
-            useNumeric = Boolean.parseBoolean(getRecoveryConfigs(
-                    connectorName + ".OTP.UseNumbersInOTP", tenantDomain));
+            GovernanceConfigSnapshot snapshot;
             try {
-                otpLength = Integer.parseInt(Utils.getRecoveryConfigs(connectorName + ".OTP.OTPLength", tenantDomain));
-            } catch (NumberFormatException ex) {
-                log.warn("Configured OTP length is not a number. Hence using default length of "
-                        + IdentityRecoveryConstants.OTP_CODE_DEFAULT_LENGTH + " for OTP.");
+                snapshot = getConfigurationSnapshot(tenantDomain);
+            } catch (IdentityGovernanceException e) {
+                throw Utils.handleServerException(
+                        IdentityRecoveryConstants.ErrorMessages.ERROR_CODE_ISSUE_IN_LOADING_RECOVERY_CONFIGS, null, e);
             }
+            sendOTPInEmail = snapshot.getBoolean(connectorName + ".OTP.SendOTPInEmail", false);
+            useUppercase = snapshot.getBoolean(connectorName + ".OTP.UseUppercaseCharactersInOTP", false);
+            useLowercase = snapshot.getBoolean(connectorName + ".OTP.UseLowercaseCharactersInOTP", false);
+            useNumeric = snapshot.getBoolean(connectorName + ".OTP.UseNumbersInOTP", false);
+            otpLength = snapshot.getInt(connectorName + ".OTP.OTPLength",
+                    IdentityRecoveryConstants.OTP_CODE_DEFAULT_LENGTH);
         }
         if (NotificationChannels.SMS_CHANNEL.getChannelType().equals(channel) ||
                 RecoveryScenarios.ADMIN_FORCED_PASSWORD_RESET_VIA_OTP.name().equals(recoveryScenario) ||
@@ -0,0 +1,202 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.recovery.handler;
+
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
+import org.wso2.carbon.identity.governance.service.IdentityDataStoreService;
+import org.wso2.carbon.identity.recovery.internal.IdentityRecoveryServiceDataHolder;
+import org.wso2.carbon.user.core.UserRealm;
+import org.wso2.carbon.user.core.UserStoreException;
+import org.wso2.carbon.user.core.UserStoreManager;
+import org.wso2.carbon.user.core.service.RealmService;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Tests of UserMetadataWriteBehindBuffer. The buffer is flushed explicitly, as the background flush interval is
+ * longer than the tests.
+ */
+public class UserMetadataWriteBehindBufferTest {
+
+    private static final String TENANT_DOMAIN = "carbon.super";
+    private static final String PRIMARY = "PRIMARY";
+    private static final String SECONDARY = "SECONDARY";
+    private static final String LAST_LOGIN_TIME = "http://wso2.org/claims/identity/lastLogonTime";
+    private static final String FAILED_LOGIN_ATTEMPTS = "http://wso2.org/claims/identity/failedLoginAttempts";
+
+    private MockedStatic<IdentityTenantUtil> mockedIdentityTenantUtil;
+    private RealmService previousRealmService;
+    private IdentityDataStoreService previousIdentityDataStoreService;
+    private IdentityDataStoreService identityDataStoreService;
+    private UserStoreManager primaryUserStoreManager;
+    private UserStoreManager secondaryUserStoreManager;
+    private List<Map<String, Map<String, String>>> storedClaims;
+    private UserMetadataWriteBehindBuffer writeBehindBuffer;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+
+        mockedIdentityTenantUtil = Mockito.mockStatic(IdentityTenantUtil.class);
+        mockedIdentityTenantUtil.when(() -> IdentityTenantUtil.getTenantId(anyString())).thenReturn(-1234);
+
+        primaryUserStoreManager = mock(UserStoreManager.class);
+        secondaryUserStoreManager = mock(UserStoreManager.class);
+        when(primaryUserStoreManager.getSecondaryUserStoreManager(SECONDARY)).thenReturn(secondaryUserStoreManager);
+        UserRealm userRealm = mock(UserRealm.class);
+        when(userRealm.getUserStoreManager()).thenReturn(primaryUserStoreManager);
+        RealmService realmService = mock(RealmService.class);
+        when(realmService.getTenantUserRealm(anyInt())).thenReturn(userRealm);
+
+        storedClaims = new ArrayList<>();
+        identityDataStoreService = mock(IdentityDataStoreService.class);
+        doAnswer(invocation -> storedClaims.add(copy(invocation.getArgument(0))))
+                .when(identityDataStoreService).storeInIdentityDataStore(anyMap(), any(UserStoreManager.class));
+
+        IdentityRecoveryServiceDataHolder dataHolder = IdentityRecoveryServiceDataHolder.getInstance();
+        previousRealmService = dataHolder.getRealmService();
+        previousIdentityDataStoreService = dataHolder.getIdentityDataStoreService();
+        dataHolder.setRealmService(realmService);
+        dataHolder.setIdentityDataStoreService(identityDataStoreService);
+
+        writeBehindBuffer = new UserMetadataWriteBehindBuffer(2, 3_600_000L);
+    }
+
+    @AfterMethod
+    public void tearDown() {
+
+        writeBehindBuffer.shutdown();
+        IdentityRecoveryServiceDataHolder dataHolder = IdentityRecoveryServiceDataHolder.getInstance();
+        dataHolder.setRealmService(previousRealmService);
+        dataHolder.setIdentityDataStoreService(previousIdentityDataStoreService);
+        mockedIdentityTenantUtil.close();
+    }
+
+    @Test
+    public void testFlushGroupsClaimsByUserStore() throws Exception {
+
+        assertTrue(writeBehindBuffer.offer(TENANT_DOMAIN, PRIMARY, "alice",
+                Collections.singletonMap(LAST_LOGIN_TIME, "1000")));
+        assertTrue(writeBehindBuffer.offer(TENANT_DOMAIN, SECONDARY, "bob",
+                Collections.singletonMap(LAST_LOGIN_TIME, "2000")));
+        // Repeated updates of a user are collapsed.
+        assertTrue(writeBehindBuffer.offer(TENANT_DOMAIN, PRIMARY, "alice",
+                Collections.singletonMap(LAST_LOGIN_TIME, "3000")));
+
+        writeBehindBuffer.flush();
+
+        Mockito.verify(identityDataStoreService).storeInIdentityDataStore(anyMap(),
+                Mockito.eq(primaryUserStoreManager));
+        Mockito.verify(identityDataStoreService).storeInIdentityDataStore(anyMap(),
+                Mockito.eq(secondaryUserStoreManager));
+        assertEquals(storedClaims.size(), 2);
+        assertTrue(storedClaims.contains(Collections.singletonMap("alice",
+                Collections.singletonMap(LAST_LOGIN_TIME, "3000"))));
+        assertTrue(storedClaims.contains(Collections.singletonMap("bob",
+                Collections.singletonMap(LAST_LOGIN_TIME, "2000"))));
+
+        // Nothing is left in the buffer.
+        writeBehindBuffer.flush();
+        assertEquals(storedClaims.size(), 2);
+    }
+
+    @Test
+    public void testFailedFlushIsRetried() throws Exception {
+
+        Mockito.doThrow(new UserStoreException("Database is not available."))
+                .doAnswer(invocation -> storedClaims.add(copy(invocation.getArgument(0))))
+                .when(identityDataStoreService).storeInIdentityDataStore(anyMap(), any(UserStoreManager.class));
+        writeBehindBuffer.offer(TENANT_DOMAIN, PRIMARY, "alice", Collections.singletonMap(LAST_LOGIN_TIME, "1000"));
+
+        writeBehindBuffer.flush();
+        assertTrue(storedClaims.isEmpty());
+
+        writeBehindBuffer.flush();
+        assertEquals(storedClaims, Collections.singletonList(Collections.singletonMap("alice",
+                Collections.singletonMap(LAST_LOGIN_TIME, "1000"))));
+    }
+
+    @Test
+    public void testNewerClaimsWinOverRebufferedClaims() throws Exception {
+
+        Map<String, String> claims = new HashMap<>();
+        claims.put(LAST_LOGIN_TIME, "1000");
+        claims.put(FAILED_LOGIN_ATTEMPTS, "1");
+        writeBehindBuffer.offer(TENANT_DOMAIN, PRIMARY, "alice", claims);
+
+        // A newer claim is buffered while the failing flush is in progress.
+        Mockito.doAnswer(invocation -> {
+                    writeBehindBuffer.offer(TENANT_DOMAIN, PRIMARY, "alice",
+                            Collections.singletonMap(LAST_LOGIN_TIME, "2000"));
+                    throw new UserStoreException("Database is not available.");
+                })
+                .doAnswer(invocation -> storedClaims.add(copy(invocation.getArgument(0))))
+                .when(identityDataStoreService).storeInIdentityDataStore(anyMap(), any(UserStoreManager.class));
+
+        writeBehindBuffer.flush();
+        writeBehindBuffer.flush();
+
+        Map<String, String> expectedClaims = new HashMap<>();
+        expectedClaims.put(LAST_LOGIN_TIME, "2000");
+        expectedClaims.put(FAILED_LOGIN_ATTEMPTS, "1");
+        assertEquals(storedClaims, Collections.singletonList(Collections.singletonMap("alice", expectedClaims)));
+    }
+
+    @Test
+    public void testOfferWhenFull() {
+
+        assertTrue(writeBehindBuffer.offer(TENANT_DOMAIN, PRIMARY, "alice",
+                Collections.singletonMap(LAST_LOGIN_TIME, "1000")));
+        assertTrue(writeBehindBuffer.offer(TENANT_DOMAIN, PRIMARY, "bob",
+                Collections.singletonMap(LAST_LOGIN_TIME, "1000")));
+        assertFalse(writeBehindBuffer.offer(TENANT_DOMAIN, PRIMARY, "carol",
+                Collections.singletonMap(LAST_LOGIN_TIME, "1000")));
+        // Users already in the buffer are still accepted.
+        assertTrue(writeBehindBuffer.offer(TENANT_DOMAIN, PRIMARY, "alice",
+                Collections.singletonMap(LAST_LOGIN_TIME, "2000")));
+    }
+
+    private static Map<String, Map<String, String>> copy(Map<String, Map<String, String>> claimsOfUsers) {
+
+        Map<String, Map<String, String>> copy = new HashMap<>();
+        for (Map.Entry<String, Map<String, String>> claimsOfUser : claimsOfUsers.entrySet()) {
+            copy.put(claimsOfUser.getKey(), new HashMap<>(claimsOfUser.getValue()));
+        }
+        return copy;
+    }
+}
@@ -40,6 +40,7 @@ import org.wso2.carbon.consent.mgt.core.model.AddReceiptResponse;
 import org.wso2.carbon.consent.mgt.core.model.ConsentManagerConfigurationHolder;
 import org.wso2.carbon.consent.mgt.core.model.ReceiptInput;
 import org.wso2.carbon.identity.application.common.model.IdentityProvider;
+import org.wso2.carbon.identity.application.common.model.IdentityProviderProperty;
 import org.wso2.carbon.identity.application.common.model.User;
 import org.wso2.carbon.identity.auth.attribute.handler.AuthAttributeHandlerManager;
 import org.wso2.carbon.identity.auth.attribute.handler.exception.AuthAttributeHandlerClientException;
@@ -51,6 +52,7 @@ import org.wso2.carbon.identity.event.IdentityEventException;
 import org.wso2.carbon.identity.event.event.Event;
 import org.wso2.carbon.identity.event.services.IdentityEventService;
 import org.wso2.carbon.identity.governance.IdentityGovernanceService;
+import org.wso2.carbon.identity.governance.model.GovernanceConfigSnapshot;
 import org.wso2.carbon.identity.governance.service.notification.NotificationChannels;
 import org.wso2.carbon.identity.governance.service.otp.OTPGenerator;
 import org.wso2.carbon.identity.recovery.IdentityRecoveryConstants;
@@ -323,6 +325,19 @@ public class UserSelfRegistrationManagerTest {
                         new String[]{SELF_REGISTRATION_SMSOTP_VERIFICATION_CODE_EXPIRY_TIME}, TEST_TENANT_DOMAIN_NAME))
                 .thenReturn(new org.wso2.carbon.identity.application.common.model.Property[]
                         {selfRegistrationSMSCodeExpiryConfig});
+        org.wso2.carbon.identity.application.common.model.Property[] configs =
+                new org.wso2.carbon.identity.application.common.model.Property[]{signupConfig, notificationConfig,
+                        sendOtpInEmailConfig, useLowerCaseConfig, useNumbersConfig, useUpperCaseConfig,
+                        otpLengthConfig, smsOTPConfig, selfRegistrationCodeExpiryConfig,
+                        selfRegistrationSMSCodeExpiryConfig};
+        IdentityProviderProperty[] identityProviderProperties = new IdentityProviderProperty[configs.length];
+        for (int i = 0; i < configs.length; i++) {
+            identityProviderProperties[i] = new IdentityProviderProperty();
+            identityProviderProperties[i].setName(configs[i].getName());
+            identityProviderProperties[i].setValue(configs[i].getValue());
+        }
+        when(identityGovernanceService.getConfigurationSnapshot(TEST_TENANT_DOMAIN_NAME))
+                .thenReturn(GovernanceConfigSnapshot.build(identityProviderProperties));
         when(otpGenerator.generateOTP(anyBoolean(), anyBoolean(), anyBoolean(), anyInt(), anyString()))
                 .thenReturn("1234-4567-890");
         mockedIdentityUtil.when(IdentityUtil::getPrimaryDomainName).thenReturn(TEST_USERSTORE_DOMAIN);
@@ -0,0 +1,351 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.recovery.store;
+
+import org.mockito.ArgumentCaptor;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.base.CarbonBaseConstants;
+import org.wso2.carbon.identity.application.common.model.Property;
+import org.wso2.carbon.identity.application.common.model.User;
+import org.wso2.carbon.identity.core.util.IdentityDatabaseUtil;
+import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.identity.event.IdentityEventConstants;
+import org.wso2.carbon.identity.event.event.Event;
+import org.wso2.carbon.identity.event.services.IdentityEventService;
+import org.wso2.carbon.identity.governance.IdentityGovernanceService;
+import org.wso2.carbon.identity.recovery.IdentityRecoveryConstants;
+import org.wso2.carbon.identity.recovery.RecoveryScenarios;
+import org.wso2.carbon.identity.recovery.RecoverySteps;
+import org.wso2.carbon.identity.recovery.internal.IdentityRecoveryServiceDataHolder;
+import org.wso2.carbon.identity.recovery.model.UserRecoveryData;
+
+import java.nio.file.Paths;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.Calendar;
+import java.util.Map;
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+
+/**
+ * Tests of JDBCRecoveryDataStore against an in memory H2 database.
+ */
+public class JDBCRecoveryDataStoreTest {
+
+    private static final String DB_URL = "jdbc:h2:mem:jdbc_recovery_data_store;DB_CLOSE_DELAY=-1";
+    private static final int TENANT_ID = -1234;
+    private static final String TENANT_DOMAIN = "carbon.super";
+    private static final String CODE_EXPIRY_TIME_IN_MINUTES = "15";
+
+    private Connection keepAliveConnection;
+    private MockedStatic<IdentityDatabaseUtil> mockedIdentityDatabaseUtil;
+    private MockedStatic<IdentityTenantUtil> mockedIdentityTenantUtil;
+    private IdentityGovernanceService previousIdentityGovernanceService;
+    private IdentityEventService identityEventService;
+    private IdentityEventService previousIdentityEventService;
+    private RecoveryDataEventPublisher previousRecoveryDataEventPublisher;
+    private JDBCRecoveryDataStore recoveryDataStore;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+
+        keepAliveConnection = DriverManager.getConnection(DB_URL);
+        try (Statement statement = keepAliveConnection.createStatement()) {
+            statement.execute("CREATE TABLE IDN_RECOVERY_DATA (USER_NAME VARCHAR(255) NOT NULL, " +
+                    "USER_DOMAIN VARCHAR(127) NOT NULL, TENANT_ID INTEGER DEFAULT -1, CODE VARCHAR(255), " +
+                    "SCENARIO VARCHAR(255) NOT NULL, STEP VARCHAR(127) NOT NULL, TIME_CREATED TIMESTAMP NOT NULL, " +
+                    "REMAINING_SETS VARCHAR(2500) DEFAULT NULL, RECOVERY_FLOW_ID VARCHAR(255), " +
+                    "NORMALIZED_USER_NAME VARCHAR(255), PRIMARY KEY (USER_NAME, USER_DOMAIN, TENANT_ID, SCENARIO, " +
+                    "STEP), UNIQUE (CODE))");
+            statement.execute("CREATE TABLE IDN_RECOVERY_FLOW_DATA (RECOVERY_FLOW_ID VARCHAR(255) NOT NULL, " +
+                    "CODE VARCHAR(255), FAILED_ATTEMPTS INTEGER DEFAULT 0 NOT NULL, RESEND_COUNT INTEGER DEFAULT 0 " +
+                    "NOT NULL, TIME_CREATED TIMESTAMP NOT NULL, PRIMARY KEY (RECOVERY_FLOW_ID), UNIQUE (CODE))");
+        }
+
+        mockedIdentityDatabaseUtil = Mockito.mockStatic(IdentityDatabaseUtil.class);
+        mockedIdentityDatabaseUtil.when(IdentityDatabaseUtil::getDBConnection).thenAnswer(invocation -> {
+            Connection connection = DriverManager.getConnection(DB_URL);
+            connection.setAutoCommit(false);
+            return connection;
+        });
+        mockedIdentityDatabaseUtil.when(() -> IdentityDatabaseUtil.getDBConnection(anyBoolean()))
+                .thenAnswer(invocation -> {
+                    Connection connection = DriverManager.getConnection(DB_URL);
+                    connection.setAutoCommit(!invocation.<Boolean>getArgument(0));
+                    return connection;
+                });
+        mockedIdentityDatabaseUtil.when(() -> IdentityDatabaseUtil.commitTransaction(any(Connection.class)))
+                .thenAnswer(invocation -> {
+                    invocation.<Connection>getArgument(0).commit();
+                    return null;
+                });
+        mockedIdentityDatabaseUtil.when(() -> IdentityDatabaseUtil.rollbackTransaction(any(Connection.class)))
+                .thenAnswer(invocation -> {
+                    invocation.<Connection>getArgument(0).rollback();
+                    return null;
+                });
+        mockedIdentityDatabaseUtil.when(() -> IdentityDatabaseUtil.closeConnection(any(Connection.class)))
+                .thenAnswer(invocation -> {
+                    invocation.<Connection>getArgument(0).close();
+                    return null;
+                });
+        mockedIdentityDatabaseUtil.when(() -> IdentityDatabaseUtil.closeAllConnections(any(Connection.class),
+                (ResultSet) any(), (PreparedStatement) any())).thenAnswer(invocation -> {
+                    invocation.<Connection>getArgument(0).close();
+                    return null;
+                });
+
+        mockedIdentityTenantUtil = Mockito.mockStatic(IdentityTenantUtil.class);
+        mockedIdentityTenantUtil.when(() -> IdentityTenantUtil.getTenantId(TENANT_DOMAIN)).thenReturn(TENANT_ID);
+        mockedIdentityTenantUtil.when(() -> IdentityTenantUtil.getTenantDomain(anyInt())).thenReturn(TENANT_DOMAIN);
+
+        // Every code expiry time configuration of the tenant resolves to the same value.
+        IdentityGovernanceService identityGovernanceService = mock(IdentityGovernanceService.class);
+        when(identityGovernanceService.getConfiguration(any(String[].class), anyString())).thenAnswer(invocation -> {
+            Property property = new Property();
+            property.setName(invocation.<String[]>getArgument(0)[0]);
+            property.setValue(CODE_EXPIRY_TIME_IN_MINUTES);
+            return new Property[]{property};
+        });
+        IdentityRecoveryServiceDataHolder dataHolder = IdentityRecoveryServiceDataHolder.getInstance();
+        try {
+            previousIdentityGovernanceService = dataHolder.getIdentityGovernanceService();
+        } catch (RuntimeException e) {
+            previousIdentityGovernanceService = null;
+        }
+        dataHolder.setIdentityGovernanceService(identityGovernanceService);
+        previousIdentityEventService = dataHolder.getIdentityEventService();
+        identityEventService = mock(IdentityEventService.class);
+        dataHolder.setIdentityEventService(identityEventService);
+        previousRecoveryDataEventPublisher = dataHolder.getRecoveryDataEventPublisher();
+        dataHolder.setRecoveryDataEventPublisher(null);
+
+        recoveryDataStore = (JDBCRecoveryDataStore) JDBCRecoveryDataStore.getInstance();
+    }
+
+    @AfterMethod
+    public void tearDown() throws Exception {
+
+        IdentityRecoveryServiceDataHolder dataHolder = IdentityRecoveryServiceDataHolder.getInstance();
+        dataHolder.setIdentityGovernanceService(previousIdentityGovernanceService);
+        dataHolder.setIdentityEventService(previousIdentityEventService);
+        dataHolder.setRecoveryDataEventPublisher(previousRecoveryDataEventPublisher);
+        mockedIdentityTenantUtil.close();
+        mockedIdentityDatabaseUtil.close();
+        try (Statement statement = keepAliveConnection.createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+        }
+        keepAliveConnection.close();
+    }
+
+    @Test
+    public void testDeleteExpiredRecoveryDataKeepsPendingSignUps() throws Exception {
+
+        long expiredCreatedTime = System.currentTimeMillis() - TimeUnit.DAYS.toMillis(3);
+        insertRecoveryData("user1", "code1", RecoveryScenarios.SELF_SIGN_UP, RecoverySteps.CONFIRM_SIGN_UP,
+                expiredCreatedTime);
+        insertRecoveryData("user2", "code2", RecoveryScenarios.LITE_SIGN_UP, RecoverySteps.CONFIRM_LITE_SIGN_UP,
+                expiredCreatedTime);
+        insertRecoveryData("user3", "code3", RecoveryScenarios.ASK_PASSWORD, RecoverySteps.UPDATE_PASSWORD,
+                expiredCreatedTime);
+        insertRecoveryData("user4", "code4", RecoveryScenarios.NOTIFICATION_BASED_PW_RECOVERY,
+                RecoverySteps.UPDATE_PASSWORD, expiredCreatedTime);
+        insertRecoveryData("user5", "code5", RecoveryScenarios.ADMIN_FORCED_PASSWORD_RESET_VIA_OTP,
+                RecoverySteps.UPDATE_PASSWORD, expiredCreatedTime);
+        // Not yet expired.
+        insertRecoveryData("user6", "code6", RecoveryScenarios.NOTIFICATION_BASED_PW_RECOVERY,
+                RecoverySteps.UPDATE_PASSWORD, System.currentTimeMillis());
+
+        int deletedCount = recoveryDataStore.deleteExpiredRecoveryData(2, 0, 0);
+
+        assertEquals(deletedCount, 2);
+        assertEquals(getCodes(), "code1,code2,code3,code6");
+    }
+
+    @Test
+    public void testDeleteExpiredRecoveryDataAfterGracePeriod() throws Exception {
+
+        // Expired an hour ago, which is within the grace period of a day.
+        insertRecoveryData("user1", "code1", RecoveryScenarios.NOTIFICATION_BASED_PW_RECOVERY,
+                RecoverySteps.UPDATE_PASSWORD, System.currentTimeMillis() - TimeUnit.MINUTES.toMillis(75));
+        // Expired beyond the grace period.
+        insertRecoveryData("user2", "code2", RecoveryScenarios.NOTIFICATION_BASED_PW_RECOVERY,
+                RecoverySteps.UPDATE_PASSWORD, System.currentTimeMillis() - TimeUnit.DAYS.toMillis(2));
+
+        int deletedCount = recoveryDataStore.deleteExpiredRecoveryData(100, 0, TimeUnit.DAYS.toMillis(1));
+
+        assertEquals(deletedCount, 1);
+        assertEquals(getCodes(), "code1");
+    }
+
+    @Test
+    public void testNormalizedUserName() throws Exception {
+
+        try (MockedStatic<IdentityUtil> mockedIdentityUtil = Mockito.mockStatic(IdentityUtil.class)) {
+            mockedIdentityUtil.when(() -> IdentityUtil.isUserStoreCaseSensitive(anyString(), anyInt()))
+                    .thenReturn(false);
+            mockedIdentityUtil.when(() -> IdentityUtil.getProperty(
+                    IdentityRecoveryConstants.ConnectorConfig.RECOVERY_DATA_NORMALIZED_USER_NAME_ENABLE))
+                    .thenReturn("true");
+
+            // Store.
+            recoveryDataStore.store(new UserRecoveryData(buildUser("Alice"), "code1",
+                    RecoveryScenarios.NOTIFICATION_BASED_PW_RECOVERY, RecoverySteps.UPDATE_PASSWORD));
+            assertEquals(getNormalizedUserName("code1"), "alice");
+
+            // Load.
+            assertNotNull(recoveryDataStore.load(buildUser("ALICE"), RecoveryScenarios.NOTIFICATION_BASED_PW_RECOVERY,
+                    RecoverySteps.UPDATE_PASSWORD, "code1"));
+            assertEquals(recoveryDataStore.load(buildUser("aLiCe")).getSecret(), "code1");
+            assertEquals(recoveryDataStore.loadWithoutCodeExpiryValidation(buildUser("ALICE")).getSecret(),
+                    "code1");
+            assertEquals(recoveryDataStore.loadWithoutCodeExpiryValidation(buildUser("ALICE"),
+                    RecoveryScenarios.NOTIFICATION_BASED_PW_RECOVERY).getSecret(), "code1");
+            assertEquals(recoveryDataStore.loadWithoutCodeExpiryValidation(buildUser("ALICE"),
+                    RecoveryScenarios.NOTIFICATION_BASED_PW_RECOVERY, RecoverySteps.UPDATE_PASSWORD).getSecret(),
+                    "code1");
+
+            // Delete by scenario.
+            recoveryDataStore.invalidate(buildUser("ALICE"), RecoveryScenarios.NOTIFICATION_BASED_PW_RECOVERY,
+                    RecoverySteps.UPDATE_PASSWORD);
+            assertEquals(getCodes(), "");
+
+            // Delete all codes of the user.
+            insertRecoveryData("Alice", "code2", RecoveryScenarios.ASK_PASSWORD, RecoverySteps.UPDATE_PASSWORD,
+                    System.currentTimeMillis());
+            insertRecoveryData("Bob", "code3", RecoveryScenarios.ASK_PASSWORD, RecoverySteps.UPDATE_PASSWORD,
+                    System.currentTimeMillis());
+            recoveryDataStore.invalidate(buildUser("alice"));
+            assertEquals(getCodes(), "code3");
+        }
+    }
+
+    @Test
+    public void testLoadPublishesEventsAsynchronously() throws Exception {
+
+        System.setProperty(CarbonBaseConstants.CARBON_HOME,
+                Paths.get(System.getProperty("user.dir"), "target").toString());
+        RecoveryDataEventPublisher recoveryDataEventPublisher = new RecoveryDataEventPublisher(1, 1,
+                RecoveryDataEventPublisher.OverflowPolicy.CALLER_RUNS);
+        IdentityRecoveryServiceDataHolder.getInstance().setRecoveryDataEventPublisher(recoveryDataEventPublisher);
+        insertRecoveryData("alice", "code1", RecoveryScenarios.NOTIFICATION_BASED_PW_RECOVERY,
+                RecoverySteps.UPDATE_PASSWORD, System.currentTimeMillis());
+
+        try (MockedStatic<IdentityUtil> mockedIdentityUtil = Mockito.mockStatic(IdentityUtil.class)) {
+            mockedIdentityUtil.when(() -> IdentityUtil.isUserStoreCaseSensitive(anyString(), anyInt()))
+                    .thenReturn(true);
+            UserRecoveryData userRecoveryData = recoveryDataStore.load(buildUser("alice"));
+            recoveryDataEventPublisher.shutdown();
+
+            ArgumentCaptor<Event> eventCaptor = ArgumentCaptor.forClass(Event.class);
+            verify(identityEventService, times(2)).handleEvent(eventCaptor.capture());
+            Event postEvent = null;
+            for (Event event : eventCaptor.getAllValues()) {
+                if (IdentityEventConstants.Event.POST_GET_USER_RECOVERY_DATA.equals(event.getEventName())) {
+                    postEvent = event;
+                }
+            }
+            assertNotNull(postEvent);
+            Map<String, Object> properties = postEvent.getEventProperties();
+            assertEquals(properties.get(IdentityEventConstants.EventProperty.USER_NAME), "alice");
+            assertEquals(properties.get(IdentityEventConstants.EventProperty.TENANT_DOMAIN), TENANT_DOMAIN);
+            assertEquals(properties.get(IdentityEventConstants.EventProperty.USER_STORE_DOMAIN), "PRIMARY");
+            assertEquals(properties.get(IdentityEventConstants.EventProperty.OPERATION_STATUS), true);
+            assertEquals(properties.get(IdentityEventConstants.EventProperty.GET_USER_RECOVERY_DATA_SCENARIO),
+                    IdentityEventConstants.EventProperty.GET_USER_RECOVERY_DATA_SCENARIO_WITH_CODE_EXPIRY_VALIDATION);
+            assertEquals(properties.get(IdentityRecoveryConstants.CONFIRMATION_CODE), "code1");
+            assertEquals(((UserRecoveryData) properties.get(IdentityEventConstants.EventProperty.USER_RECOVERY_DATA))
+                    .getSecret(), userRecoveryData.getSecret());
+        }
+    }
+
+    private void insertRecoveryData(String userName, String code, RecoveryScenarios scenario, RecoverySteps step,
+                                    long timeCreated) throws SQLException {
+
+        try (PreparedStatement prepStmt = keepAliveConnection.prepareStatement("INSERT INTO IDN_RECOVERY_DATA " +
+                "(USER_NAME, USER_DOMAIN, TENANT_ID, CODE, SCENARIO, STEP, TIME_CREATED, NORMALIZED_USER_NAME) " +
+                "VALUES (?, 'PRIMARY', ?, ?, ?, ?, ?, LOWER(?))")) {
+            prepStmt.setString(1, userName);
+            prepStmt.setInt(2, TENANT_ID);
+            prepStmt.setString(3, code);
+            prepStmt.setString(4, scenario.name());
+            prepStmt.setString(5, step.name());
+            prepStmt.setTimestamp(6, new Timestamp(timeCreated), Calendar.getInstance(TimeZone.getTimeZone("UTC")));
+            prepStmt.setString(7, userName);
+            prepStmt.execute();
+        }
+    }
+
+    private User buildUser(String userName) {
+
+        User user = new User();
+        user.setUserName(userName);
+        user.setUserStoreDomain("PRIMARY");
+        user.setTenantDomain(TENANT_DOMAIN);
+        return user;
+    }
+
+    private String getNormalizedUserName(String code) throws SQLException {
+
+        try (PreparedStatement prepStmt = keepAliveConnection.prepareStatement(
+                "SELECT NORMALIZED_USER_NAME FROM IDN_RECOVERY_DATA WHERE CODE = ?")) {
+            prepStmt.setString(1, code);
+            try (ResultSet resultSet = prepStmt.executeQuery()) {
+                return resultSet.next() ? resultSet.getString(1) : null;
+            }
+        }
+    }
+
+    private String getCodes() throws SQLException {
+
+        StringBuilder codes = new StringBuilder();
+        try (PreparedStatement prepStmt = keepAliveConnection.prepareStatement(
+                "SELECT CODE FROM IDN_RECOVERY_DATA ORDER BY CODE");
+             ResultSet resultSet = prepStmt.executeQuery()) {
+            while (resultSet.next()) {
+                if (codes.length() > 0) {
+                    codes.append(',');
+                }
+                codes.append(resultSet.getString(1));
+            }
+        }
+        return codes.toString();
+    }
+}
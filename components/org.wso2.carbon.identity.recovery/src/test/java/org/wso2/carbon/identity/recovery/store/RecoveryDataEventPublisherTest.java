@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.recovery.store;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.base.CarbonBaseConstants;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.identity.event.IdentityEventConstants;
+import org.wso2.carbon.identity.event.event.Event;
+import org.wso2.carbon.identity.event.services.IdentityEventService;
+import org.wso2.carbon.identity.recovery.internal.IdentityRecoveryServiceDataHolder;
+
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Tests of RecoveryDataEventPublisher.
+ */
+public class RecoveryDataEventPublisherTest {
+
+    private static final String TENANT_DOMAIN = "carbon.super";
+    private static final long TIMEOUT_SECONDS = 10;
+
+    private final List<Event> handledEvents = new CopyOnWriteArrayList<>();
+    private final List<Thread> handlingThreads = new CopyOnWriteArrayList<>();
+    private final List<String> handlingTenantDomains = new CopyOnWriteArrayList<>();
+    private CountDownLatch firstEventStarted;
+    private CountDownLatch releaseFirstEvent;
+    private IdentityEventService previousIdentityEventService;
+    private RecoveryDataEventPublisher recoveryDataEventPublisher;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+
+        System.setProperty(CarbonBaseConstants.CARBON_HOME,
+                Paths.get(System.getProperty("user.dir"), "target").toString());
+        handledEvents.clear();
+        handlingThreads.clear();
+        handlingTenantDomains.clear();
+        firstEventStarted = new CountDownLatch(1);
+        releaseFirstEvent = new CountDownLatch(1);
+
+        // The first event blocks the only worker until it is released, so that the queue can be filled up.
+        IdentityEventService identityEventService = mock(IdentityEventService.class);
+        doAnswer(invocation -> {
+            handledEvents.add(invocation.getArgument(0));
+            handlingThreads.add(Thread.currentThread());
+            handlingTenantDomains.add(PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantDomain());
+            if (handledEvents.size() == 1) {
+                firstEventStarted.countDown();
+                releaseFirstEvent.await(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            }
+            return null;
+        }).when(identityEventService).handleEvent(any(Event.class));
+
+        IdentityRecoveryServiceDataHolder dataHolder = IdentityRecoveryServiceDataHolder.getInstance();
+        previousIdentityEventService = dataHolder.getIdentityEventService();
+        dataHolder.setIdentityEventService(identityEventService);
+    }
+
+    @AfterMethod
+    public void tearDown() {
+
+        releaseFirstEvent.countDown();
+        if (recoveryDataEventPublisher != null) {
+            recoveryDataEventPublisher.shutdown();
+            recoveryDataEventPublisher = null;
+        }
+        IdentityRecoveryServiceDataHolder.getInstance().setIdentityEventService(previousIdentityEventService);
+    }
+
+    @Test
+    public void testPublish() throws Exception {
+
+        recoveryDataEventPublisher = new RecoveryDataEventPublisher(1, 1,
+                RecoveryDataEventPublisher.OverflowPolicy.CALLER_RUNS);
+        Map<String, Object> properties = new HashMap<>();
+        properties.put(IdentityEventConstants.EventProperty.USER_NAME, "alice");
+        properties.put(IdentityEventConstants.EventProperty.TENANT_DOMAIN, TENANT_DOMAIN);
+        properties.put(IdentityEventConstants.EventProperty.OPERATION_STATUS, true);
+        Event event = new Event(IdentityEventConstants.Event.POST_GET_USER_RECOVERY_DATA, properties);
+
+        publishInTenantFlow(event);
+
+        assertTrue(firstEventStarted.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        releaseFirstEvent.countDown();
+        assertSame(handledEvents.get(0), event);
+        assertEquals(handledEvents.get(0).getEventName(), IdentityEventConstants.Event.POST_GET_USER_RECOVERY_DATA);
+        assertEquals(handledEvents.get(0).getEventProperties(), properties);
+        assertNotSame(handlingThreads.get(0), Thread.currentThread());
+        // The tenant domain of the publishing thread is carried over to the worker.
+        assertEquals(handlingTenantDomains.get(0), TENANT_DOMAIN);
+    }
+
+    @Test
+    public void testPublishWhenSaturatedWithCallerRunsPolicy() throws Exception {
+
+        recoveryDataEventPublisher = new RecoveryDataEventPublisher(1, 1,
+                RecoveryDataEventPublisher.OverflowPolicy.CALLER_RUNS);
+        Event runningEvent = new Event("RUNNING");
+        Event queuedEvent = new Event("QUEUED");
+        Event overflowEvent = new Event("OVERFLOW");
+
+        publishInTenantFlow(runningEvent);
+        assertTrue(firstEventStarted.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        publishInTenantFlow(queuedEvent);
+        publishInTenantFlow(overflowEvent);
+
+        // The overflowing event is published in the calling thread before publish returns.
+        assertEquals(handledEvents.size(), 2);
+        assertSame(handledEvents.get(1), overflowEvent);
+        assertSame(handlingThreads.get(1), Thread.currentThread());
+
+        releaseFirstEvent.countDown();
+        recoveryDataEventPublisher.shutdown();
+        assertEquals(handledEvents.size(), 3);
+        assertSame(handledEvents.get(2), queuedEvent);
+    }
+
+    @Test
+    public void testPublishWhenSaturatedWithDiscardPolicy() throws Exception {
+
+        recoveryDataEventPublisher = new RecoveryDataEventPublisher(1, 1,
+                RecoveryDataEventPublisher.OverflowPolicy.DISCARD);
+        Event runningEvent = new Event("RUNNING");
+        Event queuedEvent = new Event("QUEUED");
+        Event overflowEvent = new Event("OVERFLOW");
+
+        publishInTenantFlow(runningEvent);
+        assertTrue(firstEventStarted.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        publishInTenantFlow(queuedEvent);
+        publishInTenantFlow(overflowEvent);
+        assertEquals(handledEvents.size(), 1);
+        assertEquals(recoveryDataEventPublisher.getDroppedEventCount(), 1);
+
+        releaseFirstEvent.countDown();
+        recoveryDataEventPublisher.shutdown();
+        assertEquals(handledEvents.size(), 2);
+        assertSame(handledEvents.get(0), runningEvent);
+        assertSame(handledEvents.get(1), queuedEvent);
+    }
+
+    @Test
+    public void testPublishWithoutEventService() throws Exception {
+
+        IdentityRecoveryServiceDataHolder.getInstance().setIdentityEventService(null);
+        recoveryDataEventPublisher = new RecoveryDataEventPublisher(1, 1,
+                RecoveryDataEventPublisher.OverflowPolicy.CALLER_RUNS);
+
+        // Neither the workers nor the calling thread, once the queue is full, fail because of the missing service.
+        for (int i = 0; i < 10; i++) {
+            publishInTenantFlow(new Event("EVENT_" + i));
+        }
+        recoveryDataEventPublisher.shutdown();
+        assertTrue(handledEvents.isEmpty());
+    }
+
+    private void publishInTenantFlow(Event event) {
+
+        PrivilegedCarbonContext.startTenantFlow();
+        try {
+            PrivilegedCarbonContext.getThreadLocalCarbonContext().setTenantDomain(TENANT_DOMAIN);
+            recoveryDataEventPublisher.publish(event);
+        } finally {
+            PrivilegedCarbonContext.endTenantFlow();
+        }
+    }
+}
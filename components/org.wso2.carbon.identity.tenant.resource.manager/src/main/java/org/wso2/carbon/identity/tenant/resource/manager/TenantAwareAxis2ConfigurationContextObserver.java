@@ -24,9 +24,9 @@ import org.wso2.carbon.context.PrivilegedCarbonContext;
 import org.wso2.carbon.event.publisher.core.config.EventPublisherConfiguration;
 import org.wso2.carbon.event.stream.core.EventStreamConfiguration;
 import org.wso2.carbon.event.stream.core.exception.EventStreamConfigurationException;
-import org.wso2.carbon.identity.tenant.resource.manager.constants.TenantResourceConstants;
 import org.wso2.carbon.identity.tenant.resource.manager.internal.TenantResourceManagerDataHolder;
 import org.wso2.carbon.identity.tenant.resource.manager.util.ResourceUtils;
+import org.wso2.carbon.identity.tenant.resource.manager.util.SuperTenantEventConfigurationCache;
 import org.wso2.carbon.utils.AbstractAxis2ConfigurationContextObserver;
 
 import java.util.List;
@@ -61,15 +61,13 @@ public class TenantAwareAxis2ConfigurationContextObserver extends AbstractAxis2C
      */
     private void loadEventStreamAndPublisherConfigurations(int tenantId) {
 
-        List<EventPublisherConfiguration> activeEventPublisherConfigurations;
-        List<EventStreamConfiguration> eventStreamConfigurationList;
-        try {
-            ResourceUtils.startSuperTenantFlow();
-            activeEventPublisherConfigurations = ResourceUtils.getSuperTenantEventPublisherConfigurations();
-            eventStreamConfigurationList = getSuperTenantEventStreamConfigurations();
-        } finally {
-            PrivilegedCarbonContext.endTenantFlow();
-        }
+        // The super tenant configurations are shared by the tenants, hence they are not loaded for every tenant.
+        SuperTenantEventConfigurationCache superTenantConfigurations = SuperTenantEventConfigurationCache
+                .getInstance();
+        List<EventPublisherConfiguration> activeEventPublisherConfigurations = superTenantConfigurations
+                .getEventPublisherConfigurations();
+        List<EventStreamConfiguration> eventStreamConfigurationList = superTenantConfigurations
+                .getEventStreamConfigurations();
         try {
             ResourceUtils.startTenantFlow(tenantId);
             loadTenantEventStreams(eventStreamConfigurationList);
@@ -83,25 +81,6 @@ public class TenantAwareAxis2ConfigurationContextObserver extends AbstractAxis2C
         }
     }
 
-    /**
-     * This method returns super tenant event stream configurations.
-     *
-     * @return list of event stream configurations.
-     */
-    private List<EventStreamConfiguration> getSuperTenantEventStreamConfigurations() {
-
-        List<EventStreamConfiguration> eventStreamConfigurationList = null;
-        try {
-            eventStreamConfigurationList = TenantResourceManagerDataHolder.getInstance().getCarbonEventStreamService()
-                    .getAllEventStreamConfigurations();
-        } catch (EventStreamConfigurationException e) {
-            log.error(populateMessageWithData(
-                    TenantResourceConstants.ErrorMessages.ERROR_CODE_ERROR_WHEN_FETCHING_SUPER_TENANT_EVENT_STREAM_CONFIGURATION,
-                    PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantDomain()), e);
-        }
-        return eventStreamConfigurationList;
-    }
-
     /**
      * This method loads event stream configurations tenant wise by using super tenant publisher configurations.
      *
@@ -31,6 +31,8 @@ import org.wso2.carbon.identity.configuration.mgt.core.model.ResourceFile;
 import org.wso2.carbon.identity.tenant.resource.manager.exception.TenantResourceManagementException;
 import org.wso2.carbon.identity.tenant.resource.manager.internal.TenantResourceManagerDataHolder;
 import org.wso2.carbon.identity.tenant.resource.manager.util.ResourceUtils;
+import org.wso2.carbon.identity.tenant.resource.manager.util.SuperTenantEventConfigurationCache;
+import org.wso2.carbon.utils.multitenancy.MultitenantConstants;
 
 import java.io.InputStream;
 import java.util.List;
@@ -53,6 +55,7 @@ public class ResourceManagerImpl implements ResourceManager {
         try {
             deployEventPublisherConfiguration(TenantResourceManagerDataHolder.getInstance().getConfigurationManager()
                     .getFileById(PUBLISHER, resourceFile.getName(), resourceFile.getId()));
+            invalidateSuperTenantConfigurations();
             if (log.isDebugEnabled()) {
                 log.debug("Event Publisher: " + resourceFile.getName() + " deployed from the configuration "
                         + "store for the tenant domain: " + PrivilegedCarbonContext.getThreadLocalCarbonContext()
@@ -75,6 +78,7 @@ public class ResourceManagerImpl implements ResourceManager {
             if (TenantResourceManagerDataHolder.getInstance().getCarbonEventPublisherService()
                     .getActiveEventPublisherConfiguration(resourceName) != null) {
                 destroyEventPublisherConfiguration(resourceName);
+                invalidateSuperTenantConfigurations();
 
                 // Since the tenant event publisher was removed, we should load super tenant configs.
                 loadSuperTenantEventPublisherConfigs();
@@ -88,13 +92,8 @@ public class ResourceManagerImpl implements ResourceManager {
     private void loadSuperTenantEventPublisherConfigs() {
 
         int tenantId = PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantId();
-        List<EventPublisherConfiguration> activeEventPublisherConfigurations;
-        try {
-            ResourceUtils.startSuperTenantFlow();
-            activeEventPublisherConfigurations = ResourceUtils.getSuperTenantEventPublisherConfigurations();
-        } finally {
-            PrivilegedCarbonContext.endTenantFlow();
-        }
+        List<EventPublisherConfiguration> activeEventPublisherConfigurations = SuperTenantEventConfigurationCache
+                .getInstance().getEventPublisherConfigurations();
         try {
             ResourceUtils.startTenantFlow(tenantId);
             if (activeEventPublisherConfigurations != null) {
@@ -105,6 +104,18 @@ public class ResourceManagerImpl implements ResourceManager {
         }
     }
 
+    /**
+     * The super tenant publishers are the templates of the tenant publishers, hence the cached super tenant
+     * configurations are invalidated when they are changed.
+     */
+    private void invalidateSuperTenantConfigurations() {
+
+        if (PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantId() ==
+                MultitenantConstants.SUPER_TENANT_ID) {
+            SuperTenantEventConfigurationCache.getInstance().invalidate();
+        }
+    }
+
     /**
      * This is used to deploy an event publisher configuration using.
      *
@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.tenant.resource.manager.internal;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.event.stream.core.EventStreamListener;
+import org.wso2.carbon.identity.tenant.resource.manager.util.SuperTenantEventConfigurationCache;
+import org.wso2.carbon.utils.multitenancy.MultitenantConstants;
+
+/**
+ * Event stream listener which invalidates the cached super tenant event configurations when a super tenant event
+ * stream is deployed or undeployed.
+ */
+public class SuperTenantEventStreamListener implements EventStreamListener {
+
+    private static final Log log = LogFactory.getLog(SuperTenantEventStreamListener.class);
+
+    @Override
+    public void addedEventStream(int tenantId, String streamName, String streamVersion) {
+
+        invalidate(tenantId, streamName, streamVersion);
+    }
+
+    @Override
+    public void removedEventStream(int tenantId, String streamName, String streamVersion) {
+
+        invalidate(tenantId, streamName, streamVersion);
+    }
+
+    private void invalidate(int tenantId, String streamName, String streamVersion) {
+
+        if (tenantId != MultitenantConstants.SUPER_TENANT_ID) {
+            return;
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Super tenant event stream: " + streamName + ":" + streamVersion + " changed.");
+        }
+        SuperTenantEventConfigurationCache.getInstance().invalidate();
+    }
+}
@@ -22,6 +22,7 @@ import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.core.ServerStartupObserver;
 import org.wso2.carbon.identity.tenant.resource.manager.util.ResourceUtils;
+import org.wso2.carbon.identity.tenant.resource.manager.util.SuperTenantEventConfigurationCache;
 
 /**
  * Server startup observer for tenant resource management component.
@@ -56,5 +57,7 @@ public class TenantResourceManagementServerStartupObserver implements ServerStar
             event streams are loaded.
         */
         ResourceUtils.loadTenantPublisherConfigurationFromConfigStore();
+        // The super tenant publishers loaded from the configuration store are templates of the tenant publishers.
+        SuperTenantEventConfigurationCache.getInstance().invalidate();
     }
 }
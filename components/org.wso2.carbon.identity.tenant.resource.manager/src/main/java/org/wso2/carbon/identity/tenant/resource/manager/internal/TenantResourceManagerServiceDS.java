@@ -29,6 +29,7 @@ import org.osgi.service.component.annotations.ReferenceCardinality;
 import org.osgi.service.component.annotations.ReferencePolicy;
 import org.wso2.carbon.core.ServerStartupObserver;
 import org.wso2.carbon.event.publisher.core.EventPublisherService;
+import org.wso2.carbon.event.stream.core.EventStreamListener;
 import org.wso2.carbon.event.stream.core.EventStreamService;
 import org.wso2.carbon.identity.configuration.mgt.core.ConfigurationManager;
 import org.wso2.carbon.identity.tenant.resource.manager.TenantAwareAxis2ConfigurationContextObserver;
@@ -63,6 +64,8 @@ public class TenantResourceManagerServiceDS extends AbstractAxis2ConfigurationCo
             TenantResourceManagerDataHolder.getInstance().setResourceManager(resourceManager);
             context.getBundleContext().registerService(ServerStartupObserver.class.getName(),
                     new TenantResourceManagementServerStartupObserver(), null);
+            context.getBundleContext().registerService(EventStreamListener.class.getName(),
+                    new SuperTenantEventStreamListener(), null);
             if (log.isDebugEnabled()) {
                 log.debug("Successfully deployed the tenant resource manager service.");
             }
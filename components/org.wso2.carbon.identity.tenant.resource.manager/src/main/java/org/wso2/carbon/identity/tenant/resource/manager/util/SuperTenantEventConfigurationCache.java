@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.tenant.resource.manager.util;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.event.publisher.core.config.EventPublisherConfiguration;
+import org.wso2.carbon.event.stream.core.EventStreamConfiguration;
+import org.wso2.carbon.event.stream.core.exception.EventStreamConfigurationException;
+import org.wso2.carbon.identity.tenant.resource.manager.internal.TenantResourceManagerDataHolder;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.wso2.carbon.identity.tenant.resource.manager.constants.TenantResourceConstants.ErrorMessages.ERROR_CODE_ERROR_WHEN_FETCHING_SUPER_TENANT_EVENT_STREAM_CONFIGURATION;
+import static org.wso2.carbon.identity.tenant.resource.manager.util.ResourceUtils.populateMessageWithData;
+
+/**
+ * Cache of the super tenant event stream and publisher configurations, which are used as the templates of the tenant
+ * configurations. The configurations are loaded once and shared by the tenants loaded afterwards, instead of being
+ * loaded from the super tenant for every tenant.
+ * <p>
+ * The cache is invalidated when the super tenant publishers are changed through this component, and when the super
+ * tenant event streams are added or removed.
+ */
+public class SuperTenantEventConfigurationCache {
+
+    private static final Log log = LogFactory.getLog(SuperTenantEventConfigurationCache.class);
+    private static final SuperTenantEventConfigurationCache instance = new SuperTenantEventConfigurationCache();
+
+    private final Object lock = new Object();
+    private volatile Entry entry;
+    private long version;
+
+    private SuperTenantEventConfigurationCache() {
+
+    }
+
+    public static SuperTenantEventConfigurationCache getInstance() {
+
+        return instance;
+    }
+
+    /**
+     * Returns the super tenant event publisher configurations.
+     *
+     * @return list of event publisher configurations, or null if the configurations could not be loaded.
+     */
+    public List<EventPublisherConfiguration> getEventPublisherConfigurations() {
+
+        Entry current = getEntry();
+        return current.eventPublisherConfigurations;
+    }
+
+    /**
+     * Returns the super tenant event stream configurations.
+     *
+     * @return list of event stream configurations, or null if the configurations could not be loaded.
+     */
+    public List<EventStreamConfiguration> getEventStreamConfigurations() {
+
+        Entry current = getEntry();
+        return current.eventStreamConfigurations;
+    }
+
+    /**
+     * Invalidate the cached configurations, so that they are loaded again for the next tenant.
+     */
+    public void invalidate() {
+
+        synchronized (lock) {
+            version++;
+            entry = null;
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Invalidated the cached super tenant event stream and publisher configurations.");
+        }
+    }
+
+    private Entry getEntry() {
+
+        Entry current = entry;
+        if (current != null) {
+            return current;
+        }
+
+        long loadingVersion;
+        synchronized (lock) {
+            loadingVersion = version;
+        }
+        Entry loaded = load();
+        // The configurations are not cached if they could not be loaded, or if they were invalidated while loading.
+        if (loaded.eventPublisherConfigurations != null && loaded.eventStreamConfigurations != null) {
+            synchronized (lock) {
+                if (version == loadingVersion) {
+                    entry = loaded;
+                }
+            }
+        }
+        return loaded;
+    }
+
+    private Entry load() {
+
+        if (log.isDebugEnabled()) {
+            log.debug("Loading the super tenant event stream and publisher configurations.");
+        }
+        try {
+            ResourceUtils.startSuperTenantFlow();
+            return new Entry(unmodifiable(ResourceUtils.getSuperTenantEventPublisherConfigurations()),
+                    unmodifiable(getSuperTenantEventStreamConfigurations()));
+        } finally {
+            PrivilegedCarbonContext.endTenantFlow();
+        }
+    }
+
+    /**
+     * This method returns super tenant event stream configurations.
+     *
+     * @return list of event stream configurations.
+     */
+    private List<EventStreamConfiguration> getSuperTenantEventStreamConfigurations() {
+
+        List<EventStreamConfiguration> eventStreamConfigurationList = null;
+        try {
+            eventStreamConfigurationList = TenantResourceManagerDataHolder.getInstance().getCarbonEventStreamService()
+                    .getAllEventStreamConfigurations();
+        } catch (EventStreamConfigurationException e) {
+            log.error(populateMessageWithData(ERROR_CODE_ERROR_WHEN_FETCHING_SUPER_TENANT_EVENT_STREAM_CONFIGURATION,
+                    PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantDomain()), e);
+        }
+        return eventStreamConfigurationList;
+    }
+
+    private static <T> List<T> unmodifiable(List<T> list) {
+
+        return list != null ? Collections.unmodifiableList(new ArrayList<>(list)) : null;
+    }
+
+    /**
+     * Super tenant configurations loaded at a point in time.
+     */
+    private static class Entry {
+
+        private final List<EventPublisherConfiguration> eventPublisherConfigurations;
+        private final List<EventStreamConfiguration> eventStreamConfigurations;
+
+        Entry(List<EventPublisherConfiguration> eventPublisherConfigurations,
+              List<EventStreamConfiguration> eventStreamConfigurations) {
+
+            this.eventPublisherConfigurations = eventPublisherConfigurations;
+            this.eventStreamConfigurations = eventStreamConfigurations;
+        }
+    }
+}
@@ -44,8 +44,11 @@ import org.wso2.carbon.identity.configuration.mgt.core.model.Resources;
 import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
 import org.wso2.carbon.identity.tenant.resource.manager.core.ResourceManager;
 import org.wso2.carbon.identity.tenant.resource.manager.core.ResourceManagerImpl;
+import org.wso2.carbon.identity.tenant.resource.manager.internal.SuperTenantEventStreamListener;
 import org.wso2.carbon.identity.tenant.resource.manager.internal.TenantResourceManagerDataHolder;
 import org.wso2.carbon.identity.tenant.resource.manager.util.ResourceUtils;
+import org.wso2.carbon.identity.tenant.resource.manager.util.SuperTenantEventConfigurationCache;
+import org.wso2.carbon.utils.multitenancy.MultitenantConstants;
 
 import java.io.File;
 import java.io.InputStream;
@@ -95,6 +98,7 @@ public class TenantAwareAxis2ConfigurationContextObserverTest {
         mockedEventPublisherServiceValueHolder = Mockito.mockStatic(EventPublisherServiceValueHolder.class);
         mockedIdentityTenantUtil = Mockito.mockStatic(IdentityTenantUtil.class);
         mockedPrivilegedCarbonContext = Mockito.mockStatic(PrivilegedCarbonContext.class);
+        SuperTenantEventConfigurationCache.getInstance().invalidate();
         prepareConfigs();
     }
 
@@ -106,6 +110,7 @@ public class TenantAwareAxis2ConfigurationContextObserverTest {
         mockedEventPublisherServiceValueHolder.close();
         mockedIdentityTenantUtil.close();
         mockedPrivilegedCarbonContext.close();
+        SuperTenantEventConfigurationCache.getInstance().invalidate();
     }
 
     private void mockCarbonContext() {
@@ -194,6 +199,43 @@ public class TenantAwareAxis2ConfigurationContextObserverTest {
                 TENANT_SPECIFIC_EMAIL_PUBLISHER);
     }
 
+    @Test
+    public void testSuperTenantConfigurationsLoadedOnce() {
+
+        List<EventPublisherConfiguration> superTenantPublishers = new ArrayList<>();
+        mockedResourceUtils.when(ResourceUtils::getSuperTenantEventPublisherConfigurations)
+                .thenReturn(superTenantPublishers);
+
+        TenantAwareAxis2ConfigurationContextObserver observer = new TenantAwareAxis2ConfigurationContextObserver();
+        observer.creatingConfigurationContext(TENANT_ID);
+        observer.creatingConfigurationContext(TENANT_ID + 1);
+        mockedResourceUtils.verify(ResourceUtils::getSuperTenantEventPublisherConfigurations, Mockito.times(1));
+
+        SuperTenantEventConfigurationCache.getInstance().invalidate();
+        observer.creatingConfigurationContext(TENANT_ID + 2);
+        mockedResourceUtils.verify(ResourceUtils::getSuperTenantEventPublisherConfigurations, Mockito.times(2));
+    }
+
+    @Test
+    public void testSuperTenantConfigurationsReloadedOnSuperTenantStreamChange() {
+
+        List<EventPublisherConfiguration> superTenantPublishers = new ArrayList<>();
+        mockedResourceUtils.when(ResourceUtils::getSuperTenantEventPublisherConfigurations)
+                .thenReturn(superTenantPublishers);
+
+        TenantAwareAxis2ConfigurationContextObserver observer = new TenantAwareAxis2ConfigurationContextObserver();
+        SuperTenantEventStreamListener listener = new SuperTenantEventStreamListener();
+        observer.creatingConfigurationContext(TENANT_ID);
+
+        listener.addedEventStream(TENANT_ID, "id_gov_notify_stream", "1.0.0");
+        observer.creatingConfigurationContext(TENANT_ID + 1);
+        mockedResourceUtils.verify(ResourceUtils::getSuperTenantEventPublisherConfigurations, Mockito.times(1));
+
+        listener.addedEventStream(MultitenantConstants.SUPER_TENANT_ID, "id_gov_notify_stream", "1.0.0");
+        observer.creatingConfigurationContext(TENANT_ID + 2);
+        mockedResourceUtils.verify(ResourceUtils::getSuperTenantEventPublisherConfigurations, Mockito.times(2));
+    }
+
     private static String getSamplesPath() {
 
         if (StringUtils.isNotBlank(TenantAwareAxis2ConfigurationContextObserverTest.SAMPLE_RESOURCE_FILE_TXT)) {
@@ -19,6 +19,7 @@
 package org.wso2.carbon.identity.user.export.core.internal;
 
 import org.wso2.carbon.consent.mgt.core.ConsentManager;
+import org.wso2.carbon.identity.user.export.core.service.ConsentReceiptRetriever;
 import org.wso2.carbon.identity.user.export.core.service.UserInformationProvider;
 import org.wso2.carbon.identity.user.profile.mgt.association.federation.FederatedAssociationManager;
 import org.wso2.carbon.user.core.service.RealmService;
@@ -34,6 +35,7 @@ public class UserProfileExportDataHolder {
     private static RealmService realmService;
     private static FederatedAssociationManager federatedAssociationManager;
     private static ConsentManager consentManager;
+    private static ConsentReceiptRetriever consentReceiptRetriever;
 
     public static List<UserInformationProvider> getUserInformationProviders() {
 
@@ -108,4 +110,24 @@ public class UserProfileExportDataHolder {
 
         UserProfileExportDataHolder.consentManager = consentManager;
     }
+
+    /**
+     * Get the bulk consent receipt retriever.
+     *
+     * @return Consent receipt retriever, or null if none is registered.
+     */
+    public static ConsentReceiptRetriever getConsentReceiptRetriever() {
+
+        return consentReceiptRetriever;
+    }
+
+    /**
+     * Set the bulk consent receipt retriever.
+     *
+     * @param consentReceiptRetriever consent receipt retriever
+     */
+    public static void setConsentReceiptRetriever(ConsentReceiptRetriever consentReceiptRetriever) {
+
+        UserProfileExportDataHolder.consentReceiptRetriever = consentReceiptRetriever;
+    }
 }
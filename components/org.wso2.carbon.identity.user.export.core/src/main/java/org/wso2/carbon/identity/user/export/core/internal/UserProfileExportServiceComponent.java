@@ -28,10 +28,12 @@ import org.osgi.service.component.annotations.Reference;
 import org.osgi.service.component.annotations.ReferenceCardinality;
 import org.osgi.service.component.annotations.ReferencePolicy;
 import org.wso2.carbon.consent.mgt.core.ConsentManager;
+import org.wso2.carbon.identity.governance.IdentityGovernanceUtil;
 import org.wso2.carbon.identity.user.export.core.internal.service.impl.BasicUserInformationProvider;
 import org.wso2.carbon.identity.user.export.core.internal.service.impl.ConsentInformationProvider;
 import org.wso2.carbon.identity.user.export.core.internal.service.impl.SecurityInformationProvider;
 import org.wso2.carbon.identity.user.export.core.internal.service.impl.UserInformationServiceImpl;
+import org.wso2.carbon.identity.user.export.core.service.ConsentReceiptRetriever;
 import org.wso2.carbon.identity.user.export.core.service.UserInformationProvider;
 import org.wso2.carbon.identity.user.export.core.service.UserInformationService;
 import org.wso2.carbon.identity.user.export.core.service.impl.LinkedAccountsProvider;
@@ -49,12 +51,20 @@ import org.wso2.carbon.user.core.service.RealmService;
 public class UserProfileExportServiceComponent {
 
     private static final Log LOG = LogFactory.getLog(UserProfileExportServiceComponent.class);
+    private static final String PROVIDER_POOL_SIZE = "UserInformationExport.ProviderPoolSize";
+    private static final String PROVIDER_TIMEOUT = "UserInformationExport.ProviderTimeout";
+
+    private UserInformationServiceImpl userInformationService;
 
     @Activate
     protected void activate(ComponentContext ctxt) {
 
         try {
-            UserInformationServiceImpl userInformationService = new UserInformationServiceImpl();
+            int providerPoolSize = (int) IdentityGovernanceUtil.getNumericProperty(PROVIDER_POOL_SIZE,
+                    UserInformationServiceImpl.DEFAULT_PROVIDER_POOL_SIZE, 1);
+            long providerTimeout = IdentityGovernanceUtil.getNumericProperty(PROVIDER_TIMEOUT,
+                    UserInformationServiceImpl.DEFAULT_PROVIDER_TIMEOUT_MILLIS, 1);
+            userInformationService = new UserInformationServiceImpl(providerPoolSize, providerTimeout);
             ctxt.getBundleContext().registerService(UserInformationService.class.getName(), userInformationService,
                     null);
 
@@ -85,6 +95,10 @@ public class UserProfileExportServiceComponent {
     @Deactivate
     protected void deactivate(ComponentContext ctxt) {
 
+        if (userInformationService != null) {
+            userInformationService.shutdown();
+            userInformationService = null;
+        }
         LOG.debug("User profile export service bundle is deactivated.");
     }
 
@@ -151,6 +165,28 @@ public class UserProfileExportServiceComponent {
         UserProfileExportDataHolder.setConsentManager(null);
     }
 
+    @Reference(
+            name = "consent.receipt.retriever",
+            service = ConsentReceiptRetriever.class,
+            cardinality = ReferenceCardinality.OPTIONAL,
+            policy = ReferencePolicy.DYNAMIC,
+            unbind = "unsetConsentReceiptRetriever")
+    public void setConsentReceiptRetriever(ConsentReceiptRetriever consentReceiptRetriever) {
+
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Setting the ConsentReceiptRetriever Service");
+        }
+        UserProfileExportDataHolder.setConsentReceiptRetriever(consentReceiptRetriever);
+    }
+
+    public void unsetConsentReceiptRetriever(ConsentReceiptRetriever consentReceiptRetriever) {
+
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Unsetting the ConsentReceiptRetriever Service");
+        }
+        UserProfileExportDataHolder.setConsentReceiptRetriever(null);
+    }
+
     @Reference(
             name = "user.export.attribute.provider",
             service = UserInformationProvider.class,
@@ -28,12 +28,14 @@ import org.wso2.carbon.identity.user.export.core.UserExportException;
 import org.wso2.carbon.identity.user.export.core.dto.ConsentReceiptDTO;
 import org.wso2.carbon.identity.user.export.core.dto.UserInformationDTO;
 import org.wso2.carbon.identity.user.export.core.internal.UserProfileExportDataHolder;
+import org.wso2.carbon.identity.user.export.core.service.ConsentReceiptRetriever;
 import org.wso2.carbon.identity.user.export.core.utils.Utils;
 import org.wso2.carbon.user.api.UserStoreException;
 import org.wso2.carbon.user.core.util.UserCoreUtil;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Provide consent related information of user
@@ -52,19 +54,28 @@ public class ConsentInformationProvider extends AbstractUserInformationProvider
             int offset = 0;
             String tenantDomain = UserProfileExportDataHolder.getRealmService().getTenantManager().getDomain(tenantId);
 
-            List<ReceiptListResponse> receiptListResponses;
-            do {
-                receiptListResponses = UserProfileExportDataHolder.getConsentManager()
+            ConsentReceiptRetriever receiptRetriever = getConsentReceiptRetriever();
+            while (true) {
+                List<ReceiptListResponse> receiptListResponses = UserProfileExportDataHolder.getConsentManager()
                         .searchReceipts(limit, offset, UserCoreUtil.addDomainToName(username, userStoreDomain),
                                 tenantDomain, null, ConsentConstants.ACTIVE_STATE);
+                if (receiptListResponses == null || receiptListResponses.isEmpty()) {
+                    break;
+                }
+                // The receipts of a page are retrieved at once, in the order of the search results.
+                List<String> receiptIds = new ArrayList<>(receiptListResponses.size());
                 for (ReceiptListResponse receiptListResponse : receiptListResponses) {
-                    String receiptId = receiptListResponse.getConsentReceiptId();
-
-                    Receipt receipt = UserProfileExportDataHolder.getConsentManager().getReceipt(receiptId);
-                    receipts.add(Utils.getConsentReceiptDTO(receipt));
+                    receiptIds.add(receiptListResponse.getConsentReceiptId());
+                }
+                Map<String, Receipt> receiptsOfPage = receiptRetriever.getReceipts(receiptIds);
+                for (String receiptId : receiptIds) {
+                    Receipt receipt = receiptsOfPage.get(receiptId);
+                    if (receipt != null) {
+                        receipts.add(Utils.getConsentReceiptDTO(receipt));
+                    }
                 }
                 offset += limit;
-            } while (receiptListResponses != null && receiptListResponses.size() != 0);
+            }
 
             if (receipts.size() > 0) {
                 return new UserInformationDTO(receipts);
@@ -78,6 +89,15 @@ public class ConsentInformationProvider extends AbstractUserInformationProvider
         return new UserInformationDTO();
     }
 
+    private ConsentReceiptRetriever getConsentReceiptRetriever() {
+
+        ConsentReceiptRetriever receiptRetriever = UserProfileExportDataHolder.getConsentReceiptRetriever();
+        if (receiptRetriever != null) {
+            return receiptRetriever;
+        }
+        return new ConsentManagerReceiptRetriever(UserProfileExportDataHolder.getConsentManager());
+    }
+
     @Override
     public String getType() {
         return "consents";
@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.user.export.core.internal.service.impl;
+
+import org.wso2.carbon.consent.mgt.core.ConsentManager;
+import org.wso2.carbon.consent.mgt.core.exception.ConsentManagementException;
+import org.wso2.carbon.consent.mgt.core.model.Receipt;
+import org.wso2.carbon.identity.user.export.core.service.ConsentReceiptRetriever;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Consent receipt retriever, which reads the receipts one by one through the consent manager. Used when no bulk
+ * retriever is registered.
+ */
+public class ConsentManagerReceiptRetriever implements ConsentReceiptRetriever {
+
+    private final ConsentManager consentManager;
+
+    public ConsentManagerReceiptRetriever(ConsentManager consentManager) {
+
+        this.consentManager = consentManager;
+    }
+
+    @Override
+    public Map<String, Receipt> getReceipts(List<String> receiptIds) throws ConsentManagementException {
+
+        Map<String, Receipt> receipts = new HashMap<>();
+        for (String receiptId : receiptIds) {
+            Receipt receipt = consentManager.getReceipt(receiptId);
+            if (receipt != null) {
+                receipts.put(receiptId, receipt);
+            }
+        }
+        return receipts;
+    }
+}
@@ -18,37 +18,139 @@
 
 package org.wso2.carbon.identity.user.export.core.internal.service.impl;
 
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
 import org.wso2.carbon.identity.user.export.core.UserExportException;
 import org.wso2.carbon.identity.user.export.core.dto.UserInformationDTO;
 import org.wso2.carbon.identity.user.export.core.internal.UserProfileExportDataHolder;
 import org.wso2.carbon.identity.user.export.core.service.UserInformationProvider;
 import org.wso2.carbon.identity.user.export.core.service.UserInformationService;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * {@inheritDoc}
+ * <p>
+ * The information providers are independent of each other, hence they are run concurrently on a bounded pool. The
+ * information of a provider which fails or does not complete within the provider timeout is left out, and the type
+ * of the provider is listed under {@link UserInformationService#INCOMPLETE_INFORMATION_KEY}.
  */
 public class UserInformationServiceImpl implements UserInformationService {
 
+    public static final int DEFAULT_PROVIDER_POOL_SIZE = 10;
+    public static final long DEFAULT_PROVIDER_TIMEOUT_MILLIS = 30000;
+
+    private static final Log LOG = LogFactory.getLog(UserInformationServiceImpl.class);
+    private static final int PROVIDER_QUEUE_SIZE = 100;
+
+    private final ThreadPoolExecutor executor;
+    private final long providerTimeoutMillis;
+
+    public UserInformationServiceImpl() {
+
+        this(DEFAULT_PROVIDER_POOL_SIZE, DEFAULT_PROVIDER_TIMEOUT_MILLIS);
+    }
+
+    /**
+     * Create the user information service.
+     *
+     * @param providerPoolSize      Maximum number of providers run concurrently across all the exports.
+     * @param providerTimeoutMillis Time allowed for a provider to retrieve the information of a user.
+     */
+    public UserInformationServiceImpl(int providerPoolSize, long providerTimeoutMillis) {
+
+        AtomicInteger threadCount = new AtomicInteger();
+        // Once the pool and its queue are full, the providers are run on the requesting thread.
+        this.executor = new ThreadPoolExecutor(providerPoolSize, providerPoolSize, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(PROVIDER_QUEUE_SIZE), runnable -> {
+            Thread thread = new Thread(runnable, "UserInformationProvider-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }, new ThreadPoolExecutor.CallerRunsPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+        this.providerTimeoutMillis = providerTimeoutMillis;
+    }
 
     @Override
     public Map<String, Object> getRetainedUserInformation(String username, String userStoreDomain, int tenantId)
             throws UserExportException {
 
-        Map<String, Object> userInformation = new HashMap<>();
+        PrivilegedCarbonContext carbonContext = PrivilegedCarbonContext.getThreadLocalCarbonContext();
+        String callerTenantDomain = carbonContext.getTenantDomain();
+        int callerTenantId = carbonContext.getTenantId();
+        String callerUsername = carbonContext.getUsername();
+
+        Map<UserInformationProvider, Future<UserInformationDTO>> futures = new LinkedHashMap<>();
         for (UserInformationProvider userInformationProvider :
                 UserProfileExportDataHolder.getUserInformationProviders()) {
             if (userInformationProvider.isEnabled()) {
-                UserInformationDTO retainedUserInformation =
-                        userInformationProvider.getRetainedUserInformation(username, userStoreDomain, tenantId);
+                futures.put(userInformationProvider, executor.submit(() -> {
+                    // Providers rely on the carbon context of the request, hence it is carried over to the worker.
+                    PrivilegedCarbonContext.startTenantFlow();
+                    try {
+                        PrivilegedCarbonContext workerContext = PrivilegedCarbonContext.getThreadLocalCarbonContext();
+                        workerContext.setTenantId(callerTenantId);
+                        workerContext.setTenantDomain(callerTenantDomain);
+                        workerContext.setUsername(callerUsername);
+                        return userInformationProvider.getRetainedUserInformation(username, userStoreDomain,
+                                tenantId);
+                    } finally {
+                        PrivilegedCarbonContext.endTenantFlow();
+                    }
+                }));
+            }
+        }
+
+        Map<String, Object> userInformation = new HashMap<>();
+        List<String> incompleteInformation = new ArrayList<>();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(providerTimeoutMillis);
+        for (Map.Entry<UserInformationProvider, Future<UserInformationDTO>> entry : futures.entrySet()) {
+            String type = entry.getKey().getType();
+            Future<UserInformationDTO> future = entry.getValue();
+            try {
+                UserInformationDTO retainedUserInformation = future.get(Math.max(0, deadline - System.nanoTime()),
+                        TimeUnit.NANOSECONDS);
                 if (retainedUserInformation != null && retainedUserInformation.isInformationAvailable()) {
-                    String type = userInformationProvider.getType();
                     userInformation.put(type, retainedUserInformation.getData());
                 }
+            } catch (TimeoutException e) {
+                future.cancel(true);
+                incompleteInformation.add(type);
+                LOG.warn("User information provider: " + type + " did not complete within " +
+                        providerTimeoutMillis + " ms. Hence its information is left out of the export.");
+            } catch (ExecutionException e) {
+                incompleteInformation.add(type);
+                LOG.error("Error occurred while retrieving the user information of the provider: " + type +
+                        ". Hence its information is left out of the export.", e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                futures.values().forEach(pending -> pending.cancel(true));
+                throw new UserExportException("Interrupted while retrieving the user information.", e);
             }
         }
+        if (!incompleteInformation.isEmpty()) {
+            userInformation.put(INCOMPLETE_INFORMATION_KEY, incompleteInformation);
+        }
         return userInformation;
     }
+
+    /**
+     * Stop the pool of the information providers.
+     */
+    public void shutdown() {
+
+        executor.shutdownNow();
+    }
 }
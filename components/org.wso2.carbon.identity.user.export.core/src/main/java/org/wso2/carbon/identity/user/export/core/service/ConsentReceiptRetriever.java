@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.user.export.core.service;
+
+import org.wso2.carbon.consent.mgt.core.exception.ConsentManagementException;
+import org.wso2.carbon.consent.mgt.core.model.Receipt;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Retrieves the full details of a number of consent receipts at once. A consent store which can read the receipts of
+ * a page in a single query can register an implementation as an OSGi service. Otherwise the receipts are read one by
+ * one through the consent manager.
+ */
+public interface ConsentReceiptRetriever {
+
+    /**
+     * Get the consent receipts of the given IDs.
+     *
+     * @param receiptIds IDs of the consent receipts.
+     * @return Consent receipts against their IDs. Receipts which are not found are left out.
+     * @throws ConsentManagementException If the consent receipts could not be retrieved.
+     */
+    Map<String, Receipt> getReceipts(List<String> receiptIds) throws ConsentManagementException;
+}
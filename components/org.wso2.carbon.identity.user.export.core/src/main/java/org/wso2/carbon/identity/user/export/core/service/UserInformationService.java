@@ -26,5 +26,11 @@ import java.util.Map;
  * Service to retrieve all the user information.
  */
 public interface UserInformationService {
+
+    /**
+     * Key of the user information which lists the types of the providers whose information could not be retrieved.
+     */
+    String INCOMPLETE_INFORMATION_KEY = "incompleteInformation";
+
     Map<String, Object> getRetainedUserInformation(String username, String userStoreDomain, int tenantId) throws UserExportException;
 }
@@ -28,6 +28,7 @@ import org.wso2.carbon.identity.user.export.core.UserExportException;
 import org.wso2.carbon.identity.user.export.core.dto.ConsentReceiptDTO;
 import org.wso2.carbon.identity.user.export.core.dto.UserInformationDTO;
 import org.wso2.carbon.identity.user.export.core.internal.UserProfileExportDataHolder;
+import org.wso2.carbon.identity.user.export.core.service.ConsentReceiptRetriever;
 import org.wso2.carbon.user.api.UserStoreException;
 import org.wso2.carbon.user.core.UserCoreConstants;
 import org.wso2.carbon.user.core.service.RealmService;
@@ -35,13 +36,18 @@ import org.wso2.carbon.user.core.tenant.TenantManager;
 import org.wso2.carbon.utils.multitenancy.MultitenantConstants;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class ConsentInformationProviderTest {
@@ -90,6 +96,55 @@ public class ConsentInformationProviderTest {
         }
     }
 
+    @Test
+    public void testGetRetainedUserInformationWithConsentReceiptRetriever() throws Exception {
+
+        RealmService realmService = mock(RealmService.class);
+        TenantManager tenantManager = mock(TenantManager.class);
+        when(realmService.getTenantManager()).thenReturn(tenantManager);
+        when(tenantManager.getDomain(anyInt())).thenReturn(MultitenantConstants.SUPER_TENANT_DOMAIN_NAME);
+
+        List<ReceiptListResponse> receiptListResponses = new ArrayList<>();
+        receiptListResponses.add(new ReceiptListResponse("receipt1", "test1", "1", -1234, "test1", "test1", "test1"));
+        receiptListResponses.add(new ReceiptListResponse("receipt2", "test2", "1", -1234, "test2", "test2", "test2"));
+
+        ConsentManager consentManager = mock(ConsentManager.class);
+        when(consentManager.searchReceipts(eq(100), eq(0), anyString(), anyString(), isNull(), anyString()))
+                .thenReturn(receiptListResponses);
+        when(consentManager.searchReceipts(eq(100), eq(100), anyString(), anyString(), isNull(), anyString()))
+                .thenReturn(new ArrayList<>());
+
+        Receipt receipt1 = mock(Receipt.class);
+        when(receipt1.getConsentReceiptId()).thenReturn("receipt1");
+        Receipt receipt2 = mock(Receipt.class);
+        when(receipt2.getConsentReceiptId()).thenReturn("receipt2");
+        Map<String, Receipt> receipts = new HashMap<>();
+        receipts.put("receipt2", receipt2);
+        receipts.put("receipt1", receipt1);
+        ConsentReceiptRetriever consentReceiptRetriever = mock(ConsentReceiptRetriever.class);
+        when(consentReceiptRetriever.getReceipts(Arrays.asList("receipt1", "receipt2"))).thenReturn(receipts);
+
+        ConsentInformationProvider consentInformationProvider = new ConsentInformationProvider();
+        UserProfileExportDataHolder.setRealmService(realmService);
+        UserProfileExportDataHolder.setConsentManager(consentManager);
+        UserProfileExportDataHolder.setConsentReceiptRetriever(consentReceiptRetriever);
+        try {
+            UserInformationDTO retainedUserInformationObj = consentInformationProvider.getRetainedUserInformation
+                    (USERNAME_CLAIM_VALUE, UserCoreConstants.PRIMARY_DEFAULT_DOMAIN_NAME, -1234);
+
+            Assert.assertTrue(retainedUserInformationObj.getData() instanceof List);
+            List<?> retainedUserInformationList = (List<?>) retainedUserInformationObj.getData();
+            Assert.assertEquals(retainedUserInformationList.size(), 2);
+            Assert.assertEquals(((ConsentReceiptDTO) retainedUserInformationList.get(0)).getConsentReceiptID(),
+                    "receipt1");
+            Assert.assertEquals(((ConsentReceiptDTO) retainedUserInformationList.get(1)).getConsentReceiptID(),
+                    "receipt2");
+            verify(consentManager, never()).getReceipt(anyString());
+        } finally {
+            UserProfileExportDataHolder.setConsentReceiptRetriever(null);
+        }
+    }
+
     @Test(expectedExceptions = UserExportException.class)
     public void testGetRetainedUserInformationSearchReceiptsException() throws Exception {
 
@@ -19,13 +19,29 @@
 package org.wso2.carbon.identity.user.export.core.internal.service.impl;
 
 import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
+import org.wso2.carbon.base.CarbonBaseConstants;
+import org.wso2.carbon.identity.user.export.core.UserExportException;
+import org.wso2.carbon.identity.user.export.core.dto.UserInformationDTO;
 import org.wso2.carbon.identity.user.export.core.internal.UserProfileExportDataHolder;
+import org.wso2.carbon.identity.user.export.core.service.UserInformationProvider;
+import org.wso2.carbon.identity.user.export.core.service.UserInformationService;
 
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
 
 public class UserInformationServiceImplTest {
 
+    @BeforeClass
+    public void setUp() {
+
+        System.setProperty(CarbonBaseConstants.CARBON_HOME, Paths.get(System.getProperty("user.dir"), "target")
+                .toString());
+    }
+
     @Test
     public void testGetRetainedUserInformation() throws Exception {
 
@@ -42,4 +58,64 @@ public class UserInformationServiceImplTest {
             }
         }
     }
+
+    @Test
+    public void testGetRetainedUserInformationWithIncompleteProviders() throws Exception {
+
+        List<UserInformationProvider> providers = Arrays.asList(new SlowUserInformationProvider(),
+                new FailingUserInformationProvider(), new MockUserInformationProvider());
+        UserProfileExportDataHolder.getUserInformationProviders().addAll(providers);
+        UserInformationServiceImpl userInformationService = new UserInformationServiceImpl(4, 500);
+        try {
+            Map<String, Object> retainedUserInformation = userInformationService.getRetainedUserInformation
+                    ("admin", "PRIMARY", -1234);
+
+            Assert.assertTrue(retainedUserInformation.get("basic") instanceof Map);
+            Assert.assertFalse(retainedUserInformation.containsKey("slow"));
+            Assert.assertFalse(retainedUserInformation.containsKey("failing"));
+            List<?> incompleteInformation =
+                    (List<?>) retainedUserInformation.get(UserInformationService.INCOMPLETE_INFORMATION_KEY);
+            Assert.assertNotNull(incompleteInformation);
+            Assert.assertTrue(incompleteInformation.contains("slow"));
+            Assert.assertTrue(incompleteInformation.contains("failing"));
+        } finally {
+            userInformationService.shutdown();
+            UserProfileExportDataHolder.getUserInformationProviders().removeAll(providers);
+        }
+    }
+
+    private static class SlowUserInformationProvider extends AbstractUserInformationProvider {
+
+        @Override
+        public UserInformationDTO getRetainedUserInformation(String username, String userStoreDomain, int tenantId)
+                throws UserExportException {
+
+            try {
+                Thread.sleep(5000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return new UserInformationDTO("slow");
+        }
+
+        @Override
+        public String getType() {
+            return "slow";
+        }
+    }
+
+    private static class FailingUserInformationProvider extends AbstractUserInformationProvider {
+
+        @Override
+        public UserInformationDTO getRetainedUserInformation(String username, String userStoreDomain, int tenantId)
+                throws UserExportException {
+
+            throw new UserExportException("Error while retrieving the user information", null);
+        }
+
+        @Override
+        public String getType() {
+            return "failing";
+        }
+    }
 }
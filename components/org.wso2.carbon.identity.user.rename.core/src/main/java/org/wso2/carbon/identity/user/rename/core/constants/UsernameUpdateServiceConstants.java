@@ -24,17 +24,69 @@ package org.wso2.carbon.identity.user.rename.core.constants;
 public class UsernameUpdateServiceConstants {
 
     public static final String ACCOUNT_DISABLE_CLAIM = "http://wso2.org/claims/identity/accountDisabled";
+    public static final String RECOVERY_DATA_NORMALIZED_USER_NAME_ENABLE = "Recovery.NormalizedUserName.Enable";
 
     private UsernameUpdateServiceConstants() {
 
     }
 
+    /**
+     * Queries renaming the user in the identity tables. Each query matches the rows of the user on the leading columns
+     * of the primary key or index of the table. The CASE_INSENSITIVE queries are used for the user stores with case
+     * insensitive usernames, and match on NORMALIZED_USER_NAME instead of LOWER(USER_NAME) where the normalized column
+     * is enabled. IDN_RECOVERY_FLOW_DATA is not renamed as it is only linked to the user through the recovery flow id
+     * of IDN_RECOVERY_DATA.
+     */
+    public static class SQLQueries {
+
+        public static final String RENAME_IDENTITY_USER_DATA = "UPDATE IDN_IDENTITY_USER_DATA SET USER_NAME = ? " +
+                "WHERE TENANT_ID = ? AND USER_NAME = ?";
+        public static final String RENAME_IDENTITY_USER_DATA_CASE_INSENSITIVE = "UPDATE IDN_IDENTITY_USER_DATA SET " +
+                "USER_NAME = ? WHERE TENANT_ID = ? AND LOWER(USER_NAME) = LOWER(?)";
+        public static final String RENAME_IDENTITY_USER_DATA_WITH_NORMALIZED_USER_NAME = "UPDATE " +
+                "IDN_IDENTITY_USER_DATA SET USER_NAME = ?, NORMALIZED_USER_NAME = LOWER(?) WHERE TENANT_ID = ? AND " +
+                "USER_NAME = ?";
+        public static final String RENAME_IDENTITY_USER_DATA_WITH_NORMALIZED_USER_NAME_CASE_INSENSITIVE = "UPDATE " +
+                "IDN_IDENTITY_USER_DATA SET USER_NAME = ?, NORMALIZED_USER_NAME = LOWER(?) WHERE TENANT_ID = ? AND " +
+                "NORMALIZED_USER_NAME = LOWER(?)";
+        public static final String RENAME_IDENTITY_USER_NUM_DATA = "UPDATE IDN_IDENTITY_USER_NUM_DATA SET " +
+                "USER_NAME = ? WHERE TENANT_ID = ? AND USER_NAME = ?";
+        public static final String RENAME_IDENTITY_USER_NUM_DATA_CASE_INSENSITIVE = "UPDATE " +
+                "IDN_IDENTITY_USER_NUM_DATA SET USER_NAME = ? WHERE TENANT_ID = ? AND LOWER(USER_NAME) = LOWER(?)";
+        public static final String RENAME_IDENTITY_USER_NUM_DATA_WITH_NORMALIZED_USER_NAME = "UPDATE " +
+                "IDN_IDENTITY_USER_NUM_DATA SET USER_NAME = ?, NORMALIZED_USER_NAME = LOWER(?) WHERE TENANT_ID = ? " +
+                "AND USER_NAME = ?";
+        public static final String RENAME_IDENTITY_USER_NUM_DATA_WITH_NORMALIZED_USER_NAME_CASE_INSENSITIVE =
+                "UPDATE IDN_IDENTITY_USER_NUM_DATA SET USER_NAME = ?, NORMALIZED_USER_NAME = LOWER(?) WHERE " +
+                        "TENANT_ID = ? AND NORMALIZED_USER_NAME = LOWER(?)";
+        public static final String RENAME_RECOVERY_DATA = "UPDATE IDN_RECOVERY_DATA SET USER_NAME = ? WHERE " +
+                "TENANT_ID = ? AND USER_NAME = ? AND USER_DOMAIN = ?";
+        public static final String RENAME_RECOVERY_DATA_CASE_INSENSITIVE = "UPDATE IDN_RECOVERY_DATA SET " +
+                "USER_NAME = ? WHERE TENANT_ID = ? AND LOWER(USER_NAME) = LOWER(?) AND USER_DOMAIN = ?";
+        public static final String RENAME_RECOVERY_DATA_WITH_NORMALIZED_USER_NAME = "UPDATE IDN_RECOVERY_DATA SET " +
+                "USER_NAME = ?, NORMALIZED_USER_NAME = LOWER(?) WHERE TENANT_ID = ? AND USER_NAME = ? AND " +
+                "USER_DOMAIN = ?";
+        public static final String RENAME_RECOVERY_DATA_WITH_NORMALIZED_USER_NAME_CASE_INSENSITIVE = "UPDATE " +
+                "IDN_RECOVERY_DATA SET USER_NAME = ?, NORMALIZED_USER_NAME = LOWER(?) WHERE TENANT_ID = ? AND " +
+                "NORMALIZED_USER_NAME = LOWER(?) AND USER_DOMAIN = ?";
+        public static final String RENAME_PASSWORD_HISTORY_DATA = "UPDATE IDN_PASSWORD_HISTORY_DATA SET " +
+                "USER_NAME = ? WHERE TENANT_ID = ? AND USER_NAME = ? AND USER_DOMAIN = ?";
+        public static final String RENAME_PASSWORD_HISTORY_DATA_CASE_INSENSITIVE = "UPDATE " +
+                "IDN_PASSWORD_HISTORY_DATA SET USER_NAME = ? WHERE TENANT_ID = ? AND LOWER(USER_NAME) = LOWER(?) " +
+                "AND USER_DOMAIN = ?";
+
+        private SQLQueries() {
+
+        }
+    }
+
     /**
      * Response status codes and messages.
      */
     public enum Status {
         STATUS_SUCCESS(0, "Successfully updated username from %s to %s."),
-        STATUS_ACCEPTED(1, "Username update from %s to %s accepted.");
+        STATUS_ACCEPTED(1, "Username update from %s to %s accepted."),
+        STATUS_FAILED(2, "Failed to update username from %s to %s. %s");
 
         private final int code;
         private final String message;
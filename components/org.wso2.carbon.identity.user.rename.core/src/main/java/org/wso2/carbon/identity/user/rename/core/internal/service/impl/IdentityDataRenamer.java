@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.user.rename.core.internal.service.impl;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.core.util.IdentityDatabaseUtil;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.identity.governance.IdentityMgtConstants;
+import org.wso2.carbon.identity.user.rename.core.constants.UsernameUpdateServiceConstants;
+import org.wso2.carbon.identity.user.rename.core.constants.UsernameUpdateServiceConstants.SQLQueries;
+import org.wso2.carbon.identity.user.rename.core.exception.UsernameUpdateServerException;
+import org.wso2.carbon.user.core.util.UserCoreUtil;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Locale;
+
+/**
+ * The class which renames the user in the identity tables owned by the identity governance components.
+ * <p>
+ * The rows of the user are updated on the indexed username columns within a single transaction, hence the time taken
+ * depends on the rows of the user rather than on the size of the tables. The remaining tables are left to the
+ * forget-me tool.
+ */
+public class IdentityDataRenamer {
+
+    private static final Log log = LogFactory.getLog(IdentityDataRenamer.class);
+
+    /**
+     * Renames the user in the identity tables.
+     *
+     * @param existingUsername existing username of the user
+     * @param newUsername new username of the user
+     * @param userStoreDomain user store domain of the user
+     * @param tenantId tenant id
+     * @throws UsernameUpdateServerException
+     */
+    public static void rename(String existingUsername, String newUsername, String userStoreDomain, int tenantId)
+            throws UsernameUpdateServerException {
+
+        // The identity data of a user is kept against the domain qualified username.
+        String existingQualifiedUsername = UserCoreUtil.addDomainToName(existingUsername, userStoreDomain);
+        String newQualifiedUsername = UserCoreUtil.addDomainToName(newUsername, userStoreDomain);
+        boolean caseSensitive = IdentityUtil.isUserStoreInUsernameCaseSensitive(existingQualifiedUsername, tenantId);
+        // The recovery and password history data are kept against the upper cased user store domain.
+        String domain = userStoreDomain.toUpperCase(Locale.ENGLISH);
+
+        try (Connection connection = IdentityDatabaseUtil.getDBConnection(true)) {
+            try {
+                int identityDataCount = renameIdentityData(connection, caseSensitive, existingQualifiedUsername,
+                        newQualifiedUsername, tenantId);
+                boolean recoveryDataNormalized = isRecoveryDataNormalized();
+                int recoveryDataCount = renameDomainScopedData(connection, getQuery(caseSensitive,
+                        recoveryDataNormalized, SQLQueries.RENAME_RECOVERY_DATA,
+                        SQLQueries.RENAME_RECOVERY_DATA_CASE_INSENSITIVE,
+                        SQLQueries.RENAME_RECOVERY_DATA_WITH_NORMALIZED_USER_NAME,
+                        SQLQueries.RENAME_RECOVERY_DATA_WITH_NORMALIZED_USER_NAME_CASE_INSENSITIVE),
+                        recoveryDataNormalized, existingUsername, newUsername, domain, tenantId);
+                int passwordHistoryCount = renameDomainScopedData(connection, caseSensitive ?
+                                SQLQueries.RENAME_PASSWORD_HISTORY_DATA :
+                                SQLQueries.RENAME_PASSWORD_HISTORY_DATA_CASE_INSENSITIVE, false, existingUsername,
+                        newUsername, domain, tenantId);
+                IdentityDatabaseUtil.commitTransaction(connection);
+
+                if (log.isDebugEnabled()) {
+                    log.debug("Renamed user: " + existingUsername + " to: " + newUsername + " in user store " +
+                            "domain: " + userStoreDomain + " of tenant: " + tenantId + ". Updated identity data " +
+                            "rows: " + identityDataCount + ", recovery data rows: " + recoveryDataCount +
+                            ", password history rows: " + passwordHistoryCount);
+                }
+            } catch (SQLException e) {
+                IdentityDatabaseUtil.rollbackTransaction(connection);
+                throw e;
+            }
+        } catch (SQLException e) {
+            throw new UsernameUpdateServerException("Error while updating the identity data of user: " +
+                    existingUsername + " to username: " + newUsername + " in userstore domain: " + userStoreDomain +
+                    " and tenant: " + tenantId, e);
+        }
+    }
+
+    private static int renameIdentityData(Connection connection, boolean caseSensitive, String existingUsername,
+                                          String newUsername, int tenantId) throws SQLException {
+
+        boolean normalized = isIdentityDataNormalized();
+        int count = renameIdentityData(connection, getQuery(caseSensitive, normalized,
+                SQLQueries.RENAME_IDENTITY_USER_DATA, SQLQueries.RENAME_IDENTITY_USER_DATA_CASE_INSENSITIVE,
+                SQLQueries.RENAME_IDENTITY_USER_DATA_WITH_NORMALIZED_USER_NAME,
+                SQLQueries.RENAME_IDENTITY_USER_DATA_WITH_NORMALIZED_USER_NAME_CASE_INSENSITIVE), normalized,
+                existingUsername, newUsername, tenantId);
+        if (Boolean.parseBoolean(IdentityUtil.getProperty(
+                IdentityMgtConstants.PropertyConfig.NUMERIC_CLAIM_INDEX_ENABLE))) {
+            count += renameIdentityData(connection, getQuery(caseSensitive, normalized,
+                    SQLQueries.RENAME_IDENTITY_USER_NUM_DATA, SQLQueries.RENAME_IDENTITY_USER_NUM_DATA_CASE_INSENSITIVE,
+                    SQLQueries.RENAME_IDENTITY_USER_NUM_DATA_WITH_NORMALIZED_USER_NAME,
+                    SQLQueries.RENAME_IDENTITY_USER_NUM_DATA_WITH_NORMALIZED_USER_NAME_CASE_INSENSITIVE), normalized,
+                    existingUsername, newUsername, tenantId);
+        }
+        return count;
+    }
+
+    private static int renameIdentityData(Connection connection, String query, boolean normalized,
+                                          String existingUsername, String newUsername, int tenantId)
+            throws SQLException {
+
+        try (PreparedStatement prepStmt = connection.prepareStatement(query)) {
+            int index = 1;
+            prepStmt.setString(index++, newUsername);
+            if (normalized) {
+                prepStmt.setString(index++, newUsername);
+            }
+            prepStmt.setInt(index++, tenantId);
+            prepStmt.setString(index, existingUsername);
+            return prepStmt.executeUpdate();
+        }
+    }
+
+    private static int renameDomainScopedData(Connection connection, String query, boolean normalized,
+                                              String existingUsername, String newUsername, String userStoreDomain,
+                                              int tenantId) throws SQLException {
+
+        try (PreparedStatement prepStmt = connection.prepareStatement(query)) {
+            int index = 1;
+            prepStmt.setString(index++, newUsername);
+            if (normalized) {
+                prepStmt.setString(index++, newUsername);
+            }
+            prepStmt.setInt(index++, tenantId);
+            prepStmt.setString(index++, existingUsername);
+            prepStmt.setString(index, userStoreDomain);
+            return prepStmt.executeUpdate();
+        }
+    }
+
+    /**
+     * Returns the query matching the existing username of the user. The rows of a user in a user store with case
+     * insensitive usernames are matched on the normalized username column where it is enabled.
+     */
+    private static String getQuery(boolean caseSensitive, boolean normalized, String query,
+                                   String caseInsensitiveQuery, String normalizedQuery,
+                                   String normalizedCaseInsensitiveQuery) {
+
+        if (caseSensitive) {
+            return normalized ? normalizedQuery : query;
+        }
+        return normalized ? normalizedCaseInsensitiveQuery : caseInsensitiveQuery;
+    }
+
+    private static boolean isIdentityDataNormalized() {
+
+        return Boolean.parseBoolean(IdentityUtil.getProperty(
+                IdentityMgtConstants.PropertyConfig.NORMALIZED_USER_NAME_ENABLE));
+    }
+
+    private static boolean isRecoveryDataNormalized() {
+
+        return Boolean.parseBoolean(IdentityUtil.getProperty(
+                UsernameUpdateServiceConstants.RECOVERY_DATA_NORMALIZED_USER_NAME_ENABLE));
+    }
+}
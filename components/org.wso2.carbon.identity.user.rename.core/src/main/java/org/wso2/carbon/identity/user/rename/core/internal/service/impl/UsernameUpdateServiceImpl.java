@@ -65,12 +65,13 @@ public class UsernameUpdateServiceImpl implements UsernameUpdateService {
         validate(userDTO);
 
         String tenantDomain = userDTO.getTenantDomain();
+        int tenantId = getTenantId(tenantDomain);
+        UserStoreManager userStoreManager = getUserStoreManager(tenantId, tenantDomain);
         String domainQualifiedUsername = UserCoreUtil.addDomainToName(userDTO.getExistingUsername(), userDTO
                 .getUserStoreDomain());
-        UserStoreManager userStoreManager = getUserStoreManager(tenantDomain);
 
         if (isExistingUser(domainQualifiedUsername, tenantDomain, userStoreManager)) {
-            performUpdate(userDTO, userStoreManager);
+            performUpdate(userDTO, tenantId, userStoreManager);
         } else {
             throw new UsernameUpdateClientException(String.format(ERROR_USER_NOT_FOUND.getMessage(), tenantDomain,
                     domainQualifiedUsername), ERROR_USER_NOT_FOUND.getCode(), UsernameUpdateClientException.ErrorType
@@ -79,20 +80,60 @@ public class UsernameUpdateServiceImpl implements UsernameUpdateService {
 
         return UpdateUsernameServiceUtil.buildStatus(STATUS_SUCCESS.getCode(), String.format(STATUS_SUCCESS
                 .getMessage(), userDTO.getExistingUsername(), userDTO.getNewUsername()));
-
     }
 
-    private void performUpdate(UserDTO userDTO, UserStoreManager userStoreManager)
+    private void performUpdate(UserDTO userDTO, int tenantId, UserStoreManager userStoreManager)
             throws UsernameUpdateException {
 
         disableAccount(UserCoreUtil.addDomainToName(userDTO.getExistingUsername(), userDTO.getUserStoreDomain()),
                 userDTO.getTenantDomain(), userStoreManager);
-        ForgetMeToolExecutor.run(userDTO.getExistingUsername(), userDTO.getNewUsername(), userDTO.getUserStoreDomain
-                (), userDTO.getTenantDomain(), getTenantId(userDTO.getTenantDomain()));
+        // The identity tables are renamed with targeted updates, leaving only the remaining tables to the forget-me
+        // tool.
+        try {
+            IdentityDataRenamer.rename(userDTO.getExistingUsername(), userDTO.getNewUsername(), userDTO
+                    .getUserStoreDomain(), tenantId);
+        } catch (UsernameUpdateException e) {
+            reEnableAccount(userDTO, userStoreManager);
+            throw e;
+        }
+        try {
+            ForgetMeToolExecutor.run(userDTO.getExistingUsername(), userDTO.getNewUsername(), userDTO
+                    .getUserStoreDomain(), userDTO.getTenantDomain(), tenantId);
+        } catch (UsernameUpdateException e) {
+            revertIdentityData(userDTO, tenantId);
+            reEnableAccount(userDTO, userStoreManager);
+            throw e;
+        }
         enableAccount(UserCoreUtil.addDomainToName(userDTO.getNewUsername(), userDTO.getUserStoreDomain()), userDTO
                 .getTenantDomain(), userStoreManager);
     }
 
+    private void revertIdentityData(UserDTO userDTO, int tenantId) {
+
+        try {
+            IdentityDataRenamer.rename(userDTO.getNewUsername(), userDTO.getExistingUsername(), userDTO
+                    .getUserStoreDomain(), tenantId);
+        } catch (UsernameUpdateServerException e) {
+            log.error("Error while reverting the identity data of user: " + userDTO.getExistingUsername() + " in " +
+                    "tenant: " + userDTO.getTenantDomain() + " after the failed username update.", e);
+        }
+    }
+
+    /**
+     * Enable the account of a user with the existing username again, as the account is disabled before the username
+     * is updated and the update failed.
+     */
+    private void reEnableAccount(UserDTO userDTO, UserStoreManager userStoreManager) {
+
+        try {
+            enableAccount(UserCoreUtil.addDomainToName(userDTO.getExistingUsername(), userDTO.getUserStoreDomain()),
+                    userDTO.getTenantDomain(), userStoreManager);
+        } catch (UsernameUpdateServerException e) {
+            log.error("Error while enabling the account of user: " + userDTO.getExistingUsername() + " in tenant: " +
+                    userDTO.getTenantDomain() + " after the failed username update.", e);
+        }
+    }
+
     private void validate(UserDTO userDTO) throws UsernameUpdateClientException {
 
         if (StringUtils.isBlank(userDTO.getExistingUsername()) || StringUtils.isBlank(userDTO.getNewUsername())) {
@@ -117,10 +158,10 @@ public class UsernameUpdateServiceImpl implements UsernameUpdateService {
         }
     }
 
-    private UserStoreManager getUserStoreManager(String tenantDomain) throws UsernameUpdateException {
+    private UserStoreManager getUserStoreManager(int tenantId, String tenantDomain) throws UsernameUpdateException {
 
         try {
-            UserRealm userRealm = realmService.getTenantUserRealm(getTenantId(tenantDomain));
+            UserRealm userRealm = realmService.getTenantUserRealm(tenantId);
             if (userRealm != null) {
                 return userRealm.getUserStoreManager();
             } else {
@@ -21,6 +21,12 @@ package org.wso2.carbon.identity.user.rename.core.service;
 import org.wso2.carbon.identity.user.rename.core.dto.StatusDTO;
 import org.wso2.carbon.identity.user.rename.core.dto.UserDTO;
 import org.wso2.carbon.identity.user.rename.core.exception.UsernameUpdateException;
+import org.wso2.carbon.identity.user.rename.core.utils.UpdateUsernameServiceUtil;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.wso2.carbon.identity.user.rename.core.constants.UsernameUpdateServiceConstants.Status.STATUS_FAILED;
 
 /**
  * Service interface for username update.
@@ -36,4 +42,29 @@ public interface UsernameUpdateService {
      */
     public StatusDTO updateUsername (UserDTO userDTO) throws UsernameUpdateException;
 
+    /**
+     * Updates the usernames of the given users. A user whose username could not be updated does not abort the
+     * update of the remaining users, instead a failed status is reported for the user. Each user is updated with
+     * {@link #updateUsername(UserDTO)}, including a separate run of the forget-me tool, hence the cost is the same as
+     * updating the users one by one.
+     *
+     * @param userDTOs the user objects that include identification parameters and the new usernames {@link UserDTO}
+     * @return StatusDTO {@link StatusDTO} objects that represent the status of each user, in the order of the users
+     * @throws UsernameUpdateException
+     */
+    default List<StatusDTO> updateUsernames(List<UserDTO> userDTOs) throws UsernameUpdateException {
+
+        List<StatusDTO> statuses = new ArrayList<>(userDTOs.size());
+        for (UserDTO userDTO : userDTOs) {
+            try {
+                statuses.add(updateUsername(userDTO));
+            } catch (UsernameUpdateException e) {
+                statuses.add(UpdateUsernameServiceUtil.buildStatus(STATUS_FAILED.getCode(), String.format(
+                        STATUS_FAILED.getMessage(), userDTO.getExistingUsername(), userDTO.getNewUsername(),
+                        e.getMessage())));
+            }
+        }
+        return statuses;
+    }
+
 }
@@ -0,0 +1,192 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.user.rename.core.internal.service.impl;
+
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.core.util.IdentityDatabaseUtil;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.identity.governance.IdentityMgtConstants;
+import org.wso2.carbon.identity.user.rename.core.constants.UsernameUpdateServiceConstants;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+
+public class IdentityDataRenamerTest {
+
+    private static final String DB_URL = "jdbc:h2:mem:identity_data_renamer;DB_CLOSE_DELAY=-1";
+    private static final int TENANT_ID = -1234;
+
+    private Connection keepAliveConnection;
+    private MockedStatic<IdentityDatabaseUtil> mockedIdentityDatabaseUtil;
+    private MockedStatic<IdentityUtil> mockedIdentityUtil;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+
+        keepAliveConnection = DriverManager.getConnection(DB_URL);
+        try (Statement statement = keepAliveConnection.createStatement()) {
+            statement.execute("CREATE TABLE IDN_IDENTITY_USER_DATA (TENANT_ID INTEGER, USER_NAME VARCHAR(255), " +
+                    "DATA_KEY VARCHAR(255), DATA_VALUE VARCHAR(2048), NORMALIZED_USER_NAME VARCHAR(255), " +
+                    "PRIMARY KEY (TENANT_ID, USER_NAME, DATA_KEY))");
+            statement.execute("CREATE TABLE IDN_RECOVERY_DATA (USER_NAME VARCHAR(255), USER_DOMAIN VARCHAR(127), " +
+                    "TENANT_ID INTEGER, CODE VARCHAR(255), NORMALIZED_USER_NAME VARCHAR(255), " +
+                    "PRIMARY KEY (USER_NAME, USER_DOMAIN, TENANT_ID))");
+            statement.execute("CREATE TABLE IDN_PASSWORD_HISTORY_DATA (ID INTEGER AUTO_INCREMENT, " +
+                    "USER_NAME VARCHAR(255), USER_DOMAIN VARCHAR(127), TENANT_ID INTEGER, HASH VARCHAR(255), " +
+                    "PRIMARY KEY (ID))");
+
+            statement.execute("INSERT INTO IDN_IDENTITY_USER_DATA VALUES (-1234, 'SECONDARY/user1', " +
+                    "'http://wso2.org/claims/identity/accountLocked', 'false', 'secondary/user1')");
+            statement.execute("INSERT INTO IDN_IDENTITY_USER_DATA VALUES (-1234, 'SECONDARY/user2', " +
+                    "'http://wso2.org/claims/identity/accountLocked', 'false', 'secondary/user2')");
+            statement.execute("INSERT INTO IDN_IDENTITY_USER_DATA VALUES (1, 'SECONDARY/user1', " +
+                    "'http://wso2.org/claims/identity/accountLocked', 'false', 'secondary/user1')");
+            statement.execute("INSERT INTO IDN_RECOVERY_DATA VALUES ('user1', 'SECONDARY', -1234, 'code1', " +
+                    "'user1')");
+            statement.execute("INSERT INTO IDN_RECOVERY_DATA VALUES ('user1', 'PRIMARY', -1234, 'code2', 'user1')");
+            statement.execute("INSERT INTO IDN_PASSWORD_HISTORY_DATA (USER_NAME, USER_DOMAIN, TENANT_ID, HASH) " +
+                    "VALUES ('user1', 'SECONDARY', -1234, 'hash1')");
+        }
+
+        mockedIdentityDatabaseUtil = Mockito.mockStatic(IdentityDatabaseUtil.class);
+        mockedIdentityDatabaseUtil.when(() -> IdentityDatabaseUtil.getDBConnection(true)).thenAnswer(invocation -> {
+            Connection connection = DriverManager.getConnection(DB_URL);
+            connection.setAutoCommit(false);
+            return connection;
+        });
+        mockedIdentityDatabaseUtil.when(() -> IdentityDatabaseUtil.commitTransaction(any(Connection.class)))
+                .thenAnswer(invocation -> {
+                    invocation.<Connection>getArgument(0).commit();
+                    return null;
+                });
+        mockedIdentityDatabaseUtil.when(() -> IdentityDatabaseUtil.rollbackTransaction(any(Connection.class)))
+                .thenAnswer(invocation -> {
+                    invocation.<Connection>getArgument(0).rollback();
+                    return null;
+                });
+
+        mockedIdentityUtil = Mockito.mockStatic(IdentityUtil.class);
+        mockedIdentityUtil.when(() -> IdentityUtil.getProperty(anyString())).thenReturn(null);
+        mockedIdentityUtil.when(() -> IdentityUtil.getProperty(
+                IdentityMgtConstants.PropertyConfig.NORMALIZED_USER_NAME_ENABLE)).thenReturn("true");
+        mockedIdentityUtil.when(() -> IdentityUtil.getProperty(
+                UsernameUpdateServiceConstants.RECOVERY_DATA_NORMALIZED_USER_NAME_ENABLE)).thenReturn("true");
+        mockedIdentityUtil.when(() -> IdentityUtil.isUserStoreInUsernameCaseSensitive(anyString(), anyInt()))
+                .thenReturn(true);
+    }
+
+    @AfterMethod
+    public void tearDown() throws Exception {
+
+        mockedIdentityUtil.close();
+        mockedIdentityDatabaseUtil.close();
+        try (Statement statement = keepAliveConnection.createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+        }
+        keepAliveConnection.close();
+    }
+
+    @Test
+    public void testRename() throws Exception {
+
+        IdentityDataRenamer.rename("user1", "User11", "SECONDARY", TENANT_ID);
+
+        Assert.assertEquals(count("SELECT COUNT(*) FROM IDN_IDENTITY_USER_DATA WHERE TENANT_ID = -1234 AND " +
+                "USER_NAME = 'SECONDARY/User11' AND NORMALIZED_USER_NAME = 'secondary/user11'"), 1);
+        Assert.assertEquals(count("SELECT COUNT(*) FROM IDN_RECOVERY_DATA WHERE USER_NAME = 'User11' AND " +
+                "USER_DOMAIN = 'SECONDARY' AND NORMALIZED_USER_NAME = 'user11'"), 1);
+        Assert.assertEquals(count("SELECT COUNT(*) FROM IDN_PASSWORD_HISTORY_DATA WHERE USER_NAME = 'User11' AND " +
+                "USER_DOMAIN = 'SECONDARY'"), 1);
+
+        // The rows of other users, user store domains and tenants are left untouched.
+        Assert.assertEquals(count("SELECT COUNT(*) FROM IDN_IDENTITY_USER_DATA WHERE USER_NAME = " +
+                "'SECONDARY/user2'"), 1);
+        Assert.assertEquals(count("SELECT COUNT(*) FROM IDN_IDENTITY_USER_DATA WHERE TENANT_ID = 1 AND " +
+                "USER_NAME = 'SECONDARY/user1'"), 1);
+        Assert.assertEquals(count("SELECT COUNT(*) FROM IDN_RECOVERY_DATA WHERE USER_NAME = 'user1' AND " +
+                "USER_DOMAIN = 'PRIMARY'"), 1);
+    }
+
+    @Test
+    public void testRenameInCaseInsensitiveUserStore() throws Exception {
+
+        mockedIdentityUtil.when(() -> IdentityUtil.isUserStoreInUsernameCaseSensitive(anyString(), anyInt()))
+                .thenReturn(false);
+
+        IdentityDataRenamer.rename("USER1", "User11", "secondary", TENANT_ID);
+
+        Assert.assertEquals(count("SELECT COUNT(*) FROM IDN_IDENTITY_USER_DATA WHERE TENANT_ID = -1234 AND " +
+                "USER_NAME = 'SECONDARY/User11' AND NORMALIZED_USER_NAME = 'secondary/user11'"), 1);
+        Assert.assertEquals(count("SELECT COUNT(*) FROM IDN_RECOVERY_DATA WHERE USER_NAME = 'User11' AND " +
+                "USER_DOMAIN = 'SECONDARY' AND NORMALIZED_USER_NAME = 'user11'"), 1);
+        Assert.assertEquals(count("SELECT COUNT(*) FROM IDN_PASSWORD_HISTORY_DATA WHERE USER_NAME = 'User11' AND " +
+                "USER_DOMAIN = 'SECONDARY'"), 1);
+        Assert.assertEquals(count("SELECT COUNT(*) FROM IDN_RECOVERY_DATA WHERE USER_NAME = 'user1' AND " +
+                "USER_DOMAIN = 'PRIMARY'"), 1);
+    }
+
+    @Test
+    public void testRenameInCaseSensitiveUserStoreMatchesExactUsername() throws Exception {
+
+        IdentityDataRenamer.rename("USER1", "User11", "SECONDARY", TENANT_ID);
+
+        Assert.assertEquals(count("SELECT COUNT(*) FROM IDN_IDENTITY_USER_DATA WHERE USER_NAME = " +
+                "'SECONDARY/User11'"), 0);
+        Assert.assertEquals(count("SELECT COUNT(*) FROM IDN_RECOVERY_DATA WHERE USER_NAME = 'User11'"), 0);
+    }
+
+    @Test
+    public void testRenameIsRolledBackOnFailure() throws Exception {
+
+        try (Statement statement = keepAliveConnection.createStatement()) {
+            statement.execute("DROP TABLE IDN_PASSWORD_HISTORY_DATA");
+        }
+
+        try {
+            IdentityDataRenamer.rename("user1", "user11", "SECONDARY", TENANT_ID);
+            Assert.fail("Renaming the identity data should fail without the password history table.");
+        } catch (Exception e) {
+            Assert.assertEquals(count("SELECT COUNT(*) FROM IDN_IDENTITY_USER_DATA WHERE USER_NAME = " +
+                    "'SECONDARY/user1'"), 2);
+            Assert.assertEquals(count("SELECT COUNT(*) FROM IDN_RECOVERY_DATA WHERE USER_NAME = 'user1'"), 2);
+        }
+    }
+
+    private int count(String query) throws SQLException {
+
+        try (PreparedStatement prepStmt = keepAliveConnection.prepareStatement(query);
+             ResultSet resultSet = prepStmt.executeQuery()) {
+            resultSet.next();
+            return resultSet.getInt(1);
+        }
+    }
+}
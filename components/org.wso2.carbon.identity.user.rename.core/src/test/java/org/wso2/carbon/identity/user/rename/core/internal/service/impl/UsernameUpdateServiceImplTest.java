@@ -27,6 +27,7 @@ import org.testng.annotations.AfterMethod;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
+import org.wso2.carbon.identity.user.rename.core.constants.UsernameUpdateServiceConstants;
 import org.wso2.carbon.identity.user.rename.core.dto.StatusDTO;
 import org.wso2.carbon.identity.user.rename.core.dto.UserDTO;
 import org.wso2.carbon.identity.user.rename.core.exception.UsernameUpdateException;
@@ -39,28 +40,38 @@ import org.wso2.carbon.user.core.tenant.TenantManager;
 import org.wso2.carbon.user.core.util.UserCoreUtil;
 import org.wso2.carbon.utils.multitenancy.MultitenantConstants;
 
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.wso2.carbon.identity.user.rename.core.constants.UsernameUpdateServiceConstants.Status.STATUS_FAILED;
 import static org.wso2.carbon.identity.user.rename.core.constants.UsernameUpdateServiceConstants.Status.STATUS_SUCCESS;
 
 public class UsernameUpdateServiceImplTest {
 
     private MockedStatic<ForgetMeToolExecutor> mockedForgetMeToolExecutor;
+    private MockedStatic<IdentityDataRenamer> mockedIdentityDataRenamer;
 
     @BeforeMethod
     public void setUp() {
 
         MockitoAnnotations.openMocks(this);
         mockedForgetMeToolExecutor = Mockito.mockStatic(ForgetMeToolExecutor.class);
+        mockedIdentityDataRenamer = Mockito.mockStatic(IdentityDataRenamer.class);
     }
 
     @AfterMethod
     public void tearDown() {
 
         mockedForgetMeToolExecutor.close();
+        mockedIdentityDataRenamer.close();
     }
 
     @DataProvider
@@ -260,6 +271,53 @@ public class UsernameUpdateServiceImplTest {
         usernameUpdateServiceImpl.updateUsername(userDTO);
     }
 
+    @Test
+    public void testUpdateUsernames() throws Exception {
+
+        UserDTO existingUser = buildUserDTO("testuser1", "testuser11", null, null);
+        UserDTO nonExistingUser = buildUserDTO("testuser2", "testuser22", null, null);
+        UserDTO invalidUser = buildUserDTO("testuser3", "testuser3", null, null);
+        UserDTO failingUser = buildUserDTO("testuser4", "testuser44", null, null);
+
+        RealmService realmService = mock(RealmService.class);
+        TenantManager tenantManager = mock(TenantManager.class);
+        UserRealm userRealm = mock(UserRealm.class);
+        UserStoreManager userStoreManager = mock(UserStoreManager.class);
+
+        when(realmService.getTenantManager()).thenReturn(tenantManager);
+        when(tenantManager.getTenantId(MultitenantConstants.SUPER_TENANT_DOMAIN_NAME)).thenReturn(MultitenantConstants
+                .SUPER_TENANT_ID);
+        when(realmService.getTenantUserRealm(MultitenantConstants.SUPER_TENANT_ID)).thenReturn(userRealm);
+        when(userRealm.getUserStoreManager()).thenReturn(userStoreManager);
+        when(userStoreManager.isExistingUser(UserCoreUtil.addDomainToName("testuser1", UserCoreConstants
+                .PRIMARY_DEFAULT_DOMAIN_NAME))).thenReturn(true);
+        when(userStoreManager.isExistingUser(UserCoreUtil.addDomainToName("testuser4", UserCoreConstants
+                .PRIMARY_DEFAULT_DOMAIN_NAME))).thenReturn(true);
+
+        mockedForgetMeToolExecutor.when(() -> ForgetMeToolExecutor.run("testuser4", "testuser44", UserCoreConstants
+                .PRIMARY_DEFAULT_DOMAIN_NAME, MultitenantConstants.SUPER_TENANT_DOMAIN_NAME, MultitenantConstants
+                .SUPER_TENANT_ID)).thenThrow(new UsernameUpdateException("Error while running forget-me tool"));
+
+        UsernameUpdateServiceImpl usernameUpdateServiceImpl = new UsernameUpdateServiceImpl();
+        usernameUpdateServiceImpl.setRealmService(realmService);
+
+        List<StatusDTO> statuses = usernameUpdateServiceImpl.updateUsernames(Arrays.asList(existingUser,
+                nonExistingUser, invalidUser, failingUser));
+
+        Assert.assertEquals(statuses.size(), 4);
+        Assert.assertEquals(statuses.get(0).getCode(), STATUS_SUCCESS.getCode());
+        Assert.assertEquals(statuses.get(1).getCode(), STATUS_FAILED.getCode());
+        Assert.assertEquals(statuses.get(2).getCode(), STATUS_FAILED.getCode());
+        Assert.assertEquals(statuses.get(3).getCode(), STATUS_FAILED.getCode());
+        // The identity data of the user whose update failed is reverted and the account is enabled again.
+        mockedIdentityDataRenamer.verify(() -> IdentityDataRenamer.rename("testuser44", "testuser4",
+                UserCoreConstants.PRIMARY_DEFAULT_DOMAIN_NAME, MultitenantConstants.SUPER_TENANT_ID));
+        Map<String, String> enableClaim = new HashMap<>();
+        enableClaim.put(UsernameUpdateServiceConstants.ACCOUNT_DISABLE_CLAIM, Boolean.FALSE.toString());
+        verify(userStoreManager).setUserClaimValues(UserCoreUtil.addDomainToName("testuser4", UserCoreConstants
+                .PRIMARY_DEFAULT_DOMAIN_NAME), enableClaim, UserCoreConstants.DEFAULT_PROFILE);
+    }
+
     private UserDTO buildUserDTO(String existingUsername, String newUsername, String userStoreDomain, String
             tenantDomain) {
 
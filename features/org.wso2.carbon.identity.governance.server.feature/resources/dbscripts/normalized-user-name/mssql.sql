@@ -0,0 +1,27 @@
+-- Adds the NORMALIZED_USER_NAME column, which keeps LOWER(USER_NAME), to the identity data and recovery data tables
+-- and indexes it. Run this script before enabling IdentityDataStore.NormalizedUserName.Enable and
+-- Recovery.NormalizedUserName.Enable. The UPDATE statements can be run again to refresh the rows written or renamed
+-- while the properties were disabled.
+-- This script also alters IDN_IDENTITY_USER_NUM_DATA, so run the matching numeric-claim-index script, which creates
+-- that table, before it.
+
+ALTER TABLE IDN_IDENTITY_USER_DATA ADD NORMALIZED_USER_NAME VARCHAR(255);
+GO
+UPDATE IDN_IDENTITY_USER_DATA SET NORMALIZED_USER_NAME = LOWER(USER_NAME);
+GO
+CREATE INDEX IDX_IDN_IDENTITY_USER_DATA_NUN ON IDN_IDENTITY_USER_DATA (TENANT_ID, NORMALIZED_USER_NAME);
+GO
+
+ALTER TABLE IDN_IDENTITY_USER_NUM_DATA ADD NORMALIZED_USER_NAME VARCHAR(255);
+GO
+UPDATE IDN_IDENTITY_USER_NUM_DATA SET NORMALIZED_USER_NAME = LOWER(USER_NAME);
+GO
+CREATE INDEX IDX_IDN_IDENTITY_USER_NUM_NUN ON IDN_IDENTITY_USER_NUM_DATA (TENANT_ID, NORMALIZED_USER_NAME);
+GO
+
+ALTER TABLE IDN_RECOVERY_DATA ADD NORMALIZED_USER_NAME VARCHAR(255);
+GO
+UPDATE IDN_RECOVERY_DATA SET NORMALIZED_USER_NAME = LOWER(USER_NAME);
+GO
+CREATE INDEX IDX_RECOVERY_DATA_NUN ON IDN_RECOVERY_DATA (NORMALIZED_USER_NAME, USER_DOMAIN, TENANT_ID);
+GO
@@ -0,0 +1,23 @@
+-- Creates IDN_IDENTITY_USER_NUM_DATA, which keeps the timestamp claims of IDN_IDENTITY_USER_DATA as numbers so that
+-- the idle account and expired password range queries are served by the (TENANT_ID, DATA_KEY, DATA_VALUE) index, and
+-- copies the existing numeric values of the default indexed claims into it. Run this script once before enabling
+-- IdentityDataStore.NumericClaimIndex.Enable, adding any claim configured in IdentityDataStore.NumericClaimIndex.Claims
+-- to the DATA_KEY list of the INSERT statement.
+
+IF NOT EXISTS (SELECT * FROM SYS.OBJECTS WHERE OBJECT_ID = OBJECT_ID(N'[DBO].[IDN_IDENTITY_USER_NUM_DATA]') AND
+TYPE IN (N'U'))
+CREATE TABLE IDN_IDENTITY_USER_NUM_DATA (
+            TENANT_ID INTEGER DEFAULT -1234,
+            USER_NAME VARCHAR(255) NOT NULL,
+            DATA_KEY VARCHAR(255) NOT NULL,
+            DATA_VALUE BIGINT,
+            PRIMARY KEY (TENANT_ID, USER_NAME, DATA_KEY)
+);
+GO
+CREATE INDEX IDX_IDN_IDENTITY_USER_NUM_DATA ON IDN_IDENTITY_USER_NUM_DATA (TENANT_ID, DATA_KEY, DATA_VALUE);
+GO
+INSERT INTO IDN_IDENTITY_USER_NUM_DATA (TENANT_ID, USER_NAME, DATA_KEY, DATA_VALUE)
+SELECT TENANT_ID, USER_NAME, DATA_KEY, TRY_CAST(DATA_VALUE AS BIGINT) FROM IDN_IDENTITY_USER_DATA
+WHERE DATA_KEY IN ('http://wso2.org/claims/identity/lastLogonTime',
+'http://wso2.org/claims/identity/lastPasswordUpdateTime') AND TRY_CAST(DATA_VALUE AS BIGINT) IS NOT NULL;
+GO
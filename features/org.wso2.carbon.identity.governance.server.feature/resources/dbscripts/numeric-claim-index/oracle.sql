@@ -0,0 +1,22 @@
+-- Creates IDN_IDENTITY_USER_NUM_DATA, which keeps the timestamp claims of IDN_IDENTITY_USER_DATA as numbers so that
+-- the idle account and expired password range queries are served by the (TENANT_ID, DATA_KEY, DATA_VALUE) index, and
+-- copies the existing numeric values of the default indexed claims into it. Run this script once before enabling
+-- IdentityDataStore.NumericClaimIndex.Enable, adding any claim configured in IdentityDataStore.NumericClaimIndex.Claims
+-- to the DATA_KEY list of the INSERT statement.
+
+CREATE TABLE IDN_IDENTITY_USER_NUM_DATA (
+            TENANT_ID INTEGER DEFAULT -1234,
+            USER_NAME VARCHAR2(255) NOT NULL,
+            DATA_KEY VARCHAR2(255) NOT NULL,
+            DATA_VALUE NUMBER(19),
+            PRIMARY KEY (TENANT_ID, USER_NAME, DATA_KEY))
+/
+CREATE INDEX IDX_IDN_IDENTITY_USER_NUM_DATA ON IDN_IDENTITY_USER_NUM_DATA (TENANT_ID, DATA_KEY, DATA_VALUE)
+/
+INSERT INTO IDN_IDENTITY_USER_NUM_DATA (TENANT_ID, USER_NAME, DATA_KEY, DATA_VALUE)
+SELECT TENANT_ID, USER_NAME, DATA_KEY, CAST(DATA_VALUE AS NUMBER(19)) FROM IDN_IDENTITY_USER_DATA
+WHERE DATA_KEY IN ('http://wso2.org/claims/identity/lastLogonTime',
+'http://wso2.org/claims/identity/lastPasswordUpdateTime') AND REGEXP_LIKE(DATA_VALUE, '^[0-9]+$')
+/
+COMMIT
+/